@@ -16,33 +16,29 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapter;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
-import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.anticheat.stats.GokzBanStats;
-import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.anticheat.stats.KztimerBanStats;
 
 import java.lang.reflect.Type;
 
 /**
  * A {@link BanStats} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link BanStatsTypeAdapter}.
+ *
+ * @deprecated	use {@link BanStatsTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class BanStatsJsonDeserializer implements JsonDeserializer<BanStats>, IKreedzTypeAdapter {
 
 	/**
-	 * A GOKZ ban stats regular expression.
-	 */
-	private static final String GOKZ_STATS_REGEX = "Perfs: \\d+/\\d+, Average: \\d*\\.?\\d*, Scroll pattern: .*";
-
-	/**
-	 * A KZTimer ban stats regular expression.
+	 * A type adapter to delegate to.
 	 */
-	private static final String KZTIMER_STATS_REGEX = "Scroll pattern: .*, Avg\\. scroll pattern: \\d+\\.?\\d*, Avg\\. speed: \\d+\\.?\\d*, Perfect jump ratio: \\d+\\.?\\d*%";
+	private static final BanStatsTypeAdapter ADAPTER = new BanStatsTypeAdapter();
 
 	/**
 	 * Initialize a {@link BanStatsJsonDeserializer} instance.
@@ -55,20 +51,6 @@ public final class BanStatsJsonDeserializer implements JsonDeserializer<BanStats
 	 */
 	@Override
 	public BanStats deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		String stats = context.deserialize(json, String.class);
-
-		if (stats == null) {
-			return null;
-		}
-
-		if (stats.matches(GOKZ_STATS_REGEX)) {
-			return new GokzBanStats(stats);
-		}
-
-		if (stats.matches(KZTIMER_STATS_REGEX)) {
-			return new KztimerBanStats(stats);
-		}
-
-		return null;
+		return ADAPTER.fromJsonTree(json);
 	}
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.adapters;
+
+import com.google.auto.service.AutoService;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapter;
+import io.github.iwyfewwnt.kreedzsdk.adapters.internal.UKreedzJson;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.anticheat.stats.GokzBanStats;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.anticheat.stats.KztimerBanStats;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link BanStats} type adapter.
+ */
+@SuppressWarnings("unused")
+@AutoService(IKreedzTypeAdapter.class)
+public final class BanStatsTypeAdapter extends TypeAdapter<BanStats> implements IKreedzTypeAdapter {
+
+	/**
+	 * A GOKZ ban stats regular expression.
+	 */
+	private static final String GOKZ_STATS_REGEX = "Perfs: \\d+/\\d+, Average: \\d*\\.?\\d*, Scroll pattern: .*";
+
+	/**
+	 * A GOKZ ban stats pattern.
+	 *
+	 * <p>Wraps {@link #GOKZ_STATS_REGEX}.
+	 */
+	private static final Pattern GOKZ_STATS_PATTERN = Pattern.compile(GOKZ_STATS_REGEX);
+
+	/**
+	 * A KZTimer ban stats regular expression.
+	 */
+	private static final String KZTIMER_STATS_REGEX = "Scroll pattern: .*, Avg\\. scroll pattern: \\d+\\.?\\d*, Avg\\. speed: \\d+\\.?\\d*, Perfect jump ratio: \\d+\\.?\\d*%";
+
+	/**
+	 * A KZTimer ban stats pattern.
+	 *
+	 * <p>Wraps {@link #KZTIMER_STATS_REGEX}.
+	 */
+	private static final Pattern KZTIMER_STATS_PATTERN = Pattern.compile(KZTIMER_STATS_REGEX);
+
+	/**
+	 * Initialize a {@link BanStatsTypeAdapter} instance.
+	 */
+	public BanStatsTypeAdapter() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BanStats read(JsonReader in) throws IOException {
+		String stats = UKreedzJson.nextStringOrNull(in);
+
+		if (stats == null) {
+			return null;
+		}
+
+		if (GOKZ_STATS_PATTERN.matcher(stats).matches()) {
+			return new GokzBanStats(stats);
+		}
+
+		if (KZTIMER_STATS_PATTERN.matcher(stats).matches()) {
+			return new KztimerBanStats(stats);
+		}
+
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, BanStats stats) throws IOException {
+		if (stats == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.value(stats.getRawStats());
+	}
+}
@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * An {@link EBanType} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link BanTypeTypeAdapter}.
+ *
+ * @deprecated	use {@link BanTypeTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class BanTypeJsonDeserializer implements JsonDeserializer<EBanType>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final BanTypeTypeAdapter ADAPTER = new BanTypeTypeAdapter();
+
 	/**
 	 * Initialize a {@link BanTypeJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class BanTypeJsonDeserializer implements JsonDeserializer<EBanType>
 	 */
 	@Override
 	public EBanType deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EBanType.fromApiNameOrNull(context.deserialize(json, String.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
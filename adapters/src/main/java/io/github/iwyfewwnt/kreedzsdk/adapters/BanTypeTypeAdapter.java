@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.adapters;
+
+import com.google.auto.service.AutoService;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapter;
+import io.github.iwyfewwnt.kreedzsdk.adapters.internal.UKreedzJson;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.EBanType;
+
+import java.io.IOException;
+
+/**
+ * An {@link EBanType} type adapter.
+ */
+@SuppressWarnings("unused")
+@AutoService(IKreedzTypeAdapter.class)
+public final class BanTypeTypeAdapter extends TypeAdapter<EBanType> implements IKreedzTypeAdapter {
+
+	/**
+	 * Initialize a {@link BanTypeTypeAdapter} instance.
+	 */
+	public BanTypeTypeAdapter() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public EBanType read(JsonReader in) throws IOException {
+		return EBanType.fromApiNameOrNull(UKreedzJson.nextStringOrNull(in));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, EBanType banType) throws IOException {
+		if (banType == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.value(banType.getApiName());
+	}
+}
@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * A {@link DataUpdater} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link DataUpdaterTypeAdapter}.
+ *
+ * @deprecated	use {@link DataUpdaterTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class DataUpdaterJsonDeserializer implements JsonDeserializer<DataUpdater>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final DataUpdaterTypeAdapter ADAPTER = new DataUpdaterTypeAdapter();
+
 	/**
 	 * Initialize a {@link DataUpdaterJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class DataUpdaterJsonDeserializer implements JsonDeserializer<DataU
 	 */
 	@Override
 	public DataUpdater deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return new DataUpdater(context.deserialize(json, Long.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
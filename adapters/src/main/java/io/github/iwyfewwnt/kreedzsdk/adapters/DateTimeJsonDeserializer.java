@@ -16,24 +16,30 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapter;
-import io.github.iwyfewwnt.kreedzsdk.structs.utils.UKreedzDate;
-import io.github.iwyfewwnt.uwutils.UwArray;
 import org.joda.time.DateTime;
 
 import java.lang.reflect.Type;
 
 /**
  * A {@link DateTime} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link DateTimeTypeAdapter}.
+ *
+ * @deprecated	use {@link DateTimeTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class DateTimeJsonDeserializer implements JsonDeserializer<DateTime>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final DateTimeTypeAdapter ADAPTER = new DateTimeTypeAdapter();
+
 	/**
 	 * Initialize a {@link DateTimeJsonDeserializer} instance.
 	 */
@@ -45,30 +51,6 @@ public final class DateTimeJsonDeserializer implements JsonDeserializer<DateTime
 	 */
 	@Override
 	public DateTime deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		String str = context.deserialize(json, String.class);
-
-		if (str == null) {
-			return null;
-		}
-
-		Throwable[] throwables = new Throwable[2];
-
-		try {
-			return DateTime.parse(str, UKreedzDate.FORMATTER);
-		} catch (UnsupportedOperationException
-				| IllegalArgumentException e) {
-			throwables[0] = e;
-		}
-
-		try {
-			return DateTime.parse(str);
-		} catch (UnsupportedOperationException
-				| IllegalArgumentException e) {
-			throwables[1] = e;
-		}
-
-		UwArray.consume(Throwable::printStackTrace, throwables);
-
-		return null;
+		return ADAPTER.fromJsonTree(json);
 	}
 }
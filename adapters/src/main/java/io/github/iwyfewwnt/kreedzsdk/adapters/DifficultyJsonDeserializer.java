@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * An {@link EDifficulty} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link DifficultyTypeAdapter}.
+ *
+ * @deprecated	use {@link DifficultyTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class DifficultyJsonDeserializer implements JsonDeserializer<EDifficulty>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final DifficultyTypeAdapter ADAPTER = new DifficultyTypeAdapter();
+
 	/**
 	 * Initialize a {@link DifficultyJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class DifficultyJsonDeserializer implements JsonDeserializer<EDiffi
 	 */
 	@Override
 	public EDifficulty deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EDifficulty.fromIdOrNull(context.deserialize(json, Integer.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * An {@link EJumpType} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link JumpTypeTypeAdapter}.
+ *
+ * @deprecated	use {@link JumpTypeTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class JumpTypeJsonDeserializer implements JsonDeserializer<EJumpType>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final JumpTypeTypeAdapter ADAPTER = new JumpTypeTypeAdapter();
+
 	/**
 	 * Initialize a {@link JumpTypeJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class JumpTypeJsonDeserializer implements JsonDeserializer<EJumpTyp
 	 */
 	@Override
 	public EJumpType deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EJumpType.fromIdOrNull(context.deserialize(json, Integer.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
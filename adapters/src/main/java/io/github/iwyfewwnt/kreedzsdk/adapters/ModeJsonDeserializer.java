@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * An {@link EMode} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link ModeTypeAdapter}.
+ *
+ * @deprecated	use {@link ModeTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class ModeJsonDeserializer implements JsonDeserializer<EMode>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final ModeTypeAdapter ADAPTER = new ModeTypeAdapter();
+
 	/**
 	 * Initialize a {@link ModeJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class ModeJsonDeserializer implements JsonDeserializer<EMode>, IKre
 	 */
 	@Override
 	public EMode deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EMode.fromApiNameOrNull(context.deserialize(json, String.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.adapters;
+
+import com.google.auto.service.AutoService;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapter;
+import io.github.iwyfewwnt.kreedzsdk.adapters.internal.UKreedzJson;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordTable;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.ETickrate;
+import io.github.iwyfewwnt.kreedzsdk.structs.utils.UKreedzDate;
+import io.github.iwyfewwnt.steamid.SteamId;
+
+import java.io.IOException;
+
+/**
+ * A {@link RecordTable} type adapter.
+ *
+ * <p>Decodes an array of record API entities straight
+ * into the table columns w/o intermediate objects.
+ */
+@SuppressWarnings("unused")
+@AutoService(IKreedzTypeAdapter.class)
+public final class RecordTableTypeAdapter extends TypeAdapter<RecordTable> implements IKreedzTypeAdapter {
+
+	/**
+	 * Initialize a {@link RecordTableTypeAdapter} instance.
+	 */
+	public RecordTableTypeAdapter() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RecordTable read(JsonReader in) throws IOException {
+		if (UKreedzJson.skipNull(in)) {
+			return null;
+		}
+
+		RecordTable.Builder builder = new RecordTable.Builder();
+
+		in.beginArray();
+
+		while (in.hasNext()) {
+			if (UKreedzJson.skipNull(in)) {
+				continue;
+			}
+
+			builder.addRow();
+
+			in.beginObject();
+
+			while (in.hasNext()) {
+				readField(in, in.nextName(), builder);
+			}
+
+			in.endObject();
+		}
+
+		in.endArray();
+
+		return builder.build();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, RecordTable table) throws IOException {
+		if (table == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginArray();
+
+		for (RecordTable.Row row : table) {
+			int index = row.getIndex();
+
+			out.beginObject();
+
+			out.name("id").value(row.getId());
+			out.name("steamid64");
+
+			if (table.isNull(index, RecordTable.Column.STEAM_ID)) {
+				out.nullValue();
+			} else {
+				out.value(Long.toString(table.getSteamId64(index)));
+			}
+
+			out.name("player_name").value(row.getPlayerName());
+			out.name("server_id").value(row.getServerId());
+			out.name("map_id").value(row.getMapId());
+			out.name("stage").value(row.getStage());
+			out.name("mode").value(EMode.getApiNameOrNull(row.getMode()));
+			out.name("tickrate");
+
+			ETickrate tickrate = row.getTickrate();
+
+			if (tickrate == null) {
+				out.nullValue();
+			} else {
+				out.value(tickrate.getAsInt());
+			}
+
+			out.name("time");
+
+			if (table.isNull(index, RecordTable.Column.TIME)) {
+				out.nullValue();
+			} else {
+				out.value(table.getTime(index));
+			}
+
+			out.name("teleports").value(row.getTeleportCount());
+			out.name("created_on").value(UKreedzDate.formatOrNull(row.getCreateDate()));
+			out.name("updated_on").value(UKreedzDate.formatOrNull(row.getUpdateDate()));
+			out.name("updated_by");
+
+			if (table.isNull(index, RecordTable.Column.DATA_UPDATER)) {
+				out.nullValue();
+			} else {
+				out.value(table.getDataUpdaterId(index));
+			}
+
+			out.name("record_filter_id").value(row.getRecordFilterId());
+			out.name("server_name").value(row.getServerName());
+			out.name("map_name").value(row.getMapName());
+			out.name("points").value(row.getPointCount());
+			out.name("replay_id").value(row.getReplayId());
+
+			out.endObject();
+		}
+
+		out.endArray();
+	}
+
+	/**
+	 * Read a record field value into the last row of the table builder.
+	 *
+	 * <p>Unknown fields are skipped.
+	 *
+	 * @param in		JSON reader
+	 * @param name		field name
+	 * @param builder	table builder
+	 * @throws IOException	if an I/O error occurs
+	 */
+	private static void readField(JsonReader in, String name, RecordTable.Builder builder) throws IOException {
+		switch (name) {
+			case "player_name":
+				builder.setPlayerName(UKreedzJson.nextStringOrNull(in));
+				return;
+			case "mode":
+				builder.setMode(EMode.fromApiNameOrNull(UKreedzJson.nextStringOrNull(in)));
+				return;
+			case "created_on":
+				builder.setCreateDate(UKreedzDate.parseOrNull(UKreedzJson.nextStringOrNull(in)));
+				return;
+			case "updated_on":
+				builder.setUpdateDate(UKreedzDate.parseOrNull(UKreedzJson.nextStringOrNull(in)));
+				return;
+			case "server_name":
+				builder.setServerName(UKreedzJson.nextStringOrNull(in));
+				return;
+			case "map_name":
+				builder.setMapName(UKreedzJson.nextStringOrNull(in));
+				return;
+		}
+
+		if (UKreedzJson.skipNull(in)) {
+			return;
+		}
+
+		switch (name) {
+			case "id":
+				builder.setId(UKreedzJson.nextInt(in));
+				break;
+			case "steamid64":
+				Long steamId64 = SteamId.toSteam64OrNull(
+						SteamId.fromSteamAnyOrNull(UKreedzJson.nextStringOrNull(in)));
+
+				if (steamId64 != null) {
+					builder.setSteamId64(steamId64);
+				}
+
+				break;
+			case "server_id":
+				builder.setServerId(UKreedzJson.nextInt(in));
+				break;
+			case "map_id":
+				builder.setMapId(UKreedzJson.nextInt(in));
+				break;
+			case "stage":
+				builder.setStage(UKreedzJson.nextInt(in));
+				break;
+			case "tickrate":
+				builder.setTickrate(ETickrate.fromIntOrNull(UKreedzJson.nextInt(in)));
+				break;
+			case "time":
+				builder.setTime(UKreedzJson.nextFloat(in));
+				break;
+			case "teleports":
+				builder.setTeleportCount(UKreedzJson.nextInt(in));
+				break;
+			case "updated_by":
+				builder.setDataUpdaterId(UKreedzJson.nextLong(in));
+				break;
+			case "record_filter_id":
+				builder.setRecordFilterId(UKreedzJson.nextInt(in));
+				break;
+			case "points":
+				builder.setPointCount(UKreedzJson.nextInt(in));
+				break;
+			case "replay_id":
+				builder.setReplayId(UKreedzJson.nextInt(in));
+				break;
+			default:
+				in.skipValue();
+		}
+	}
+}
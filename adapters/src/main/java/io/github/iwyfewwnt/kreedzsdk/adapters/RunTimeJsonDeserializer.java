@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * A {@link RunTime} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link RunTimeTypeAdapter}.
+ *
+ * @deprecated	use {@link RunTimeTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class RunTimeJsonDeserializer implements JsonDeserializer<RunTime>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final RunTimeTypeAdapter ADAPTER = new RunTimeTypeAdapter();
+
 	/**
 	 * Initialize a {@link RunTimeJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class RunTimeJsonDeserializer implements JsonDeserializer<RunTime>,
 	 */
 	@Override
 	public RunTime deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return new RunTime(context.deserialize(json, Float.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * An {@link ERunType} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link RunTypeTypeAdapter}.
+ *
+ * @deprecated	use {@link RunTypeTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class RunTypeJsonDeserializer implements JsonDeserializer<ERunType>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final RunTypeTypeAdapter ADAPTER = new RunTypeTypeAdapter();
+
 	/**
 	 * Initialize a {@link RunTypeJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class RunTypeJsonDeserializer implements JsonDeserializer<ERunType>
 	 */
 	@Override
 	public ERunType deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return ERunType.fromHasTeleports(context.deserialize(json, Boolean.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.adapters;
+
+import com.google.auto.service.AutoService;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapter;
+import io.github.iwyfewwnt.kreedzsdk.adapters.internal.UKreedzJson;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.ERunType;
+
+import java.io.IOException;
+
+/**
+ * An {@link ERunType} type adapter.
+ */
+@SuppressWarnings("unused")
+@AutoService(IKreedzTypeAdapter.class)
+public final class RunTypeTypeAdapter extends TypeAdapter<ERunType> implements IKreedzTypeAdapter {
+
+	/**
+	 * Initialize a {@link RunTypeTypeAdapter} instance.
+	 */
+	public RunTypeTypeAdapter() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ERunType read(JsonReader in) throws IOException {
+		Boolean hasTeleports = UKreedzJson.nextBooleanOrNull(in);
+
+		// Keep a JSON null as null, as the #fromHasTeleports method maps it to the NUB.
+		if (hasTeleports == null) {
+			return null;
+		}
+
+		return ERunType.fromHasTeleports(hasTeleports);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, ERunType runType) throws IOException {
+		if (runType == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.value(runType.getHasTeleports());
+	}
+}
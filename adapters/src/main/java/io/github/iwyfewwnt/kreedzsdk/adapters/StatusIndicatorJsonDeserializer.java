@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * An {@link EStatusIndicator} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link StatusIndicatorTypeAdapter}.
+ *
+ * @deprecated	use {@link StatusIndicatorTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class StatusIndicatorJsonDeserializer implements JsonDeserializer<EStatusIndicator>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final StatusIndicatorTypeAdapter ADAPTER = new StatusIndicatorTypeAdapter();
+
 	/**
 	 * Initialize a {@link StatusIndicatorJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class StatusIndicatorJsonDeserializer implements JsonDeserializer<E
 	 */
 	@Override
 	public EStatusIndicator deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EStatusIndicator.fromApiNameOrNull(context.deserialize(json, String.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * An {@link EStatus} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link StatusTypeAdapter}.
+ *
+ * @deprecated	use {@link StatusTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class StatusJsonDeserializer implements JsonDeserializer<EStatus>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final StatusTypeAdapter ADAPTER = new StatusTypeAdapter();
+
 	/**
 	 * Initialize a {@link StatusJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class StatusJsonDeserializer implements JsonDeserializer<EStatus>,
 	 */
 	@Override
 	public EStatus deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return EStatus.fromApiNameOrNull(context.deserialize(json, String.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * A {@link SteamId} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link SteamIdTypeAdapter}.
+ *
+ * @deprecated	use {@link SteamIdTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class SteamIdJsonDeserializer implements JsonDeserializer<SteamId>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final SteamIdTypeAdapter ADAPTER = new SteamIdTypeAdapter();
+
 	/**
 	 * Initialize a {@link SteamIdJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class SteamIdJsonDeserializer implements JsonDeserializer<SteamId>,
 	 */
 	@Override
 	public SteamId deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return SteamId.fromSteamAnyOrNull(context.deserialize(json, String.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
@@ -16,7 +16,6 @@
 
 package io.github.iwyfewwnt.kreedzsdk.adapters;
 
-import com.google.auto.service.AutoService;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -27,11 +26,20 @@ import java.lang.reflect.Type;
 
 /**
  * An {@link ETickrate} JSON deserializer.
+ *
+ * <p>Isn't registered anymore, delegates to the {@link TickrateTypeAdapter}.
+ *
+ * @deprecated	use {@link TickrateTypeAdapter} instead
  */
+@Deprecated
 @SuppressWarnings("unused")
-@AutoService(IKreedzTypeAdapter.class)
 public final class TickrateJsonDeserializer implements JsonDeserializer<ETickrate>, IKreedzTypeAdapter {
 
+	/**
+	 * A type adapter to delegate to.
+	 */
+	private static final TickrateTypeAdapter ADAPTER = new TickrateTypeAdapter();
+
 	/**
 	 * Initialize a {@link TickrateJsonDeserializer} instance.
 	 */
@@ -43,6 +51,6 @@ public final class TickrateJsonDeserializer implements JsonDeserializer<ETickrat
 	 */
 	@Override
 	public ETickrate deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
-		return ETickrate.fromIntOrNull(context.deserialize(json, Integer.class));
+		return ADAPTER.fromJsonTree(json);
 	}
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.adapters.internal;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * A kreedz JSON streaming utilities.
+ *
+ * <p>Mirrors the lenient behavior of the Gson built-in
+ * type adapters w/o building an intermediate JSON tree.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class UKreedzJson {
+
+	/**
+	 * Read the next string value or {@code null}.
+	 *
+	 * <p>Accepts string, number and boolean tokens.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param in	JSON reader
+	 * @return		string value or {@code null}
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static String nextStringOrNull(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+
+		if (token == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		if (token == JsonToken.BOOLEAN) {
+			return Boolean.toString(in.nextBoolean());
+		}
+
+		return in.nextString();
+	}
+
+	/**
+	 * Read the next integer value or {@code null}.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param in	JSON reader
+	 * @return		integer value or {@code null}
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static Integer nextIntegerOrNull(JsonReader in) throws IOException {
+		if (skipNull(in)) {
+			return null;
+		}
+
+		return nextInt(in);
+	}
+
+	/**
+	 * Read the next long value or {@code null}.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param in	JSON reader
+	 * @return		long value or {@code null}
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static Long nextLongOrNull(JsonReader in) throws IOException {
+		if (skipNull(in)) {
+			return null;
+		}
+
+		return nextLong(in);
+	}
+
+	/**
+	 * Read the next float value or {@code null}.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param in	JSON reader
+	 * @return		float value or {@code null}
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static Float nextFloatOrNull(JsonReader in) throws IOException {
+		if (skipNull(in)) {
+			return null;
+		}
+
+		return nextFloat(in);
+	}
+
+	/**
+	 * Read the next boolean value or {@code null}.
+	 *
+	 * <p>Accepts boolean and string tokens.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param in	JSON reader
+	 * @return		boolean value or {@code null}
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static Boolean nextBooleanOrNull(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+
+		if (token == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		if (token == JsonToken.STRING) {
+			return Boolean.parseBoolean(in.nextString());
+		}
+
+		return in.nextBoolean();
+	}
+
+	/**
+	 * Skip the next value if it is {@code null}.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param in	JSON reader
+	 * @return		boolean value, {@code true} - skipped, {@code false} - not null
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() != JsonToken.NULL) {
+			return false;
+		}
+
+		in.nextNull();
+		return true;
+	}
+
+	/**
+	 * Read the next non-null int value.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param in	JSON reader
+	 * @return		int value
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static int nextInt(JsonReader in) throws IOException {
+		try {
+			return in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	/**
+	 * Read the next non-null long value.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param in	JSON reader
+	 * @return		long value
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static long nextLong(JsonReader in) throws IOException {
+		try {
+			return in.nextLong();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	/**
+	 * Read the next non-null float value.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param in	JSON reader
+	 * @return		float value
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static float nextFloat(JsonReader in) throws IOException {
+		try {
+			return (float) in.nextDouble();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private UKreedzJson() {
+		throw new UnsupportedOperationException();
+	}
+}
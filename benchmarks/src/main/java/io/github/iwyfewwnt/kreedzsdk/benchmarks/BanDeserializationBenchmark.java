@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.BanEntity;
+import org.openjdk.jmh.annotations.Param;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * A ban deserialization benchmark.
+ *
+ * <p>Deserializes a {@link BanEntity} page as returned by the bans
+ * endpoint, w/ either GOKZ or KZTimer anti-cheat stats.
+ */
+public class BanDeserializationBenchmark extends BaseDeserializationBenchmark {
+
+	/**
+	 * A plugin of the anti-cheat stats.
+	 */
+	@Param({"gokz", "kztimer"})
+	public String plugin;
+
+	/**
+	 * A number of bans per page.
+	 */
+	@Param({"100", "1000"})
+	public int size;
+
+	/**
+	 * Initialize a {@link BanDeserializationBenchmark} instance.
+	 */
+	public BanDeserializationBenchmark() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected byte[] loadPayload() {
+		return UKreedzPayloads.loadPage("bans-" + this.plugin + ".json", this.size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Type getType() {
+		return new TypeToken<List<BanEntity>>() {}.getType();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.*;
+import retrofit2.Converter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A base kreedz deserialization benchmark.
+ *
+ * <p>Deserializes a payload through the response body converter
+ * of a {@link KreedzBenchmarkClient}. A fresh body is wrapped
+ * around the payload bytes per operation, as the network does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class BaseDeserializationBenchmark {
+
+	/**
+	 * A JSON media type.
+	 */
+	private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+	/**
+	 * A payload.
+	 */
+	private byte[] payload;
+
+	/**
+	 * A response body converter of the payload.
+	 */
+	private Converter<ResponseBody, ?> converter;
+
+	/**
+	 * Initialize a {@link BaseDeserializationBenchmark} instance.
+	 */
+	protected BaseDeserializationBenchmark() {
+	}
+
+	/**
+	 * Load the payload and resolve its converter.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.payload = this.loadPayload();
+		this.converter = new KreedzBenchmarkClient().converterOf(this.getType());
+	}
+
+	/**
+	 * Deserialize the payload.
+	 *
+	 * @return	deserialized value
+	 * @throws IOException	if the payload couldn't be read
+	 */
+	@Benchmark
+	public Object deserialize() throws IOException {
+		return this.converter.convert(ResponseBody.create(JSON, this.payload));
+	}
+
+	/**
+	 * Load the payload.
+	 *
+	 * @return	payload bytes
+	 */
+	protected abstract byte[] loadPayload();
+
+	/**
+	 * Get a type of the payload.
+	 *
+	 * @return	type to deserialize into
+	 */
+	protected abstract Type getType();
+}
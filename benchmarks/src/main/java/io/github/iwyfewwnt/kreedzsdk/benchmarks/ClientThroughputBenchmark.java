@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzClient;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A client throughput benchmark.
+ *
+ * <p>Sends bursts of concurrent requests to a {@link KreedzStandInServer}
+ * w/ a fixed latency through a client of each connection pool & dispatcher
+ * configuration, so the score is the number of requests per second
+ * the configuration lets through:
+ *
+ * <ul>
+ *     <li>{@code okhttp} - the OkHttp defaults the client used to be stuck w/,
+ *     5 requests per host & 5 idle connections</li>
+ *     <li>{@code default} - the {@link KreedzClient.Builder} defaults</li>
+ *     <li>{@code crawler} - a configuration tuned for bulk pulls</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ClientThroughputBenchmark.BURST_SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientThroughputBenchmark {
+
+	/**
+	 * A number of the concurrent requests of a burst.
+	 */
+	static final int BURST_SIZE = 64;
+
+	/**
+	 * A stand-in response latency.
+	 */
+	private static final Duration LATENCY = Duration.ofMillis(20);
+
+	/**
+	 * A name of the connection pool & dispatcher configuration.
+	 */
+	@Param({"okhttp", "default", "crawler"})
+	public String config;
+
+	/**
+	 * A stand-in server.
+	 */
+	private KreedzStandInServer server;
+
+	/**
+	 * A client of the configuration.
+	 */
+	private KreedzBenchmarkClient client;
+
+	/**
+	 * Initialize a {@link ClientThroughputBenchmark} instance.
+	 */
+	public ClientThroughputBenchmark() {
+	}
+
+	/**
+	 * Start the stand-in server and create the client.
+	 *
+	 * @throws IOException	if the stand-in server couldn't be started
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.server = new KreedzStandInServer.Builder()
+				.setLatency(LATENCY)
+				.build();
+
+		this.server.start();
+
+		this.client = new KreedzBenchmarkClient(newBuilder(this.config)
+				.addInterceptor(this.server.getInterceptor()));
+	}
+
+	/**
+	 * Shut the client & the stand-in server down.
+	 *
+	 * @throws IOException	if the stand-in server couldn't be shut down
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.client.close();
+		this.server.close();
+	}
+
+	/**
+	 * Send a burst of concurrent requests and wait for all of them.
+	 *
+	 * @return	future of the whole burst
+	 */
+	@Benchmark
+	public CompletableFuture<Void> burst() {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[BURST_SIZE];
+
+		for (int i = 0; i < BURST_SIZE; i++) {
+			futures[i] = this.client.getRecordService()
+					.recordsTop()
+					.setMapName("kz_synergy_x")
+					.setMode(EMode.KZT)
+					.setLimit(10)
+					.executeAsync();
+		}
+
+		CompletableFuture<Void> future = CompletableFuture.allOf(futures);
+		future.join();
+
+		return future;
+	}
+
+	/**
+	 * Create a client builder of the provided configuration.
+	 *
+	 * @param config	name of the configuration
+	 * @return			client builder
+	 */
+	private static KreedzClient.Builder newBuilder(String config) {
+		switch (config) {
+			case "okhttp":
+				return new KreedzClient.Builder()
+						.setMaxRequests(64)
+						.setMaxRequestsPerHost(5)
+						.setMaxIdleConnections(5);
+			case "default":
+				return new KreedzClient.Builder();
+			case "crawler":
+				return new KreedzClient.Builder()
+						.setMaxRequests(BURST_SIZE)
+						.setMaxRequestsPerHost(BURST_SIZE)
+						.setMaxIdleConnections(BURST_SIZE);
+			default:
+				throw new IllegalArgumentException("Unknown configuration <" + config + ">");
+		}
+	}
+}
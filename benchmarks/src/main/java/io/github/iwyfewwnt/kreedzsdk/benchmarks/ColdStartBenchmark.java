@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cold start benchmark.
+ *
+ * <p>Measures the time from a JVM w/o any client class loaded to the
+ * first record service of a new client, which includes the static
+ * SPI initialization of the client, the Gson & Retrofit setup and
+ * the service creation. Each fork measures it exactly once.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+
+	/**
+	 * Initialize a {@link ColdStartBenchmark} instance.
+	 */
+	public ColdStartBenchmark() {
+	}
+
+	/**
+	 * Create a client and get its record service.
+	 *
+	 * @return	record service
+	 */
+	@Benchmark
+	public Object firstRecordService() {
+		return new KreedzClient()
+				.getRecordService();
+	}
+}
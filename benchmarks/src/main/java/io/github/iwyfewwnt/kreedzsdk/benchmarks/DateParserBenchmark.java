@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import io.github.iwyfewwnt.kreedzsdk.structs.utils.UKreedzDate;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A date parser benchmark.
+ *
+ * <p>Parses a timestamp of each shape w/ the {@link UKreedzDate} fast
+ * path and w/ the former formatter-then-ISO path, which throws once
+ * per shape it doesn't match. The stack traces the former path used
+ * to print are left out, so the gap is a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateParserBenchmark {
+
+	/**
+	 * A timestamp to parse: the API shape,
+	 * its ISO variants and a malformed one.
+	 */
+	@Param({
+			"2020-05-13T22:13:48",
+			"2020-05-13T22:13:48.123Z",
+			"2020-05-13T22:13:48+02:00",
+			"2020-05-13 22:13:48",
+			"not a timestamp"
+	})
+	public String input;
+
+	/**
+	 * Initialize a {@link DateParserBenchmark} instance.
+	 */
+	public DateParserBenchmark() {
+	}
+
+	/**
+	 * Parse the timestamp w/ the fast path.
+	 *
+	 * @return	date or {@code null}
+	 */
+	@Benchmark
+	public DateTime fastPath() {
+		return UKreedzDate.parseOrNull(this.input);
+	}
+
+	/**
+	 * Parse the timestamp w/ the former exception path.
+	 *
+	 * @return	date or {@code null}
+	 */
+	@Benchmark
+	public DateTime exceptionPath() {
+		try {
+			return DateTime.parse(this.input, UKreedzDate.FORMATTER);
+		} catch (UnsupportedOperationException
+				| IllegalArgumentException ignored) {
+		}
+
+		try {
+			return DateTime.parse(this.input);
+		} catch (UnsupportedOperationException
+				| IllegalArgumentException ignored) {
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import io.github.iwyfewwnt.gsonnative.GsonNativeTypeAdapterFactory;
+import io.github.iwyfewwnt.kreedzsdk.adapters.KreedzTypeAdapterRegistry;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.BanEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.JumpstatEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordEntity;
+import io.github.iwyfewwnt.uwgson.UwTypeAdapterFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A deserialization path benchmark.
+ *
+ * <p>Deserializes the record, jumpstat & ban pages through two Gson
+ * stacks built the way the client builds its own, which only differ
+ * in their built-in type adapters:
+ *
+ * <ul>
+ *     <li>{@code tree} - the former {@code JsonDeserializer}s,
+ *     which read every field into a {@code JsonElement} tree first</li>
+ *     <li>{@code streaming} - the current {@code TypeAdapter}s,
+ *     which read every field right from the {@code JsonReader}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeserializationPathBenchmark {
+
+	/**
+	 * A name of the page payload.
+	 */
+	@Param({"records.json", "jumpstats.json", "bans-gokz.json", "bans-kztimer.json"})
+	public String payloadName;
+
+	/**
+	 * A name of the deserialization path.
+	 */
+	@Param({"tree", "streaming"})
+	public String path;
+
+	/**
+	 * A number of entities per page.
+	 */
+	@Param({"100"})
+	public int size;
+
+	/**
+	 * A payload.
+	 */
+	private byte[] payload;
+
+	/**
+	 * A Gson instance of the path.
+	 */
+	private Gson gson;
+
+	/**
+	 * A type adapter of the payload.
+	 */
+	private TypeAdapter<?> adapter;
+
+	/**
+	 * Initialize a {@link DeserializationPathBenchmark} instance.
+	 */
+	public DeserializationPathBenchmark() {
+	}
+
+	/**
+	 * Load the payload and build the Gson stack of the path.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.payload = UKreedzPayloads.loadPage(this.payloadName, this.size);
+
+		GsonBuilder builder = new GsonBuilder()
+				.registerTypeAdapterFactory(new UwTypeAdapterFactory());
+
+		switch (this.path) {
+			case "tree":
+				UKreedzTreeModelDeserializers.register(builder);
+				break;
+			case "streaming":
+				KreedzTypeAdapterRegistry.getFactories()
+						.forEach((type, factory) -> builder.registerTypeAdapter(type, factory.get()));
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown path <" + this.path + ">");
+		}
+
+		this.gson = builder.registerTypeAdapterFactory(new GsonNativeTypeAdapterFactory())
+				.create();
+
+		this.adapter = this.gson.getAdapter(TypeToken.get(getType(this.payloadName)));
+	}
+
+	/**
+	 * Deserialize the payload.
+	 *
+	 * @return	deserialized page
+	 * @throws IOException	if the payload couldn't be read
+	 */
+	@Benchmark
+	public Object deserialize() throws IOException {
+		return this.adapter.read(this.gson.newJsonReader(new InputStreamReader(
+				new ByteArrayInputStream(this.payload), StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Get a page type of the provided payload.
+	 *
+	 * @param payloadName	name of the page payload
+	 * @return				page type
+	 */
+	private static Type getType(String payloadName) {
+		if (payloadName.startsWith("records")) {
+			return new TypeToken<List<RecordEntity>>() {}.getType();
+		}
+
+		if (payloadName.startsWith("jumpstats")) {
+			return new TypeToken<List<JumpstatEntity>>() {}.getType();
+		}
+
+		if (payloadName.startsWith("bans")) {
+			return new TypeToken<List<BanEntity>>() {}.getType();
+		}
+
+		throw new IllegalArgumentException("Unknown payload <" + payloadName + ">");
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+
+import java.lang.reflect.Type;
+
+/**
+ * An endpoint deserialization benchmark.
+ *
+ * <p>Deserializes the {@link KreedzEndpointFixture} of every distinct
+ * client API endpoint into its response type. List endpoints are sized
+ * by the {@code size} parameter, so the normalized allocation rate
+ * of one operation is the one of {@code size} entities.
+ */
+public class EndpointDeserializationBenchmark extends BaseDeserializationBenchmark {
+
+	/**
+	 * An identifier of the endpoint service method.
+	 */
+	@Param({
+			"IBanService.getBans",
+			"IHealthService.getHealthStatus",
+			"IHealthService.getHealthStatusByEndpoint",
+			"IJumpstatService.getJumpstats",
+			"IMapImageService.getMapImages",
+			"IMapInfoService.getGlobalMapsInfo",
+			"IMapService.getMap",
+			"IMapService.getMaps",
+			"IModeService.getMode",
+			"IModeService.getModes",
+			"IPlayerRankService.getPlayerRanks",
+			"IPlayerService.getPlayers",
+			"IRecordFilterService.getRecordFilterDistributions",
+			"IRecordFilterService.getRecordFilters",
+			"IRecordService.getRecentRecords",
+			"IRecordService.getRecentRecordsTable",
+			"IRecordService.getRecordById",
+			"IRecordService.getRecordPlaceById",
+			"IRecordService.getWorldRecordsTop",
+			"IServerService.getServerById",
+			"IServerService.getServers",
+			"IStatusService.getActiveScheduledIncidents",
+			"IStatusService.getComponents",
+			"IStatusService.getRecentIncidents",
+			"IStatusService.getStatus",
+			"IStatusService.getSummary"
+	})
+	public String endpoint;
+
+	/**
+	 * A number of entities per page of the list endpoints.
+	 */
+	@Param({"100"})
+	public int size;
+
+	/**
+	 * Initialize a {@link EndpointDeserializationBenchmark} instance.
+	 */
+	public EndpointDeserializationBenchmark() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected byte[] loadPayload() {
+		return KreedzEndpointFixture.of(this.endpoint)
+				.loadPage(this.size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Type getType() {
+		return KreedzEndpointFixture.of(this.endpoint)
+				.getResponseType();
+	}
+}
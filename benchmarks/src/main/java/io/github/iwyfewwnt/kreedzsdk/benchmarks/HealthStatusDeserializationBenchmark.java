@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.health.responses.HealthStatusResponseEntity;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * A health status deserialization benchmark.
+ *
+ * <p>Deserializes a {@link HealthStatusResponseEntity} list
+ * as returned by the health endpoint.
+ */
+public class HealthStatusDeserializationBenchmark extends BaseDeserializationBenchmark {
+
+	/**
+	 * Initialize a {@link HealthStatusDeserializationBenchmark} instance.
+	 */
+	public HealthStatusDeserializationBenchmark() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected byte[] loadPayload() {
+		return UKreedzPayloads.load("health.json");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Type getType() {
+		return new TypeToken<List<HealthStatusResponseEntity>>() {}.getType();
+	}
+}
\ No newline at end of file
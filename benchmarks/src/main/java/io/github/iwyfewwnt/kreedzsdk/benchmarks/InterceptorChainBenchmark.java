@@ -0,0 +1,201 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import io.github.iwyfewwnt.kreedzsdk.clientapi.interceptors.MethodVersionInterceptor;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.interceptors.ServiceBaseUrlInterceptor;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.EVersion;
+import okhttp3.*;
+import org.openjdk.jmh.annotations.*;
+import retrofit2.Invocation;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An interceptor chain benchmark.
+ *
+ * <p>Passes a request of a service method through the method version
+ * & service base URL interceptors, as the client adds them, up to a
+ * canned response. No request is ever sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+	/**
+	 * An identifier of the endpoint service method.
+	 */
+	@Param({
+			"IRecordService.getRecentRecords",
+			"IStatusService.getSummary",
+			"IHealthService.getHealthStatusByEndpoint"
+	})
+	public String endpoint;
+
+	/**
+	 * An array of the interceptors in order.
+	 */
+	private Interceptor[] interceptors;
+
+	/**
+	 * A request of the service method.
+	 */
+	private Request request;
+
+	/**
+	 * A canned response.
+	 */
+	private Response response;
+
+	/**
+	 * Initialize a {@link InterceptorChainBenchmark} instance.
+	 */
+	public InterceptorChainBenchmark() {
+	}
+
+	/**
+	 * Create the interceptors and the request of the service method.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		EVersion version = EVersion.LATEST;
+
+		this.interceptors = new Interceptor[] {
+				new MethodVersionInterceptor(version),
+				new ServiceBaseUrlInterceptor()
+		};
+
+		KreedzEndpointFixture fixture = KreedzEndpointFixture.of(this.endpoint);
+		Method method = fixture.getMethod();
+
+		String path = fixture.getTemplate()
+				.replaceAll("\\{[^}]+}", "1");
+
+		this.request = new Request.Builder()
+				.url("https://kztimerglobal.com/api/" + version.getApiName() + "/" + path)
+				.tag(Invocation.class, Invocation.of(method, Arrays.asList(new Object[method.getParameterCount()])))
+				.build();
+
+		this.response = new Response.Builder()
+				.request(this.request)
+				.protocol(Protocol.HTTP_1_1)
+				.code(200)
+				.message("OK")
+				.build();
+	}
+
+	/**
+	 * Pass the request through the interceptor chain.
+	 *
+	 * @return	response
+	 * @throws IOException	never
+	 */
+	@Benchmark
+	public Response intercept() throws IOException {
+		return new BenchmarkChain(0, this.request)
+				.proceed(this.request);
+	}
+
+	/**
+	 * A benchmark interceptor chain.
+	 */
+	private final class BenchmarkChain implements Interceptor.Chain {
+
+		/**
+		 * An index of the next interceptor.
+		 */
+		private final int index;
+
+		/**
+		 * A request of this chain.
+		 */
+		private final Request request;
+
+		/**
+		 * Initialize a {@link BenchmarkChain} instance.
+		 *
+		 * @param index		index of the next interceptor
+		 * @param request	request of this chain
+		 */
+		BenchmarkChain(int index, Request request) {
+			this.index = index;
+			this.request = request;
+		}
+
+		@Override
+		public Request request() {
+			return this.request;
+		}
+
+		@Override
+		public Response proceed(Request request) throws IOException {
+			if (this.index == interceptors.length) {
+				return response;
+			}
+
+			return interceptors[this.index]
+					.intercept(new BenchmarkChain(this.index + 1, request));
+		}
+
+		@Override
+		public Connection connection() {
+			return null;
+		}
+
+		@Override
+		public Call call() {
+			return null;
+		}
+
+		@Override
+		public int connectTimeoutMillis() {
+			return 0;
+		}
+
+		@Override
+		public Interceptor.Chain withConnectTimeout(int timeout, TimeUnit unit) {
+			return this;
+		}
+
+		@Override
+		public int readTimeoutMillis() {
+			return 0;
+		}
+
+		@Override
+		public Interceptor.Chain withReadTimeout(int timeout, TimeUnit unit) {
+			return this;
+		}
+
+		@Override
+		public int writeTimeoutMillis() {
+			return 0;
+		}
+
+		@Override
+		public Interceptor.Chain withWriteTimeout(int timeout, TimeUnit unit) {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.JumpstatEntity;
+import org.openjdk.jmh.annotations.Param;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * A jumpstat deserialization benchmark.
+ *
+ * <p>Deserializes a {@link JumpstatEntity} page
+ * as returned by the jumpstats endpoints.
+ */
+public class JumpstatDeserializationBenchmark extends BaseDeserializationBenchmark {
+
+	/**
+	 * A number of jumpstats per page.
+	 */
+	@Param({"100", "1000"})
+	public int size;
+
+	/**
+	 * Initialize a {@link JumpstatDeserializationBenchmark} instance.
+	 */
+	public JumpstatDeserializationBenchmark() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected byte[] loadPayload() {
+		return UKreedzPayloads.loadPage("jumpstats.json", this.size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Type getType() {
+		return new TypeToken<List<JumpstatEntity>>() {}.getType();
+	}
+}
\ No newline at end of file
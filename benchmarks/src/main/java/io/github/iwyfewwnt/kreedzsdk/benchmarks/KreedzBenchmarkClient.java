@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzClient;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * A kreedz benchmark client.
+ *
+ * <p>Exposes the response body converters of a {@link KreedzClient},
+ * so payloads are deserialized by the exact Gson stack it builds.
+ */
+final class KreedzBenchmarkClient extends KreedzClient {
+
+	/**
+	 * An empty array of method annotations.
+	 */
+	private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+	/**
+	 * Initialize a {@link KreedzBenchmarkClient} instance
+	 * w/ the default builder configuration.
+	 */
+	KreedzBenchmarkClient() {
+		super(new Builder());
+	}
+
+	/**
+	 * Initialize a {@link KreedzBenchmarkClient} instance.
+	 *
+	 * @param builder	builder to initialize from
+	 */
+	KreedzBenchmarkClient(Builder builder) {
+		super(builder);
+	}
+
+	/**
+	 * Get a response body converter of the provided type.
+	 *
+	 * @param type	type to convert to
+	 * @param <T>	value type
+	 * @return		response body converter
+	 */
+	<T> Converter<ResponseBody, T> converterOf(Type type) {
+		return this.retrofit.responseBodyConverter(type, NO_ANNOTATIONS);
+	}
+}
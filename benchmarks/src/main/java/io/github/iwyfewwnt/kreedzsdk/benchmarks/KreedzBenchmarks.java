@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * A kreedz benchmarks launcher.
+ *
+ * <p>Runs the JMH benchmarks w/ the GC profiler, so each result is
+ * reported along w/ its normalized allocation rate. Takes the usual
+ * JMH command line options, e.g. a benchmark name regular expression.
+ */
+public final class KreedzBenchmarks {
+
+	/**
+	 * Run the benchmarks.
+	 *
+	 * @param args	JMH command line options
+	 * @throws CommandLineOptionException	if the options are invalid
+	 * @throws RunnerException				if a benchmark failed
+	 * @throws IOException					if the benchmark list couldn't be read
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+		CommandLineOptions options = new CommandLineOptions(args);
+
+		if (options.shouldHelp() || options.shouldList()) {
+			Main.main(args);
+			return;
+		}
+
+		new Runner(new OptionsBuilder()
+				.parent(options)
+				.addProfiler(GCProfiler.class)
+				.build())
+				.run();
+	}
+
+	private KreedzBenchmarks() {
+		throw new UnsupportedOperationException();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.*;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.annotations.ServiceBaseUrl;
+import retrofit2.http.GET;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * A kreedz endpoint fixture.
+ *
+ * <p>Binds a {@code GET} method of the client API interfaces
+ * to its payload fixture and response type. Array fixtures of list
+ * endpoints are repeated up to a page size, the ones of single
+ * entity endpoints are reduced to their first element.
+ */
+final class KreedzEndpointFixture {
+
+	/**
+	 * An array of the client API service interface classes.
+	 */
+	private static final Class<?>[] SERVICE_CLASSES = {
+			IBanService.class,
+			IHealthService.class,
+			IJumpstatService.class,
+			IMapImageService.class,
+			IMapInfoService.class,
+			IMapService.class,
+			IModeService.class,
+			IPlayerRankService.class,
+			IPlayerService.class,
+			IRecordFilterService.class,
+			IRecordService.class,
+			IServerService.class,
+			IStatusService.class
+	};
+
+	/**
+	 * A Global API base URL regular expression.
+	 */
+	private static final String GLOBAL_API_REGEX = "kztimerglobal\\.com/api/[^/]+";
+
+	/**
+	 * A fixture order by identifier, then by relative URL template.
+	 */
+	private static final Comparator<KreedzEndpointFixture> ID_ORDER = Comparator
+			.comparing(KreedzEndpointFixture::getId)
+			.thenComparing(KreedzEndpointFixture::getTemplate);
+
+	/**
+	 * A map of the relative URL templates to their payload file names.
+	 */
+	private static final Map<String, String> PAYLOADS;
+
+	static {
+		Map<String, String> payloads = new HashMap<>();
+
+		payloads.put("bans", "bans-gokz.json");
+
+		payloads.put("endpoints/statuses", "health.json");
+		payloads.put("endpoints/{group}_{endpoint}/statuses", "health.json");
+
+		payloads.put("jumpstats", "jumpstats.json");
+		payloads.put("jumpstats/{jumpType}/top", "jumpstats.json");
+
+		payloads.put("public/maps.min.json", "map_images.json");
+
+		payloads.put("maps.min.json", "maps.min.json");
+		payloads.put("global.min.json", "maps.min.json");
+		payloads.put("non-global.min.json", "maps.min.json");
+		payloads.put("uncompleted.min.json", "maps.min.json");
+
+		payloads.put("maps", "maps.json");
+		payloads.put("maps/{id}", "maps.json");
+		payloads.put("maps/name/{mapName}", "maps.json");
+
+		payloads.put("modes", "modes.json");
+		payloads.put("modes/id/{id}", "modes.json");
+		payloads.put("modes/name/{modeName}", "modes.json");
+
+		payloads.put("player_ranks", "player_ranks.json");
+
+		payloads.put("players", "players.json");
+
+		payloads.put("record_filters", "record_filters.json");
+		payloads.put("record_filters/distributions", "record_distributions.json");
+
+		payloads.put("records/place/{id}", "record_place.json");
+		payloads.put("records/top", "records.json");
+		payloads.put("records/top/world_records", "world_records.json");
+		payloads.put("records/top/recent", "records.json");
+		payloads.put("records/{id}", "records.json");
+
+		payloads.put("servers", "servers.json");
+		payloads.put("servers/{id}", "servers.json");
+
+		payloads.put("summary.json", "status-summary.json");
+		payloads.put("status.json", "status.json");
+		payloads.put("components.json", "components.json");
+		payloads.put("incidents/unresolved.json", "incidents.json");
+		payloads.put("incidents.json", "incidents.json");
+		payloads.put("scheduled-maintenances/upcoming.json", "scheduled-maintenances.json");
+		payloads.put("scheduled-maintenances/active.json", "scheduled-maintenances.json");
+		payloads.put("scheduled-maintenances.json", "scheduled-maintenances.json");
+
+		PAYLOADS = Collections.unmodifiableMap(payloads);
+	}
+
+	/**
+	 * An identifier of the service method.
+	 */
+	private final String id;
+
+	/**
+	 * A service method.
+	 */
+	private final Method method;
+
+	/**
+	 * A base URL regular expression of the service.
+	 */
+	private final String baseUrlRegex;
+
+	/**
+	 * A relative URL template.
+	 */
+	private final String template;
+
+	/**
+	 * A response type.
+	 */
+	private final Type responseType;
+
+	/**
+	 * Whether the response is a sequence of entities.
+	 */
+	private final boolean isPageable;
+
+	/**
+	 * A payload file name.
+	 */
+	private final String payloadName;
+
+	/**
+	 * Initialize a {@link KreedzEndpointFixture} instance.
+	 *
+	 * @param clazz			service interface class
+	 * @param method		service method
+	 * @param template		relative URL template
+	 * @param payloadName	payload file name
+	 */
+	private KreedzEndpointFixture(Class<?> clazz, Method method, String template, String payloadName) {
+		ServiceBaseUrl annotation = clazz.getAnnotation(ServiceBaseUrl.class);
+
+		this.id = clazz.getSimpleName() + "." + method.getName();
+		this.method = method;
+
+		this.baseUrlRegex = annotation != null
+				? Pattern.quote(annotation.value()
+						.trim()
+						.replaceFirst("^(https?)://", "")
+						.replaceAll("/+", "/")
+						.replaceAll("/$", ""))
+				: GLOBAL_API_REGEX;
+
+		this.template = template;
+		this.responseType = ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0];
+		this.isPageable = isIterable(this.responseType);
+		this.payloadName = payloadName;
+	}
+
+	/**
+	 * Get this identifier of the service method.
+	 *
+	 * <p>Made of the service interface and method simple names,
+	 * overloads of the same method share it.
+	 *
+	 * @return	identifier of the service method
+	 */
+	String getId() {
+		return this.id;
+	}
+
+	/**
+	 * Get this service method.
+	 *
+	 * @return	service method
+	 */
+	Method getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * Get this base URL regular expression of the service.
+	 *
+	 * @return	base URL regular expression
+	 */
+	String getBaseUrlRegex() {
+		return this.baseUrlRegex;
+	}
+
+	/**
+	 * Get this relative URL template.
+	 *
+	 * @return	relative URL template
+	 */
+	String getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * Get this response type.
+	 *
+	 * @return	response type
+	 */
+	Type getResponseType() {
+		return this.responseType;
+	}
+
+	/**
+	 * Check if this response is a sequence of entities.
+	 *
+	 * @return	boolean value as a result
+	 */
+	boolean isPageable() {
+		return this.isPageable;
+	}
+
+	/**
+	 * Load this response body as served w/o a page size.
+	 *
+	 * @return	response body
+	 */
+	byte[] loadBody() {
+		byte[] payload = UKreedzPayloads.load(this.payloadName);
+
+		if (this.isPageable) {
+			return payload;
+		}
+
+		JsonElement element = new JsonParser().parse(new String(payload, StandardCharsets.UTF_8));
+
+		if (!element.isJsonArray()) {
+			return payload;
+		}
+
+		return element.getAsJsonArray()
+				.get(0)
+				.toString()
+				.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Load this response body of the provided page size.
+	 *
+	 * <p>Falls back to {@link #loadBody()} if not pageable.
+	 *
+	 * @param size	number of entities
+	 * @return		response body
+	 */
+	byte[] loadPage(int size) {
+		if (!this.isPageable) {
+			return this.loadBody();
+		}
+
+		return UKreedzPayloads.loadPage(this.payloadName, size);
+	}
+
+	/**
+	 * Create the fixtures of every client API service method.
+	 *
+	 * @return	list of the fixtures in order of identifier
+	 * @throws IllegalStateException	if an endpoint has no payload
+	 */
+	static List<KreedzEndpointFixture> all() {
+		List<KreedzEndpointFixture> fixtures = new ArrayList<>();
+
+		for (Class<?> clazz : SERVICE_CLASSES) {
+			for (Method method : clazz.getMethods()) {
+				GET get = method.getAnnotation(GET.class);
+
+				if (get == null) {
+					continue;
+				}
+
+				String template = get.value()
+						.trim()
+						.replaceAll("/+", "/")
+						.replaceAll("^/|/$", "");
+
+				String payloadName = PAYLOADS.get(template);
+
+				if (payloadName == null) {
+					throw new IllegalStateException("Unable to find a payload for the <" + template + "> endpoint");
+				}
+
+				fixtures.add(new KreedzEndpointFixture(clazz, method, template, payloadName));
+			}
+		}
+
+		fixtures.sort(ID_ORDER);
+
+		return fixtures;
+	}
+
+	/**
+	 * Create the fixtures of distinct payload & response type pairs.
+	 *
+	 * <p>Keeps the first fixture of each pair in order
+	 * of identifier, e.g. a list of records once.
+	 *
+	 * @return	list of the distinct fixtures in order of identifier
+	 */
+	static List<KreedzEndpointFixture> distinct() {
+		Map<String, KreedzEndpointFixture> fixtures = new LinkedHashMap<>();
+
+		for (KreedzEndpointFixture fixture : all()) {
+			fixtures.putIfAbsent(fixture.payloadName + " " + fixture.responseType.getTypeName(), fixture);
+		}
+
+		return new ArrayList<>(fixtures.values());
+	}
+
+	/**
+	 * Find a distinct fixture by the provided identifier.
+	 *
+	 * @param id	identifier of the service method
+	 * @return		fixture
+	 * @throws IllegalArgumentException	if there is no such fixture
+	 */
+	static KreedzEndpointFixture of(String id) {
+		for (KreedzEndpointFixture fixture : distinct()) {
+			if (fixture.id.equals(id)) {
+				return fixture;
+			}
+		}
+
+		throw new IllegalArgumentException("Unable to find a <" + id + "> endpoint fixture");
+	}
+
+	/**
+	 * Check if the provided type is a sequence of entities.
+	 *
+	 * @param type	type to check
+	 * @return		boolean value as a result
+	 */
+	private static boolean isIterable(Type type) {
+		if (type instanceof ParameterizedType) {
+			type = ((ParameterizedType) type).getRawType();
+		}
+
+		return type instanceof Class
+				&& Iterable.class.isAssignableFrom((Class<?>) type);
+	}
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import retrofit2.Converter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * A kreedz footprint check.
+ *
+ * <p>Measures two numbers for the {@link KreedzEndpointFixture} of every
+ * distinct client API endpoint, both per entity of a list response or
+ * per response of a single entity endpoint:
+ *
+ * <ul>
+ *     <li>retained bytes - the deep size by JOL, taken as the difference
+ *     between twice and once the number of responses, so the singletons
+ *     shared by all of them, e.g. time zones, don't count</li>
+ *     <li>allocated bytes - the thread allocation counter over a number
+ *     of warmed up deserializations</li>
+ * </ul>
+ *
+ * <p>Then compares them to the committed baseline file and exits w/ {@code 1}
+ * if any number grows beyond the tolerance, or if there is no baseline
+ * unless it's being recorded. Runs on {@code mvn verify} unless
+ * {@code -Dfootprint.skip} is set. Takes {@code --name=value} options:
+ *
+ * <ul>
+ *     <li>{@code baseline} - baseline file, {@code benchmarks/footprint-baseline.properties} by default</li>
+ *     <li>{@code tolerance} - relative growth to tolerate, {@code 0.1} by default</li>
+ *     <li>{@code size} - number of entities per page of the list endpoints, {@code 100} by default</li>
+ *     <li>{@code iterations} - number of deserializations to warm up & to measure each, {@code 2000} by default</li>
+ *     <li>{@code update} - record the measured numbers as the new baseline instead</li>
+ * </ul>
+ *
+ * <p>Both numbers depend on the JVM, so the baseline is recorded along w/
+ * the object layout & the name and feature version of the reference JVM.
+ * Retained bytes are compared on any JVM w/ the same object layout, e.g.
+ * a 64-bit one w/ compressed references & class pointers, while allocated
+ * bytes, that also depend on the JIT, only on the reference JVM.
+ */
+public final class KreedzFootprintCheck {
+
+	/**
+	 * A JSON media type.
+	 */
+	private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+	/**
+	 * A number of responses to retain per half of the retained size.
+	 */
+	private static final int RETAINED_COUNT = 16;
+
+	/**
+	 * A number of bytes to tolerate on top of the relative tolerance.
+	 *
+	 * <p>Stands for an object alignment, so small numbers don't flap.
+	 */
+	private static final double SLACK_BYTES = 8;
+
+	/**
+	 * A baseline key of the JVM description.
+	 */
+	private static final String VM_KEY = "vm";
+
+	/**
+	 * A baseline key of the object layout description.
+	 */
+	private static final String LAYOUT_KEY = "layout";
+
+	/**
+	 * A baseline key suffix of the retained bytes.
+	 */
+	private static final String RETAINED_SUFFIX = ".retained";
+
+	/**
+	 * A baseline key suffix of the allocated bytes.
+	 */
+	private static final String ALLOCATED_SUFFIX = ".allocated";
+
+	/**
+	 * A map of the option names to their default values.
+	 */
+	private static final Map<String, String> DEFAULT_OPTIONS;
+
+	static {
+		Map<String, String> options = new HashMap<>();
+
+		options.put("baseline", "benchmarks/footprint-baseline.properties");
+		options.put("tolerance", "0.1");
+		options.put("size", "100");
+		options.put("iterations", "2000");
+		options.put("update", "false");
+
+		DEFAULT_OPTIONS = options;
+	}
+
+	/**
+	 * A sink of the deserialized values.
+	 */
+	private static volatile Object sink;
+
+	/**
+	 * Run the footprint check.
+	 *
+	 * @param args	{@code --name=value} options
+	 * @throws IOException	if a payload couldn't be deserialized or the baseline couldn't be accessed
+	 */
+	public static void main(String[] args) throws IOException {
+		Map<String, String> options = UKreedzOptions.parse(args, DEFAULT_OPTIONS);
+
+		Path baselinePath = Paths.get(options.get("baseline"));
+		double tolerance = Double.parseDouble(options.get("tolerance"));
+		int size = Integer.parseInt(options.get("size"));
+		int iterations = Integer.parseInt(options.get("iterations"));
+
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+		if (!(threadBean instanceof com.sun.management.ThreadMXBean)
+				|| !((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+			throw new UnsupportedOperationException("Thread allocation counters aren't supported by this JVM");
+		}
+
+		com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+		KreedzBenchmarkClient client = new KreedzBenchmarkClient();
+
+		Map<String, double[]> results = new TreeMap<>();
+
+		for (KreedzEndpointFixture fixture : KreedzEndpointFixture.distinct()) {
+			results.put(fixture.getId(), measure(client, allocationBean, fixture, size, iterations));
+		}
+
+		String vm = getVmDescription();
+		String layout = getLayoutDescription();
+
+		if (Boolean.parseBoolean(options.get("update"))) {
+			writeBaseline(baselinePath, vm, layout, results);
+			print(results, null, false, false, tolerance);
+
+			System.out.println("Baseline recorded to " + baselinePath);
+			return;
+		}
+
+		if (!Files.exists(baselinePath)) {
+			print(results, null, false, false, tolerance);
+
+			System.out.println("No baseline at " + baselinePath + ", record one on <" + vm
+					+ "> w/ --update=true and commit it along");
+			System.exit(1);
+		}
+
+		Properties baseline = new Properties();
+
+		try (InputStream in = Files.newInputStream(baselinePath)) {
+			baseline.load(in);
+		}
+
+		boolean isRetainedCompared = layout.equals(baseline.getProperty(LAYOUT_KEY));
+		boolean isAllocatedCompared = isRetainedCompared && vm.equals(baseline.getProperty(VM_KEY));
+
+		if (!isRetainedCompared) {
+			System.out.println("Baseline was recorded w/ the <" + baseline.getProperty(LAYOUT_KEY)
+					+ "> object layout, not w/ <" + layout + ">, skipping the retained bytes");
+		}
+
+		if (!isAllocatedCompared) {
+			System.out.println("Baseline was recorded on <" + baseline.getProperty(VM_KEY)
+					+ ">, not on <" + vm + ">, skipping the allocated bytes");
+		}
+
+		if (print(results, baseline, isRetainedCompared, isAllocatedCompared, tolerance) > 0) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Measure the retained & allocated bytes of the provided fixture.
+	 *
+	 * @param client			client to deserialize w/
+	 * @param allocationBean	thread allocation counter bean
+	 * @param fixture			endpoint fixture
+	 * @param size				number of entities per page
+	 * @param iterations		number of deserializations to warm up & to measure each
+	 * @return					array of the retained & allocated bytes per entity
+	 * @throws IOException		if the payload couldn't be deserialized
+	 */
+	private static double[] measure(KreedzBenchmarkClient client, com.sun.management.ThreadMXBean allocationBean,
+			KreedzEndpointFixture fixture, int size, int iterations) throws IOException {
+		Converter<ResponseBody, Object> converter = client.converterOf(fixture.getResponseType());
+
+		byte[] payload = fixture.loadPage(size);
+		int entityCount = fixture.isPageable() ? size : 1;
+
+		Object[] responses = new Object[2 * RETAINED_COUNT];
+
+		for (int i = 0; i < responses.length; i++) {
+			responses[i] = converter.convert(ResponseBody.create(JSON, payload));
+		}
+
+		long halfSize = GraphLayout.parseInstance(Arrays.copyOf(responses, RETAINED_COUNT)).totalSize();
+		long fullSize = GraphLayout.parseInstance(responses).totalSize();
+
+		for (int i = 0; i < iterations; i++) {
+			sink = converter.convert(ResponseBody.create(JSON, payload));
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long startBytes = allocationBean.getThreadAllocatedBytes(threadId);
+
+		for (int i = 0; i < iterations; i++) {
+			sink = converter.convert(ResponseBody.create(JSON, payload));
+		}
+
+		long allocatedBytes = allocationBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+		return new double[] {
+				(fullSize - halfSize) / (double) (RETAINED_COUNT * entityCount),
+				allocatedBytes / (double) ((long) iterations * entityCount)
+		};
+	}
+
+	/**
+	 * Print the provided results and compare them to the provided baseline.
+	 *
+	 * @param results				map of the endpoint identifiers to their retained & allocated bytes
+	 * @param baseline				baseline to compare to, may be null
+	 * @param isRetainedCompared	whether to compare the retained bytes
+	 * @param isAllocatedCompared	whether to compare the allocated bytes
+	 * @param tolerance				relative growth to tolerate
+	 * @return						number of regressions
+	 */
+	private static int print(Map<String, double[]> results, Properties baseline,
+							 boolean isRetainedCompared, boolean isAllocatedCompared, double tolerance) {
+		int regressionCount = 0;
+
+		System.out.printf(Locale.ROOT, "%-50s %12s %12s %12s %12s%n",
+				"Endpoint", "Retained", "Baseline", "Allocated", "Baseline");
+
+		for (Map.Entry<String, double[]> entry : results.entrySet()) {
+			String id = entry.getKey();
+			double[] numbers = entry.getValue();
+
+			String retainedBaseline = baseline != null && isRetainedCompared
+					? baseline.getProperty(id + RETAINED_SUFFIX)
+					: null;
+
+			String allocatedBaseline = baseline != null && isAllocatedCompared
+					? baseline.getProperty(id + ALLOCATED_SUFFIX)
+					: null;
+
+			boolean isRegressed = isRegressed(numbers[0], retainedBaseline, tolerance)
+					| isRegressed(numbers[1], allocatedBaseline, tolerance);
+
+			if (isRegressed) {
+				regressionCount++;
+			}
+
+			System.out.printf(Locale.ROOT, "%-50s %12.1f %12s %12.1f %12s%s%n",
+					id,
+					numbers[0], retainedBaseline != null ? retainedBaseline : "-",
+					numbers[1], allocatedBaseline != null ? allocatedBaseline : "-",
+					isRegressed ? "  REGRESSED" : "");
+		}
+
+		if (baseline != null) {
+			System.out.println(regressionCount + " regression(s) beyond " + tolerance * 100 + "%");
+		}
+
+		return regressionCount;
+	}
+
+	/**
+	 * Check if the provided number grew beyond the tolerance.
+	 *
+	 * @param number		measured number
+	 * @param baseline		baseline number, may be null
+	 * @param tolerance		relative growth to tolerate
+	 * @return				boolean value as a result
+	 */
+	private static boolean isRegressed(double number, String baseline, double tolerance) {
+		if (baseline == null) {
+			return false;
+		}
+
+		return number > Double.parseDouble(baseline) * (1 + tolerance) + SLACK_BYTES;
+	}
+
+	/**
+	 * Write the provided results as a baseline.
+	 *
+	 * @param path		baseline file
+	 * @param vm		JVM description
+	 * @param layout	object layout description
+	 * @param results	map of the endpoint identifiers to their retained & allocated bytes
+	 * @throws IOException	if the baseline couldn't be written
+	 */
+	private static void writeBaseline(Path path, String vm, String layout,
+									  Map<String, double[]> results) throws IOException {
+		Map<String, String> properties = new TreeMap<>();
+		properties.put(VM_KEY, vm);
+		properties.put(LAYOUT_KEY, layout);
+
+		results.forEach((id, numbers) -> {
+			properties.put(id + RETAINED_SUFFIX, String.format(Locale.ROOT, "%.1f", numbers[0]));
+			properties.put(id + ALLOCATED_SUFFIX, String.format(Locale.ROOT, "%.1f", numbers[1]));
+		});
+
+		Path parent = path.toAbsolutePath().getParent();
+
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write("# Bytes retained & allocated per entity, see KreedzFootprintCheck\n");
+			writer.write("# Recorded on " + System.getProperty("java.vm.name")
+					+ " " + System.getProperty("java.vm.version") + "\n");
+
+			for (Map.Entry<String, String> entry : properties.entrySet()) {
+				writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+			}
+		}
+	}
+
+	/**
+	 * Get a description of the running JVM.
+	 *
+	 * <p>Leaves the update version out, as it rarely changes the layout
+	 * or the allocations, so a patched reference JVM still compares.
+	 *
+	 * @return	JVM description
+	 */
+	private static String getVmDescription() {
+		return System.getProperty("java.vm.name")
+				+ " " + System.getProperty("java.specification.version");
+	}
+
+	/**
+	 * Get a description of the object layout of the running JVM.
+	 *
+	 * <p>Describes the header & reference sizes by the instance size
+	 * of an object w/ a single reference, e.g. 16 bytes w/ compressed
+	 * references & class pointers and 24 bytes w/o.
+	 *
+	 * @return	object layout description
+	 */
+	private static String getLayoutDescription() {
+		return ClassLayout.parseClass(ReferenceHolder.class).instanceSize()
+				+ " bytes per reference holder";
+	}
+
+	/**
+	 * An object w/ a single reference.
+	 */
+	@SuppressWarnings("unused")
+	private static final class ReferenceHolder {
+
+		/**
+		 * A reference.
+		 */
+		private Object reference;
+	}
+
+	private KreedzFootprintCheck() {
+		throw new UnsupportedOperationException();
+	}
+}
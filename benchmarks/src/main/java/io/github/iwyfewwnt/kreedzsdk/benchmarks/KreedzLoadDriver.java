@@ -0,0 +1,662 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import io.github.iwyfewwnt.kreedzsdk.client.metrics.KreedzHistogram;
+import retrofit2.HttpException;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * A kreedz load driver.
+ *
+ * <p>Issues the weighted scenarios in an open loop at a fixed target
+ * rate, regardless of the in-flight ones, so a saturated client shows
+ * up as queueing latency instead of a lower offered load. Latencies
+ * are measured from the scheduled start of each request.
+ *
+ * <p>A warmup phase runs first and isn't recorded. The measured phase
+ * is drained before the allocation rate, the garbage collections and
+ * the thread counts are taken. Allocations of the threads named after
+ * the {@link #EXCLUDED_THREAD_PREFIX} are left out, so the stand-in
+ * server doesn't count against the client.
+ */
+final class KreedzLoadDriver {
+
+	/**
+	 * A name prefix of the threads to exclude from the allocation rate.
+	 */
+	static final String EXCLUDED_THREAD_PREFIX = "MockWebServer";
+
+	/**
+	 * A maximum duration to wait for the in-flight requests.
+	 */
+	private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+	/**
+	 * A nanoseconds per second.
+	 */
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	/**
+	 * A target request rate per second.
+	 */
+	private final int targetRps;
+
+	/**
+	 * A warmup phase duration.
+	 */
+	private final Duration warmup;
+
+	/**
+	 * A measured phase duration.
+	 */
+	private final Duration duration;
+
+	/**
+	 * An array of the scenarios by schedule slot.
+	 */
+	private final Scenario[] schedule;
+
+	/**
+	 * A list of the distinct scenarios in order of addition.
+	 */
+	private final List<Scenario> scenarios;
+
+	/**
+	 * Initialize a {@link KreedzLoadDriver} instance.
+	 *
+	 * @param builder	builder to initialize from
+	 */
+	private KreedzLoadDriver(Builder builder) {
+		this.targetRps = builder.targetRps;
+		this.warmup = builder.warmup;
+		this.duration = builder.duration;
+		this.scenarios = Collections.unmodifiableList(new ArrayList<>(builder.scenarios));
+
+		List<Scenario> schedule = new ArrayList<>();
+
+		for (Scenario scenario : this.scenarios) {
+			for (int i = 0; i < scenario.weight; i++) {
+				schedule.add(scenario);
+			}
+		}
+
+		Collections.shuffle(schedule, new Random(0));
+
+		this.schedule = schedule.toArray(new Scenario[0]);
+	}
+
+	/**
+	 * Run the warmup and the measured phases.
+	 *
+	 * @return	report of the measured phase
+	 */
+	Report run() {
+		if (!this.warmup.isZero()) {
+			this.runPhase(this.warmup, new Recorder(this.scenarios));
+		}
+
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		threadBean.resetPeakThreadCount();
+
+		Map<Long, Long> startAllocations = getAllocatedBytes(threadBean);
+		long startGcCount = getGcCount();
+		long startGcMillis = getGcMillis();
+
+		Recorder recorder = new Recorder(this.scenarios);
+		long elapsedNanos = this.runPhase(this.duration, recorder);
+
+		Map<Long, Long> endAllocations = getAllocatedBytes(threadBean);
+		long allocatedBytes = -1;
+
+		if (startAllocations != null && endAllocations != null) {
+			allocatedBytes = 0;
+
+			for (Map.Entry<Long, Long> entry : endAllocations.entrySet()) {
+				allocatedBytes += entry.getValue()
+						- startAllocations.getOrDefault(entry.getKey(), 0L);
+			}
+		}
+
+		return new Report(
+				this.targetRps,
+				elapsedNanos,
+				recorder,
+				allocatedBytes,
+				getGcCount() - startGcCount,
+				getGcMillis() - startGcMillis,
+				threadBean.getThreadCount(),
+				threadBean.getPeakThreadCount()
+		);
+	}
+
+	/**
+	 * Issue the scheduled requests for the provided duration
+	 * and wait for the in-flight ones.
+	 *
+	 * @param duration	phase duration
+	 * @param recorder	recorder of the outcomes
+	 * @return			elapsed nanoseconds including the drain
+	 */
+	private long runPhase(Duration duration, Recorder recorder) {
+		long periodNanos = NANOS_PER_SECOND / this.targetRps;
+		long startNanos = System.nanoTime();
+		long endNanos = startNanos + duration.toNanos();
+
+		AtomicInteger inFlightCount = new AtomicInteger();
+
+		for (long i = 0; ; i++) {
+			long scheduledNanos = startNanos + i * periodNanos;
+
+			if (scheduledNanos - endNanos >= 0) {
+				break;
+			}
+
+			long waitNanos = scheduledNanos - System.nanoTime();
+
+			if (waitNanos > 0) {
+				LockSupport.parkNanos(waitNanos);
+			}
+
+			Scenario scenario = this.schedule[(int) (i % this.schedule.length)];
+			CompletableFuture<?> future;
+
+			try {
+				future = scenario.supplier.get();
+			} catch (RuntimeException e) {
+				future = new CompletableFuture<>();
+				future.completeExceptionally(e);
+			}
+
+			inFlightCount.incrementAndGet();
+			recorder.sentCount.increment();
+
+			future.whenComplete((unused, throwable) -> {
+				recorder.record(scenario, System.nanoTime() - scheduledNanos, throwable);
+				inFlightCount.decrementAndGet();
+			});
+		}
+
+		long drainEndNanos = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+
+		while (inFlightCount.get() > 0 && System.nanoTime() - drainEndNanos < 0) {
+			LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+		}
+
+		return System.nanoTime() - startNanos;
+	}
+
+	/**
+	 * Get the allocated bytes of the live threads but the excluded ones.
+	 *
+	 * @param threadBean	thread management bean
+	 * @return				map of the thread identifiers to their allocated bytes or {@code null}
+	 */
+	private static Map<Long, Long> getAllocatedBytes(ThreadMXBean threadBean) {
+		if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+			return null;
+		}
+
+		com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+
+		if (!allocationBean.isThreadAllocatedMemorySupported()
+				|| !allocationBean.isThreadAllocatedMemoryEnabled()) {
+			return null;
+		}
+
+		long[] ids = threadBean.getAllThreadIds();
+		ThreadInfo[] infos = threadBean.getThreadInfo(ids);
+		long[] bytes = allocationBean.getThreadAllocatedBytes(ids);
+
+		Map<Long, Long> result = new HashMap<>();
+
+		for (int i = 0; i < ids.length; i++) {
+			ThreadInfo info = infos[i];
+
+			if (info == null || bytes[i] < 0
+					|| info.getThreadName().startsWith(EXCLUDED_THREAD_PREFIX)) {
+				continue;
+			}
+
+			result.put(ids[i], bytes[i]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Get a total number of the garbage collections.
+	 *
+	 * @return	number of the garbage collections
+	 */
+	private static long getGcCount() {
+		long count = 0;
+
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, bean.getCollectionCount());
+		}
+
+		return count;
+	}
+
+	/**
+	 * Get a total time of the garbage collections.
+	 *
+	 * @return	garbage collection time in milliseconds
+	 */
+	private static long getGcMillis() {
+		long millis = 0;
+
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			millis += Math.max(0, bean.getCollectionTime());
+		}
+
+		return millis;
+	}
+
+	/**
+	 * Get a failure name of the provided throwable.
+	 *
+	 * @param throwable		throwable of a failed request
+	 * @return				failure name
+	 */
+	private static String getFailureName(Throwable throwable) {
+		if (throwable instanceof CompletionException && throwable.getCause() != null) {
+			throwable = throwable.getCause();
+		}
+
+		if (throwable instanceof HttpException) {
+			return "HTTP " + ((HttpException) throwable).code();
+		}
+
+		return throwable.getClass()
+				.getSimpleName();
+	}
+
+	/**
+	 * Format the provided nanoseconds as milliseconds.
+	 *
+	 * @param nanos		nanoseconds to format
+	 * @return			formatted milliseconds
+	 */
+	private static String formatMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.2fms", nanos / 1e6);
+	}
+
+	/**
+	 * A load scenario.
+	 */
+	private static final class Scenario {
+
+		/**
+		 * A scenario name.
+		 */
+		final String name;
+
+		/**
+		 * A relative scenario weight.
+		 */
+		final int weight;
+
+		/**
+		 * A supplier of the scenario request futures.
+		 */
+		final Supplier<? extends CompletableFuture<?>> supplier;
+
+		/**
+		 * Initialize a {@link Scenario} instance.
+		 *
+		 * @param name			scenario name
+		 * @param weight		relative scenario weight
+		 * @param supplier		supplier of the scenario request futures
+		 */
+		Scenario(String name, int weight, Supplier<? extends CompletableFuture<?>> supplier) {
+			this.name = name;
+			this.weight = weight;
+			this.supplier = supplier;
+		}
+	}
+
+	/**
+	 * A load phase recorder.
+	 */
+	private static final class Recorder {
+
+		/**
+		 * A number of the sent requests.
+		 */
+		final LongAdder sentCount;
+
+		/**
+		 * A latency histogram of every request.
+		 */
+		final KreedzHistogram latencyNanos;
+
+		/**
+		 * A map of the scenarios to their latency histograms.
+		 */
+		final Map<Scenario, KreedzHistogram> scenarioLatencyNanos;
+
+		/**
+		 * A map of the scenarios to their failure counts.
+		 */
+		final Map<Scenario, LongAdder> scenarioFailureCounts;
+
+		/**
+		 * A map of the failure names to their counts.
+		 */
+		final ConcurrentMap<String, LongAdder> failureCounts;
+
+		/**
+		 * Initialize a {@link Recorder} instance.
+		 *
+		 * @param scenarios		list of the scenarios to record
+		 */
+		Recorder(List<Scenario> scenarios) {
+			this.sentCount = new LongAdder();
+			this.latencyNanos = new KreedzHistogram();
+			this.scenarioLatencyNanos = new LinkedHashMap<>();
+			this.scenarioFailureCounts = new LinkedHashMap<>();
+			this.failureCounts = new ConcurrentHashMap<>();
+
+			for (Scenario scenario : scenarios) {
+				this.scenarioLatencyNanos.put(scenario, new KreedzHistogram());
+				this.scenarioFailureCounts.put(scenario, new LongAdder());
+			}
+		}
+
+		/**
+		 * Record an outcome of the provided scenario.
+		 *
+		 * @param scenario		scenario of the request
+		 * @param nanos			latency in nanoseconds
+		 * @param throwable		failure of the request, may be null
+		 */
+		void record(Scenario scenario, long nanos, Throwable throwable) {
+			this.latencyNanos.record(nanos);
+			this.scenarioLatencyNanos.get(scenario).record(nanos);
+
+			if (throwable != null) {
+				this.scenarioFailureCounts.get(scenario).increment();
+				this.failureCounts.computeIfAbsent(getFailureName(throwable), key -> new LongAdder())
+						.increment();
+			}
+		}
+	}
+
+	/**
+	 * A load report of the measured phase.
+	 */
+	static final class Report {
+
+		/**
+		 * A target request rate per second.
+		 */
+		private final int targetRps;
+
+		/**
+		 * An elapsed time in nanoseconds including the drain.
+		 */
+		private final long elapsedNanos;
+
+		/**
+		 * A recorder of the measured phase.
+		 */
+		private final Recorder recorder;
+
+		/**
+		 * A number of the bytes allocated by the client threads, negative if unsupported.
+		 */
+		private final long allocatedBytes;
+
+		/**
+		 * A number of the garbage collections.
+		 */
+		private final long gcCount;
+
+		/**
+		 * A garbage collection time in milliseconds.
+		 */
+		private final long gcMillis;
+
+		/**
+		 * A number of the live threads after the drain.
+		 */
+		private final int threadCount;
+
+		/**
+		 * A peak number of the live threads.
+		 */
+		private final int peakThreadCount;
+
+		/**
+		 * Initialize a {@link Report} instance.
+		 *
+		 * @param targetRps			target request rate per second
+		 * @param elapsedNanos		elapsed time in nanoseconds including the drain
+		 * @param recorder			recorder of the measured phase
+		 * @param allocatedBytes	number of the bytes allocated by the client threads
+		 * @param gcCount			number of the garbage collections
+		 * @param gcMillis			garbage collection time in milliseconds
+		 * @param threadCount		number of the live threads after the drain
+		 * @param peakThreadCount	peak number of the live threads
+		 */
+		private Report(int targetRps, long elapsedNanos, Recorder recorder, long allocatedBytes,
+				long gcCount, long gcMillis, int threadCount, int peakThreadCount) {
+			this.targetRps = targetRps;
+			this.elapsedNanos = elapsedNanos;
+			this.recorder = recorder;
+			this.allocatedBytes = allocatedBytes;
+			this.gcCount = gcCount;
+			this.gcMillis = gcMillis;
+			this.threadCount = threadCount;
+			this.peakThreadCount = peakThreadCount;
+		}
+
+		/**
+		 * Print this report to the provided stream.
+		 *
+		 * @param out	stream to print to
+		 */
+		void print(PrintStream out) {
+			KreedzHistogram.Snapshot latency = this.recorder.latencyNanos.snapshot();
+
+			long completedCount = latency.getCount();
+			long failureCount = 0;
+
+			for (LongAdder count : this.recorder.scenarioFailureCounts.values()) {
+				failureCount += count.sum();
+			}
+
+			double elapsedSeconds = this.elapsedNanos / 1e9;
+
+			out.printf(Locale.ROOT, "Requests:    %d sent, %d completed, %d failed (target %d rps)%n",
+					this.recorder.sentCount.sum(), completedCount, failureCount, this.targetRps);
+			out.printf(Locale.ROOT, "Throughput:  %.1f rps (%.1f rps succeeded)%n",
+					completedCount / elapsedSeconds, (completedCount - failureCount) / elapsedSeconds);
+			out.printf(Locale.ROOT, "Latency:     p50 %s, p99 %s, p99.9 %s, max %s%n",
+					formatMillis(latency.getP50()), formatMillis(latency.getP99()),
+					formatMillis(latency.getP999()), formatMillis(latency.getMax()));
+
+			if (this.allocatedBytes >= 0) {
+				out.printf(Locale.ROOT, "Allocation:  %.1f MB/s, %d B/request%n",
+						this.allocatedBytes / elapsedSeconds / (1 << 20),
+						completedCount > 0 ? this.allocatedBytes / completedCount : 0);
+			} else {
+				out.println("Allocation:  unsupported");
+			}
+
+			out.printf(Locale.ROOT, "GC:          %d collections, %dms%n", this.gcCount, this.gcMillis);
+			out.printf(Locale.ROOT, "Threads:     %d live, %d peak%n", this.threadCount, this.peakThreadCount);
+
+			if (!this.recorder.failureCounts.isEmpty()) {
+				out.println("Failures:");
+
+				new TreeMap<>(this.recorder.failureCounts).forEach((name, count) ->
+						out.printf(Locale.ROOT, "  %-32s %d%n", name, count.sum()));
+			}
+
+			out.println("Scenarios:");
+
+			this.recorder.scenarioLatencyNanos.forEach((scenario, histogram) -> {
+				KreedzHistogram.Snapshot snapshot = histogram.snapshot();
+
+				out.printf(Locale.ROOT, "  %-32s %8d done %6d failed  p50 %10s  p99 %10s%n",
+						scenario.name, snapshot.getCount(),
+						this.recorder.scenarioFailureCounts.get(scenario).sum(),
+						formatMillis(snapshot.getP50()), formatMillis(snapshot.getP99()));
+			});
+		}
+	}
+
+	/**
+	 * A {@link KreedzLoadDriver} builder.
+	 */
+	static final class Builder {
+
+		/**
+		 * A target request rate per second.
+		 */
+		private int targetRps;
+
+		/**
+		 * A warmup phase duration.
+		 */
+		private Duration warmup;
+
+		/**
+		 * A measured phase duration.
+		 */
+		private Duration duration;
+
+		/**
+		 * A list of the scenarios.
+		 */
+		private final List<Scenario> scenarios;
+
+		/**
+		 * Initialize a {@link Builder} instance.
+		 */
+		Builder() {
+			this.targetRps = 100;
+			this.warmup = Duration.ofSeconds(10);
+			this.duration = Duration.ofSeconds(30);
+			this.scenarios = new ArrayList<>();
+		}
+
+		/**
+		 * Build a new {@link KreedzLoadDriver} instance.
+		 *
+		 * @return	new load driver instance
+		 */
+		KreedzLoadDriver build() {
+			if (this.scenarios.isEmpty()) {
+				throw new IllegalStateException("At least one scenario must be added");
+			}
+
+			return new KreedzLoadDriver(this);
+		}
+
+		/**
+		 * Set a target request rate per second.
+		 *
+		 * @param targetRps		target request rate per second
+		 * @return				this instance
+		 */
+		Builder setTargetRps(int targetRps) {
+			if (targetRps <= 0 || targetRps > NANOS_PER_SECOND) {
+				throw new IllegalArgumentException("Target RPS must be positive & not greater than 10^9");
+			}
+
+			this.targetRps = targetRps;
+			return this;
+		}
+
+		/**
+		 * Set a warmup phase duration.
+		 *
+		 * @param warmup	warmup phase duration
+		 * @return			this instance
+		 */
+		Builder setWarmup(Duration warmup) {
+			if (warmup == null || warmup.isNegative()) {
+				throw new IllegalArgumentException("Warmup mustn't be <null> or negative");
+			}
+
+			this.warmup = warmup;
+			return this;
+		}
+
+		/**
+		 * Set a measured phase duration.
+		 *
+		 * @param duration	measured phase duration
+		 * @return			this instance
+		 */
+		Builder setDuration(Duration duration) {
+			if (duration == null || duration.isNegative() || duration.isZero()) {
+				throw new IllegalArgumentException("Duration mustn't be <null> or non-positive");
+			}
+
+			this.duration = duration;
+			return this;
+		}
+
+		/**
+		 * Add a scenario.
+		 *
+		 * <p>Scenarios are interleaved in a fixed pseudo-random
+		 * order, each one in proportion to its weight.
+		 *
+		 * @param name			scenario name
+		 * @param weight		relative scenario weight
+		 * @param supplier		supplier of the scenario request futures
+		 * @return				this instance
+		 */
+		Builder addScenario(String name, int weight, Supplier<? extends CompletableFuture<?>> supplier) {
+			if (name == null) {
+				throw new IllegalArgumentException("Name mustn't be <null>");
+			}
+
+			if (weight <= 0) {
+				throw new IllegalArgumentException("Weight must be positive");
+			}
+
+			if (supplier == null) {
+				throw new IllegalArgumentException("Supplier mustn't be <null>");
+			}
+
+			this.scenarios.add(new Scenario(name, weight, supplier));
+			return this;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzClient;
+import io.github.iwyfewwnt.kreedzsdk.client.metrics.KreedzHistogram;
+import io.github.iwyfewwnt.kreedzsdk.client.metrics.KreedzMetrics;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.EJumpType;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.health.EHealthEndpoint;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A kreedz load harness.
+ *
+ * <p>Runs the request managers of a real {@link KreedzClient} against
+ * a {@link KreedzStandInServer} in the same process and prints the
+ * {@link KreedzLoadDriver.Report} along w/ the per-endpoint metrics.
+ * Takes {@code --name=value} options:
+ *
+ * <ul>
+ *     <li>{@code rps} - target request rate per second, {@code 200} by default</li>
+ *     <li>{@code duration} - measured phase duration, {@code 30s} by default</li>
+ *     <li>{@code warmup} - warmup phase duration, {@code 10s} by default</li>
+ *     <li>{@code latency} - stand-in response latency, {@code 20ms} by default</li>
+ *     <li>{@code jitter} - stand-in response latency jitter, {@code 10ms} by default</li>
+ *     <li>{@code error-rate} - rate of the {@code 503} responses, {@code 0} by default</li>
+ *     <li>{@code throttle-rate} - rate of the {@code 429} responses, {@code 0} by default</li>
+ *     <li>{@code disconnect-rate} - rate of the dropped connections, {@code 0} by default</li>
+ *     <li>{@code max-requests} - client maximum concurrent requests, {@code 64} by default</li>
+ * </ul>
+ *
+ * <p>Durations take a {@code ms}, {@code s} or {@code m} suffix.
+ */
+public final class KreedzLoadHarness {
+
+	/**
+	 * A map of the option names to their default values.
+	 */
+	private static final Map<String, String> DEFAULT_OPTIONS;
+
+	static {
+		Map<String, String> options = new HashMap<>();
+
+		options.put("rps", "200");
+		options.put("duration", "30s");
+		options.put("warmup", "10s");
+		options.put("latency", "20ms");
+		options.put("jitter", "10ms");
+		options.put("error-rate", "0");
+		options.put("throttle-rate", "0");
+		options.put("disconnect-rate", "0");
+		options.put("max-requests", "64");
+
+		DEFAULT_OPTIONS = options;
+	}
+
+	/**
+	 * Run the load harness.
+	 *
+	 * @param args	{@code --name=value} options
+	 * @throws IOException	if the stand-in server couldn't be started
+	 */
+	public static void main(String[] args) throws IOException {
+		Map<String, String> options = UKreedzOptions.parse(args, DEFAULT_OPTIONS);
+
+		int maxRequests = Integer.parseInt(options.get("max-requests"));
+
+		try (KreedzStandInServer server = new KreedzStandInServer.Builder()
+				.setLatency(UKreedzOptions.parseDuration(options.get("latency")))
+				.setJitter(UKreedzOptions.parseDuration(options.get("jitter")))
+				.setErrorRate(Double.parseDouble(options.get("error-rate")))
+				.setThrottleRate(Double.parseDouble(options.get("throttle-rate")))
+				.setDisconnectRate(Double.parseDouble(options.get("disconnect-rate")))
+				.build()) {
+			server.start();
+
+			KreedzMetrics metrics = new KreedzMetrics();
+
+			KreedzBenchmarkClient client = new KreedzBenchmarkClient(new KreedzClient.Builder()
+					.setMaxRequests(maxRequests)
+					.setMaxRequestsPerHost(maxRequests)
+					.setMaxIdleConnections(maxRequests)
+					.setMetrics(metrics)
+					.addInterceptor(server.getInterceptor()));
+
+			try {
+				KreedzLoadDriver driver = new KreedzLoadDriver.Builder()
+						.setTargetRps(Integer.parseInt(options.get("rps")))
+						.setWarmup(UKreedzOptions.parseDuration(options.get("warmup")))
+						.setDuration(UKreedzOptions.parseDuration(options.get("duration")))
+						.addScenario("records/top", 20, () -> client.getRecordService()
+								.recordsTop()
+								.setMapName("kz_synergy_x")
+								.setMode(EMode.KZT)
+								.setLimit(100)
+								.executeAsync())
+						.addScenario("records/top/recent", 10, () -> client.getRecordService()
+								.recentRecords()
+								.setMode(EMode.KZT)
+								.setLimit(50)
+								.executeAsync())
+						.addScenario("records/top/world_records", 5, () -> client.getRecordService()
+								.worldRecordsTop()
+								.setLimit(100)
+								.executeAsync())
+						.addScenario("records/{id}", 10, () -> client.getRecordService()
+								.recordById()
+								.setId(18275441)
+								.executeAsync())
+						.addScenario("jumpstats/{jumpType}/top", 5, () -> client.getJumpstatService()
+								.jumpstatsTop()
+								.setJumpType(EJumpType.LJ)
+								.setLimit(100)
+								.executeAsync())
+						.addScenario("maps", 5, () -> client.getMapService()
+								.maps()
+								.setLimit(1000)
+								.executeAsync())
+						.addScenario("maps/{id}", 10, () -> client.getMapService()
+								.mapById()
+								.setId(200)
+								.executeAsync())
+						.addScenario("players", 5, () -> client.getPlayerService()
+								.players()
+								.setLimit(100)
+								.executeAsync())
+						.addScenario("player_ranks", 5, () -> client.getPlayerRankService()
+								.playerRanks()
+								.setModes(EMode.KZT)
+								.setLimit(100)
+								.executeAsync())
+						.addScenario("bans", 5, () -> client.getBanService()
+								.bans()
+								.setLimit(100)
+								.executeAsync())
+						.addScenario("servers", 5, () -> client.getServerService()
+								.servers()
+								.setLimit(100)
+								.executeAsync())
+						.addScenario("modes", 5, () -> client.getModeService()
+								.modes()
+								.executeAsync())
+						.addScenario("endpoints/{endpoint}/statuses", 5, () -> client.getHealthService()
+								.statusByEndpoint()
+								.setEndpoint(EHealthEndpoint.GLOBAL_API)
+								.executeAsync())
+						.addScenario("summary.json", 5, () -> client.getStatusService()
+								.summary()
+								.executeAsync())
+						.build();
+
+				driver.run()
+						.print(System.out);
+
+				System.out.printf(Locale.ROOT, "Stand-in:    %d requests, %d injected faults%n",
+						server.getRequestCount(), server.getFaultCount());
+				System.out.println("Endpoints:");
+
+				metrics.snapshot().forEach((endpoint, snapshot) -> {
+					KreedzHistogram.Snapshot networkNanos = snapshot.getNetworkNanos();
+					KreedzHistogram.Snapshot deserializationNanos = snapshot.getDeserializationNanos();
+
+					System.out.printf(Locale.ROOT, "  %-40s %8d req  network p99 %8.2fms  deserialization p99 %8.3fms%n",
+							endpoint, snapshot.getRequestCount(),
+							networkNanos.getP99() / 1e6, deserializationNanos.getP99() / 1e6);
+				});
+			} finally {
+				client.close();
+			}
+		}
+	}
+
+	private KreedzLoadHarness() {
+		throw new UnsupportedOperationException();
+	}
+}
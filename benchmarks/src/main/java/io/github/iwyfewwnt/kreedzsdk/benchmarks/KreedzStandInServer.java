@@ -0,0 +1,568 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.mockwebserver.*;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A kreedz stand-in server.
+ *
+ * <p>Serves the {@link KreedzEndpointFixture}s in place of the Global API
+ * and the other services behind the client API interfaces. Every
+ * {@code GET} method of them is routed by its base URL & relative
+ * URL template, so an endpoint w/o a fixture fails the construction.
+ * List endpoints are sized by the requested {@code limit}.
+ *
+ * <p>Each response is delayed by a fixed latency w/ a uniform jitter
+ * and may be replaced by an injected fault at the configured rates:
+ * a dropped connection, a {@code 429} or a {@code 503} response.
+ *
+ * <p>Requests reach it through the {@link #getInterceptor()},
+ * which redirects every absolute URL to a local path.
+ */
+final class KreedzStandInServer implements AutoCloseable {
+
+	/**
+	 * A path parameter pattern of the relative URL templates.
+	 */
+	private static final Pattern PARAMETER_PATTERN = Pattern.compile("\\{[^}]+}");
+
+	/**
+	 * A path parameter value regular expression.
+	 */
+	private static final String PARAMETER_REGEX = "[^/]*";
+
+	/**
+	 * A page size query parameter name.
+	 */
+	private static final String LIMIT_PARAMETER = "limit";
+
+	/**
+	 * A maximum page size.
+	 */
+	private static final int MAX_LIMIT = 10000;
+
+	/**
+	 * A JSON content type.
+	 */
+	private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+	/**
+	 * A mock web server.
+	 */
+	private final MockWebServer server;
+
+	/**
+	 * A list of the routes, most specific first.
+	 */
+	private final List<Route> routes;
+
+	/**
+	 * A response latency in nanoseconds.
+	 */
+	private final long latencyNanos;
+
+	/**
+	 * A response latency jitter in nanoseconds.
+	 */
+	private final long jitterNanos;
+
+	/**
+	 * An upper bound of the dropped connection roll.
+	 */
+	private final double disconnectBound;
+
+	/**
+	 * An upper bound of the throttled response roll.
+	 */
+	private final double throttleBound;
+
+	/**
+	 * An upper bound of the failed response roll.
+	 */
+	private final double errorBound;
+
+	/**
+	 * A number of the injected faults.
+	 */
+	private final LongAdder faultCount;
+
+	/**
+	 * A base URL of the started server.
+	 */
+	private volatile HttpUrl baseUrl;
+
+	/**
+	 * Initialize a {@link KreedzStandInServer} instance.
+	 *
+	 * @param builder	builder to initialize from
+	 */
+	private KreedzStandInServer(Builder builder) {
+		this.server = new MockWebServer();
+		this.routes = createRoutes();
+
+		this.latencyNanos = builder.latency.toNanos();
+		this.jitterNanos = builder.jitter.toNanos();
+
+		this.disconnectBound = builder.disconnectRate;
+		this.throttleBound = this.disconnectBound + builder.throttleRate;
+		this.errorBound = this.throttleBound + builder.errorRate;
+
+		this.faultCount = new LongAdder();
+
+		this.server.setDispatcher(new StandInDispatcher());
+	}
+
+	/**
+	 * Start this server on a free loopback port.
+	 *
+	 * @throws IOException	if the server couldn't be started
+	 */
+	void start() throws IOException {
+		this.server.start(InetAddress.getLoopbackAddress(), 0);
+		this.baseUrl = this.server.url("/");
+	}
+
+	/**
+	 * Get an interceptor that redirects requests to this server.
+	 *
+	 * <p>Maps {@code https://host/path?query}
+	 * to {@code http://localhost:port/host/path?query}.
+	 *
+	 * @return	redirecting interceptor
+	 */
+	Interceptor getInterceptor() {
+		return chain -> {
+			HttpUrl baseUrl = this.baseUrl;
+
+			if (baseUrl == null) {
+				throw new IllegalStateException("Stand-in server isn't started");
+			}
+
+			Request request = chain.request();
+			HttpUrl url = request.url();
+
+			HttpUrl redirectUrl = baseUrl.newBuilder()
+					.addPathSegment(url.host())
+					.addEncodedPathSegments(url.encodedPath().substring(1))
+					.encodedQuery(url.encodedQuery())
+					.build();
+
+			return chain.proceed(request.newBuilder()
+					.url(redirectUrl)
+					.build());
+		};
+	}
+
+	/**
+	 * Get a number of the received requests.
+	 *
+	 * @return	number of the received requests
+	 */
+	int getRequestCount() {
+		return this.server.getRequestCount();
+	}
+
+	/**
+	 * Get a number of the injected faults.
+	 *
+	 * @return	number of the injected faults
+	 */
+	long getFaultCount() {
+		return this.faultCount.sum();
+	}
+
+	/**
+	 * Shut this server down.
+	 *
+	 * @throws IOException	if the server couldn't be shut down
+	 */
+	@Override
+	public void close() throws IOException {
+		this.server.shutdown();
+	}
+
+	/**
+	 * Create the routes of every client API service method.
+	 *
+	 * @return	list of the routes, most specific first
+	 */
+	private static List<Route> createRoutes() {
+		Map<String, Route> routes = new LinkedHashMap<>();
+
+		for (KreedzEndpointFixture fixture : KreedzEndpointFixture.all()) {
+			String regex = fixture.getBaseUrlRegex() + "/" + toRegex(fixture.getTemplate());
+
+			if (!routes.containsKey(regex)) {
+				routes.put(regex, new Route(regex, fixture));
+			}
+		}
+
+		List<Route> result = new ArrayList<>(routes.values());
+		result.sort(Route.SPECIFICITY_ORDER);
+
+		return result;
+	}
+
+	/**
+	 * Convert the provided relative URL template to a regular expression.
+	 *
+	 * @param template	relative URL template
+	 * @return			regular expression
+	 */
+	private static String toRegex(String template) {
+		StringBuilder sb = new StringBuilder();
+		Matcher matcher = PARAMETER_PATTERN.matcher(template);
+		int index = 0;
+
+		while (matcher.find()) {
+			if (matcher.start() > index) {
+				sb.append(Pattern.quote(template.substring(index, matcher.start())));
+			}
+
+			sb.append(PARAMETER_REGEX);
+			index = matcher.end();
+		}
+
+		if (index < template.length()) {
+			sb.append(Pattern.quote(template.substring(index)));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Find a route of the provided path.
+	 *
+	 * @param path	request path w/o the leading slash
+	 * @return		route or {@code null}
+	 */
+	private Route findRouteOrNull(String path) {
+		for (Route route : this.routes) {
+			if (route.pattern.matcher(path).matches()) {
+				return route;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * A stand-in route.
+	 */
+	private static final class Route {
+
+		/**
+		 * A route order by the number of path parameters,
+		 * then by the template length in reverse.
+		 */
+		static final Comparator<Route> SPECIFICITY_ORDER = Comparator
+				.comparingInt((Route route) -> route.parameterCount)
+				.thenComparing(route -> route.template.length(), Comparator.reverseOrder());
+
+		/**
+		 * A path pattern.
+		 */
+		final Pattern pattern;
+
+		/**
+		 * A relative URL template.
+		 */
+		final String template;
+
+		/**
+		 * A number of the path parameters.
+		 */
+		final int parameterCount;
+
+		/**
+		 * An endpoint fixture.
+		 */
+		final KreedzEndpointFixture fixture;
+
+		/**
+		 * A response body w/o a page size.
+		 */
+		final byte[] body;
+
+		/**
+		 * A map of the page sizes to their response bodies.
+		 */
+		final ConcurrentMap<Integer, byte[]> pages;
+
+		/**
+		 * Initialize a {@link Route} instance.
+		 *
+		 * @param regex		path regular expression
+		 * @param fixture	endpoint fixture
+		 */
+		Route(String regex, KreedzEndpointFixture fixture) {
+			this.pattern = Pattern.compile(regex);
+			this.template = fixture.getTemplate();
+
+			Matcher matcher = PARAMETER_PATTERN.matcher(this.template);
+			int parameterCount = 0;
+
+			while (matcher.find()) {
+				parameterCount++;
+			}
+
+			this.parameterCount = parameterCount;
+
+			this.fixture = fixture;
+			this.body = fixture.loadBody();
+			this.pages = new ConcurrentHashMap<>();
+		}
+
+		/**
+		 * Get a response body of the provided URL.
+		 *
+		 * @param url	request URL
+		 * @return		response body
+		 */
+		byte[] getBody(HttpUrl url) {
+			if (!this.fixture.isPageable()) {
+				return this.body;
+			}
+
+			String limit = url.queryParameter(LIMIT_PARAMETER);
+
+			if (limit == null) {
+				return this.body;
+			}
+
+			int size;
+
+			try {
+				size = Math.max(1, Math.min(MAX_LIMIT, Integer.parseInt(limit)));
+			} catch (NumberFormatException e) {
+				return this.body;
+			}
+
+			return this.pages.computeIfAbsent(size, this.fixture::loadPage);
+		}
+	}
+
+	/**
+	 * A stand-in dispatcher.
+	 */
+	private final class StandInDispatcher extends Dispatcher {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public MockResponse dispatch(RecordedRequest request) {
+			HttpUrl url = request.getRequestUrl();
+			Route route = findRouteOrNull(url.encodedPath().substring(1));
+
+			if (route == null) {
+				return new MockResponse()
+						.setResponseCode(404);
+			}
+
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+
+			long delayNanos = latencyNanos;
+
+			if (jitterNanos > 0) {
+				delayNanos += random.nextLong(jitterNanos + 1);
+			}
+
+			MockResponse response = new MockResponse()
+					.setHeadersDelay(delayNanos, TimeUnit.NANOSECONDS);
+
+			double roll = random.nextDouble();
+
+			if (roll < errorBound) {
+				faultCount.increment();
+
+				if (roll < disconnectBound) {
+					return response.setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+				}
+
+				if (roll < throttleBound) {
+					return response.setResponseCode(429)
+							.setHeader("Retry-After", 1);
+				}
+
+				return response.setResponseCode(503);
+			}
+
+			return response.setResponseCode(200)
+					.setHeader("Content-Type", JSON_CONTENT_TYPE)
+					.setBody(new Buffer().write(route.getBody(url)));
+		}
+	}
+
+	/**
+	 * A {@link KreedzStandInServer} builder.
+	 */
+	static final class Builder {
+
+		/**
+		 * A response latency.
+		 */
+		private Duration latency;
+
+		/**
+		 * A response latency jitter.
+		 */
+		private Duration jitter;
+
+		/**
+		 * A dropped connection rate.
+		 */
+		private double disconnectRate;
+
+		/**
+		 * A throttled response rate.
+		 */
+		private double throttleRate;
+
+		/**
+		 * A failed response rate.
+		 */
+		private double errorRate;
+
+		/**
+		 * Initialize a {@link Builder} instance
+		 * w/o any latency or fault.
+		 */
+		Builder() {
+			this.latency = Duration.ZERO;
+			this.jitter = Duration.ZERO;
+		}
+
+		/**
+		 * Build a new {@link KreedzStandInServer} instance.
+		 *
+		 * @return	new stand-in server instance
+		 */
+		KreedzStandInServer build() {
+			if (this.disconnectRate + this.throttleRate + this.errorRate > 1) {
+				throw new IllegalArgumentException("Sum of the fault rates mustn't be greater than 1");
+			}
+
+			return new KreedzStandInServer(this);
+		}
+
+		/**
+		 * Set a response latency.
+		 *
+		 * @param latency	response latency
+		 * @return			this instance
+		 */
+		Builder setLatency(Duration latency) {
+			this.latency = requireNonNegative(latency, "Latency");
+			return this;
+		}
+
+		/**
+		 * Set a response latency jitter.
+		 *
+		 * <p>Each response is delayed by an extra uniform random
+		 * duration between zero and the provided one.
+		 *
+		 * @param jitter	response latency jitter
+		 * @return			this instance
+		 */
+		Builder setJitter(Duration jitter) {
+			this.jitter = requireNonNegative(jitter, "Jitter");
+			return this;
+		}
+
+		/**
+		 * Set a rate of the connections dropped after reading the request.
+		 *
+		 * @param disconnectRate	dropped connection rate
+		 * @return					this instance
+		 */
+		Builder setDisconnectRate(double disconnectRate) {
+			this.disconnectRate = requireRate(disconnectRate, "Disconnect rate");
+			return this;
+		}
+
+		/**
+		 * Set a rate of the {@code 429} responses.
+		 *
+		 * @param throttleRate	throttled response rate
+		 * @return				this instance
+		 */
+		Builder setThrottleRate(double throttleRate) {
+			this.throttleRate = requireRate(throttleRate, "Throttle rate");
+			return this;
+		}
+
+		/**
+		 * Set a rate of the {@code 503} responses.
+		 *
+		 * @param errorRate		failed response rate
+		 * @return				this instance
+		 */
+		Builder setErrorRate(double errorRate) {
+			this.errorRate = requireRate(errorRate, "Error rate");
+			return this;
+		}
+
+		/**
+		 * Require the provided duration to be non-null and non-negative.
+		 *
+		 * @param duration	duration to check
+		 * @param name		name of the duration to use in the exception message
+		 * @return			provided duration
+		 */
+		private static Duration requireNonNegative(Duration duration, String name) {
+			if (duration == null || duration.isNegative()) {
+				throw new IllegalArgumentException(name + " mustn't be <null> or negative");
+			}
+
+			return duration;
+		}
+
+		/**
+		 * Require the provided rate to be between zero and one.
+		 *
+		 * @param rate	rate to check
+		 * @param name	name of the rate to use in the exception message
+		 * @return		provided rate
+		 */
+		private static double requireRate(double rate, String name) {
+			if (!(rate >= 0 && rate <= 1)) {
+				throw new IllegalArgumentException(name + " must be between 0 and 1");
+			}
+
+			return rate;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.map.MapInfoEntity;
+import org.openjdk.jmh.annotations.Param;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * A map info deserialization benchmark.
+ *
+ * <p>Deserializes a {@link MapInfoEntity} list as returned
+ * by {@code maps.min.json}, which lists about a thousand maps.
+ */
+public class MapInfoDeserializationBenchmark extends BaseDeserializationBenchmark {
+
+	/**
+	 * A number of maps.
+	 */
+	@Param({"1000"})
+	public int size;
+
+	/**
+	 * Initialize a {@link MapInfoDeserializationBenchmark} instance.
+	 */
+	public MapInfoDeserializationBenchmark() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected byte[] loadPayload() {
+		return UKreedzPayloads.loadPage("maps.min.json", this.size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Type getType() {
+		return new TypeToken<List<MapInfoEntity>>() {}.getType();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordTable;
+import org.openjdk.jmh.annotations.Param;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * A record deserialization benchmark.
+ *
+ * <p>Deserializes a page as returned by the records endpoints
+ * either into a list of {@link RecordEntity} instances or into
+ * a columnar {@link RecordTable}, so w/ the GC profiler both shapes
+ * are compared by {@code gc.alloc.rate.norm} side by side.
+ */
+public class RecordDeserializationBenchmark extends BaseDeserializationBenchmark {
+
+	/**
+	 * A number of records per page.
+	 */
+	@Param({"100", "1000"})
+	public int size;
+
+	/**
+	 * A shape to deserialize into, {@code entities} or {@code table}.
+	 */
+	@Param({"entities", "table"})
+	public String shape;
+
+	/**
+	 * Initialize a {@link RecordDeserializationBenchmark} instance.
+	 */
+	public RecordDeserializationBenchmark() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected byte[] loadPayload() {
+		return UKreedzPayloads.loadPage("records.json", this.size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Type getType() {
+		if ("table".equals(this.shape)) {
+			return RecordTable.class;
+		}
+
+		return new TypeToken<List<RecordEntity>>() {}.getType();
+	}
+}
\ No newline at end of file
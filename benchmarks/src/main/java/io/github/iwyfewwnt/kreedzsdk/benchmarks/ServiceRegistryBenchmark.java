@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzClient;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A service registry benchmark.
+ *
+ * <p>Looks the services of one client up from 64 threads at once,
+ * either all of them the same service, so every lookup hits the same
+ * bin of the registry, or each of them the next service in turn.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(64)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceRegistryBenchmark {
+
+	/**
+	 * An array of the service interface classes.
+	 */
+	private static final Class<?>[] SERVICE_CLASSES = {
+			IBanService.class,
+			IHealthService.class,
+			IJumpstatService.class,
+			IMapImageService.class,
+			IMapInfoService.class,
+			IMapService.class,
+			IModeService.class,
+			IPlayerRankService.class,
+			IPlayerService.class,
+			IRecordFilterService.class,
+			IRecordService.class,
+			IServerService.class,
+			IStatusService.class
+	};
+
+	/**
+	 * A client shared by all the threads.
+	 */
+	private KreedzClient client;
+
+	/**
+	 * Initialize a {@link ServiceRegistryBenchmark} instance.
+	 */
+	public ServiceRegistryBenchmark() {
+	}
+
+	/**
+	 * Create the client and its services,
+	 * so only the lookups are measured.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.client = new KreedzClient();
+
+		for (Class<?> clazz : SERVICE_CLASSES) {
+			this.client.getService(clazz);
+		}
+	}
+
+	/**
+	 * Look the same service up.
+	 *
+	 * @return	service
+	 */
+	@Benchmark
+	public Object getSameService() {
+		return this.client.getRecordService();
+	}
+
+	/**
+	 * Look the next service of the thread up.
+	 *
+	 * @param cursor	thread service cursor
+	 * @return			service
+	 */
+	@Benchmark
+	public Object getNextService(ServiceCursor cursor) {
+		return this.client.getService(cursor.next());
+	}
+
+	/**
+	 * A per-thread cursor over the service interface classes.
+	 */
+	@State(Scope.Thread)
+	public static class ServiceCursor {
+
+		/**
+		 * An index of the next service interface class.
+		 */
+		private int index;
+
+		/**
+		 * Initialize a {@link ServiceCursor} instance.
+		 */
+		public ServiceCursor() {
+		}
+
+		/**
+		 * Get the next service interface class.
+		 *
+		 * @return	service interface class
+		 */
+		Class<?> next() {
+			Class<?> clazz = SERVICE_CLASSES[this.index];
+
+			if (++this.index == SERVICE_CLASSES.length) {
+				this.index = 0;
+			}
+
+			return clazz;
+		}
+	}
+}
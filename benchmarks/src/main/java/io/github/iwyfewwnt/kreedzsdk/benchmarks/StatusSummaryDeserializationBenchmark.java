@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.status.responses.StatusSummaryResponseEntity;
+
+import java.lang.reflect.Type;
+
+/**
+ * A status summary deserialization benchmark.
+ *
+ * <p>Deserializes a {@link StatusSummaryResponseEntity}
+ * as returned by the status page summary endpoint.
+ */
+public class StatusSummaryDeserializationBenchmark extends BaseDeserializationBenchmark {
+
+	/**
+	 * Initialize a {@link StatusSummaryDeserializationBenchmark} instance.
+	 */
+	public StatusSummaryDeserializationBenchmark() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected byte[] loadPayload() {
+		return UKreedzPayloads.load("status-summary.json");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Type getType() {
+		return StatusSummaryResponseEntity.class;
+	}
+}
\ No newline at end of file
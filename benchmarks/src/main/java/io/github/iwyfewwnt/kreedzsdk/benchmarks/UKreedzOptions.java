@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A kreedz command line option utilities.
+ */
+final class UKreedzOptions {
+
+	/**
+	 * An option prefix.
+	 */
+	private static final String PREFIX = "--";
+
+	/**
+	 * A value of the options w/o one.
+	 */
+	private static final String FLAG_VALUE = "true";
+
+	/**
+	 * Parse the provided {@code --name=value} options over the default ones.
+	 *
+	 * <p>An option w/o a value, e.g. {@code --name}, is set to {@code true}.
+	 *
+	 * @param args				command line options
+	 * @param defaultOptions	map of the known option names to their default values
+	 * @return					map of the option names to their values
+	 * @throws IllegalArgumentException	if an option is malformed or unknown
+	 */
+	static Map<String, String> parse(String[] args, Map<String, String> defaultOptions) {
+		Map<String, String> options = new HashMap<>(defaultOptions);
+
+		for (String arg : args) {
+			if (!arg.startsWith(PREFIX)) {
+				throw new IllegalArgumentException("Option <" + arg + "> must be of the --name=value form");
+			}
+
+			int index = arg.indexOf('=');
+
+			String name = index < 0
+					? arg.substring(PREFIX.length())
+					: arg.substring(PREFIX.length(), index);
+
+			if (!options.containsKey(name)) {
+				throw new IllegalArgumentException("Unknown option <" + name + ">");
+			}
+
+			options.put(name, index < 0 ? FLAG_VALUE : arg.substring(index + 1));
+		}
+
+		return options;
+	}
+
+	/**
+	 * Parse the provided duration.
+	 *
+	 * @param value		duration w/ a {@code ms}, {@code s} or {@code m} suffix
+	 * @return			duration
+	 * @throws IllegalArgumentException	if the duration is malformed
+	 */
+	static Duration parseDuration(String value) {
+		if (value.endsWith("ms")) {
+			return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+		}
+
+		if (value.endsWith("s")) {
+			return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+
+		if (value.endsWith("m")) {
+			return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+
+		throw new IllegalArgumentException("Duration <" + value + "> must end w/ ms, s or m");
+	}
+
+	private UKreedzOptions() {
+		throw new UnsupportedOperationException();
+	}
+}
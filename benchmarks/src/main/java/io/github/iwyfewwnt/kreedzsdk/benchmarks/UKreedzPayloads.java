@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A kreedz payload utilities.
+ *
+ * <p>Loads the JSON payloads of the {@code payloads} resource directory.
+ */
+final class UKreedzPayloads {
+
+	/**
+	 * A payload resource directory.
+	 */
+	private static final String DIRECTORY = "/payloads/";
+
+	/**
+	 * Load the provided payload.
+	 *
+	 * @param name	payload file name
+	 * @return		payload bytes
+	 */
+	static byte[] load(String name) {
+		try (InputStream in = UKreedzPayloads.class.getResourceAsStream(DIRECTORY + name)) {
+			if (in == null) {
+				throw new IllegalArgumentException("Unable to find a <" + name + "> payload");
+			}
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int count;
+
+			while ((count = in.read(buffer)) != -1) {
+				out.write(buffer, 0, count);
+			}
+
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Load the provided array payload and repeat its
+	 * elements in order up to the provided size.
+	 *
+	 * <p>Stands for a page of the provided limit.
+	 *
+	 * @param name	payload file name
+	 * @param size	number of elements
+	 * @return		payload bytes
+	 */
+	static byte[] loadPage(String name, int size) {
+		JsonArray samples = new JsonParser().parse(new String(load(name), StandardCharsets.UTF_8))
+				.getAsJsonArray();
+
+		if (samples.size() == 0) {
+			throw new IllegalArgumentException("Payload <" + name + "> mustn't be empty");
+		}
+
+		JsonArray page = new JsonArray();
+
+		for (int i = 0; i < size; i++) {
+			page.add(samples.get(i % samples.size()));
+		}
+
+		return page.toString()
+				.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private UKreedzPayloads() {
+		throw new UnsupportedOperationException();
+	}
+}
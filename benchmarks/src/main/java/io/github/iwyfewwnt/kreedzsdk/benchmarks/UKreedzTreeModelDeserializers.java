@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.benchmarks;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.DataUpdater;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.anticheat.stats.BanStats;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.anticheat.stats.GokzBanStats;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.anticheat.stats.KztimerBanStats;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.*;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.status.EStatus;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.status.EStatusIndicator;
+import io.github.iwyfewwnt.kreedzsdk.structs.utils.UKreedzDate;
+import io.github.iwyfewwnt.steamid.SteamId;
+import io.github.iwyfewwnt.uwutils.UwArray;
+import org.joda.time.DateTime;
+
+/**
+ * A kreedz tree-model deserializer utilities.
+ *
+ * <p>Keeps the {@link JsonDeserializer}s the adapters module used to
+ * consist of before the streaming type adapters replaced them, as they
+ * were, so the two deserialization paths can be benchmarked side by side.
+ */
+final class UKreedzTreeModelDeserializers {
+
+	/**
+	 * A GOKZ ban stats regular expression.
+	 */
+	private static final String GOKZ_STATS_REGEX = "Perfs: \\d+/\\d+, Average: \\d*\\.?\\d*, Scroll pattern: .*";
+
+	/**
+	 * A KZTimer ban stats regular expression.
+	 */
+	private static final String KZTIMER_STATS_REGEX = "Scroll pattern: .*, Avg\\. scroll pattern: \\d+\\.?\\d*, Avg\\. speed: \\d+\\.?\\d*, Perfect jump ratio: \\d+\\.?\\d*%";
+
+	/**
+	 * Register the tree-model deserializers
+	 * of every built-in type in the provided builder.
+	 *
+	 * @param builder	builder to register in
+	 * @return			provided builder
+	 */
+	static GsonBuilder register(GsonBuilder builder) {
+		return builder
+				.registerTypeAdapter(BanStats.class, (JsonDeserializer<BanStats>) (json, type, context) -> {
+					String stats = context.deserialize(json, String.class);
+
+					if (stats == null) {
+						return null;
+					}
+
+					if (stats.matches(GOKZ_STATS_REGEX)) {
+						return new GokzBanStats(stats);
+					}
+
+					if (stats.matches(KZTIMER_STATS_REGEX)) {
+						return new KztimerBanStats(stats);
+					}
+
+					return null;
+				})
+				.registerTypeAdapter(EBanType.class, (JsonDeserializer<EBanType>) (json, type, context)
+						-> EBanType.fromApiNameOrNull(context.deserialize(json, String.class)))
+				.registerTypeAdapter(DataUpdater.class, (JsonDeserializer<DataUpdater>) (json, type, context)
+						-> new DataUpdater(context.deserialize(json, Long.class)))
+				.registerTypeAdapter(DateTime.class, (JsonDeserializer<DateTime>) (json, type, context) -> {
+					String str = context.deserialize(json, String.class);
+
+					if (str == null) {
+						return null;
+					}
+
+					Throwable[] throwables = new Throwable[2];
+
+					try {
+						return DateTime.parse(str, UKreedzDate.FORMATTER);
+					} catch (UnsupportedOperationException
+							| IllegalArgumentException e) {
+						throwables[0] = e;
+					}
+
+					try {
+						return DateTime.parse(str);
+					} catch (UnsupportedOperationException
+							| IllegalArgumentException e) {
+						throwables[1] = e;
+					}
+
+					UwArray.consume(Throwable::printStackTrace, throwables);
+
+					return null;
+				})
+				.registerTypeAdapter(EDifficulty.class, (JsonDeserializer<EDifficulty>) (json, type, context)
+						-> EDifficulty.fromIdOrNull(context.deserialize(json, Integer.class)))
+				.registerTypeAdapter(EJumpType.class, (JsonDeserializer<EJumpType>) (json, type, context)
+						-> EJumpType.fromIdOrNull(context.deserialize(json, Integer.class)))
+				.registerTypeAdapter(EMode.class, (JsonDeserializer<EMode>) (json, type, context)
+						-> EMode.fromApiNameOrNull(context.deserialize(json, String.class)))
+				.registerTypeAdapter(RunTime.class, (JsonDeserializer<RunTime>) (json, type, context)
+						-> new RunTime(context.deserialize(json, Float.class)))
+				.registerTypeAdapter(ERunType.class, (JsonDeserializer<ERunType>) (json, type, context)
+						-> ERunType.fromHasTeleports(context.deserialize(json, Boolean.class)))
+				.registerTypeAdapter(EStatusIndicator.class, (JsonDeserializer<EStatusIndicator>) (json, type, context)
+						-> EStatusIndicator.fromApiNameOrNull(context.deserialize(json, String.class)))
+				.registerTypeAdapter(EStatus.class, (JsonDeserializer<EStatus>) (json, type, context)
+						-> EStatus.fromApiNameOrNull(context.deserialize(json, String.class)))
+				.registerTypeAdapter(SteamId.class, (JsonDeserializer<SteamId>) (json, type, context)
+						-> SteamId.fromSteamAnyOrNull(context.deserialize(json, String.class)))
+				.registerTypeAdapter(ETickrate.class, (JsonDeserializer<ETickrate>) (json, type, context)
+						-> ETickrate.fromIntOrNull(context.deserialize(json, Integer.class)));
+	}
+
+	private UKreedzTreeModelDeserializers() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -19,6 +19,7 @@ package io.github.iwyfewwnt.kreedzsdk.clientapi;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.annotations.MethodVersion;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordCountEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordTable;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EVersion;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ERunType;
@@ -66,6 +67,28 @@ public interface IRecordService {
 			@Query("limit") Integer limit
 	);
 
+	/**
+	 * GET request to /records/top/ endpoint.
+	 *
+	 * <p>Decodes the response into a {@link RecordTable}.
+	 */
+	@MethodVersion(EVersion.V1_0)
+	@GET("records/top")
+	Call<RecordTable> getRecordsTopTable(
+			@Query("server_id") Integer serverId,
+			@Query("steamid64") Long steamId64,
+			@Query("map_id") Integer mapId,
+			@Query("map_name") String mapName,
+			@Query("tickrate") ETickrate tickrate,
+			@Query("overall") Boolean isOverall,
+			@Query("stage") Integer stage,
+			@Query("modes_list") String modeName,
+			@Query("has_teleports") ERunType runType,
+			@Query("player_name") String playerName,
+			@Query("offset") Integer offset,
+			@Query("limit") Integer limit
+	);
+
 	/**
 	 * GET request to /records/top/world_records/ endpoint.
 	 */
@@ -103,6 +126,28 @@ public interface IRecordService {
 			@Query("limit") Integer limit
 	);
 
+	/**
+	 * GET request to /records/top/recent/ endpoint.
+	 *
+	 * <p>Decodes the response into a {@link RecordTable}.
+	 */
+	@MethodVersion(EVersion.V1_0)
+	@GET("records/top/recent")
+	Call<RecordTable> getRecentRecordsTable(
+			@Query("steamid64") Long steamId64,
+			@Query("map_id") Integer mapId,
+			@Query("map_name") String mapName,
+			@Query("has_teleports") ERunType runType,
+			@Query("tickrate") ETickrate tickrate,
+			@Query("stage") Integer stage,
+			@Query("modes_list") String modeName,
+			@Query("place_top_at_least") Integer minPlace,
+			@Query("place_top_overall_at_least") Integer minOverallPlace,
+			@Query("created_since") DateTime createdSinceDate,
+			@Query("offset") Integer offset,
+			@Query("limit") Integer limit
+	);
+
 	/**
 	 * GET request to /records/../ endpoint.
 	 */
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.clientapi;
+
+import io.github.iwyfewwnt.kreedzsdk.clientapi.annotations.MethodVersion;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.internal.UKreedzMap;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.EVersion;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A method API version table.
+ *
+ * <p>Resolves the {@link MethodVersion} of each service method against
+ * the client version once, so a check only costs a lookup. Service
+ * interfaces are resolved as a whole, which lets their supported
+ * methods be queried up front.
+ */
+@SuppressWarnings("unused")
+public final class MethodVersionTable {
+
+	/**
+	 * A kreedz client version.
+	 */
+	private final EVersion clientVersion;
+
+	/**
+	 * A map of the service methods to whether they're supported.
+	 */
+	private final ConcurrentMap<Method, Boolean> supportedMethods;
+
+	/**
+	 * A map of the service interface classes to their supported methods.
+	 */
+	private final ConcurrentMap<Class<?>, Set<Method>> supportedServiceMethods;
+
+	/**
+	 * Initialize a {@link MethodVersionTable} instance.
+	 *
+	 * @param clientVersion		kreedz client version
+	 */
+	public MethodVersionTable(EVersion clientVersion) {
+		if (clientVersion == null) {
+			throw new IllegalArgumentException("Client version mustn't be <null>");
+		}
+
+		this.clientVersion = clientVersion;
+		this.supportedMethods = new ConcurrentHashMap<>();
+		this.supportedServiceMethods = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Get this kreedz client version.
+	 *
+	 * @return	kreedz client version
+	 */
+	public EVersion getClientVersion() {
+		return this.clientVersion;
+	}
+
+	/**
+	 * Check if the provided service method is supported by this client version.
+	 *
+	 * @param method	service method
+	 * @return			boolean value as a result
+	 */
+	public boolean isSupported(Method method) {
+		if (method == null) {
+			return false;
+		}
+
+		return UKreedzMap.computeIfAbsent(this.supportedMethods, method,
+				key -> this.isSupported(key.getAnnotation(MethodVersion.class)));
+	}
+
+	/**
+	 * Check if the provided method API version annotation is satisfied by this client version.
+	 *
+	 * <p>A method w/o the annotation is supported by any version,
+	 * so {@code null} is always satisfied.
+	 *
+	 * @param annotation	method API version annotation, may be null
+	 * @return				boolean value as a result
+	 */
+	public boolean isSupported(MethodVersion annotation) {
+		if (annotation == null) {
+			return true;
+		}
+
+		int compareResult = EVersion.compare(this.clientVersion, annotation.value());
+
+		return !(annotation.explicit() && compareResult != 0 || compareResult < 0);
+	}
+
+	/**
+	 * Get the supported methods of the provided service interface class.
+	 *
+	 * <p>Resolves every abstract method of the service interface
+	 * on the first query, later ones are a lookup.
+	 *
+	 * @param clazz		service interface class
+	 * @return			unmodifiable set of the supported methods
+	 */
+	public Set<Method> getSupportedMethods(Class<?> clazz) {
+		if (clazz == null) {
+			return Collections.emptySet();
+		}
+
+		return UKreedzMap.computeIfAbsent(this.supportedServiceMethods, clazz, this::resolveSupportedMethods);
+	}
+
+	/**
+	 * Create an exception for the provided unsupported service method.
+	 *
+	 * @param method	service method
+	 * @return			unsupported operation exception
+	 */
+	public UnsupportedOperationException newUnsupportedException(Method method) {
+		return this.newUnsupportedException(method.getAnnotation(MethodVersion.class));
+	}
+
+	/**
+	 * Create an exception for the provided unsatisfied method API version annotation.
+	 *
+	 * @param annotation	method API version annotation
+	 * @return				unsupported operation exception
+	 */
+	public UnsupportedOperationException newUnsupportedException(MethodVersion annotation) {
+		String compareVersionString = annotation.explicit() ? "=" : "≥";
+		String methodVersionString = annotation.value().getApiName();
+		String clientVersionString = this.clientVersion.getApiName();
+
+		return new UnsupportedOperationException(
+				"[" + compareVersionString + "]"
+						+ " Method supported API version - [" + methodVersionString + "]"
+						+ " / Current client API version - [" + clientVersionString + "]"
+		);
+	}
+
+	/**
+	 * Resolve the supported methods of the provided service interface class.
+	 *
+	 * @param clazz		service interface class
+	 * @return			unmodifiable set of the supported methods
+	 */
+	private Set<Method> resolveSupportedMethods(Class<?> clazz) {
+		Set<Method> methods = new HashSet<>();
+
+		for (Method method : clazz.getMethods()) {
+			if (!Modifier.isAbstract(method.getModifiers())) {
+				continue;
+			}
+
+			if (this.isSupported(method)) {
+				methods.add(method);
+			}
+		}
+
+		return Collections.unmodifiableSet(methods);
+	}
+}
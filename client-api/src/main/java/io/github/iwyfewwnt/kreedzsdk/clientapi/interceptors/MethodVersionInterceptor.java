@@ -16,7 +16,7 @@
 
 package io.github.iwyfewwnt.kreedzsdk.clientapi.interceptors;
 
-import io.github.iwyfewwnt.kreedzsdk.clientapi.annotations.MethodVersion;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.MethodVersionTable;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EVersion;
 import okhttp3.Interceptor;
 import okhttp3.Request;
@@ -28,26 +28,43 @@ import java.lang.reflect.Method;
 
 /**
  * A method API version interceptor.
+ *
+ * <p>Checks each service method against the client version
+ * once, so a request only costs a lookup. The kreedz client
+ * rejects unsupported methods before a request is even built,
+ * so this is a safety net for the ones built elsewhere.
  */
 @SuppressWarnings("NullableProblems")
 public final class MethodVersionInterceptor implements Interceptor {
 
 	/**
-	 * A kreedz client version.
+	 * A method API version table.
 	 */
-	private final EVersion clientVersion;
+	private final MethodVersionTable versionTable;
 
 	/**
 	 * Initialize a {@link MethodVersionInterceptor} instance.
 	 *
-	 * @param clientVersion		kreedz client version
+	 * @param versionTable	method API version table
 	 */
-	public MethodVersionInterceptor(EVersion clientVersion) {
-		if (clientVersion == null) {
-			throw new IllegalArgumentException("Client version mustn't be <null>");
+	public MethodVersionInterceptor(MethodVersionTable versionTable) {
+		if (versionTable == null) {
+			throw new IllegalArgumentException("Version table mustn't be <null>");
 		}
 
-		this.clientVersion = clientVersion;
+		this.versionTable = versionTable;
+	}
+
+	/**
+	 * Initialize a {@link MethodVersionInterceptor} instance.
+	 *
+	 * <p>Wraps {@link #MethodVersionInterceptor(MethodVersionTable)}
+	 * w/ a new table of the provided client version.
+	 *
+	 * @param clientVersion		kreedz client version
+	 */
+	public MethodVersionInterceptor(EVersion clientVersion) {
+		this(new MethodVersionTable(clientVersion));
 	}
 
 	/**
@@ -64,25 +81,8 @@ public final class MethodVersionInterceptor implements Interceptor {
 
 		Method method = invocation.method();
 
-		MethodVersion annotation = method.getAnnotation(MethodVersion.class);
-		if (annotation == null) {
-			return chain.proceed(request);
-		}
-
-		EVersion methodVersion = annotation.value();
-		boolean isExplicit = annotation.explicit();
-
-		int compareResult = EVersion.compare(this.clientVersion, methodVersion);
-		if (isExplicit && compareResult != 0 || compareResult < 0) {
-			String compareVersionString = isExplicit ? "=" : "≥";
-			String methodVersionString = methodVersion.getApiName();
-			String clientVersionString = this.clientVersion.getApiName();
-
-			throw new UnsupportedOperationException(
-					"[" + compareVersionString + "]"
-							+ " Method supported API version - [" + methodVersionString + "]"
-							+ " / Current client API version - [" + clientVersionString + "]"
-			);
+		if (!this.versionTable.isSupported(method)) {
+			throw this.versionTable.newUnsupportedException(method);
 		}
 
 		return chain.proceed(request);
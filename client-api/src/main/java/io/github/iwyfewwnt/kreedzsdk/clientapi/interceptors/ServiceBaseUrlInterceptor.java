@@ -17,7 +17,9 @@
 package io.github.iwyfewwnt.kreedzsdk.clientapi.interceptors;
 
 import io.github.iwyfewwnt.kreedzsdk.clientapi.annotations.ServiceBaseUrl;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.internal.UKreedzMap;
 import io.github.iwyfewwnt.uwutils.UwReflect;
+import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -28,9 +30,15 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A service base API URL interceptor.
+ *
+ * <p>Resolves a route of each service method once, so a request
+ * only swaps the host & base path of its URL, keeping the resolved
+ * relative path and the query.
  */
 @SuppressWarnings("NullableProblems")
 public final class ServiceBaseUrlInterceptor implements Interceptor {
@@ -48,10 +56,21 @@ public final class ServiceBaseUrlInterceptor implements Interceptor {
 			PATCH.class
 	};
 
+	/**
+	 * A route of the methods to leave as is.
+	 */
+	private static final Route NO_ROUTE = new Route(null, 0);
+
+	/**
+	 * A map of the service methods to their routes.
+	 */
+	private final ConcurrentMap<Method, Route> routes;
+
 	/**
 	 * Initialize a {@link ServiceBaseUrlInterceptor} instance.
 	 */
 	public ServiceBaseUrlInterceptor() {
+		this.routes = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -67,20 +86,43 @@ public final class ServiceBaseUrlInterceptor implements Interceptor {
 		}
 
 		Method method = invocation.method();
+
+		Route route = UKreedzMap.computeIfAbsent(this.routes, method,
+				ServiceBaseUrlInterceptor::createRoute);
+
+		if (route == NO_ROUTE) {
+			return chain.proceed(request);
+		}
+
+		request = request.newBuilder()
+				.url(route.resolve(request.url()))
+				.build();
+
+		return chain.proceed(request);
+	}
+
+	/**
+	 * Create a route of the provided service method.
+	 *
+	 * @param method	service method
+	 * @return			route or {@link #NO_ROUTE}
+	 * @throws IllegalArgumentException	if both the base URL & endpoint are empty
+	 */
+	private static Route createRoute(Method method) {
 		Class<?> clazz = method.getDeclaringClass();
 
 		ServiceBaseUrl baseUrlAnnotation
 				= clazz.getAnnotation(ServiceBaseUrl.class);
 
 		if (baseUrlAnnotation == null) {
-			return chain.proceed(request);
+			return NO_ROUTE;
 		}
 
 		Annotation httpMethodAnnotation
 				= UwReflect.annotationOf(HTTP_METHOD_ANNOTATION_CLASSES, method);
 
 		if (httpMethodAnnotation == null) {
-			return chain.proceed(request);
+			return NO_ROUTE;
 		}
 
 		String endpoint = null;
@@ -98,7 +140,7 @@ public final class ServiceBaseUrlInterceptor implements Interceptor {
 
 		if (endpoint == null
 				|| endpoint.matches("^(https?)://.*$")) {
-			return chain.proceed(request);
+			return NO_ROUTE;
 		}
 
 		String baseUrl = baseUrlAnnotation.value()
@@ -115,14 +157,84 @@ public final class ServiceBaseUrlInterceptor implements Interceptor {
 			throw new IllegalArgumentException("Both the base URL & endpoint are empty");
 		}
 
-		if (!baseUrl.isEmpty() && !endpoint.isEmpty()) {
-			endpoint = "/" + endpoint;
+		int segmentCount = endpoint.isEmpty()
+				? 0
+				: endpoint.split("/").length;
+
+		// The first endpoint segment stands for the host.
+		if (baseUrl.isEmpty()) {
+			int index = endpoint.indexOf('/');
+
+			baseUrl = index < 0
+					? endpoint
+					: endpoint.substring(0, index);
+
+			segmentCount--;
 		}
 
-		request = request.newBuilder()
-				.url("https://" + baseUrl + endpoint)
-				.build();
+		return new Route(HttpUrl.get("https://" + baseUrl), segmentCount);
+	}
 
-		return chain.proceed(request);
+	/**
+	 * A service method route.
+	 */
+	private static final class Route {
+
+		/**
+		 * A service base URL.
+		 */
+		private final HttpUrl baseUrl;
+
+		/**
+		 * An encoded service base path w/o the trailing slash.
+		 */
+		private final String basePath;
+
+		/**
+		 * A number of the trailing path segments to keep.
+		 */
+		private final int segmentCount;
+
+		/**
+		 * Initialize a {@link Route} instance.
+		 *
+		 * @param baseUrl			service base URL
+		 * @param segmentCount		number of the trailing path segments to keep
+		 */
+		Route(HttpUrl baseUrl, int segmentCount) {
+			this.baseUrl = baseUrl;
+			this.basePath = baseUrl != null
+					? baseUrl.encodedPath().replaceAll("/$", "")
+					: null;
+			this.segmentCount = segmentCount;
+		}
+
+		/**
+		 * Resolve the provided request URL against this service base URL.
+		 *
+		 * @param url	request URL resolved against the client base URL
+		 * @return		request URL resolved against this service base URL
+		 */
+		HttpUrl resolve(HttpUrl url) {
+			String path = url.encodedPath();
+			int end = path.length();
+
+			if (end > 1 && path.charAt(end - 1) == '/') {
+				end--;
+			}
+
+			int index = end;
+
+			for (int i = 0; i < this.segmentCount && index > 0; i++) {
+				index = path.lastIndexOf('/', index - 1);
+			}
+
+			String resolvedPath = this.basePath + path.substring(Math.max(0, index), end);
+
+			return this.baseUrl.newBuilder()
+					.encodedPath(resolvedPath.isEmpty() ? "/" : resolvedPath)
+					.encodedQuery(url.encodedQuery())
+					.build();
+		}
 	}
 }
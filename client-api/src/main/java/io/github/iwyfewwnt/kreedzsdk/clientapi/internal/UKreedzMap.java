@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.clientapi.internal;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A kreedz concurrent map utilities.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class UKreedzMap {
+
+	/**
+	 * Get a value of the provided key or compute it if absent.
+	 *
+	 * <p>Does a plain lookup first, as {@link ConcurrentMap#computeIfAbsent(Object, Function)}
+	 * may lock the bin even on a hit, so a hot read path never contends on it.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param map				concurrent map
+	 * @param key				key
+	 * @param mappingFunction	function to compute a value w/
+	 * @param <K>				key type
+	 * @param <V>				value type
+	 * @return					current or computed value
+	 */
+	public static <K, V> V computeIfAbsent(ConcurrentMap<K, V> map, K key,
+										   Function<? super K, ? extends V> mappingFunction) {
+		V value = map.get(key);
+
+		if (value != null) {
+			return value;
+		}
+
+		return map.computeIfAbsent(key, mappingFunction);
+	}
+
+	private UKreedzMap() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -20,12 +20,34 @@ import com.google.gson.*;
 import io.github.iwyfewwnt.gsonnative.GsonNativeTypeAdapterFactory;
 import io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapter;
 import io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapterFactory;
+import io.github.iwyfewwnt.kreedzsdk.adapters.KreedzTypeAdapterRegistry;
+import io.github.iwyfewwnt.kreedzsdk.client.breaker.KreedzCircuitBreaker;
+import io.github.iwyfewwnt.kreedzsdk.client.cache.KreedzCallCoalescer;
+import io.github.iwyfewwnt.kreedzsdk.client.cache.KreedzHttpCache;
+import io.github.iwyfewwnt.kreedzsdk.client.cache.KreedzResponseCache;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzCacheControlInterceptor;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzCallAdapterFactory;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzConverterFactoryRegistry;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzEventConverterFactory;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzEventInterceptor;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzHttpCacheInterceptor;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzInterceptorRegistry;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzMetricsConverterFactory;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzTypeAdapterFactoryRegistry;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzVersionCallAdapterFactory;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzEvents;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzSpi;
+import io.github.iwyfewwnt.kreedzsdk.client.metrics.KreedzMetrics;
+import io.github.iwyfewwnt.kreedzsdk.client.ratelimit.KreedzRateLimiter;
+import io.github.iwyfewwnt.kreedzsdk.client.retry.KreedzRetrier;
 import io.github.iwyfewwnt.kreedzsdk.client.services.*;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.*;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.interceptors.ServiceBaseUrlInterceptor;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.interceptors.MethodVersionInterceptor;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.internal.UKreedzMap;
 import io.github.iwyfewwnt.kreedzsdk.converterapi.IKreedzConverterFactory;
 import io.github.iwyfewwnt.kreedzsdk.converterapi.IKreedzQueryConverter;
+import io.github.iwyfewwnt.kreedzsdk.converters.KreedzQueryConverterRegistry;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EVersion;
 import io.github.iwyfewwnt.uwgson.UwTypeAdapterFactory;
 import io.github.iwyfewwnt.uwretrofit.IRetrofitClient;
@@ -33,23 +55,32 @@ import io.github.iwyfewwnt.uwretrofit.converters.QueryConverterFactory;
 import io.github.iwyfewwnt.uwretrofit.services.IServiceWrapper;
 import io.github.iwyfewwnt.uwretrofit.services.impl.RetrofitServiceWrapper;
 import io.github.iwyfewwnt.uwutils.*;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import retrofit2.Converter;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
  * A kreedz API client.
  */
 @SuppressWarnings({"unused", "unchecked"})
-public class KreedzClient implements IKreedzClient, IRetrofitClient {
+public class KreedzClient implements IKreedzClient, IRetrofitClient, AutoCloseable {
 
 	/**
 	 * An initialized {@code VavrTypeAdapterFactory} class.
@@ -81,14 +112,9 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	}
 
 	/**
-	 * A map of service wrapper/implementation classes by their service interface class.
+	 * A map of service wrapper/implementation factories by their service interface class.
 	 */
-	private static final Map<Class<?>, Class<? extends IKreedzService>> SERVICE_CLASSES = initServiceSpi();
-
-	/**
-	 * A map of service wrapper/implementation instances by their service interface class.
-	 */
-	private static final Map<Class<?>, IKreedzService> SERVICE_CACHE = new HashMap<>();
+	private static final Map<Class<?>, Function<Retrofit, IKreedzService>> SERVICE_FACTORIES = initServiceSpi();
 
 	/**
 	 * A kreedz API base URL format string.
@@ -110,22 +136,110 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	 */
 	protected final String baseUrl;
 
+	/**
+	 * A method API version table.
+	 */
+	protected final MethodVersionTable versionTable;
+
 	/**
 	 * A retrofit.
 	 */
 	protected final Retrofit retrofit;
 
+	/**
+	 * An HTTP client.
+	 */
+	private final OkHttpClient httpClient;
+
+	/**
+	 * A response cache.
+	 */
+	protected final KreedzResponseCache responseCache;
+
+	/**
+	 * An HTTP cache.
+	 */
+	protected final KreedzHttpCache httpCache;
+
+	/**
+	 * A call coalescer.
+	 */
+	protected final KreedzCallCoalescer callCoalescer;
+
+	/**
+	 * A rate limiter.
+	 */
+	protected final KreedzRateLimiter rateLimiter;
+
+	/**
+	 * A retrier.
+	 */
+	protected final KreedzRetrier retrier;
+
+	/**
+	 * A circuit breaker.
+	 */
+	protected final KreedzCircuitBreaker circuitBreaker;
+
+	/**
+	 * A metrics.
+	 */
+	protected final KreedzMetrics metrics;
+
+	/**
+	 * A map of service wrapper/implementation instances by their service interface class.
+	 */
+	private final ConcurrentMap<Class<?>, IKreedzService> serviceCache;
+
 	/**
 	 * Initialize a {@link KreedzClient} instance.
 	 *
-	 * @param version	API version
+	 * @param builder	builder to take the configuration from
 	 */
-	public KreedzClient(EVersion version) {
-		this.version = UwObject.ifNull(version, EVersion.LATEST);
+	protected KreedzClient(Builder builder) {
+		if (builder == null) {
+			throw new IllegalArgumentException("Builder mustn't be <null>");
+		}
+
+		this.version = UwObject.ifNull(builder.version, EVersion.LATEST);
 
 		this.baseUrl = String.format(BASE_URL_FMT, this.version.getApiName());
+		this.versionTable = new MethodVersionTable(this.version);
+
+		this.responseCache = builder.responseCache;
+		this.httpCache = builder.httpCache;
+		this.callCoalescer = builder.callCoalescer;
+		this.rateLimiter = builder.rateLimiter;
+		this.retrier = builder.retrier;
+		this.circuitBreaker = builder.circuitBreaker;
+		this.metrics = builder.metrics;
 
-		this.retrofit = this.initRetrofit();
+		this.httpClient = this.initHttpClient(builder);
+
+		this.retrofit = this.initRetrofit(builder, this.httpClient);
+
+		if (this.circuitBreaker != null) {
+			Retrofit pollerRetrofit = this.initPollerRetrofit(this.httpClient);
+
+			IHealthService healthService = pollerRetrofit.create(IHealthService.class);
+			IStatusService statusService = pollerRetrofit.create(IStatusService.class);
+
+			this.circuitBreaker.startPolling(this, healthService::getHealthStatus, statusService::getSummary);
+		}
+
+		this.serviceCache = new ConcurrentHashMap<>(SERVICE_FACTORIES.size());
+	}
+
+	/**
+	 * Initialize a {@link KreedzClient} instance.
+	 *
+	 * <p>Wraps {@link #KreedzClient(Builder)}
+	 * w/ a default builder configuration.
+	 *
+	 * @param version	API version
+	 */
+	public KreedzClient(EVersion version) {
+		this(new Builder().setVersion(version));
 	}
 
 	/**
@@ -135,7 +249,7 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	 * w/ {@code null} as the API version.
 	 */
 	public KreedzClient() {
-		this(null);
+		this((EVersion) null);
 	}
 
 	/**
@@ -157,43 +271,143 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Get this method API version table.
+	 *
+	 * @return	method API version table
 	 */
-	@Override
-	public final Object getService(Class<?> clazz) {
-		if (clazz == null) {
-			return null;
-		}
+	public final MethodVersionTable getVersionTable() {
+		return this.versionTable;
+	}
 
-		IKreedzService service = SERVICE_CACHE.get(clazz);
+	/**
+	 * Get the service methods supported by this API version.
+	 *
+	 * <p>Wraps {@link MethodVersionTable#getSupportedMethods(Class)}
+	 * of this method API version table.
+	 *
+	 * @param clazz		service interface class
+	 * @return			unmodifiable set of the supported methods
+	 */
+	public final Set<Method> getSupportedMethods(Class<?> clazz) {
+		return this.versionTable.getSupportedMethods(clazz);
+	}
 
-		if (service != null) {
-			return service;
-		}
+	/**
+	 * Get this response cache or return {@code null} if none.
+	 *
+	 * @return	response cache or {@code null}
+	 */
+	public final KreedzResponseCache getResponseCacheOrNull() {
+		return this.responseCache;
+	}
 
-		synchronized (SERVICE_CACHE) {
-			service = SERVICE_CACHE.get(clazz);
+	/**
+	 * Get this HTTP cache or return {@code null} if none.
+	 *
+	 * @return	HTTP cache or {@code null}
+	 */
+	public final KreedzHttpCache getHttpCacheOrNull() {
+		return this.httpCache;
+	}
 
-			if (service != null) {
-				return service;
-			}
+	/**
+	 * Get this call coalescer or return {@code null} if none.
+	 *
+	 * @return	call coalescer or {@code null}
+	 */
+	public final KreedzCallCoalescer getCallCoalescerOrNull() {
+		return this.callCoalescer;
+	}
 
-			Class<? extends IKreedzService> serviceClass = SERVICE_CLASSES.get(clazz);
+	/**
+	 * Get this rate limiter or return {@code null} if none.
+	 *
+	 * @return	rate limiter or {@code null}
+	 */
+	public final KreedzRateLimiter getRateLimiterOrNull() {
+		return this.rateLimiter;
+	}
+
+	/**
+	 * Get this retrier or return {@code null} if none.
+	 *
+	 * @return	retrier or {@code null}
+	 */
+	public final KreedzRetrier getRetrierOrNull() {
+		return this.retrier;
+	}
+
+	/**
+	 * Get this circuit breaker or return {@code null} if none.
+	 *
+	 * @return	circuit breaker or {@code null}
+	 */
+	public final KreedzCircuitBreaker getCircuitBreakerOrNull() {
+		return this.circuitBreaker;
+	}
 
-			Objects.requireNonNull(serviceClass, "Unable to find a <IKreedzService> implementation");
+	/**
+	 * Get this metrics or return {@code null} if none.
+	 *
+	 * @return	metrics or {@code null}
+	 */
+	public final KreedzMetrics getMetricsOrNull() {
+		return this.metrics;
+	}
 
-			service = UwReflect.newInstanceOrNull(serviceClass, new Object[] {this.retrofit});
+	/**
+	 * Release the HTTP client resources of this client.
+	 *
+	 * <p>Stops polling the health and status APIs for this client,
+	 * so a circuit breaker shared w/ other clients keeps polling
+	 * through them. Shuts the dispatcher executor down, so calls
+	 * enqueued afterwards fail, and evicts the pooled connections.
+	 * A shared HTTP cache is left open.
+	 *
+	 * <p>Wraps {@link KreedzCircuitBreaker#stopPolling(Object)}.
+	 */
+	@Override
+	public void close() {
+		if (this.circuitBreaker != null) {
+			this.circuitBreaker.stopPolling(this);
+		}
 
-			if (service == null) {
-				service = UwReflect.newInstanceOrNull(serviceClass);
-			}
+		this.httpClient.dispatcher()
+				.executorService()
+				.shutdown();
 
-			Objects.requireNonNull(service, "Unable to create a <"
-					+ serviceClass.getSimpleName() + "> instance");
+		this.httpClient.connectionPool()
+				.evictAll();
+	}
 
-			SERVICE_CACHE.put(clazz, service);
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final Object getService(Class<?> clazz) {
+		if (clazz == null) {
+			return null;
 		}
 
+		return UKreedzMap.computeIfAbsent(this.serviceCache, clazz, this::createService);
+	}
+
+	/**
+	 * Create a service wrapper/implementation instance.
+	 *
+	 * @param clazz		service interface class
+	 * @return			service wrapper/implementation instance
+	 */
+	private IKreedzService createService(Class<?> clazz) {
+		Function<Retrofit, IKreedzService> serviceFactory = SERVICE_FACTORIES.get(clazz);
+
+		Objects.requireNonNull(serviceFactory, "Unable to find a <IKreedzService> implementation");
+
+		IKreedzService service = serviceFactory.apply(this.retrofit);
+
+		Objects.requireNonNull(service, "Unable to create a <"
+				+ clazz.getSimpleName() + "> implementation instance");
+
 		return service;
 	}
 
@@ -356,37 +570,145 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	/**
 	 * Initialize a {@link Retrofit} instance.
 	 *
-	 * @return	retrofit instance
+	 * @param config		builder to take the configuration from
+	 * @param httpClient	HTTP client
+	 * @return				retrofit instance
 	 */
-	private Retrofit initRetrofit() {
+	private Retrofit initRetrofit(Builder config, OkHttpClient httpClient) {
 		Retrofit.Builder builder = new Retrofit.Builder()
 				.baseUrl(this.baseUrl)
-				.client(this.initHttpClient())
-				.addConverterFactory(this.initGsonConverterFactory())
+				.client(httpClient);
+
+		if (this.metrics != null) {
+			builder.addConverterFactory(new KreedzMetricsConverterFactory(this.metrics));
+		}
+
+		if (UKreedzEvents.isSupported()) {
+			builder.addConverterFactory(new KreedzEventConverterFactory());
+		}
+
+		builder.addConverterFactory(this.initGsonConverterFactory())
 				.addConverterFactory(this.initQueryConverterFactory());
 
 		initConvertFactorySpi().forEach(builder::addConverterFactory);
 
+		builder.addCallAdapterFactory(new KreedzVersionCallAdapterFactory(this.versionTable));
+
+		if (this.responseCache != null || this.callCoalescer != null || this.retrier != null) {
+			builder.addCallAdapterFactory(new KreedzCallAdapterFactory(
+					this.responseCache, this.callCoalescer, this.retrier));
+		}
+
 		return builder.build();
 	}
 
+	/**
+	 * Initialize a {@link Retrofit} instance of the circuit breaker poller.
+	 *
+	 * <p>Shares the dispatcher, connection pool & timeouts of the provided
+	 * HTTP client, but none of its interceptors, cache or call adapters,
+	 * so a poll is neither cached, coalesced, retried nor throttled,
+	 * and isn't rejected by the very circuit it reports on.
+	 *
+	 * @param httpClient	HTTP client
+	 * @return				retrofit instance
+	 */
+	private Retrofit initPollerRetrofit(OkHttpClient httpClient) {
+		OkHttpClient.Builder builder = httpClient.newBuilder()
+				.cache(null);
+
+		builder.interceptors()
+				.clear();
+
+		builder.networkInterceptors()
+				.clear();
+
+		builder.addInterceptor(new ServiceBaseUrlInterceptor());
+
+		return new Retrofit.Builder()
+				.baseUrl(this.baseUrl)
+				.client(builder.build())
+				.addConverterFactory(this.initGsonConverterFactory())
+				.build();
+	}
+
 	/**
 	 * Initialize an {@link OkHttpClient} instance.
 	 *
-	 * @return	{@code OkHttpClient} instance
+	 * @param config	builder to take the configuration from
+	 * @return			{@code OkHttpClient} instance
 	 */
-	private OkHttpClient initHttpClient() {
+	private OkHttpClient initHttpClient(Builder config) {
+		Dispatcher dispatcher = new Dispatcher();
+		dispatcher.setMaxRequests(config.maxRequests);
+		dispatcher.setMaxRequestsPerHost(config.maxRequestsPerHost);
+
+		ConnectionPool connectionPool = new ConnectionPool(config.maxIdleConnections,
+				config.keepAliveDuration.toNanos(), TimeUnit.NANOSECONDS);
+
+		List<Protocol> protocols = config.isHttp2Enabled
+				? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+				: Collections.singletonList(Protocol.HTTP_1_1);
+
 		OkHttpClient.Builder builder = new OkHttpClient.Builder()
-				.addInterceptor(new MethodVersionInterceptor(this.version))
+				.dispatcher(dispatcher)
+				.connectionPool(connectionPool)
+				.protocols(protocols)
+				.writeTimeout(config.writeTimeout)
+				.readTimeout(config.readTimeout)
+				.connectTimeout(config.connectTimeout)
+				.callTimeout(config.callTimeout);
+
+		Interceptor httpCacheInterceptor = null;
+
+		if (this.httpCache != null) {
+			builder.cache(this.httpCache.getCache())
+					.addNetworkInterceptor(new KreedzCacheControlInterceptor(this.httpCache));
+
+			// Built before any application interceptor, so it revalidates past them,
+			// except for the circuit breaker & rate limiter guarding the host.
+			OkHttpClient.Builder revalidationBuilder = builder.build()
+					.newBuilder();
+
+			if (this.circuitBreaker != null) {
+				revalidationBuilder.addInterceptor(this.circuitBreaker);
+			}
+
+			if (this.rateLimiter != null) {
+				revalidationBuilder.addInterceptor(this.rateLimiter);
+			}
+
+			httpCacheInterceptor = new KreedzHttpCacheInterceptor(this.httpCache, revalidationBuilder.build());
+		}
+
+		builder.addInterceptor(new MethodVersionInterceptor(this.versionTable))
 				.addInterceptor(new ServiceBaseUrlInterceptor());
 
 		initInterceptorSpi().forEach(builder::addInterceptor);
 
-		return builder.writeTimeout(Duration.ZERO)
-				.readTimeout(Duration.ZERO)
-				.connectTimeout(Duration.ZERO)
-				.callTimeout(Duration.ZERO)
-				.build();
+		if (this.circuitBreaker != null) {
+			builder.addInterceptor(this.circuitBreaker);
+		}
+
+		if (this.rateLimiter != null) {
+			builder.addInterceptor(this.rateLimiter);
+		}
+
+		if (this.metrics != null) {
+			builder.addInterceptor(this.metrics);
+		}
+
+		if (UKreedzEvents.isSupported()) {
+			builder.addInterceptor(new KreedzEventInterceptor());
+		}
+
+		config.interceptors.forEach(builder::addInterceptor);
+
+		if (httpCacheInterceptor != null) {
+			builder.addInterceptor(httpCacheInterceptor);
+		}
+
+		return builder.build();
 	}
 
 	/**
@@ -429,18 +751,23 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 
 	/**
 	 * Initialize a kreedz service SPI module.
+	 *
+	 * <p>Built-in services are taken from the compile-time generated
+	 * {@link KreedzServiceRegistry}, only third-party ones are reflected.
+	 *
+	 * @return	map of kreedz service factories and their associated types
 	 */
-	private static Map<Class<?>, Class<? extends IKreedzService>> initServiceSpi() {
-		List<Class<? extends IKreedzService>> classes
-				= UwBean.findSpiTypesOrNull(IKreedzService.class);
+	private static Map<Class<?>, Function<Retrofit, IKreedzService>> initServiceSpi() {
+		Map<Class<?>, Function<Retrofit, IKreedzService>> result
+				= new HashMap<>(KreedzServiceRegistry.getFactories());
+
+		List<Class<? extends IKreedzService>> classes = UKreedzSpi.findSpiTypesOrNull(
+				IKreedzService.class, KreedzServiceRegistry.getClassNames());
 
 		if (classes == null) {
-			return UwMap.EMPTY;
+			return Collections.unmodifiableMap(result);
 		}
 
-		Map<Class<?>, Class<? extends IKreedzService>> result
-				= new HashMap<>(classes.size());
-
 		classes.forEach(clazz -> {
 			String className = clazz.getSimpleName();
 
@@ -467,7 +794,15 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 			Objects.requireNonNull(assignType, "Unable to find a <"
 					+ className + "> generic type");
 
-			result.put(assignType, clazz);
+			result.put(assignType, retrofit -> {
+				IKreedzService service = UwReflect.newInstanceOrNull(clazz, new Object[] {retrofit});
+
+				if (service == null) {
+					service = UwReflect.newInstanceOrNull(clazz);
+				}
+
+				return service;
+			});
 		});
 
 		return Collections.unmodifiableMap(result);
@@ -476,18 +811,24 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	/**
 	 * Initialize a kreedz type adapter SPI module.
 	 *
+	 * <p>Built-in type adapters are taken from the compile-time generated
+	 * {@link KreedzTypeAdapterRegistry}, only third-party ones are reflected.
+	 *
 	 * @return 	map of kreedz type adapter instances and their associated types
 	 */
 	private static Map<Class<?>, Object> initTypeAdapterSpi() {
-		List<Class<? extends IKreedzTypeAdapter>> classes
-				= UwBean.findSpiTypesOrNull(IKreedzTypeAdapter.class);
+		Map<Class<?>, Object> result = new HashMap<>();
+
+		KreedzTypeAdapterRegistry.getFactories()
+				.forEach((type, factory) -> result.put(type, factory.get()));
+
+		List<Class<? extends IKreedzTypeAdapter>> classes = UKreedzSpi.findSpiTypesOrNull(
+				IKreedzTypeAdapter.class, KreedzTypeAdapterRegistry.getClassNames());
 
 		if (classes == null) {
-			return UwMap.EMPTY;
+			return Collections.unmodifiableMap(result);
 		}
 
-		Map<Class<?>, Object> result = new HashMap<>(classes.size());
-
 		classes.forEach(clazz -> {
 			String className = clazz.getSimpleName();
 
@@ -542,28 +883,38 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	/**
 	 * Initialize a kreedz type adapter factory SPI module.
 	 *
+	 * <p>Built-in type adapter factories are taken from the compile-time generated
+	 * {@link KreedzTypeAdapterFactoryRegistry}, only third-party ones are reflected.
+	 *
 	 * @return 	list of type adapter factory instances
 	 */
 	private static List<TypeAdapterFactory> initTypeAdapterFactorySpi() {
-		return initSimpleSpi(IKreedzTypeAdapterFactory.class, TypeAdapterFactory.class);
+		return initSimpleSpi(IKreedzTypeAdapterFactory.class, TypeAdapterFactory.class,
+				KreedzTypeAdapterFactoryRegistry.getFactories(), KreedzTypeAdapterFactoryRegistry.getClassNames());
 	}
 
 	/**
 	 * Initialize a kreedz query converter SPI module.
 	 *
+	 * <p>Built-in query converters are taken from the compile-time generated
+	 * {@link KreedzQueryConverterRegistry}, only third-party ones are reflected.
+	 *
 	 * @return	map of kreedz query converter instances and their associated types
 	 */
 	private static Map<Class<Object>, Converter<Object, String>> initQueryConverterSpi() {
-		List<Class<? extends IKreedzQueryConverter>> classes
-				= UwBean.findSpiTypesOrNull(IKreedzQueryConverter.class);
+		Map<Class<Object>, Converter<Object, String>> result = new HashMap<>();
+
+		KreedzQueryConverterRegistry.getFactories()
+				.forEach((type, factory) -> result.put((Class<Object>) type,
+						(Converter<Object, String>) factory.get()));
+
+		List<Class<? extends IKreedzQueryConverter>> classes = UKreedzSpi.findSpiTypesOrNull(
+				IKreedzQueryConverter.class, KreedzQueryConverterRegistry.getClassNames());
 
 		if (classes == null) {
-			return UwMap.EMPTY;
+			return Collections.unmodifiableMap(result);
 		}
 
-		Map<Class<Object>, Converter<Object, String>> result
-				= new HashMap<>(classes.size());
-
 		classes.forEach(clazz -> {
 			String className = clazz.getSimpleName();
 
@@ -608,40 +959,53 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 	/**
 	 * Initialize a kreedz converter factory SPI module.
 	 *
+	 * <p>Built-in converter factories are taken from the compile-time generated
+	 * {@link KreedzConverterFactoryRegistry}, only third-party ones are reflected.
+	 *
 	 * @return	list of converter factory instances
 	 */
 	private static List<Converter.Factory> initConvertFactorySpi() {
-		return initSimpleSpi(IKreedzConverterFactory.class, Converter.Factory.class);
+		return initSimpleSpi(IKreedzConverterFactory.class, Converter.Factory.class,
+				KreedzConverterFactoryRegistry.getFactories(), KreedzConverterFactoryRegistry.getClassNames());
 	}
 
 	/**
 	 * Initialize a kreedz interceptor SPI module.
 	 *
+	 * <p>Built-in interceptors are taken from the compile-time generated
+	 * {@link KreedzInterceptorRegistry}, only third-party ones are reflected.
+	 *
 	 * @return	list of interceptor instances
 	 */
 	private static List<Interceptor> initInterceptorSpi() {
-		return initSimpleSpi(IKreedzInterceptor.class, Interceptor.class);
+		return initSimpleSpi(IKreedzInterceptor.class, Interceptor.class,
+				KreedzInterceptorRegistry.getFactories(), KreedzInterceptorRegistry.getClassNames());
 	}
 
 	/**
 	 * Initialize a simple SPI module.
 	 *
-	 * @param iClass	interface class
-	 * @param tClass	original class
-	 * @param <T>		result type
-	 * @param <U>		interface type
-	 * @return			list of {@literal <T>} instances
+	 * @param iClass		interface class
+	 * @param tClass		original class
+	 * @param factories		map of built-in implementation factories by their class
+	 * @param classNames	set of built-in implementation binary class names
+	 * @param <T>			result type
+	 * @param <U>			interface type
+	 * @return				list of {@literal <T>} instances
 	 */
-	private static <T, U> List<T> initSimpleSpi(Class<U> iClass, Class<T> tClass) {
-		List<Class<? extends U>> classes
-				= UwBean.findSpiTypesOrNull(iClass);
+	private static <T, U> List<T> initSimpleSpi(Class<U> iClass, Class<T> tClass,
+												Map<Class<?>, Supplier<U>> factories, Set<String> classNames) {
+		List<T> result = new ArrayList<>(factories.size());
+
+		factories.values()
+				.forEach(factory -> result.add((T) factory.get()));
+
+		List<Class<? extends U>> classes = UKreedzSpi.findSpiTypesOrNull(iClass, classNames);
 
 		if (classes == null) {
-			return UwList.EMPTY;
+			return Collections.unmodifiableList(result);
 		}
 
-		List<T> result = new ArrayList<>(classes.size());
-
 		String tName = tClass.getSimpleName();
 
 		classes.forEach(clazz -> {
@@ -662,4 +1026,449 @@ public class KreedzClient implements IKreedzClient, IRetrofitClient {
 
 		return Collections.unmodifiableList(result);
 	}
+
+	/**
+	 * A {@link KreedzClient} builder.
+	 */
+	@SuppressWarnings("unused")
+	public static final class Builder {
+
+		/**
+		 * A default maximum number of concurrent requests.
+		 */
+		private static final int DEFAULT_MAX_REQUESTS = 64;
+
+		/**
+		 * A default maximum number of concurrent requests per host.
+		 */
+		private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 16;
+
+		/**
+		 * A default maximum number of idle connections.
+		 */
+		private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 16;
+
+		/**
+		 * A default keep-alive duration of idle connections.
+		 */
+		private static final Duration DEFAULT_KEEP_ALIVE_DURATION = Duration.ofMinutes(5);
+
+		/**
+		 * A default connect timeout.
+		 */
+		private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+		/**
+		 * A default read timeout.
+		 */
+		private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+
+		/**
+		 * A default write timeout.
+		 */
+		private static final Duration DEFAULT_WRITE_TIMEOUT = Duration.ofSeconds(30);
+
+		/**
+		 * A default call timeout.
+		 */
+		private static final Duration DEFAULT_CALL_TIMEOUT = Duration.ofSeconds(60);
+
+		/**
+		 * An API version.
+		 */
+		private EVersion version;
+
+		/**
+		 * A maximum number of concurrent requests.
+		 */
+		private int maxRequests;
+
+		/**
+		 * A maximum number of concurrent requests per host.
+		 */
+		private int maxRequestsPerHost;
+
+		/**
+		 * A maximum number of idle connections.
+		 */
+		private int maxIdleConnections;
+
+		/**
+		 * A keep-alive duration of idle connections.
+		 */
+		private Duration keepAliveDuration;
+
+		/**
+		 * An "isHttp2Enabled" boolean value.
+		 */
+		private boolean isHttp2Enabled;
+
+		/**
+		 * A connect timeout.
+		 */
+		private Duration connectTimeout;
+
+		/**
+		 * A read timeout.
+		 */
+		private Duration readTimeout;
+
+		/**
+		 * A write timeout.
+		 */
+		private Duration writeTimeout;
+
+		/**
+		 * A call timeout.
+		 */
+		private Duration callTimeout;
+
+		/**
+		 * A response cache.
+		 */
+		private KreedzResponseCache responseCache;
+
+		/**
+		 * An HTTP cache.
+		 */
+		private KreedzHttpCache httpCache;
+
+		/**
+		 * A call coalescer.
+		 */
+		private KreedzCallCoalescer callCoalescer;
+
+		/**
+		 * A rate limiter.
+		 */
+		private KreedzRateLimiter rateLimiter;
+
+		/**
+		 * A retrier.
+		 */
+		private KreedzRetrier retrier;
+
+		/**
+		 * A circuit breaker.
+		 */
+		private KreedzCircuitBreaker circuitBreaker;
+
+		/**
+		 * A metrics.
+		 */
+		private KreedzMetrics metrics;
+
+		/**
+		 * A list of additional interceptors.
+		 */
+		private final List<Interceptor> interceptors;
+
+		/**
+		 * Initialize a {@link KreedzClient.Builder} instance.
+		 */
+		public Builder() {
+			this.interceptors = new ArrayList<>();
+			this.maxRequests = DEFAULT_MAX_REQUESTS;
+			this.maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+			this.maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+			this.keepAliveDuration = DEFAULT_KEEP_ALIVE_DURATION;
+			this.isHttp2Enabled = true;
+			this.connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+			this.readTimeout = DEFAULT_READ_TIMEOUT;
+			this.writeTimeout = DEFAULT_WRITE_TIMEOUT;
+			this.callTimeout = DEFAULT_CALL_TIMEOUT;
+		}
+
+		/**
+		 * Build a {@link KreedzClient} instance.
+		 *
+		 * @return	{@code KreedzClient} instance
+		 */
+		public KreedzClient build() {
+			return new KreedzClient(this);
+		}
+
+		/**
+		 * Set this API version.
+		 *
+		 * @param version	API version, may be null
+		 * @return			this instance
+		 */
+		public Builder setVersion(EVersion version) {
+			this.version = version;
+			return this;
+		}
+
+		/**
+		 * Set this maximum number of concurrent requests.
+		 *
+		 * @param maxRequests	maximum number of concurrent requests
+		 * @return				this instance
+		 */
+		public Builder setMaxRequests(int maxRequests) {
+			if (maxRequests < 1) {
+				throw new IllegalArgumentException("Max requests must be positive");
+			}
+
+			this.maxRequests = maxRequests;
+			return this;
+		}
+
+		/**
+		 * Set this maximum number of concurrent requests per host.
+		 *
+		 * @param maxRequestsPerHost	maximum number of concurrent requests per host
+		 * @return						this instance
+		 */
+		public Builder setMaxRequestsPerHost(int maxRequestsPerHost) {
+			if (maxRequestsPerHost < 1) {
+				throw new IllegalArgumentException("Max requests per host must be positive");
+			}
+
+			this.maxRequestsPerHost = maxRequestsPerHost;
+			return this;
+		}
+
+		/**
+		 * Set this maximum number of idle connections.
+		 *
+		 * @param maxIdleConnections	maximum number of idle connections
+		 * @return						this instance
+		 */
+		public Builder setMaxIdleConnections(int maxIdleConnections) {
+			if (maxIdleConnections < 0) {
+				throw new IllegalArgumentException("Max idle connections mustn't be negative");
+			}
+
+			this.maxIdleConnections = maxIdleConnections;
+			return this;
+		}
+
+		/**
+		 * Set this keep-alive duration of idle connections.
+		 *
+		 * @param keepAliveDuration		keep-alive duration of idle connections
+		 * @return						this instance
+		 */
+		public Builder setKeepAliveDuration(Duration keepAliveDuration) {
+			this.keepAliveDuration = requirePositive(keepAliveDuration, "Keep-alive duration");
+			return this;
+		}
+
+		/**
+		 * Set this "isHttp2Enabled" boolean value.
+		 *
+		 * <p>If disabled, only HTTP/1.1 is negotiated.
+		 *
+		 * @param isHttp2Enabled	"isHttp2Enabled" boolean value
+		 * @return					this instance
+		 */
+		public Builder setIsHttp2Enabled(boolean isHttp2Enabled) {
+			this.isHttp2Enabled = isHttp2Enabled;
+			return this;
+		}
+
+		/**
+		 * Set this connect timeout.
+		 *
+		 * @param connectTimeout	connect timeout, zero for no timeout
+		 * @return					this instance
+		 */
+		public Builder setConnectTimeout(Duration connectTimeout) {
+			this.connectTimeout = requireNonNegative(connectTimeout, "Connect timeout");
+			return this;
+		}
+
+		/**
+		 * Set this read timeout.
+		 *
+		 * @param readTimeout	read timeout, zero for no timeout
+		 * @return				this instance
+		 */
+		public Builder setReadTimeout(Duration readTimeout) {
+			this.readTimeout = requireNonNegative(readTimeout, "Read timeout");
+			return this;
+		}
+
+		/**
+		 * Set this write timeout.
+		 *
+		 * @param writeTimeout	write timeout, zero for no timeout
+		 * @return				this instance
+		 */
+		public Builder setWriteTimeout(Duration writeTimeout) {
+			this.writeTimeout = requireNonNegative(writeTimeout, "Write timeout");
+			return this;
+		}
+
+		/**
+		 * Set this call timeout.
+		 *
+		 * <p>Defines a deadline for the complete call
+		 * including DNS, connecting, writing and reading.
+		 *
+		 * @param callTimeout	call timeout, zero for no timeout
+		 * @return				this instance
+		 */
+		public Builder setCallTimeout(Duration callTimeout) {
+			this.callTimeout = requireNonNegative(callTimeout, "Call timeout");
+			return this;
+		}
+
+		/**
+		 * Set this response cache.
+		 *
+		 * <p>Successful responses of {@code GET} service methods are
+		 * served from the cache for their endpoint time-to-live.
+		 * A cache may be shared by several clients of the same version.
+		 *
+		 * @param responseCache		response cache, may be null
+		 * @return					this instance
+		 */
+		public Builder setResponseCache(KreedzResponseCache responseCache) {
+			this.responseCache = responseCache;
+			return this;
+		}
+
+		/**
+		 * Set this HTTP cache.
+		 *
+		 * <p>Raw responses of its endpoints are kept on disk and
+		 * conditionally revalidated, so a cold start reuses them.
+		 * A cache may be shared by several clients.
+		 *
+		 * @param httpCache		HTTP cache, may be null
+		 * @return				this instance
+		 */
+		public Builder setHttpCache(KreedzHttpCache httpCache) {
+			this.httpCache = httpCache;
+			return this;
+		}
+
+		/**
+		 * Set this call coalescer.
+		 *
+		 * <p>Concurrent identical calls of {@code GET} service methods
+		 * share a single in-flight HTTP call and its response.
+		 * A coalescer may be shared by several clients of the same version.
+		 *
+		 * @param callCoalescer		call coalescer, may be null
+		 * @return					this instance
+		 */
+		public Builder setCallCoalescer(KreedzCallCoalescer callCoalescer) {
+			this.callCoalescer = callCoalescer;
+			return this;
+		}
+
+		/**
+		 * Set this rate limiter.
+		 *
+		 * <p>Runs after the base URL of a service is resolved,
+		 * so each API host is throttled w/ its own budget.
+		 * A rate limiter may be shared by several clients.
+		 *
+		 * @param rateLimiter	rate limiter, may be null
+		 * @return				this instance
+		 */
+		public Builder setRateLimiter(KreedzRateLimiter rateLimiter) {
+			this.rateLimiter = rateLimiter;
+			return this;
+		}
+
+		/**
+		 * Set this retrier.
+		 *
+		 * <p>Failed calls of {@code GET} service methods are retried
+		 * and optionally hedged by the policy of their method.
+		 *
+		 * @param retrier	retrier, may be null
+		 * @return			this instance
+		 */
+		public Builder setRetrier(KreedzRetrier retrier) {
+			this.retrier = retrier;
+			return this;
+		}
+
+		/**
+		 * Set this circuit breaker.
+		 *
+		 * <p>Runs before the rate limiter, so rejected requests
+		 * don't take its permits. The breaker starts polling the health
+		 * and status APIs once a client is built w/ it and stops
+		 * once all of its clients are closed, a breaker may be
+		 * shared by several clients.
+		 *
+		 * @param circuitBreaker	circuit breaker, may be null
+		 * @return					this instance
+		 */
+		public Builder setCircuitBreaker(KreedzCircuitBreaker circuitBreaker) {
+			this.circuitBreaker = circuitBreaker;
+			return this;
+		}
+
+		/**
+		 * Set this metrics.
+		 *
+		 * <p>Runs after the rate limiter, so network times don't
+		 * include throttling delays, and times the deserialization
+		 * of {@code GET} service methods. Metrics may be shared
+		 * by several clients.
+		 *
+		 * @param metrics	metrics, may be null
+		 * @return			this instance
+		 */
+		public Builder setMetrics(KreedzMetrics metrics) {
+			this.metrics = metrics;
+			return this;
+		}
+
+		/**
+		 * Add an interceptor.
+		 *
+		 * <p>Additional interceptors run in the order of addition after
+		 * the built-in ones, right before the network, so they see
+		 * the final request URL of a service method.
+		 *
+		 * @param interceptor	interceptor to add
+		 * @return				this instance
+		 */
+		public Builder addInterceptor(Interceptor interceptor) {
+			if (interceptor == null) {
+				throw new IllegalArgumentException("Interceptor mustn't be <null>");
+			}
+
+			this.interceptors.add(interceptor);
+			return this;
+		}
+
+		/**
+		 * Require the provided duration to be non-null and non-negative.
+		 *
+		 * @param duration	duration to check
+		 * @param name		name of the duration to use in the exception message
+		 * @return			provided duration
+		 */
+		private static Duration requireNonNegative(Duration duration, String name) {
+			if (duration == null || duration.isNegative()) {
+				throw new IllegalArgumentException(name + " mustn't be <null> or negative");
+			}
+
+			return duration;
+		}
+
+		/**
+		 * Require the provided duration to be non-null and positive.
+		 *
+		 * @param duration	duration to check
+		 * @param name		name of the duration to use in the exception message
+		 * @return			provided duration
+		 */
+		private static Duration requirePositive(Duration duration, String name) {
+			if (requireNonNegative(duration, name).isZero()) {
+				throw new IllegalArgumentException(name + " mustn't be zero");
+			}
+
+			return duration;
+		}
+	}
 }
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.batch;
+
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCall;
+import retrofit2.Call;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A kreedz batch loader.
+ *
+ * <p>Collects single-key lookups for a short delay or up to
+ * a maximum batch size and resolves them all w/ one call of a list
+ * endpoint. Each result is routed back to the future of its key,
+ * a key missing from the response resolves to {@code null}.
+ * Lookups of the same key within a batch share the same result.
+ *
+ * @param <K>	key type
+ * @param <V>	value type
+ */
+public final class KreedzBatchLoader<K, V> {
+
+	/**
+	 * A default maximum number of keys in a batch.
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+	/**
+	 * A default maximum time to collect a batch for.
+	 */
+	public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(10);
+
+	/**
+	 * A name of the scheduler thread.
+	 */
+	private static final String THREAD_NAME = "kreedz-batch-loader";
+
+	/**
+	 * A scheduler of the batch flushes shared by all loaders.
+	 */
+	private static final ScheduledExecutorService SCHEDULER = initScheduler();
+
+	/**
+	 * Initialize the scheduler of the batch flushes.
+	 *
+	 * @return	scheduler
+	 */
+	private static ScheduledExecutorService initScheduler() {
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME);
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		scheduler.setRemoveOnCancelPolicy(true);
+
+		return scheduler;
+	}
+
+	/**
+	 * A factory of the list calls by a set of keys.
+	 */
+	private final Function<Set<K>, Call<List<V>>> batchCallFactory;
+
+	/**
+	 * A function to take the key of a value by.
+	 */
+	private final Function<? super V, ? extends K> keyFunction;
+
+	/**
+	 * A maximum number of keys in a batch.
+	 */
+	private final int maxBatchSize;
+
+	/**
+	 * A maximum time to collect a batch for in nanoseconds.
+	 */
+	private final long maxDelayNanos;
+
+	/**
+	 * A lock that guards the pending batch.
+	 */
+	private final Object lock;
+
+	/**
+	 * A number of lookups.
+	 */
+	private final LongAdder loadCount;
+
+	/**
+	 * A number of dispatched batches.
+	 */
+	private final LongAdder batchCount;
+
+	/**
+	 * A map of pending futures by their key, {@code null} if none.
+	 */
+	private Map<K, CompletableFuture<V>> batch;
+
+	/**
+	 * A scheduled flush of the pending batch, {@code null} if none.
+	 */
+	private ScheduledFuture<?> flushFuture;
+
+	/**
+	 * Initialize a {@link KreedzBatchLoader} instance.
+	 *
+	 * @param batchCallFactory	factory of the list calls by a set of keys
+	 * @param keyFunction		function to take the key of a value by
+	 * @param maxBatchSize		maximum number of keys in a batch
+	 * @param maxDelay			maximum time to collect a batch for
+	 */
+	public KreedzBatchLoader(Function<Set<K>, Call<List<V>>> batchCallFactory,
+							 Function<? super V, ? extends K> keyFunction, int maxBatchSize, Duration maxDelay) {
+		if (batchCallFactory == null) {
+			throw new IllegalArgumentException("Batch call factory mustn't be <null>");
+		}
+
+		if (keyFunction == null) {
+			throw new IllegalArgumentException("Key function mustn't be <null>");
+		}
+
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("Max batch size must be positive");
+		}
+
+		if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+			throw new IllegalArgumentException("Max delay mustn't be <null> or not positive");
+		}
+
+		this.batchCallFactory = batchCallFactory;
+		this.keyFunction = keyFunction;
+		this.maxBatchSize = maxBatchSize;
+		this.maxDelayNanos = maxDelay.toNanos();
+		this.lock = new Object();
+		this.loadCount = new LongAdder();
+		this.batchCount = new LongAdder();
+	}
+
+	/**
+	 * Initialize a {@link KreedzBatchLoader} instance.
+	 *
+	 * <p>Wraps {@link #KreedzBatchLoader(Function, Function, int, Duration)}
+	 * w/ {@link #DEFAULT_MAX_BATCH_SIZE} as the maximum batch size
+	 * and {@link #DEFAULT_MAX_DELAY} as the maximum delay.
+	 *
+	 * @param batchCallFactory	factory of the list calls by a set of keys
+	 * @param keyFunction		function to take the key of a value by
+	 */
+	public KreedzBatchLoader(Function<Set<K>, Call<List<V>>> batchCallFactory,
+							 Function<? super V, ? extends K> keyFunction) {
+		this(batchCallFactory, keyFunction, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY);
+	}
+
+	/**
+	 * Look up a value by its key.
+	 *
+	 * <p>The returned future is completed on an OkHttp dispatcher
+	 * thread, w/ {@code null} if there is no such value. Cancelling it
+	 * doesn't cancel the batch, as that's shared w/ other lookups.
+	 *
+	 * @param key	key to look up
+	 * @return		future of the value
+	 */
+	public CompletableFuture<V> load(K key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Key mustn't be <null>");
+		}
+
+		this.loadCount.increment();
+
+		CompletableFuture<V> future;
+		Map<K, CompletableFuture<V>> fullBatch = null;
+
+		synchronized (this.lock) {
+			if (this.batch == null) {
+				Map<K, CompletableFuture<V>> batch = new LinkedHashMap<>();
+
+				this.batch = batch;
+				this.flushFuture = SCHEDULER.schedule(() -> this.flush(batch),
+						this.maxDelayNanos, TimeUnit.NANOSECONDS);
+			}
+
+			future = this.batch.computeIfAbsent(key, unused -> new CompletableFuture<>());
+
+			if (this.batch.size() >= this.maxBatchSize) {
+				fullBatch = this.takeBatch();
+			}
+		}
+
+		if (fullBatch != null) {
+			this.dispatch(fullBatch);
+		}
+
+		// A dependent future, so a caller can't cancel the result of the others.
+		return future.thenApply(Function.identity());
+	}
+
+	/**
+	 * Dispatch the pending batch right away if there is one.
+	 */
+	public void flush() {
+		Map<K, CompletableFuture<V>> batch;
+
+		synchronized (this.lock) {
+			batch = this.takeBatch();
+		}
+
+		if (batch != null) {
+			this.dispatch(batch);
+		}
+	}
+
+	/**
+	 * Get this number of lookups.
+	 *
+	 * @return	number of lookups
+	 */
+	public long getLoadCount() {
+		return this.loadCount.sum();
+	}
+
+	/**
+	 * Get this number of dispatched batches.
+	 *
+	 * @return	number of batches
+	 */
+	public long getBatchCount() {
+		return this.batchCount.sum();
+	}
+
+	/**
+	 * Dispatch the provided batch if it's still pending.
+	 *
+	 * <p>Guards a late scheduled flush from
+	 * dispatching the next batch too early.
+	 *
+	 * @param expected	batch to dispatch
+	 */
+	private void flush(Map<K, CompletableFuture<V>> expected) {
+		Map<K, CompletableFuture<V>> batch;
+
+		synchronized (this.lock) {
+			if (this.batch != expected) {
+				return;
+			}
+
+			batch = this.takeBatch();
+		}
+
+		this.dispatch(batch);
+	}
+
+	/**
+	 * Take the pending batch and cancel its scheduled flush.
+	 *
+	 * <p>Must be called under the lock.
+	 *
+	 * @return	pending batch or {@code null}
+	 */
+	private Map<K, CompletableFuture<V>> takeBatch() {
+		Map<K, CompletableFuture<V>> batch = this.batch;
+
+		if (this.flushFuture != null) {
+			this.flushFuture.cancel(false);
+		}
+
+		this.batch = null;
+		this.flushFuture = null;
+
+		return batch;
+	}
+
+	/**
+	 * Resolve the provided batch w/ one list call.
+	 *
+	 * @param batch		batch to resolve
+	 */
+	private void dispatch(Map<K, CompletableFuture<V>> batch) {
+		this.batchCount.increment();
+
+		Set<K> keys = Collections.unmodifiableSet(batch.keySet());
+
+		UKreedzCall.enqueue(() -> this.batchCallFactory.apply(keys), null)
+				.whenComplete((values, throwable) -> {
+					if (throwable != null) {
+						batch.values().forEach(future -> future.completeExceptionally(throwable));
+						return;
+					}
+
+					if (values != null) {
+						for (V value : values) {
+							K key = value != null
+									? this.keyFunction.apply(value)
+									: null;
+
+							CompletableFuture<V> future = key != null
+									? batch.get(key)
+									: null;
+
+							if (future != null) {
+								future.complete(value);
+							}
+						}
+					}
+
+					// Keys missing from the response.
+					batch.values().forEach(future -> future.complete(null));
+				});
+	}
+}
@@ -0,0 +1,1002 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.breaker;
+
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCall;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzHttp;
+import io.github.iwyfewwnt.kreedzsdk.client.ratelimit.KreedzRateLimiter;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.internal.UKreedzMap;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.health.HealthStatusEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.health.responses.HealthStatusResponseEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.status.StatusComponentEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.status.responses.StatusSummaryResponseEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.health.EHealthEndpoint;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.status.EStatus;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.joda.time.DateTime;
+import retrofit2.Call;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A kreedz circuit breaker.
+ *
+ * <p>Keeps a circuit per host over a sliding window of the latest
+ * outcomes, where an I/O error and a 429 or 5xx response count as
+ * failures. Once the failure rate reaches the threshold, the circuit
+ * opens and requests to its host fail fast w/ a
+ * {@link KreedzCircuitOpenException}. After the open duration
+ * a few probe requests are let through, the circuit closes
+ * if all of them succeed and reopens otherwise.
+ *
+ * <p>Besides, the circuit of the Global API host can be tripped
+ * by a background poller of the health and status APIs.
+ * A tripped circuit stays open until the poller reports recovery,
+ * or, once a poll fails, falls back to the open duration & probes.
+ * A breaker may be shared by several clients, the poller runs
+ * while any of them polls and calls through the earliest one.
+ */
+@SuppressWarnings("NullableProblems")
+public final class KreedzCircuitBreaker implements Interceptor, AutoCloseable {
+
+	/**
+	 * A name of the poller thread.
+	 */
+	private static final String THREAD_NAME = "kreedz-circuit-breaker";
+
+	/**
+	 * A failure rate to open a circuit at.
+	 */
+	private final double failureRateThreshold;
+
+	/**
+	 * A number of the latest outcomes to compute a failure rate over.
+	 */
+	private final int windowSize;
+
+	/**
+	 * A minimum number of outcomes to compute a failure rate.
+	 */
+	private final int minimumCalls;
+
+	/**
+	 * A time a circuit stays open for in nanoseconds.
+	 */
+	private final long openNanos;
+
+	/**
+	 * A number of probe requests of a half-open circuit.
+	 */
+	private final int halfOpenProbes;
+
+	/**
+	 * A poll interval of the health and status APIs.
+	 */
+	private final Duration pollInterval;
+
+	/**
+	 * A name or an identifier of the Global API status page component.
+	 */
+	private final String statusComponent;
+
+	/**
+	 * A map of poll sources by their owner.
+	 */
+	private final Map<Object, PollSource> pollSources;
+
+	/**
+	 * A map of circuits by their host.
+	 */
+	private final ConcurrentMap<String, Circuit> circuits;
+
+	/**
+	 * A number of times a circuit opened.
+	 */
+	private final LongAdder openCount;
+
+	/**
+	 * A number of rejected requests.
+	 */
+	private final LongAdder rejectedCount;
+
+	/**
+	 * A number of failed polls.
+	 */
+	private final LongAdder failedPollCount;
+
+	/**
+	 * A poller of the health and status APIs.
+	 */
+	private ScheduledExecutorService poller;
+
+	/**
+	 * Initialize a {@link KreedzCircuitBreaker} instance.
+	 *
+	 * @param builder	builder to take the configuration from
+	 */
+	private KreedzCircuitBreaker(Builder builder) {
+		this.failureRateThreshold = builder.failureRateThreshold;
+		this.windowSize = builder.windowSize;
+		this.minimumCalls = builder.minimumCalls;
+		this.openNanos = builder.openDuration.toNanos();
+		this.halfOpenProbes = builder.halfOpenProbes;
+		this.pollInterval = builder.pollInterval;
+		this.statusComponent = builder.statusComponent;
+		this.pollSources = new LinkedHashMap<>();
+		this.circuits = new ConcurrentHashMap<>();
+		this.openCount = new LongAdder();
+		this.rejectedCount = new LongAdder();
+		this.failedPollCount = new LongAdder();
+	}
+
+	/**
+	 * Initialize a {@link KreedzCircuitBreaker} instance
+	 * w/ the default configuration.
+	 *
+	 * <p>Wraps {@link Builder#build()}.
+	 *
+	 * @return	{@code KreedzCircuitBreaker} instance
+	 */
+	public static KreedzCircuitBreaker create() {
+		return new Builder().build();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		String host = request.url().host();
+
+		Circuit circuit = this.circuitOf(host);
+		State state = circuit.acquire(System.nanoTime());
+
+		if (state == null) {
+			this.rejectedCount.increment();
+			throw new KreedzCircuitOpenException(host);
+		}
+
+		Response response;
+
+		try {
+			response = chain.proceed(request);
+		} catch (IOException | RuntimeException e) {
+			// A canceled call, e.g. an outrun hedge, says nothing about the host.
+			if (chain.call().isCanceled()) {
+				circuit.release(state);
+			} else {
+				this.record(circuit, state, true);
+			}
+
+			throw e;
+		}
+
+		this.record(circuit, state, UKreedzHttp.isOverloaded(response.code()));
+
+		return response;
+	}
+
+	/**
+	 * Start polling the health and status APIs for the provided owner.
+	 *
+	 * <p>Trips the circuit of the Global API host whenever its health
+	 * endpoint reports a failure or its status page component reports
+	 * a major outage, and releases it once both recover. A failed poll
+	 * expires the trip, so the circuit turns half-open after the open
+	 * duration as if it had opened by its failure rate, rather than
+	 * waiting for the unreachable APIs. Does nothing if the poll interval
+	 * is {@code null} or the owner already polls.
+	 *
+	 * <p>Polls are made w/ the call factories of the earliest owner
+	 * that still polls, the poller stops once none is left.
+	 *
+	 * <p>The calls should bypass the client interceptors & call adapters,
+	 * as a cached, coalesced or retried poll, or one rejected by this very
+	 * breaker, would report a stale or no status.
+	 *
+	 * @param owner					owner of the polling, e.g. a client
+	 * @param healthCallFactory		factory of the health status calls, may be null
+	 * @param statusCallFactory		factory of the status summary calls, may be null
+	 */
+	public synchronized void startPolling(Object owner,
+			Supplier<Call<List<HealthStatusResponseEntity>>> healthCallFactory,
+			Supplier<Call<StatusSummaryResponseEntity>> statusCallFactory) {
+		if (owner == null) {
+			throw new IllegalArgumentException("Owner mustn't be <null>");
+		}
+
+		if (this.pollInterval == null || this.pollSources.containsKey(owner)
+				|| (healthCallFactory == null && statusCallFactory == null)) {
+			return;
+		}
+
+		this.pollSources.put(owner, new PollSource(healthCallFactory, statusCallFactory));
+
+		if (this.poller != null) {
+			return;
+		}
+
+		ScheduledThreadPoolExecutor poller = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME);
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		poller.scheduleWithFixedDelay(this::poll, 0L, this.pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+
+		this.poller = poller;
+	}
+
+	/**
+	 * Stop polling the health and status APIs for the provided owner.
+	 *
+	 * <p>Stops the poller if no other owner polls.
+	 *
+	 * @param owner		owner of the polling, may be null
+	 */
+	public synchronized void stopPolling(Object owner) {
+		if (this.pollSources.remove(owner) == null || !this.pollSources.isEmpty()) {
+			return;
+		}
+
+		this.close();
+	}
+
+	/**
+	 * Stop polling the health and status APIs for all owners.
+	 */
+	@Override
+	public synchronized void close() {
+		this.pollSources.clear();
+
+		if (this.poller == null) {
+			return;
+		}
+
+		this.poller.shutdownNow();
+		this.poller = null;
+	}
+
+	/**
+	 * Trip or release the circuit of the provided host.
+	 *
+	 * <p>A tripped circuit rejects all requests
+	 * regardless of its failure rate, a released one
+	 * turns half-open to be closed by the probes.
+	 *
+	 * @param host			host name
+	 * @param isTripped		whether to trip the circuit
+	 */
+	public void setTripped(String host, boolean isTripped) {
+		if (host == null) {
+			throw new IllegalArgumentException("Host mustn't be <null>");
+		}
+
+		if (this.circuitOf(host).setTripped(isTripped, System.nanoTime())) {
+			this.openCount.increment();
+		}
+	}
+
+	/**
+	 * Get a state of the circuit of the provided host.
+	 *
+	 * @param host	host name
+	 * @return		state of the circuit
+	 */
+	public State getState(String host) {
+		Circuit circuit = host != null
+				? this.circuits.get(host)
+				: null;
+
+		if (circuit == null) {
+			return State.CLOSED;
+		}
+
+		return circuit.getState();
+	}
+
+	/**
+	 * Get this number of times a circuit opened.
+	 *
+	 * @return	number of openings
+	 */
+	public long getOpenCount() {
+		return this.openCount.sum();
+	}
+
+	/**
+	 * Get this number of requests rejected by an open circuit.
+	 *
+	 * @return	number of rejected requests
+	 */
+	public long getRejectedCount() {
+		return this.rejectedCount.sum();
+	}
+
+	/**
+	 * Get this number of polls that failed to get any status.
+	 *
+	 * @return	number of failed polls
+	 */
+	public long getFailedPollCount() {
+		return this.failedPollCount.sum();
+	}
+
+	/**
+	 * Record an outcome of a request.
+	 *
+	 * @param circuit		circuit of the request host
+	 * @param state			state the request was admitted in
+	 * @param isFailure		whether the request failed
+	 */
+	private void record(Circuit circuit, State state, boolean isFailure) {
+		if (circuit.record(state, isFailure, System.nanoTime())) {
+			this.openCount.increment();
+		}
+	}
+
+	/**
+	 * Get a poll source of the earliest owner or return {@code null} if none.
+	 *
+	 * @return	poll source or {@code null}
+	 */
+	private synchronized PollSource getPollSourceOrNull() {
+		Iterator<PollSource> iterator = this.pollSources.values()
+				.iterator();
+
+		return iterator.hasNext()
+				? iterator.next()
+				: null;
+	}
+
+	/**
+	 * Poll the health and status APIs once.
+	 *
+	 * <p>A poll fails if neither API reports a status, i.e. both are
+	 * unreachable or report nothing about the Global API.
+	 */
+	private void poll() {
+		PollSource source = this.getPollSourceOrNull();
+
+		if (source == null) {
+			return;
+		}
+
+		try {
+			Boolean isHealthy = source.healthCallFactory != null
+					? isHealthyOrNull(UKreedzCall.executeOrNull(source.healthCallFactory.get(), null))
+					: null;
+
+			Boolean isOperational = source.statusCallFactory != null
+					? this.isOperationalOrNull(UKreedzCall.executeOrNull(source.statusCallFactory.get(), null))
+					: null;
+
+			if (isHealthy == null && isOperational == null) {
+				this.onPollFailure();
+				return;
+			}
+
+			this.setTripped(KreedzRateLimiter.GLOBAL_API_HOST,
+					Boolean.FALSE.equals(isHealthy) || Boolean.FALSE.equals(isOperational));
+		} catch (RuntimeException e) {
+			// Keep the schedule alive, the next poll may succeed.
+			this.onPollFailure();
+		}
+	}
+
+	/**
+	 * Count a failed poll and expire the trip of the Global API circuit.
+	 */
+	private void onPollFailure() {
+		this.failedPollCount.increment();
+
+		Circuit circuit = this.circuits.get(KreedzRateLimiter.GLOBAL_API_HOST);
+
+		if (circuit != null) {
+			circuit.expireTrip();
+		}
+	}
+
+	/**
+	 * Check if the latest Global API health status is successful
+	 * or return {@code null} if unknown.
+	 *
+	 * @param responses		health status responses, may be null
+	 * @return				boolean value as a result or {@code null}
+	 */
+	private static Boolean isHealthyOrNull(List<HealthStatusResponseEntity> responses) {
+		if (responses == null) {
+			return null;
+		}
+
+		HealthStatusEntity latest = null;
+
+		for (HealthStatusResponseEntity response : responses) {
+			if (response == null || response.getResults() == null
+					|| EHealthEndpoint.fromKeyOrNull(response.getKey()) != EHealthEndpoint.GLOBAL_API) {
+				continue;
+			}
+
+			for (HealthStatusEntity result : response.getResults()) {
+				if (result == null || result.getIsSuccessful() == null) {
+					continue;
+				}
+
+				DateTime date = result.getDate();
+
+				if (latest == null || (date != null
+						&& (latest.getDate() == null || date.isAfter(latest.getDate())))) {
+					latest = result;
+				}
+			}
+		}
+
+		if (latest == null) {
+			return null;
+		}
+
+		return latest.getIsSuccessful();
+	}
+
+	/**
+	 * Check if the Global API status page component reports no major outage
+	 * or return {@code null} if unknown.
+	 *
+	 * <p>Other components, e.g. the website or the replays, don't matter.
+	 *
+	 * @param summary	status summary, may be null
+	 * @return			boolean value as a result or {@code null}
+	 */
+	private Boolean isOperationalOrNull(StatusSummaryResponseEntity summary) {
+		if (summary == null || summary.getComponents() == null) {
+			return null;
+		}
+
+		for (StatusComponentEntity component : summary.getComponents()) {
+			if (component == null || component.getStatus() == null
+					|| !(this.statusComponent.equals(component.getName())
+							|| this.statusComponent.equals(component.getId()))) {
+				continue;
+			}
+
+			return component.getStatus() != EStatus.MAJOR_OUTAGE;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Get a circuit of the provided host.
+	 *
+	 * @param host	host name
+	 * @return		circuit
+	 */
+	private Circuit circuitOf(String host) {
+		return UKreedzMap.computeIfAbsent(this.circuits, host, key -> new Circuit(this));
+	}
+
+	/**
+	 * An enumeration of circuit states.
+	 */
+	public enum State {
+
+		/**
+		 * A circuit state - closed, requests pass through.
+		 */
+		CLOSED,
+
+		/**
+		 * A circuit state - open, requests are rejected.
+		 */
+		OPEN,
+
+		/**
+		 * A circuit state - half-open, only probe requests pass through.
+		 */
+		HALF_OPEN
+	}
+
+	/**
+	 * A poll source.
+	 */
+	private static final class PollSource {
+
+		/**
+		 * A factory of the health status calls, may be null.
+		 */
+		private final Supplier<Call<List<HealthStatusResponseEntity>>> healthCallFactory;
+
+		/**
+		 * A factory of the status summary calls, may be null.
+		 */
+		private final Supplier<Call<StatusSummaryResponseEntity>> statusCallFactory;
+
+		/**
+		 * Initialize a {@link PollSource} instance.
+		 *
+		 * @param healthCallFactory		factory of the health status calls, may be null
+		 * @param statusCallFactory		factory of the status summary calls, may be null
+		 */
+		private PollSource(
+				Supplier<Call<List<HealthStatusResponseEntity>>> healthCallFactory,
+				Supplier<Call<StatusSummaryResponseEntity>> statusCallFactory) {
+			this.healthCallFactory = healthCallFactory;
+			this.statusCallFactory = statusCallFactory;
+		}
+	}
+
+	/**
+	 * A per-host circuit.
+	 */
+	private static final class Circuit {
+
+		/**
+		 * A circuit breaker to take the configuration from.
+		 */
+		private final KreedzCircuitBreaker breaker;
+
+		/**
+		 * A ring buffer of the latest outcomes, {@code true} for a failure.
+		 */
+		private final boolean[] outcomes;
+
+		/**
+		 * An index of the next outcome to write.
+		 */
+		private int outcomeIndex;
+
+		/**
+		 * A number of recorded outcomes.
+		 */
+		private int outcomeCount;
+
+		/**
+		 * A number of recorded failures.
+		 */
+		private int failureCount;
+
+		/**
+		 * A state.
+		 */
+		private State state;
+
+		/**
+		 * A time the circuit opened at in nanoseconds.
+		 */
+		private long openedAtNanos;
+
+		/**
+		 * A number of admitted probe requests.
+		 */
+		private int probeCount;
+
+		/**
+		 * A number of succeeded probe requests.
+		 */
+		private int probeSuccessCount;
+
+		/**
+		 * Whether the circuit is tripped by the poller.
+		 */
+		private boolean isTripped;
+
+		/**
+		 * Initialize a {@link Circuit} instance.
+		 *
+		 * @param breaker	circuit breaker to take the configuration from
+		 */
+		private Circuit(KreedzCircuitBreaker breaker) {
+			this.breaker = breaker;
+			this.outcomes = new boolean[breaker.windowSize];
+			this.state = State.CLOSED;
+		}
+
+		/**
+		 * Admit a request or return {@code null} if rejected.
+		 *
+		 * @param now	current time in nanoseconds
+		 * @return		state the request was admitted in or {@code null}
+		 */
+		private synchronized State acquire(long now) {
+			if (this.state == State.OPEN) {
+				if (this.isTripped || now - this.openedAtNanos < this.breaker.openNanos) {
+					return null;
+				}
+
+				this.halfOpen();
+			}
+
+			if (this.state == State.HALF_OPEN) {
+				if (this.probeCount >= this.breaker.halfOpenProbes) {
+					return null;
+				}
+
+				this.probeCount++;
+			}
+
+			return this.state;
+		}
+
+		/**
+		 * Release a request w/o recording its outcome.
+		 *
+		 * @param state		state the request was admitted in
+		 */
+		private synchronized void release(State state) {
+			if (state == State.HALF_OPEN && this.state == State.HALF_OPEN) {
+				this.probeCount--;
+			}
+		}
+
+		/**
+		 * Record an outcome of a request.
+		 *
+		 * <p>Outcomes of requests admitted in another state are ignored,
+		 * e.g. the ones that were in flight when the circuit opened.
+		 *
+		 * @param state			state the request was admitted in
+		 * @param isFailure		whether the request failed
+		 * @param now			current time in nanoseconds
+		 * @return				whether the circuit opened
+		 */
+		private synchronized boolean record(State state, boolean isFailure, long now) {
+			if (state != this.state) {
+				return false;
+			}
+
+			if (state == State.HALF_OPEN) {
+				if (isFailure) {
+					this.open(now);
+					return true;
+				}
+
+				if (++this.probeSuccessCount >= this.breaker.halfOpenProbes) {
+					this.close();
+				}
+
+				return false;
+			}
+
+			if (state != State.CLOSED) {
+				return false;
+			}
+
+			if (this.outcomeCount == this.outcomes.length) {
+				if (this.outcomes[this.outcomeIndex]) {
+					this.failureCount--;
+				}
+			} else {
+				this.outcomeCount++;
+			}
+
+			this.outcomes[this.outcomeIndex] = isFailure;
+			this.outcomeIndex = (this.outcomeIndex + 1) % this.outcomes.length;
+
+			if (isFailure) {
+				this.failureCount++;
+			}
+
+			if (this.outcomeCount >= this.breaker.minimumCalls
+					&& this.failureCount >= this.breaker.failureRateThreshold * this.outcomeCount) {
+				this.open(now);
+				return true;
+			}
+
+			return false;
+		}
+
+		/**
+		 * Trip or release this circuit.
+		 *
+		 * @param isTripped		whether to trip the circuit
+		 * @param now			current time in nanoseconds
+		 * @return				whether the circuit opened
+		 */
+		private synchronized boolean setTripped(boolean isTripped, long now) {
+			boolean wasTripped = this.isTripped;
+			this.isTripped = isTripped;
+
+			if (isTripped) {
+				if (this.state == State.OPEN) {
+					return false;
+				}
+
+				this.open(now);
+				return true;
+			}
+
+			if (wasTripped && this.state == State.OPEN) {
+				this.halfOpen();
+			}
+
+			return false;
+		}
+
+		/**
+		 * Expire the trip of this circuit, if any.
+		 *
+		 * <p>Leaves the circuit open, so it turns half-open
+		 * once the open duration since the trip has passed.
+		 */
+		private synchronized void expireTrip() {
+			this.isTripped = false;
+		}
+
+		/**
+		 * Get this state.
+		 *
+		 * @return	state
+		 */
+		private synchronized State getState() {
+			return this.state;
+		}
+
+		/**
+		 * Open this circuit.
+		 *
+		 * @param now	current time in nanoseconds
+		 */
+		private void open(long now) {
+			this.state = State.OPEN;
+			this.openedAtNanos = now;
+		}
+
+		/**
+		 * Turn this circuit half-open.
+		 */
+		private void halfOpen() {
+			this.state = State.HALF_OPEN;
+			this.probeCount = 0;
+			this.probeSuccessCount = 0;
+		}
+
+		/**
+		 * Close this circuit and forget its outcomes.
+		 */
+		private void close() {
+			this.state = State.CLOSED;
+			this.outcomeIndex = 0;
+			this.outcomeCount = 0;
+			this.failureCount = 0;
+		}
+	}
+
+	/**
+	 * A {@link KreedzCircuitBreaker} builder.
+	 */
+	public static final class Builder {
+
+		/**
+		 * A default failure rate to open a circuit at.
+		 */
+		private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5d;
+
+		/**
+		 * A default number of the latest outcomes to compute a failure rate over.
+		 */
+		private static final int DEFAULT_WINDOW_SIZE = 20;
+
+		/**
+		 * A default minimum number of outcomes to compute a failure rate.
+		 */
+		private static final int DEFAULT_MINIMUM_CALLS = 10;
+
+		/**
+		 * A default time a circuit stays open for.
+		 */
+		private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+		/**
+		 * A default number of probe requests of a half-open circuit.
+		 */
+		private static final int DEFAULT_HALF_OPEN_PROBES = 3;
+
+		/**
+		 * A default poll interval of the health and status APIs.
+		 */
+		private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+
+		/**
+		 * A default name of the Global API status page component.
+		 */
+		private static final String DEFAULT_STATUS_COMPONENT = "API";
+
+		/**
+		 * A failure rate to open a circuit at.
+		 */
+		private double failureRateThreshold;
+
+		/**
+		 * A number of the latest outcomes to compute a failure rate over.
+		 */
+		private int windowSize;
+
+		/**
+		 * A minimum number of outcomes to compute a failure rate.
+		 */
+		private int minimumCalls;
+
+		/**
+		 * A time a circuit stays open for.
+		 */
+		private Duration openDuration;
+
+		/**
+		 * A number of probe requests of a half-open circuit.
+		 */
+		private int halfOpenProbes;
+
+		/**
+		 * A poll interval of the health and status APIs.
+		 */
+		private Duration pollInterval;
+
+		/**
+		 * A name or an identifier of the Global API status page component.
+		 */
+		private String statusComponent;
+
+		/**
+		 * Initialize a {@link KreedzCircuitBreaker.Builder} instance.
+		 */
+		public Builder() {
+			this.failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+			this.windowSize = DEFAULT_WINDOW_SIZE;
+			this.minimumCalls = DEFAULT_MINIMUM_CALLS;
+			this.openDuration = DEFAULT_OPEN_DURATION;
+			this.halfOpenProbes = DEFAULT_HALF_OPEN_PROBES;
+			this.pollInterval = DEFAULT_POLL_INTERVAL;
+			this.statusComponent = DEFAULT_STATUS_COMPONENT;
+		}
+
+		/**
+		 * Build a {@link KreedzCircuitBreaker} instance.
+		 *
+		 * @return	{@code KreedzCircuitBreaker} instance
+		 */
+		public KreedzCircuitBreaker build() {
+			if (this.minimumCalls > this.windowSize) {
+				throw new IllegalArgumentException("Minimum calls mustn't be greater than the window size");
+			}
+
+			return new KreedzCircuitBreaker(this);
+		}
+
+		/**
+		 * Set this failure rate to open a circuit at.
+		 *
+		 * @param failureRateThreshold	failure rate in (0, 1]
+		 * @return						this instance
+		 */
+		public Builder setFailureRateThreshold(double failureRateThreshold) {
+			if (!(failureRateThreshold > 0.0d && failureRateThreshold <= 1.0d)) {
+				throw new IllegalArgumentException("Failure rate threshold must be in (0, 1]");
+			}
+
+			this.failureRateThreshold = failureRateThreshold;
+			return this;
+		}
+
+		/**
+		 * Set this number of the latest outcomes to compute a failure rate over.
+		 *
+		 * @param windowSize	number of outcomes
+		 * @return				this instance
+		 */
+		public Builder setWindowSize(int windowSize) {
+			if (windowSize < 1) {
+				throw new IllegalArgumentException("Window size must be positive");
+			}
+
+			this.windowSize = windowSize;
+			return this;
+		}
+
+		/**
+		 * Set this minimum number of outcomes to compute a failure rate.
+		 *
+		 * @param minimumCalls	number of outcomes
+		 * @return				this instance
+		 */
+		public Builder setMinimumCalls(int minimumCalls) {
+			if (minimumCalls < 1) {
+				throw new IllegalArgumentException("Minimum calls must be positive");
+			}
+
+			this.minimumCalls = minimumCalls;
+			return this;
+		}
+
+		/**
+		 * Set this time a circuit stays open for.
+		 *
+		 * @param openDuration	open duration
+		 * @return				this instance
+		 */
+		public Builder setOpenDuration(Duration openDuration) {
+			if (openDuration == null || openDuration.isNegative()) {
+				throw new IllegalArgumentException("Open duration mustn't be <null> or negative");
+			}
+
+			this.openDuration = openDuration;
+			return this;
+		}
+
+		/**
+		 * Set this number of probe requests of a half-open circuit.
+		 *
+		 * @param halfOpenProbes	number of probe requests
+		 * @return					this instance
+		 */
+		public Builder setHalfOpenProbes(int halfOpenProbes) {
+			if (halfOpenProbes < 1) {
+				throw new IllegalArgumentException("Half-open probes must be positive");
+			}
+
+			this.halfOpenProbes = halfOpenProbes;
+			return this;
+		}
+
+		/**
+		 * Set this poll interval of the health and status APIs.
+		 *
+		 * @param pollInterval	poll interval, may be null to not poll
+		 * @return				this instance
+		 */
+		public Builder setPollInterval(Duration pollInterval) {
+			if (pollInterval != null && (pollInterval.isNegative() || pollInterval.isZero())) {
+				throw new IllegalArgumentException("Poll interval must be positive");
+			}
+
+			this.pollInterval = pollInterval;
+			return this;
+		}
+
+		/**
+		 * Set this name or identifier of the Global API status page component.
+		 *
+		 * <p>Only a major outage of this component trips the circuit.
+		 *
+		 * @param statusComponent	component name or identifier
+		 * @return					this instance
+		 */
+		public Builder setStatusComponent(String statusComponent) {
+			if (statusComponent == null) {
+				throw new IllegalArgumentException("Status component mustn't be <null>");
+			}
+
+			this.statusComponent = statusComponent;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.breaker;
+
+import java.io.IOException;
+
+/**
+ * A kreedz circuit open exception.
+ *
+ * <p>Thrown instead of performing a request
+ * while the circuit of its host is open.
+ */
+public final class KreedzCircuitOpenException extends IOException {
+
+	/**
+	 * A serial version UID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * A host name.
+	 */
+	private final String host;
+
+	/**
+	 * Initialize a {@link KreedzCircuitOpenException} instance.
+	 *
+	 * @param host	host name
+	 */
+	public KreedzCircuitOpenException(String host) {
+		super("Circuit of " + host + " is open");
+
+		this.host = host;
+	}
+
+	/**
+	 * Get this host name.
+	 *
+	 * @return	host name
+	 */
+	public String getHost() {
+		return this.host;
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.cache;
+
+/**
+ * A frequency sketch.
+ *
+ * <p>Estimates the popularity of keys w/ a count-min sketch
+ * of saturating counters. All counters are halved once the
+ * sample size is reached, so the history ages out over time.
+ *
+ * <p>Isn't thread-safe, must be guarded by its owner.
+ */
+final class FrequencySketch {
+
+	/**
+	 * A number of rows.
+	 */
+	private static final int DEPTH = 4;
+
+	/**
+	 * A maximum counter value.
+	 */
+	private static final int MAX_COUNT = 15;
+
+	/**
+	 * A minimum row width.
+	 */
+	private static final int MIN_WIDTH = 16;
+
+	/**
+	 * A maximum row width.
+	 */
+	private static final int MAX_WIDTH = 1 << 24;
+
+	/**
+	 * An array of per-row hash seeds.
+	 */
+	private static final int[] SEEDS = {
+			0x97CB3127, 0xB3BB0C45, 0xAC6EA7E5, 0x6BA1B1E5
+	};
+
+	/**
+	 * An array of counters, row after row.
+	 */
+	private final byte[] table;
+
+	/**
+	 * A row index mask.
+	 */
+	private final int mask;
+
+	/**
+	 * A number of increments to age the counters after.
+	 */
+	private final int sampleSize;
+
+	/**
+	 * A number of increments since the last aging.
+	 */
+	private int size;
+
+	/**
+	 * Initialize a {@link FrequencySketch} instance.
+	 *
+	 * @param maximumSize	maximum number of entries of the owning cache
+	 */
+	FrequencySketch(int maximumSize) {
+		int width = Integer.highestOneBit(
+				Math.min(Math.max(MIN_WIDTH, maximumSize), MAX_WIDTH) - 1) << 1;
+
+		this.table = new byte[DEPTH * width];
+		this.mask = width - 1;
+		this.sampleSize = 10 * width;
+	}
+
+	/**
+	 * Increment the popularity of the provided key.
+	 *
+	 * @param key	key to increment
+	 */
+	void increment(Object key) {
+		int hash = spread(key.hashCode());
+		boolean isAdded = false;
+
+		for (int i = 0; i < DEPTH; i++) {
+			int index = this.indexOf(hash, i);
+
+			if (this.table[index] < MAX_COUNT) {
+				this.table[index]++;
+				isAdded = true;
+			}
+		}
+
+		if (isAdded && ++this.size >= this.sampleSize) {
+			this.reset();
+		}
+	}
+
+	/**
+	 * Estimate the popularity of the provided key.
+	 *
+	 * @param key	key to estimate
+	 * @return		estimated number of occurrences
+	 */
+	int frequency(Object key) {
+		int hash = spread(key.hashCode());
+		int frequency = MAX_COUNT;
+
+		for (int i = 0; i < DEPTH; i++) {
+			frequency = Math.min(frequency, this.table[this.indexOf(hash, i)]);
+		}
+
+		return frequency;
+	}
+
+	/**
+	 * Halve all counters.
+	 */
+	private void reset() {
+		for (int i = 0; i < this.table.length; i++) {
+			this.table[i] >>>= 1;
+		}
+
+		this.size >>>= 1;
+	}
+
+	/**
+	 * Get a table index of the provided hash in the provided row.
+	 *
+	 * @param hash	spread hash
+	 * @param row	row index
+	 * @return		table index
+	 */
+	private int indexOf(int hash, int row) {
+		int h = (hash ^ SEEDS[row]) * 0x9E3779B9;
+		h ^= h >>> 16;
+
+		return row * (this.mask + 1) + (h & this.mask);
+	}
+
+	/**
+	 * Spread the provided hash code.
+	 *
+	 * @param hashCode	hash code to spread
+	 * @return			spread hash
+	 */
+	private static int spread(int hashCode) {
+		int h = hashCode * 0x85EBCA6B;
+		return h ^ (h >>> 13);
+	}
+}
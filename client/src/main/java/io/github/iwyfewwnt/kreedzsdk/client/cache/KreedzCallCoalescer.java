@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.cache;
+
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCall;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A kreedz call coalescer.
+ *
+ * <p>Lets concurrent identical calls share a single in-flight
+ * HTTP call and its deserialized response. The first caller starts
+ * the call, every caller joining before it's completed receives
+ * the same response instance or the same failure.
+ *
+ * <p>A collection body of a shared successful response is therefore
+ * an unmodifiable view, and the error body of a shared non-successful
+ * response may be consumed only once.
+ */
+public final class KreedzCallCoalescer {
+
+	/**
+	 * A map of in-flight calls by their key.
+	 */
+	private final ConcurrentMap<Object, CompletableFuture<Response<?>>> flights;
+
+	/**
+	 * A number of performed calls.
+	 */
+	private final LongAdder callCount;
+
+	/**
+	 * A number of calls saved by joining an in-flight one.
+	 */
+	private final LongAdder savedCallCount;
+
+	/**
+	 * Initialize a {@link KreedzCallCoalescer} instance.
+	 */
+	public KreedzCallCoalescer() {
+		this.flights = new ConcurrentHashMap<>();
+		this.callCount = new LongAdder();
+		this.savedCallCount = new LongAdder();
+	}
+
+	/**
+	 * Join an in-flight call by its key or start the provided one.
+	 *
+	 * <p>The provided call is enqueued only if no identical
+	 * call is in flight. The returned future is shared by
+	 * all joined callers and mustn't be completed by them.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param key	key of the call, may be null to not coalesce
+	 * @param call	call to start
+	 * @param <R>	response type
+	 * @return		shared future of the response
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> CompletableFuture<Response<R>> join(Object key, Call<R> call) {
+		if (call == null) {
+			throw new IllegalArgumentException("Call mustn't be <null>");
+		}
+
+		CompletableFuture<Response<?>> flight = new CompletableFuture<>();
+
+		if (key != null) {
+			CompletableFuture<Response<?>> existing = this.flights.putIfAbsent(key, flight);
+
+			if (existing != null) {
+				this.savedCallCount.increment();
+				return (CompletableFuture<Response<R>>) (Object) existing;
+			}
+		}
+
+		this.callCount.increment();
+		this.start(key, call, flight);
+
+		return (CompletableFuture<Response<R>>) (Object) flight;
+	}
+
+	/**
+	 * Get this number of calls in flight.
+	 *
+	 * @return	number of calls in flight
+	 */
+	public int getInFlightCount() {
+		return this.flights.size();
+	}
+
+	/**
+	 * Get this number of performed calls.
+	 *
+	 * @return	number of performed calls
+	 */
+	public long getCallCount() {
+		return this.callCount.sum();
+	}
+
+	/**
+	 * Get this number of calls saved by joining an in-flight one.
+	 *
+	 * @return	number of saved calls
+	 */
+	public long getSavedCallCount() {
+		return this.savedCallCount.sum();
+	}
+
+	/**
+	 * Enqueue the provided call and bind its result to a flight.
+	 *
+	 * <p>The flight is unregistered before it's completed,
+	 * so callers that come later start a new call.
+	 *
+	 * @param key		key of the call, may be null
+	 * @param call		call to enqueue
+	 * @param flight	flight to complete
+	 * @param <R>		response type
+	 */
+	private <R> void start(Object key, Call<R> call, CompletableFuture<Response<?>> flight) {
+		try {
+			call.enqueue(new Callback<R>() {
+
+				@Override
+				public void onResponse(Call<R> call, Response<R> response) {
+					unregister(key, flight);
+					flight.complete(response.isSuccessful()
+							? UKreedzCall.toUnmodifiable(response)
+							: response);
+				}
+
+				@Override
+				public void onFailure(Call<R> call, Throwable throwable) {
+					unregister(key, flight);
+					flight.completeExceptionally(throwable);
+				}
+			});
+		} catch (RuntimeException e) {
+			this.unregister(key, flight);
+			flight.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Unregister the provided flight.
+	 *
+	 * @param key		key of the call, may be null
+	 * @param flight	flight to unregister
+	 */
+	private void unregister(Object key, CompletableFuture<Response<?>> flight) {
+		if (key != null) {
+			this.flights.remove(key, flight);
+		}
+	}
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.cache;
+
+import okhttp3.Cache;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A kreedz HTTP cache.
+ *
+ * <p>Keeps the raw responses of rarely changing endpoints, e.g. the static
+ * JSON files of the map info & map image services, in an OkHttp disk cache,
+ * where an endpoint is the relative URL template of a service method,
+ * e.g. {@code "maps.min.json"}. The cache outlives the process, so a cold
+ * start reuses the copy on disk.
+ *
+ * <p>Whatever the server says about caching, a response is fresh for
+ * the maximum age, then revalidated by its "ETag" or "Last-Modified"
+ * header, so an unchanged file costs a 304 round trip instead of its
+ * body. Within the stale-while-revalidate window past the maximum age,
+ * the stale copy is served right away and revalidated in the background.
+ *
+ * <p>A cache directory mustn't be used by more than one cache at once,
+ * while a cache may be shared by several clients.
+ */
+@SuppressWarnings("unused")
+public final class KreedzHttpCache implements Closeable {
+
+	/**
+	 * An OkHttp disk cache.
+	 */
+	private final Cache cache;
+
+	/**
+	 * A set of the cached endpoints.
+	 */
+	private final Set<String> endpoints;
+
+	/**
+	 * A maximum age.
+	 */
+	private final Duration maxAge;
+
+	/**
+	 * A stale-while-revalidate window.
+	 */
+	private final Duration staleWhileRevalidate;
+
+	/**
+	 * A stale hit count.
+	 */
+	private final LongAdder staleHitCount;
+
+	/**
+	 * A background revalidation count.
+	 */
+	private final LongAdder revalidationCount;
+
+	/**
+	 * Initialize a {@link KreedzHttpCache} instance.
+	 *
+	 * @param builder	builder to take the configuration from
+	 */
+	private KreedzHttpCache(Builder builder) {
+		this.cache = new Cache(builder.directory, builder.maximumSize);
+		this.endpoints = Collections.unmodifiableSet(new HashSet<>(builder.endpoints));
+		this.maxAge = builder.maxAge;
+		this.staleWhileRevalidate = builder.staleWhileRevalidate;
+		this.staleHitCount = new LongAdder();
+		this.revalidationCount = new LongAdder();
+	}
+
+	/**
+	 * Create a {@link KreedzHttpCache} instance
+	 * in the provided directory w/ a default configuration.
+	 *
+	 * @param directory		cache directory
+	 * @return				{@code KreedzHttpCache} instance
+	 */
+	public static KreedzHttpCache create(File directory) {
+		return new Builder(directory).build();
+	}
+
+	/**
+	 * Get this OkHttp disk cache.
+	 *
+	 * @return	OkHttp disk cache
+	 */
+	public Cache getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * Check if the provided endpoint is cached.
+	 *
+	 * @param endpoint	relative URL template of a service method, may be null
+	 * @return			boolean value as a result
+	 */
+	public boolean isCached(String endpoint) {
+		return endpoint != null
+				&& this.endpoints.contains(endpoint);
+	}
+
+	/**
+	 * Get this maximum age.
+	 *
+	 * @return	maximum age
+	 */
+	public Duration getMaxAge() {
+		return this.maxAge;
+	}
+
+	/**
+	 * Get this stale-while-revalidate window.
+	 *
+	 * @return	stale-while-revalidate window
+	 */
+	public Duration getStaleWhileRevalidate() {
+		return this.staleWhileRevalidate;
+	}
+
+	/**
+	 * Record a stale hit served while revalidating in the background.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param isRevalidated		whether a background revalidation was started
+	 */
+	public void recordStaleHit(boolean isRevalidated) {
+		this.staleHitCount.increment();
+
+		if (isRevalidated) {
+			this.revalidationCount.increment();
+		}
+	}
+
+	/**
+	 * Remove all the entries from this cache.
+	 *
+	 * @throws IOException	if the cache directory couldn't be cleared
+	 */
+	public void invalidateAll() throws IOException {
+		this.cache.evictAll();
+	}
+
+	/**
+	 * Get this number of bytes on disk.
+	 *
+	 * @return	number of bytes on disk
+	 * @throws IOException	if the cache directory couldn't be read
+	 */
+	public long size() throws IOException {
+		return this.cache.size();
+	}
+
+	/**
+	 * Get this number of requests looked up in the cache.
+	 *
+	 * @return	number of requests
+	 */
+	public long getRequestCount() {
+		return this.cache.requestCount();
+	}
+
+	/**
+	 * Get this number of responses served from disk,
+	 * including the ones revalidated w/ a 304.
+	 *
+	 * @return	number of hits
+	 */
+	public long getHitCount() {
+		return this.cache.hitCount();
+	}
+
+	/**
+	 * Get this number of requests sent over the network,
+	 * including the conditional ones.
+	 *
+	 * @return	number of network requests
+	 */
+	public long getNetworkCount() {
+		return this.cache.networkCount();
+	}
+
+	/**
+	 * Get this number of stale responses served
+	 * within the stale-while-revalidate window.
+	 *
+	 * @return	number of stale hits
+	 */
+	public long getStaleHitCount() {
+		return this.staleHitCount.sum();
+	}
+
+	/**
+	 * Get this number of background revalidations.
+	 *
+	 * @return	number of background revalidations
+	 */
+	public long getRevalidationCount() {
+		return this.revalidationCount.sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		this.cache.close();
+	}
+
+	/**
+	 * A builder for {@link KreedzHttpCache}.
+	 *
+	 * <p>Defaults to the map info & map image endpoints, which are
+	 * revalidated on every call but served stale for up to a day
+	 * while doing so in the background.
+	 */
+	public static final class Builder {
+
+		/**
+		 * A default maximum number of bytes on disk.
+		 */
+		private static final long DEFAULT_MAXIMUM_SIZE = 32L * 1024 * 1024;
+
+		/**
+		 * A default maximum age.
+		 */
+		private static final Duration DEFAULT_MAX_AGE = Duration.ZERO;
+
+		/**
+		 * A default stale-while-revalidate window.
+		 */
+		private static final Duration DEFAULT_STALE_WHILE_REVALIDATE = Duration.ofDays(1);
+
+		/**
+		 * A cache directory.
+		 */
+		private final File directory;
+
+		/**
+		 * A maximum number of bytes on disk.
+		 */
+		private long maximumSize;
+
+		/**
+		 * A maximum age.
+		 */
+		private Duration maxAge;
+
+		/**
+		 * A stale-while-revalidate window.
+		 */
+		private Duration staleWhileRevalidate;
+
+		/**
+		 * A set of the cached endpoints.
+		 */
+		private final Set<String> endpoints;
+
+		/**
+		 * Initialize a {@link KreedzHttpCache.Builder} instance.
+		 *
+		 * @param directory		cache directory
+		 */
+		public Builder(File directory) {
+			if (directory == null) {
+				throw new IllegalArgumentException("Directory mustn't be <null>");
+			}
+
+			this.directory = directory;
+			this.maximumSize = DEFAULT_MAXIMUM_SIZE;
+			this.maxAge = DEFAULT_MAX_AGE;
+			this.staleWhileRevalidate = DEFAULT_STALE_WHILE_REVALIDATE;
+
+			this.endpoints = new HashSet<>();
+
+			this.endpoints.add("maps.min.json");
+			this.endpoints.add("global.min.json");
+			this.endpoints.add("non-global.min.json");
+			this.endpoints.add("uncompleted.min.json");
+
+			this.endpoints.add("public/maps.min.json");
+		}
+
+		/**
+		 * Build a {@link KreedzHttpCache} instance.
+		 *
+		 * @return	{@code KreedzHttpCache} instance
+		 */
+		public KreedzHttpCache build() {
+			return new KreedzHttpCache(this);
+		}
+
+		/**
+		 * Set this maximum number of bytes on disk.
+		 *
+		 * @param maximumSize	maximum number of bytes on disk
+		 * @return				this instance
+		 */
+		public Builder setMaximumSize(long maximumSize) {
+			if (maximumSize < 1) {
+				throw new IllegalArgumentException("Maximum size must be positive");
+			}
+
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		/**
+		 * Set this maximum age.
+		 *
+		 * <p>A response younger than it is served from disk
+		 * w/o any request, an older one is revalidated.
+		 *
+		 * @param maxAge	maximum age, zero to revalidate on every call
+		 * @return			this instance
+		 */
+		public Builder setMaxAge(Duration maxAge) {
+			this.maxAge = requireNonNegative(maxAge, "Max age");
+			return this;
+		}
+
+		/**
+		 * Set this stale-while-revalidate window.
+		 *
+		 * <p>A response older than the maximum age by less than it is served
+		 * from disk and revalidated in the background, an even older one is
+		 * revalidated before being served.
+		 *
+		 * @param staleWhileRevalidate	stale-while-revalidate window, zero to always wait for the revalidation
+		 * @return						this instance
+		 */
+		public Builder setStaleWhileRevalidate(Duration staleWhileRevalidate) {
+			this.staleWhileRevalidate = requireNonNegative(staleWhileRevalidate, "Stale-while-revalidate window");
+			return this;
+		}
+
+		/**
+		 * Set whether the provided endpoint is cached.
+		 *
+		 * @param endpoint	relative URL template of a service method, e.g. {@code "maps.min.json"}
+		 * @param isCached	whether the endpoint is cached
+		 * @return			this instance
+		 */
+		public Builder setIsCached(String endpoint, boolean isCached) {
+			if (endpoint == null) {
+				throw new IllegalArgumentException("Endpoint mustn't be <null>");
+			}
+
+			if (isCached) {
+				this.endpoints.add(endpoint);
+			} else {
+				this.endpoints.remove(endpoint);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Require the provided duration to be non-null and non-negative.
+		 *
+		 * @param duration	duration to check
+		 * @param name		name of the duration to use in the exception message
+		 * @return			provided duration
+		 */
+		private static Duration requireNonNegative(Duration duration, String name) {
+			if (duration == null || duration.isNegative()) {
+				throw new IllegalArgumentException(name + " mustn't be <null> or negative");
+			}
+
+			return duration;
+		}
+	}
+}
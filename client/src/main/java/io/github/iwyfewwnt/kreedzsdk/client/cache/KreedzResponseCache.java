@@ -0,0 +1,613 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.cache;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A kreedz response cache.
+ *
+ * <p>Keeps successful responses in memory for a per-endpoint
+ * time-to-live, where an endpoint is the relative URL template
+ * of a service method, e.g. {@code "records/top/recent"}.
+ *
+ * <p>The number of entries is bounded by a window TinyLFU policy:
+ * new entries land in a small LRU window, and an entry evicted
+ * from the window is admitted into the main LRU region only if
+ * it's estimated to be more popular than the main region's victim.
+ *
+ * <p>An expired entry is kept for a maximum staleness to be served while
+ * its host is unavailable, then it's removed on its next lookup if it
+ * hasn't been evicted by then.
+ *
+ * <p>Cached response bodies are shared by all callers, a collection
+ * body is therefore cached & returned as an unmodifiable view.
+ */
+public final class KreedzResponseCache {
+
+	/**
+	 * A percentage of the maximum size to give to the window region.
+	 */
+	private static final int WINDOW_PERCENT = 1;
+
+	/**
+	 * A time-to-live by endpoint.
+	 */
+	private final Map<String, Duration> ttls;
+
+	/**
+	 * A default time-to-live.
+	 */
+	private final Duration defaultTtl;
+
+	/**
+	 * A maximum staleness in nanoseconds.
+	 */
+	private final long maxStaleNanos;
+
+	/**
+	 * A maximum number of entries in the window region.
+	 */
+	private final int windowCapacity;
+
+	/**
+	 * A maximum number of entries in the main region.
+	 */
+	private final int mainCapacity;
+
+	/**
+	 * A window region in access order.
+	 */
+	private final LinkedHashMap<Object, Entry> window;
+
+	/**
+	 * A main region in access order.
+	 */
+	private final LinkedHashMap<Object, Entry> main;
+
+	/**
+	 * A popularity sketch of the requested keys.
+	 */
+	private final FrequencySketch sketch;
+
+	/**
+	 * A lock that guards the regions and the sketch.
+	 */
+	private final Object lock;
+
+	/**
+	 * A number of hits.
+	 */
+	private final LongAdder hitCount;
+
+	/**
+	 * A number of misses.
+	 */
+	private final LongAdder missCount;
+
+	/**
+	 * A number of evictions.
+	 */
+	private final LongAdder evictionCount;
+
+	/**
+	 * A number of stale hits.
+	 */
+	private final LongAdder staleHitCount;
+
+	/**
+	 * Initialize a {@link KreedzResponseCache} instance.
+	 *
+	 * @param builder	builder to take the configuration from
+	 */
+	private KreedzResponseCache(Builder builder) {
+		this.ttls = Collections.unmodifiableMap(new HashMap<>(builder.ttls));
+		this.defaultTtl = builder.defaultTtl;
+		this.maxStaleNanos = builder.maxStale.toNanos();
+
+		int maximumSize = builder.maximumSize;
+
+		this.windowCapacity = Math.max(1, maximumSize * WINDOW_PERCENT / 100);
+		this.mainCapacity = maximumSize - this.windowCapacity;
+
+		this.window = new LinkedHashMap<>(16, 0.75f, true);
+		this.main = new LinkedHashMap<>(16, 0.75f, true);
+		this.sketch = new FrequencySketch(maximumSize);
+		this.lock = new Object();
+
+		this.hitCount = new LongAdder();
+		this.missCount = new LongAdder();
+		this.evictionCount = new LongAdder();
+		this.staleHitCount = new LongAdder();
+	}
+
+	/**
+	 * Initialize a {@link KreedzResponseCache} instance
+	 * w/ the default configuration.
+	 *
+	 * <p>Wraps {@link Builder#build()}.
+	 *
+	 * @return	{@code KreedzResponseCache} instance
+	 */
+	public static KreedzResponseCache create() {
+		return new Builder().build();
+	}
+
+	/**
+	 * Get a time-to-live of the provided endpoint.
+	 *
+	 * @param endpoint	relative URL template of a service method
+	 * @return			time-to-live, zero if not cached
+	 */
+	public Duration getTtl(String endpoint) {
+		if (endpoint == null) {
+			return Duration.ZERO;
+		}
+
+		Duration ttl = this.ttls.get(endpoint);
+
+		if (ttl == null) {
+			return this.defaultTtl;
+		}
+
+		return ttl;
+	}
+
+	/**
+	 * Get a cached value by its key or return {@code null} if none.
+	 *
+	 * <p>Counts a hit or a miss. Removes the entry
+	 * if it's expired beyond the maximum staleness.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param key	key to look up
+	 * @return		cached value or {@code null}
+	 */
+	public Object getOrNull(Object key) {
+		if (key == null) {
+			return null;
+		}
+
+		long now = System.nanoTime();
+		Entry entry;
+
+		synchronized (this.lock) {
+			this.sketch.increment(key);
+
+			entry = this.getEntryOrNull(key, now);
+		}
+
+		// An entry expired within the maximum staleness is kept to be served stale.
+		if (entry == null || entry.isExpired(now)) {
+			this.missCount.increment();
+			return null;
+		}
+
+		this.hitCount.increment();
+		return entry.value;
+	}
+
+	/**
+	 * Get a cached value by its key regardless of its time-to-live
+	 * or return {@code null} if none.
+	 *
+	 * <p>Counts a stale hit if the value is found. Removes
+	 * the entry if it's expired beyond the maximum staleness.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param key	key to look up
+	 * @return		cached value or {@code null}
+	 */
+	public Object getStaleOrNull(Object key) {
+		if (key == null) {
+			return null;
+		}
+
+		long now = System.nanoTime();
+		Entry entry;
+
+		synchronized (this.lock) {
+			entry = this.getEntryOrNull(key, now);
+		}
+
+		if (entry == null) {
+			return null;
+		}
+
+		this.staleHitCount.increment();
+		return entry.value;
+	}
+
+	/**
+	 * Put a value by its key for the provided time-to-live.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param key		key to put the value by
+	 * @param value		value to put
+	 * @param ttl		time-to-live, nothing is put if not positive
+	 */
+	public void put(Object key, Object value, Duration ttl) {
+		if (key == null || value == null
+				|| ttl == null || ttl.isZero() || ttl.isNegative()) {
+			return;
+		}
+
+		Entry entry = new Entry(value, System.nanoTime() + ttl.toNanos());
+
+		synchronized (this.lock) {
+			if (this.main.containsKey(key)) {
+				this.main.put(key, entry);
+				return;
+			}
+
+			this.window.put(key, entry);
+
+			if (this.window.size() <= this.windowCapacity) {
+				return;
+			}
+
+			Iterator<Map.Entry<Object, Entry>> iterator = this.window.entrySet().iterator();
+			Map.Entry<Object, Entry> candidate = iterator.next();
+
+			iterator.remove();
+
+			this.admit(candidate.getKey(), candidate.getValue());
+		}
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public void invalidateAll() {
+		synchronized (this.lock) {
+			this.window.clear();
+			this.main.clear();
+		}
+	}
+
+	/**
+	 * Get this number of entries.
+	 *
+	 * <p>Includes expired entries that haven't been looked up or evicted yet.
+	 *
+	 * @return	number of entries
+	 */
+	public int size() {
+		synchronized (this.lock) {
+			return this.window.size() + this.main.size();
+		}
+	}
+
+	/**
+	 * Get this number of hits.
+	 *
+	 * @return	number of hits
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Get this number of misses.
+	 *
+	 * @return	number of misses
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Get this number of evictions.
+	 *
+	 * @return	number of evictions
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Get this number of expired values served
+	 * while their host was unavailable.
+	 *
+	 * @return	number of stale hits
+	 */
+	public long getStaleHitCount() {
+		return this.staleHitCount.sum();
+	}
+
+	/**
+	 * Get this ratio of hits to all lookups.
+	 *
+	 * @return	hit rate, {@code 1.0} if nothing was looked up
+	 */
+	public double getHitRate() {
+		long hitCount = this.getHitCount();
+		long requestCount = hitCount + this.getMissCount();
+
+		if (requestCount == 0) {
+			return 1.0d;
+		}
+
+		return (double) hitCount / requestCount;
+	}
+
+	/**
+	 * Get an entry by its key or return {@code null} if none,
+	 * removing it if it's expired beyond the maximum staleness.
+	 *
+	 * <p>Must be called while holding the lock.
+	 *
+	 * @param key	key to look up
+	 * @param now	current time in nanoseconds
+	 * @return		entry or {@code null}
+	 */
+	private Entry getEntryOrNull(Object key, long now) {
+		Map<Object, Entry> region = this.window;
+		Entry entry = region.get(key);
+
+		if (entry == null) {
+			region = this.main;
+			entry = region.get(key);
+		}
+
+		if (entry == null || !entry.isExpired(now - this.maxStaleNanos)) {
+			return entry;
+		}
+
+		region.remove(key);
+
+		return null;
+	}
+
+	/**
+	 * Admit an entry evicted from the window into the main region
+	 * or drop either the entry or the main region's victim.
+	 *
+	 * @param key		key of the entry to admit
+	 * @param entry		entry to admit
+	 */
+	private void admit(Object key, Entry entry) {
+		if (this.main.size() < this.mainCapacity) {
+			this.main.put(key, entry);
+			return;
+		}
+
+		this.evictionCount.increment();
+
+		if (this.mainCapacity == 0) {
+			return;
+		}
+
+		Iterator<Map.Entry<Object, Entry>> iterator = this.main.entrySet().iterator();
+		Map.Entry<Object, Entry> victim = iterator.next();
+
+		if (!victim.getValue().isExpired(System.nanoTime())
+				&& this.sketch.frequency(key) <= this.sketch.frequency(victim.getKey())) {
+			return;
+		}
+
+		iterator.remove();
+
+		this.main.put(key, entry);
+	}
+
+	/**
+	 * A cache entry.
+	 */
+	private static final class Entry {
+
+		/**
+		 * A cached value.
+		 */
+		private final Object value;
+
+		/**
+		 * An expiration time in nanoseconds.
+		 */
+		private final long expireAtNanos;
+
+		/**
+		 * Initialize an {@link Entry} instance.
+		 *
+		 * @param value				cached value
+		 * @param expireAtNanos		expiration time in nanoseconds
+		 */
+		private Entry(Object value, long expireAtNanos) {
+			this.value = value;
+			this.expireAtNanos = expireAtNanos;
+		}
+
+		/**
+		 * Check if this entry is expired.
+		 *
+		 * @param now	current time in nanoseconds
+		 * @return		boolean value as a result
+		 */
+		private boolean isExpired(long now) {
+			return now - this.expireAtNanos >= 0;
+		}
+	}
+
+	/**
+	 * A {@link KreedzResponseCache} builder.
+	 *
+	 * <p>Defaults to hours for modes and maps and a few seconds
+	 * for recent records, w/ an hour of maximum staleness. Anything
+	 * else, e.g. the health & status endpoints, isn't cached unless
+	 * a time-to-live is set for it or a default one is.
+	 */
+	public static final class Builder {
+
+		/**
+		 * A default maximum number of entries.
+		 */
+		private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+		/**
+		 * A default time-to-live.
+		 */
+		private static final Duration DEFAULT_TTL = Duration.ZERO;
+
+		/**
+		 * A default time-to-live of the mode endpoints.
+		 */
+		private static final Duration DEFAULT_MODE_TTL = Duration.ofHours(6);
+
+		/**
+		 * A default time-to-live of the map endpoints.
+		 */
+		private static final Duration DEFAULT_MAP_TTL = Duration.ofHours(1);
+
+		/**
+		 * A default time-to-live of the recent records endpoint.
+		 */
+		private static final Duration DEFAULT_RECENT_RECORD_TTL = Duration.ofSeconds(5);
+
+		/**
+		 * A default maximum staleness.
+		 */
+		private static final Duration DEFAULT_MAX_STALE = Duration.ofHours(1);
+
+		/**
+		 * A maximum number of entries.
+		 */
+		private int maximumSize;
+
+		/**
+		 * A default time-to-live.
+		 */
+		private Duration defaultTtl;
+
+		/**
+		 * A maximum staleness.
+		 */
+		private Duration maxStale;
+
+		/**
+		 * A time-to-live by endpoint.
+		 */
+		private final Map<String, Duration> ttls;
+
+		/**
+		 * Initialize a {@link KreedzResponseCache.Builder} instance.
+		 */
+		public Builder() {
+			this.maximumSize = DEFAULT_MAXIMUM_SIZE;
+			this.defaultTtl = DEFAULT_TTL;
+			this.maxStale = DEFAULT_MAX_STALE;
+
+			this.ttls = new HashMap<>();
+
+			this.ttls.put("modes", DEFAULT_MODE_TTL);
+			this.ttls.put("modes/id/{id}", DEFAULT_MODE_TTL);
+			this.ttls.put("modes/name/{modeName}", DEFAULT_MODE_TTL);
+
+			this.ttls.put("maps", DEFAULT_MAP_TTL);
+			this.ttls.put("maps/{id}", DEFAULT_MAP_TTL);
+			this.ttls.put("maps/name/{mapName}", DEFAULT_MAP_TTL);
+
+			this.ttls.put("records/top/recent", DEFAULT_RECENT_RECORD_TTL);
+		}
+
+		/**
+		 * Build a {@link KreedzResponseCache} instance.
+		 *
+		 * @return	{@code KreedzResponseCache} instance
+		 */
+		public KreedzResponseCache build() {
+			return new KreedzResponseCache(this);
+		}
+
+		/**
+		 * Set this maximum number of entries.
+		 *
+		 * @param maximumSize	maximum number of entries
+		 * @return				this instance
+		 */
+		public Builder setMaximumSize(int maximumSize) {
+			if (maximumSize < 1) {
+				throw new IllegalArgumentException("Maximum size must be positive");
+			}
+
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		/**
+		 * Set this default time-to-live.
+		 *
+		 * <p>Applies to every endpoint w/o its own time-to-live.
+		 *
+		 * @param defaultTtl	default time-to-live, zero to not cache
+		 * @return				this instance
+		 */
+		public Builder setDefaultTtl(Duration defaultTtl) {
+			this.defaultTtl = requireNonNegative(defaultTtl, "Default TTL");
+			return this;
+		}
+
+		/**
+		 * Set this maximum staleness.
+		 *
+		 * <p>Limits how long past its time-to-live a value is
+		 * kept to be served while its host is unavailable.
+		 *
+		 * @param maxStale	maximum staleness, zero to remove expired values on lookup
+		 * @return			this instance
+		 */
+		public Builder setMaxStale(Duration maxStale) {
+			this.maxStale = requireNonNegative(maxStale, "Max stale");
+			return this;
+		}
+
+		/**
+		 * Set a time-to-live of the provided endpoint.
+		 *
+		 * @param endpoint	relative URL template of a service method, e.g. {@code "maps/{id}"}
+		 * @param ttl		time-to-live, zero to not cache
+		 * @return			this instance
+		 */
+		public Builder setTtl(String endpoint, Duration ttl) {
+			if (endpoint == null) {
+				throw new IllegalArgumentException("Endpoint mustn't be <null>");
+			}
+
+			this.ttls.put(endpoint, requireNonNegative(ttl, "TTL"));
+			return this;
+		}
+
+		/**
+		 * Require the provided duration to be non-null and non-negative.
+		 *
+		 * @param duration	duration to check
+		 * @param name		name of the duration to use in the exception message
+		 * @return			provided duration
+		 */
+		private static Duration requireNonNegative(Duration duration, String name) {
+			if (duration == null || duration.isNegative()) {
+				throw new IllegalArgumentException(name + " mustn't be <null> or negative");
+			}
+
+			return duration;
+		}
+	}
+}
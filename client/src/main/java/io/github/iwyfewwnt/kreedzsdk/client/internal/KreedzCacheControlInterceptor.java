@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.client.cache.KreedzHttpCache;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * A kreedz cache control interceptor.
+ *
+ * <p>A network interceptor, which replaces the caching headers of
+ * the successful & not modified responses of every cached endpoint
+ * w/ the maximum age of the HTTP cache, so the OkHttp cache stores
+ * them whatever the server says. The "ETag" & "Last-Modified"
+ * headers are kept for the conditional revalidation.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+@SuppressWarnings("NullableProblems")
+public final class KreedzCacheControlInterceptor implements Interceptor {
+
+	/**
+	 * A "Not Modified" status code.
+	 */
+	private static final int NOT_MODIFIED = 304;
+
+	/**
+	 * An HTTP cache.
+	 */
+	private final KreedzHttpCache cache;
+
+	/**
+	 * A "Cache-Control" header value.
+	 */
+	private final String cacheControl;
+
+	/**
+	 * Initialize a {@link KreedzCacheControlInterceptor} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param cache		HTTP cache
+	 */
+	public KreedzCacheControlInterceptor(KreedzHttpCache cache) {
+		if (cache == null) {
+			throw new IllegalArgumentException("Cache mustn't be <null>");
+		}
+
+		this.cache = cache;
+		this.cacheControl = "max-age=" + Math.min(cache.getMaxAge().getSeconds(), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		Response response = chain.proceed(request);
+
+		if (!"GET".equals(request.method())
+				|| !this.cache.isCached(UKreedzHttp.findEndpointOrNull(request))) {
+			return response;
+		}
+
+		if (!response.isSuccessful() && response.code() != NOT_MODIFIED) {
+			return response;
+		}
+
+		return response.newBuilder()
+				.header("Cache-Control", this.cacheControl)
+				.removeHeader("Pragma")
+				.removeHeader("Expires")
+				.build();
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.client.breaker.KreedzCircuitOpenException;
+import io.github.iwyfewwnt.kreedzsdk.client.cache.KreedzResponseCache;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A kreedz caching call.
+ *
+ * <p>Answers from a {@link KreedzResponseCache} if possible,
+ * otherwise performs the delegate call and caches its response
+ * if successful. A cached response is delivered to the callback
+ * of {@link #enqueue(Callback)} on the provided executor, i.e. the
+ * OkHttp dispatcher, so it takes the same path as a network response,
+ * including Retrofit's callback executor which wraps this call.
+ *
+ * <p>A collection body is cached & returned to every caller,
+ * including the one that performed the delegate call,
+ * as an unmodifiable view, as it's shared by all of them.
+ *
+ * <p>While the circuit of the host is open, an expired
+ * response is served instead of failing if there is one.
+ *
+ * <p><b>For internal usage only.</b>
+ *
+ * @param <R>	response type
+ */
+public final class KreedzCachingCall<R> implements Call<R> {
+
+	/**
+	 * A delegate call.
+	 */
+	private final Call<R> delegate;
+
+	/**
+	 * A response cache.
+	 */
+	private final KreedzResponseCache cache;
+
+	/**
+	 * A time-to-live of the responses.
+	 */
+	private final Duration ttl;
+
+	/**
+	 * An endpoint of the call.
+	 */
+	private final String endpoint;
+
+	/**
+	 * An executor to deliver the cached responses on.
+	 */
+	private final Executor callbackExecutor;
+
+	/**
+	 * An "isExecuted" flag.
+	 */
+	private final AtomicBoolean isExecuted;
+
+	/**
+	 * Initialize a {@link KreedzCachingCall} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param delegate			delegate call
+	 * @param cache				response cache
+	 * @param ttl				time-to-live of the responses
+	 * @param endpoint			endpoint of the call
+	 * @param callbackExecutor	executor to deliver the cached responses on
+	 */
+	public KreedzCachingCall(Call<R> delegate, KreedzResponseCache cache, Duration ttl,
+			String endpoint, Executor callbackExecutor) {
+		this.delegate = delegate;
+		this.cache = cache;
+		this.ttl = ttl;
+		this.endpoint = endpoint;
+		this.callbackExecutor = callbackExecutor;
+		this.isExecuted = new AtomicBoolean();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response<R> execute() throws IOException {
+		this.markExecuted();
+
+		KreedzCallKey key = KreedzCallKey.ofOrNull(this.delegate);
+		Response<R> response = this.getCachedOrNull(key);
+
+		if (response != null) {
+			return response;
+		}
+
+		try {
+			response = this.delegate.execute();
+		} catch (KreedzCircuitOpenException e) {
+			response = this.getStaleOrNull(key);
+
+			if (response == null) {
+				throw e;
+			}
+
+			return response;
+		}
+
+		return this.putIfSuccessful(key, response);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void enqueue(Callback<R> callback) {
+		if (callback == null) {
+			throw new IllegalArgumentException("Callback mustn't be <null>");
+		}
+
+		this.markExecuted();
+
+		KreedzCallKey key = KreedzCallKey.ofOrNull(this.delegate);
+		Response<R> response = this.getCachedOrNull(key);
+
+		if (response != null) {
+			this.deliver(callback, response);
+			return;
+		}
+
+		this.delegate.enqueue(new Callback<R>() {
+
+			@Override
+			public void onResponse(Call<R> call, Response<R> response) {
+				callback.onResponse(KreedzCachingCall.this, putIfSuccessful(key, response));
+			}
+
+			@Override
+			public void onFailure(Call<R> call, Throwable throwable) {
+				Response<R> response = throwable instanceof KreedzCircuitOpenException
+						? getStaleOrNull(key)
+						: null;
+
+				if (response != null) {
+					callback.onResponse(KreedzCachingCall.this, response);
+					return;
+				}
+
+				callback.onFailure(KreedzCachingCall.this, throwable);
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isExecuted() {
+		return this.isExecuted.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void cancel() {
+		this.delegate.cancel();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isCanceled() {
+		return this.delegate.isCanceled();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("MethodDoesntCallSuperMethod")
+	@Override
+	public Call<R> clone() {
+		return new KreedzCachingCall<>(this.delegate.clone(), this.cache,
+				this.ttl, this.endpoint, this.callbackExecutor);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Request request() {
+		return this.delegate.request();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Timeout timeout() {
+		return this.delegate.timeout();
+	}
+
+	/**
+	 * Mark this call as executed.
+	 */
+	private void markExecuted() {
+		if (!this.isExecuted.compareAndSet(false, true)) {
+			throw new IllegalStateException("Already executed");
+		}
+	}
+
+	/**
+	 * Deliver the provided cached response to the provided callback
+	 * on the callback executor, or fail it if this call was canceled.
+	 *
+	 * @param callback	callback to deliver to
+	 * @param response	cached response
+	 */
+	private void deliver(Callback<R> callback, Response<R> response) {
+		try {
+			this.callbackExecutor.execute(() -> {
+				if (this.isCanceled()) {
+					callback.onFailure(this, new IOException("Canceled"));
+					return;
+				}
+
+				callback.onResponse(this, response);
+			});
+		} catch (RejectedExecutionException e) {
+			InterruptedIOException exception = new InterruptedIOException("executor rejected");
+			exception.initCause(e);
+
+			callback.onFailure(this, exception);
+		}
+	}
+
+	/**
+	 * Get a cached response by its key or return {@code null} if none.
+	 *
+	 * @param key	call key, may be null
+	 * @return		cached response or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	private Response<R> getCachedOrNull(KreedzCallKey key) {
+		Response<R> response = (Response<R>) this.cache.getOrNull(key);
+
+		if (key != null) {
+			UKreedzEvents.commitCacheLookup(this.endpoint, response != null, false);
+		}
+
+		return response;
+	}
+
+	/**
+	 * Get a cached response by its key regardless of its
+	 * time-to-live or return {@code null} if none.
+	 *
+	 * @param key	call key, may be null
+	 * @return		cached response or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	private Response<R> getStaleOrNull(KreedzCallKey key) {
+		Response<R> response = (Response<R>) this.cache.getStaleOrNull(key);
+
+		if (key != null) {
+			UKreedzEvents.commitCacheLookup(this.endpoint, response != null, true);
+		}
+
+		return response;
+	}
+
+	/**
+	 * Put the provided response by its key if it's successful.
+	 *
+	 * @param key			call key, may be null
+	 * @param response		response to put
+	 * @return				response as cached, w/ an unmodifiable body
+	 */
+	private Response<R> putIfSuccessful(KreedzCallKey key, Response<R> response) {
+		if (response == null || !response.isSuccessful()) {
+			return response;
+		}
+
+		response = UKreedzCall.toUnmodifiable(response);
+		this.cache.put(key, response, this.ttl);
+
+		return response;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.client.cache.KreedzCallCoalescer;
+import io.github.iwyfewwnt.kreedzsdk.client.cache.KreedzResponseCache;
+import io.github.iwyfewwnt.kreedzsdk.client.retry.KreedzRetrier;
+import okhttp3.OkHttpClient;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * A kreedz call adapter factory.
+ *
+ * <p>Wraps the {@link Call} instances of every {@code GET} service
+ * method w/ a {@link KreedzRetryingCall}, a {@link KreedzCoalescingCall}
+ * and a {@link KreedzCachingCall}, innermost first, so the cache is looked
+ * up before joining an in-flight call, which retries on behalf of all its
+ * callers. The time-to-live is resolved once per method by its relative
+ * URL template, methods w/o any of the wrappers are left to the next
+ * call adapter factory.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class KreedzCallAdapterFactory extends CallAdapter.Factory {
+
+	/**
+	 * A response cache.
+	 */
+	private final KreedzResponseCache cache;
+
+	/**
+	 * A call coalescer.
+	 */
+	private final KreedzCallCoalescer coalescer;
+
+	/**
+	 * A retrier.
+	 */
+	private final KreedzRetrier retrier;
+
+	/**
+	 * Initialize a {@link KreedzCallAdapterFactory} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param cache			response cache, may be null
+	 * @param coalescer		call coalescer, may be null
+	 * @param retrier		retrier, may be null
+	 */
+	public KreedzCallAdapterFactory(KreedzResponseCache cache, KreedzCallCoalescer coalescer, KreedzRetrier retrier) {
+		if (cache == null && coalescer == null && retrier == null) {
+			throw new IllegalArgumentException("Cache, coalescer & retrier mustn't be all <null>");
+		}
+
+		this.cache = cache;
+		this.coalescer = coalescer;
+		this.retrier = retrier;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+		if (getRawType(returnType) != Call.class) {
+			return null;
+		}
+
+		String endpoint = UKreedzHttp.findEndpointOrNull(annotations);
+
+		if (endpoint == null) {
+			return null;
+		}
+
+		KreedzResponseCache cache = this.cache;
+		KreedzCallCoalescer coalescer = this.coalescer;
+		KreedzRetrier retrier = this.retrier;
+
+		Duration ttl = cache != null
+				? cache.getTtl(endpoint)
+				: Duration.ZERO;
+
+		if (ttl.isZero() && coalescer == null && retrier == null) {
+			return null;
+		}
+
+		CallAdapter<Object, Object> delegate
+				= (CallAdapter<Object, Object>) retrofit.nextCallAdapter(this, returnType, annotations);
+
+		Executor callbackExecutor = getCallbackExecutor(retrofit);
+
+		return new CallAdapter<Object, Object>() {
+
+			@Override
+			public Type responseType() {
+				return delegate.responseType();
+			}
+
+			@Override
+			public Object adapt(Call<Object> call) {
+				if (retrier != null) {
+					call = new KreedzRetryingCall<>(call, retrier);
+				}
+
+				if (coalescer != null) {
+					call = new KreedzCoalescingCall<>(call, coalescer);
+				}
+
+				if (!ttl.isZero()) {
+					call = new KreedzCachingCall<>(call, cache, ttl, endpoint, callbackExecutor);
+				}
+
+				return delegate.adapt(call);
+			}
+		};
+	}
+
+	/**
+	 * Get an executor of the provided Retrofit instance
+	 * to deliver the cached responses on.
+	 *
+	 * <p>That's the OkHttp dispatcher, where network responses are
+	 * delivered on as well, so Retrofit's callback executor is applied
+	 * to both by the next call adapter, if there is one.
+	 *
+	 * @param retrofit	Retrofit instance
+	 * @return			executor
+	 */
+	private static Executor getCallbackExecutor(Retrofit retrofit) {
+		okhttp3.Call.Factory callFactory = retrofit.callFactory();
+
+		if (callFactory instanceof OkHttpClient) {
+			return ((OkHttpClient) callFactory).dispatcher().executorService();
+		}
+
+		return Runnable::run;
+	}
+}
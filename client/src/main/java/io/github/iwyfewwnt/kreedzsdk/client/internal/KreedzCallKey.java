@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.Invocation;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A kreedz call key.
+ *
+ * <p>Identifies a call by its service method and the list
+ * of arguments it was invoked w/. Request managers pass the
+ * fields of their immutable request objects as the arguments,
+ * so two equal request objects always produce two equal keys.
+ *
+ * <p>The URL of the call request is a part of the key as well.
+ * It starts w/ the base URL of the client, which carries its API
+ * version, so clients of different versions sharing a response
+ * cache or a call coalescer never share a response.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class KreedzCallKey {
+
+	/**
+	 * A service method.
+	 */
+	private final Method method;
+
+	/**
+	 * A list of arguments.
+	 */
+	private final List<?> arguments;
+
+	/**
+	 * A request URL.
+	 */
+	private final HttpUrl url;
+
+	/**
+	 * A hash code.
+	 */
+	private final int hashCode;
+
+	/**
+	 * Initialize a {@link KreedzCallKey} instance.
+	 *
+	 * @param method		service method
+	 * @param arguments		list of arguments
+	 * @param url			request URL
+	 */
+	private KreedzCallKey(Method method, List<?> arguments, HttpUrl url) {
+		this.method = method;
+		this.arguments = arguments;
+		this.url = url;
+		this.hashCode = Objects.hash(method, arguments, url);
+	}
+
+	/**
+	 * Create a key of the provided call or return {@code null} if failed.
+	 *
+	 * <p>Takes the {@link Invocation} tag of the call request,
+	 * which is only present for calls created by a retrofit service.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param call	call to create a key of
+	 * @return		call key or {@code null}
+	 */
+	public static KreedzCallKey ofOrNull(Call<?> call) {
+		if (call == null) {
+			return null;
+		}
+
+		Request request;
+
+		try {
+			request = call.request();
+		} catch (RuntimeException e) {
+			return null;
+		}
+
+		Invocation invocation = request.tag(Invocation.class);
+
+		if (invocation == null) {
+			return null;
+		}
+
+		return new KreedzCallKey(invocation.method(), invocation.arguments(), request.url());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		KreedzCallKey that = (KreedzCallKey) obj;
+
+		return this.hashCode == that.hashCode
+				&& this.method.equals(that.method)
+				&& this.arguments.equals(that.arguments)
+				&& this.url.equals(that.url);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return this.getClass().getSimpleName()
+				+ "[method=" + this.method.getName()
+				+ ", arguments=" + this.arguments
+				+ ", url=" + this.url
+				+ "]";
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.client.cache.KreedzCallCoalescer;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A kreedz coalescing call.
+ *
+ * <p>Joins an identical in-flight call of a {@link KreedzCallCoalescer}
+ * or starts the delegate call to be joined by others. Cancelling this
+ * call only detaches it, the shared call keeps serving other callers.
+ *
+ * <p><b>For internal usage only.</b>
+ *
+ * @param <R>	response type
+ */
+public final class KreedzCoalescingCall<R> implements Call<R> {
+
+	/**
+	 * A delegate call.
+	 */
+	private final Call<R> delegate;
+
+	/**
+	 * A call coalescer.
+	 */
+	private final KreedzCallCoalescer coalescer;
+
+	/**
+	 * A future of the response of this call.
+	 */
+	private final CompletableFuture<Response<R>> future;
+
+	/**
+	 * An "isExecuted" flag.
+	 */
+	private final AtomicBoolean isExecuted;
+
+	/**
+	 * An "isCanceled" flag.
+	 */
+	private volatile boolean isCanceled;
+
+	/**
+	 * Initialize a {@link KreedzCoalescingCall} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param delegate		delegate call
+	 * @param coalescer		call coalescer
+	 */
+	public KreedzCoalescingCall(Call<R> delegate, KreedzCallCoalescer coalescer) {
+		this.delegate = delegate;
+		this.coalescer = coalescer;
+		this.future = new CompletableFuture<>();
+		this.isExecuted = new AtomicBoolean();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response<R> execute() throws IOException {
+		this.start();
+
+		try {
+			return this.future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void enqueue(Callback<R> callback) {
+		if (callback == null) {
+			throw new IllegalArgumentException("Callback mustn't be <null>");
+		}
+
+		this.start();
+
+		this.future.whenComplete((response, throwable) -> {
+			if (throwable != null) {
+				callback.onFailure(this, throwable);
+			} else {
+				callback.onResponse(this, response);
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isExecuted() {
+		return this.isExecuted.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void cancel() {
+		this.isCanceled = true;
+		this.future.completeExceptionally(new IOException("Canceled"));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isCanceled() {
+		return this.isCanceled;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("MethodDoesntCallSuperMethod")
+	@Override
+	public Call<R> clone() {
+		return new KreedzCoalescingCall<>(this.delegate.clone(), this.coalescer);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Request request() {
+		return this.delegate.request();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Timeout timeout() {
+		return this.delegate.timeout();
+	}
+
+	/**
+	 * Mark this call as executed and bind it to a shared in-flight call.
+	 */
+	private void start() {
+		if (!this.isExecuted.compareAndSet(false, true)) {
+			throw new IllegalStateException("Already executed");
+		}
+
+		if (this.isCanceled) {
+			return;
+		}
+
+		this.coalescer.join(KreedzCallKey.ofOrNull(this.delegate), this.delegate)
+				.whenComplete((response, throwable) -> {
+					if (throwable != null) {
+						this.future.completeExceptionally(throwable);
+					} else {
+						this.future.complete(response);
+					}
+				});
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+/**
+ * A kreedz counting response body.
+ *
+ * <p>Counts the bytes read from the delegate body and passes
+ * the count to a callback once the body is exhausted or closed,
+ * whichever is first.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class KreedzCountingResponseBody extends ResponseBody {
+
+	/**
+	 * A response body to delegate to.
+	 */
+	private final ResponseBody delegate;
+
+	/**
+	 * A callback of the number of bytes read.
+	 */
+	private final LongConsumer callback;
+
+	/**
+	 * Whether the body is done w/.
+	 */
+	private final AtomicBoolean isDone;
+
+	/**
+	 * A number of bytes read.
+	 */
+	private long byteCount;
+
+	/**
+	 * A counting source of the body.
+	 */
+	private BufferedSource source;
+
+	/**
+	 * Initialize a {@link KreedzCountingResponseBody} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param delegate	response body to delegate to
+	 * @param callback	callback of the number of bytes read
+	 */
+	public KreedzCountingResponseBody(ResponseBody delegate, LongConsumer callback) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("Delegate mustn't be <null>");
+		}
+
+		if (callback == null) {
+			throw new IllegalArgumentException("Callback mustn't be <null>");
+		}
+
+		this.delegate = delegate;
+		this.callback = callback;
+		this.isDone = new AtomicBoolean();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MediaType contentType() {
+		return this.delegate.contentType();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long contentLength() {
+		return this.delegate.contentLength();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BufferedSource source() {
+		if (this.source == null) {
+			this.source = Okio.buffer(new CountingSource(this.delegate.source()));
+		}
+
+		return this.source;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		this.done();
+		this.delegate.close();
+	}
+
+	/**
+	 * Pass the number of bytes read to the callback once.
+	 */
+	private void done() {
+		if (this.isDone.compareAndSet(false, true)) {
+			this.callback.accept(this.byteCount);
+		}
+	}
+
+	/**
+	 * A source counting the bytes read from it.
+	 */
+	private final class CountingSource extends ForwardingSource {
+
+		/**
+		 * Initialize a {@link CountingSource} instance.
+		 *
+		 * @param delegate	source to delegate to
+		 */
+		private CountingSource(Source delegate) {
+			super(delegate);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long read(Buffer sink, long byteCount) throws IOException {
+			long count = super.read(sink, byteCount);
+
+			if (count == -1L) {
+				KreedzCountingResponseBody.this.done();
+			} else {
+				KreedzCountingResponseBody.this.byteCount += count;
+			}
+
+			return count;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void close() throws IOException {
+			KreedzCountingResponseBody.this.done();
+			super.close();
+		}
+	}
+}
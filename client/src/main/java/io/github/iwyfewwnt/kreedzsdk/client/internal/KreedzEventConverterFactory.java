@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * A kreedz event converter factory.
+ *
+ * <p>Emits a deserialization event per conversion of the response
+ * body converter next to it, w/ the converted type and the number
+ * of entities. Since the body is streamed, the event includes reading it.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class KreedzEventConverterFactory extends Converter.Factory {
+
+	/**
+	 * Initialize a {@link KreedzEventConverterFactory} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 */
+	public KreedzEventConverterFactory() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+		String endpoint = UKreedzHttp.findEndpointOrNull(annotations);
+
+		if (endpoint == null) {
+			return null;
+		}
+
+		Converter<ResponseBody, ?> delegate = retrofit.nextResponseBodyConverter(this, type, annotations);
+		String entityType = type.getTypeName();
+
+		return (Converter<ResponseBody, Object>) body -> {
+			Object event = UKreedzEvents.beginDeserializationOrNull();
+
+			if (event == null) {
+				return delegate.convert(body);
+			}
+
+			Object value = null;
+
+			try {
+				value = delegate.convert(body);
+				return value;
+			} finally {
+				UKreedzEvents.commitDeserialization(event, endpoint, entityType, countOf(value));
+			}
+		};
+	}
+
+	/**
+	 * Get a number of entities of the provided value.
+	 *
+	 * @param value		converted value, may be null
+	 * @return			size of a collection, {@code 1} of others or {@code 0} of {@code null}
+	 */
+	private static int countOf(Object value) {
+		if (value == null) {
+			return 0;
+		}
+
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).size();
+		}
+
+		return 1;
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+
+/**
+ * A kreedz event interceptor.
+ *
+ * <p>Emits an API call event per HTTP exchange,
+ * which is committed once its response body is consumed.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class KreedzEventInterceptor implements Interceptor {
+
+	/**
+	 * Initialize a {@link KreedzEventInterceptor} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 */
+	public KreedzEventInterceptor() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		Object event = UKreedzEvents.beginApiCallOrNull();
+
+		if (event == null) {
+			return chain.proceed(request);
+		}
+
+		String endpoint = UKreedzHttp.findEndpointOrNull(request);
+		Response response;
+
+		try {
+			response = chain.proceed(request);
+		} catch (IOException | RuntimeException e) {
+			UKreedzEvents.commitApiCall(event, endpoint, 0, 0L);
+			throw e;
+		}
+
+		int status = response.code();
+		ResponseBody body = response.body();
+
+		if (body == null) {
+			UKreedzEvents.commitApiCall(event, endpoint, status, 0L);
+			return response;
+		}
+
+		return response.newBuilder()
+				.body(new KreedzCountingResponseBody(body,
+						byteCount -> UKreedzEvents.commitApiCall(event, endpoint, status, byteCount)))
+				.build();
+	}
+}
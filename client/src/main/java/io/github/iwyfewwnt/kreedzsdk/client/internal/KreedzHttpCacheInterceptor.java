@@ -0,0 +1,200 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.client.cache.KreedzHttpCache;
+import okhttp3.*;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A kreedz HTTP cache interceptor.
+ *
+ * <p>Lets the OkHttp cache serve a stale response of a cached endpoint
+ * within the stale-while-revalidate window, then revalidates it in the
+ * background, at most once per URL at a time. Must be the last application
+ * interceptor, so the URL it sees is the one the response is cached by.
+ *
+ * <p>Revalidations are sent by a call factory w/o the application
+ * interceptors, as the request is already past them, but for the
+ * circuit breaker & rate limiter of the client, so a background
+ * revalidation is throttled & failed fast like any other request.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+@SuppressWarnings("NullableProblems")
+public final class KreedzHttpCacheInterceptor implements Interceptor {
+
+	/**
+	 * A "Not Modified" status code.
+	 */
+	private static final int NOT_MODIFIED = 304;
+
+	/**
+	 * A "Warning" header value prefix of a stale response.
+	 */
+	private static final String STALE_WARNING_PREFIX = "110";
+
+	/**
+	 * A cache control of a revalidation.
+	 */
+	private static final CacheControl REVALIDATE = new CacheControl.Builder()
+			.maxAge(0, TimeUnit.SECONDS)
+			.build();
+
+	/**
+	 * An HTTP cache.
+	 */
+	private final KreedzHttpCache cache;
+
+	/**
+	 * A call factory to revalidate w/.
+	 */
+	private final Call.Factory callFactory;
+
+	/**
+	 * A cache control allowing a stale response.
+	 */
+	private final CacheControl staleCacheControl;
+
+	/**
+	 * A set of the URLs being revalidated.
+	 */
+	private final Set<HttpUrl> revalidatingUrls;
+
+	/**
+	 * Initialize a {@link KreedzHttpCacheInterceptor} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param cache			HTTP cache
+	 * @param callFactory	call factory to revalidate w/, sharing the cache & w/o the application interceptors
+	 */
+	public KreedzHttpCacheInterceptor(KreedzHttpCache cache, Call.Factory callFactory) {
+		if (cache == null) {
+			throw new IllegalArgumentException("Cache mustn't be <null>");
+		}
+
+		if (callFactory == null) {
+			throw new IllegalArgumentException("Call factory mustn't be <null>");
+		}
+
+		this.cache = cache;
+		this.callFactory = callFactory;
+
+		long maxStaleSeconds = cache.getStaleWhileRevalidate().getSeconds();
+
+		this.staleCacheControl = maxStaleSeconds > 0
+				? new CacheControl.Builder()
+						.maxStale((int) Math.min(maxStaleSeconds, Integer.MAX_VALUE), TimeUnit.SECONDS)
+						.build()
+				: null;
+
+		this.revalidatingUrls = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+
+		if (this.staleCacheControl == null
+				|| !"GET".equals(request.method())
+				|| !this.cache.isCached(UKreedzHttp.findEndpointOrNull(request))) {
+			return chain.proceed(request);
+		}
+
+		Response response = chain.proceed(request.newBuilder()
+				.cacheControl(this.staleCacheControl)
+				.build());
+
+		if (response.networkResponse() == null && isStale(response)) {
+			this.cache.recordStaleHit(this.revalidate(request));
+		}
+
+		return response;
+	}
+
+	/**
+	 * Revalidate the provided request in the background
+	 * unless its URL is already being revalidated.
+	 *
+	 * @param request	request to revalidate
+	 * @return			boolean value as a result
+	 */
+	private boolean revalidate(Request request) {
+		HttpUrl url = request.url();
+
+		if (!this.revalidatingUrls.add(url)) {
+			return false;
+		}
+
+		Request revalidation = request.newBuilder()
+				.cacheControl(REVALIDATE)
+				.build();
+
+		this.callFactory.newCall(revalidation).enqueue(new Callback() {
+
+			@Override
+			public void onFailure(Call call, IOException e) {
+				revalidatingUrls.remove(url);
+			}
+
+			@Override
+			public void onResponse(Call call, Response response) throws IOException {
+				try (ResponseBody body = response.body()) {
+					Response networkResponse = response.networkResponse();
+
+					// A changed body is only written to the cache as it's read.
+					if (body != null && (networkResponse == null || networkResponse.code() != NOT_MODIFIED)) {
+						body.source().readAll(Okio.blackhole());
+					}
+				} finally {
+					revalidatingUrls.remove(url);
+				}
+			}
+		});
+
+		return true;
+	}
+
+	/**
+	 * Check if the provided response is a stale one served by the cache.
+	 *
+	 * @param response	response to check
+	 * @return			boolean value as a result
+	 */
+	private static boolean isStale(Response response) {
+		if (response.cacheResponse() == null) {
+			return false;
+		}
+
+		for (String warning : response.headers("Warning")) {
+			if (warning.startsWith(STALE_WARNING_PREFIX)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
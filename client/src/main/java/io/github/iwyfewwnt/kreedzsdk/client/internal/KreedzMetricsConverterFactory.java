@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.client.metrics.KreedzMetrics;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * A kreedz metrics converter factory.
+ *
+ * <p>Times the response body converter next to it and records
+ * the time as the deserialization one of the method endpoint.
+ * Since the body is streamed, the time includes reading it.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class KreedzMetricsConverterFactory extends Converter.Factory {
+
+	/**
+	 * A metrics to record into.
+	 */
+	private final KreedzMetrics metrics;
+
+	/**
+	 * Initialize a {@link KreedzMetricsConverterFactory} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param metrics	metrics to record into
+	 */
+	public KreedzMetricsConverterFactory(KreedzMetrics metrics) {
+		if (metrics == null) {
+			throw new IllegalArgumentException("Metrics mustn't be <null>");
+		}
+
+		this.metrics = metrics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+		String endpoint = UKreedzHttp.findEndpointOrNull(annotations);
+
+		if (endpoint == null) {
+			return null;
+		}
+
+		Converter<ResponseBody, ?> delegate = retrofit.nextResponseBodyConverter(this, type, annotations);
+		KreedzMetrics metrics = this.metrics;
+
+		return (Converter<ResponseBody, Object>) body -> {
+			long startNanos = System.nanoTime();
+
+			try {
+				return delegate.convert(body);
+			} finally {
+				metrics.recordDeserialization(endpoint, System.nanoTime() - startNanos);
+			}
+		};
+	}
+}
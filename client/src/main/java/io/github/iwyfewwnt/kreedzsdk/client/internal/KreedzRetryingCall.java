@@ -0,0 +1,426 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.client.breaker.KreedzCircuitOpenException;
+import io.github.iwyfewwnt.kreedzsdk.client.retry.KreedzRetrier;
+import io.github.iwyfewwnt.kreedzsdk.client.retry.KreedzRetryPolicy;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Invocation;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A kreedz retrying call.
+ *
+ * <p>Retries an idempotent call on an I/O failure or a 429/5xx response
+ * w/ a jittered exponential backoff, and, if the policy has a hedging
+ * delay, fires a duplicate attempt once an attempt is slower than that.
+ * A call rejected by an open circuit isn't retried.
+ * The first attempt to answer wins and the others are cancelled.
+ *
+ * <p>Attempts are always enqueued, so {@link #execute()}
+ * blocks the caller thread until the winner answers.
+ *
+ * <p><b>For internal usage only.</b>
+ *
+ * @param <R>	response type
+ */
+public final class KreedzRetryingCall<R> implements Call<R> {
+
+	/**
+	 * A delegate call.
+	 */
+	private final Call<R> delegate;
+
+	/**
+	 * A retrier.
+	 */
+	private final KreedzRetrier retrier;
+
+	/**
+	 * An "isExecuted" flag.
+	 */
+	private final AtomicBoolean isExecuted;
+
+	/**
+	 * A list of attempts in flight.
+	 */
+	private final List<Call<R>> attempts;
+
+	/**
+	 * A retry policy.
+	 */
+	private KreedzRetryPolicy policy;
+
+	/**
+	 * A callback to deliver the outcome to.
+	 */
+	private Callback<R> callback;
+
+	/**
+	 * A number of retries made.
+	 */
+	private int retryCount;
+
+	/**
+	 * A hedge attempt of the current round, if any.
+	 */
+	private Call<R> hedge;
+
+	/**
+	 * A future of the scheduled hedge or retry, if any.
+	 */
+	private Future<?> scheduled;
+
+	/**
+	 * An "isDone" boolean value.
+	 */
+	private boolean isDone;
+
+	/**
+	 * An "isCanceled" boolean value.
+	 */
+	private volatile boolean isCanceled;
+
+	/**
+	 * Initialize a {@link KreedzRetryingCall} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param delegate	delegate call
+	 * @param retrier	retrier
+	 */
+	public KreedzRetryingCall(Call<R> delegate, KreedzRetrier retrier) {
+		this.delegate = delegate;
+		this.retrier = retrier;
+		this.isExecuted = new AtomicBoolean();
+		this.attempts = new ArrayList<>(2);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response<R> execute() throws IOException {
+		CompletableFuture<Response<R>> future = new CompletableFuture<>();
+
+		this.enqueue(new Callback<R>() {
+
+			@Override
+			public void onResponse(Call<R> call, Response<R> response) {
+				future.complete(response);
+			}
+
+			@Override
+			public void onFailure(Call<R> call, Throwable throwable) {
+				future.completeExceptionally(throwable);
+			}
+		});
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			this.cancel();
+
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void enqueue(Callback<R> callback) {
+		if (callback == null) {
+			throw new IllegalArgumentException("Callback mustn't be <null>");
+		}
+
+		if (!this.isExecuted.compareAndSet(false, true)) {
+			throw new IllegalStateException("Already executed");
+		}
+
+		Invocation invocation = null;
+
+		try {
+			invocation = this.delegate.request()
+					.tag(Invocation.class);
+		} catch (RuntimeException ignored) {
+		}
+
+		synchronized (this) {
+			this.callback = callback;
+
+			if (this.isCanceled) {
+				this.finish();
+				callback.onFailure(this, new IOException("Canceled"));
+
+				return;
+			}
+
+			this.policy = this.retrier.getPolicy(invocation != null
+					? invocation.method()
+					: null);
+
+			this.launch(this.delegate, false);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isExecuted() {
+		return this.isExecuted.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void cancel() {
+		List<Call<R>> attempts;
+		Callback<R> callback = null;
+
+		synchronized (this) {
+			this.isCanceled = true;
+
+			if (this.isDone || this.callback == null) {
+				return;
+			}
+
+			attempts = new ArrayList<>(this.attempts);
+
+			if (attempts.isEmpty()) {
+				this.finish();
+				callback = this.callback;
+			}
+		}
+
+		// An attempt may fail right from its cancel(), so it's cancelled outside the lock.
+		attempts.forEach(Call::cancel);
+
+		if (callback != null) {
+			callback.onFailure(this, new IOException("Canceled"));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isCanceled() {
+		return this.isCanceled;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("MethodDoesntCallSuperMethod")
+	@Override
+	public Call<R> clone() {
+		return new KreedzRetryingCall<>(this.delegate.clone(), this.retrier);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Request request() {
+		return this.delegate.request();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Timeout timeout() {
+		return this.delegate.timeout();
+	}
+
+	/**
+	 * Enqueue an attempt and schedule its hedge if needed.
+	 *
+	 * <p>Must be called while holding the lock of this call.
+	 *
+	 * @param attempt	call to enqueue
+	 * @param isHedge	whether the attempt is a hedge
+	 */
+	private void launch(Call<R> attempt, boolean isHedge) {
+		this.attempts.add(attempt);
+
+		if (isHedge) {
+			this.hedge = attempt;
+		} else {
+			this.hedge = null;
+
+			Duration hedgeDelay = this.policy.getHedgeDelayOrNull();
+
+			if (hedgeDelay != null) {
+				this.scheduled = this.retrier.schedule(this::launchHedge, hedgeDelay.toNanos());
+			}
+		}
+
+		attempt.enqueue(new Callback<R>() {
+
+			@Override
+			public void onResponse(Call<R> call, Response<R> response) {
+				handle(call, response, null);
+			}
+
+			@Override
+			public void onFailure(Call<R> call, Throwable throwable) {
+				handle(call, null, throwable);
+			}
+		});
+	}
+
+	/**
+	 * Enqueue a hedge of the current round if it's still pending.
+	 */
+	private synchronized void launchHedge() {
+		if (this.isDone || this.isCanceled
+				|| this.hedge != null || this.attempts.isEmpty()) {
+			return;
+		}
+
+		this.retrier.onHedge();
+		this.launch(this.delegate.clone(), true);
+	}
+
+	/**
+	 * Enqueue a retry of the call.
+	 */
+	private synchronized void launchRetry() {
+		if (this.isDone || this.isCanceled) {
+			return;
+		}
+
+		this.retrier.onRetry();
+		this.launch(this.delegate.clone(), false);
+	}
+
+	/**
+	 * Handle an outcome of an attempt.
+	 *
+	 * @param attempt		attempt that has completed
+	 * @param response		response of the attempt, may be null
+	 * @param throwable		failure of the attempt, may be null
+	 */
+	private void handle(Call<R> attempt, Response<R> response, Throwable throwable) {
+		List<Call<R>> losers;
+		Callback<R> callback;
+
+		synchronized (this) {
+			if (this.isDone || !this.attempts.remove(attempt)) {
+				return;
+			}
+
+			// An open circuit fails fast, retrying would only spin against it.
+			boolean isRetryable = !this.isCanceled && (response != null
+					? UKreedzHttp.isOverloaded(response.code())
+					: throwable instanceof IOException && !(throwable instanceof KreedzCircuitOpenException));
+
+			if (isRetryable && !this.attempts.isEmpty()) {
+				return;
+			}
+
+			if (isRetryable && this.retryCount < this.policy.getMaxRetries()) {
+				this.retryCount++;
+				this.cancelScheduled();
+
+				Duration retryAfter = response != null
+						? UKreedzHttp.parseRetryAfterOrNull(response.headers().get(UKreedzHttp.RETRY_AFTER))
+						: null;
+
+				this.scheduled = this.retrier.schedule(this::launchRetry,
+						this.policy.getBackoffNanos(this.retryCount, retryAfter));
+
+				return;
+			}
+
+			if (this.hedge != null) {
+				this.retrier.onHedgeOutcome(attempt == this.hedge);
+			}
+
+			losers = new ArrayList<>(this.attempts);
+			this.finish();
+
+			callback = this.callback;
+		}
+
+		losers.forEach(Call::cancel);
+
+		if (response != null) {
+			callback.onResponse(this, response);
+		} else {
+			callback.onFailure(this, throwable);
+		}
+	}
+
+	/**
+	 * Mark this call as done and drop the pending work.
+	 *
+	 * <p>Must be called while holding the lock of this call.
+	 */
+	private void finish() {
+		this.isDone = true;
+		this.attempts.clear();
+		this.cancelScheduled();
+	}
+
+	/**
+	 * Cancel the scheduled hedge or retry, if any.
+	 *
+	 * <p>Must be called while holding the lock of this call.
+	 */
+	private void cancelScheduled() {
+		if (this.scheduled != null) {
+			this.scheduled.cancel(false);
+			this.scheduled = null;
+		}
+	}
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A kreedz split call.
+ *
+ * <p>Performs the calls of a query split into chunks concurrently
+ * and merges their results into one list, which is then sorted by
+ * the comparator, if any, and cut to the offset and limit. The first
+ * failure or non-successful response is delivered as the outcome
+ * and cancels the other calls.
+ *
+ * <p><b>For internal usage only.</b>
+ *
+ * @param <E>	element type
+ */
+public final class KreedzSplitCall<E> implements Call<List<E>> {
+
+	/**
+	 * A list of chunk calls.
+	 */
+	private final List<Call<List<E>>> calls;
+
+	/**
+	 * An offset of the merged result, may be null.
+	 */
+	private final Integer offset;
+
+	/**
+	 * A limit of the merged result, may be null.
+	 */
+	private final Integer limit;
+
+	/**
+	 * A comparator of the merged result, may be null.
+	 */
+	private final Comparator<? super E> comparator;
+
+	/**
+	 * An "isExecuted" flag.
+	 */
+	private final AtomicBoolean isExecuted;
+
+	/**
+	 * An "isCanceled" boolean value.
+	 */
+	private volatile boolean isCanceled;
+
+	/**
+	 * Initialize a {@link KreedzSplitCall} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param calls			list of chunk calls
+	 * @param offset		offset of the merged result, may be null
+	 * @param limit			limit of the merged result, may be null
+	 * @param comparator	comparator of the merged result, may be null to keep the chunk order
+	 */
+	public KreedzSplitCall(List<Call<List<E>>> calls, Integer offset, Integer limit, Comparator<? super E> comparator) {
+		if (calls == null || calls.isEmpty()) {
+			throw new IllegalArgumentException("Calls mustn't be <null> or empty");
+		}
+
+		this.calls = calls;
+		this.offset = offset;
+		this.limit = limit;
+		this.comparator = comparator;
+		this.isExecuted = new AtomicBoolean();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response<List<E>> execute() throws IOException {
+		this.markExecuted();
+
+		CompletableFuture<Response<List<E>>> future = this.start();
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			this.cancel();
+
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void enqueue(Callback<List<E>> callback) {
+		if (callback == null) {
+			throw new IllegalArgumentException("Callback mustn't be <null>");
+		}
+
+		this.markExecuted();
+
+		this.start().whenComplete((response, throwable) -> {
+			if (throwable != null) {
+				callback.onFailure(this, throwable);
+			} else {
+				callback.onResponse(this, response);
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isExecuted() {
+		return this.isExecuted.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void cancel() {
+		this.isCanceled = true;
+		this.calls.forEach(Call::cancel);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isCanceled() {
+		return this.isCanceled;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("MethodDoesntCallSuperMethod")
+	@Override
+	public Call<List<E>> clone() {
+		List<Call<List<E>>> calls = new ArrayList<>(this.calls.size());
+
+		for (Call<List<E>> call : this.calls) {
+			calls.add(call.clone());
+		}
+
+		return new KreedzSplitCall<>(calls, this.offset, this.limit, this.comparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Returns the request of the first chunk.
+	 */
+	@Override
+	public Request request() {
+		return this.calls.get(0).request();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Returns the timeout of the first chunk.
+	 */
+	@Override
+	public Timeout timeout() {
+		return this.calls.get(0).timeout();
+	}
+
+	/**
+	 * Mark this call as executed.
+	 */
+	private void markExecuted() {
+		if (!this.isExecuted.compareAndSet(false, true)) {
+			throw new IllegalStateException("Already executed");
+		}
+	}
+
+	/**
+	 * Enqueue all chunk calls.
+	 *
+	 * @return	future of the merged response
+	 */
+	private CompletableFuture<Response<List<E>>> start() {
+		CompletableFuture<Response<List<E>>> future = new CompletableFuture<>();
+
+		if (this.isCanceled) {
+			future.completeExceptionally(new IOException("Canceled"));
+			return future;
+		}
+
+		int size = this.calls.size();
+
+		List<Response<List<E>>> responses = new ArrayList<>(size);
+		AtomicInteger remaining = new AtomicInteger(size);
+
+		for (int i = 0; i < size; i++) {
+			responses.add(null);
+		}
+
+		for (int i = 0; i < size; i++) {
+			int index = i;
+
+			this.calls.get(i).enqueue(new Callback<List<E>>() {
+
+				@Override
+				public void onResponse(Call<List<E>> call, Response<List<E>> response) {
+					if (!response.isSuccessful()) {
+						if (future.complete(response)) {
+							cancelCalls();
+						}
+
+						return;
+					}
+
+					synchronized (responses) {
+						responses.set(index, response);
+					}
+
+					if (remaining.decrementAndGet() == 0) {
+						complete(future, responses);
+					}
+				}
+
+				@Override
+				public void onFailure(Call<List<E>> call, Throwable throwable) {
+					if (future.completeExceptionally(throwable)) {
+						cancelCalls();
+					}
+				}
+			});
+		}
+
+		return future;
+	}
+
+	/**
+	 * Complete the provided future w/ the merged responses.
+	 *
+	 * @param future		future to complete
+	 * @param responses		successful responses of all chunks
+	 */
+	private void complete(CompletableFuture<Response<List<E>>> future, List<Response<List<E>>> responses) {
+		List<E> merged = new ArrayList<>();
+		Response<List<E>> first;
+
+		synchronized (responses) {
+			first = responses.get(0);
+
+			for (Response<List<E>> response : responses) {
+				List<E> body = response.body();
+
+				if (body != null) {
+					merged.addAll(body);
+				}
+			}
+		}
+
+		if (this.comparator != null) {
+			// A stable sort, so the chunks' own order breaks the ties.
+			merged.sort(this.comparator);
+		}
+
+		int size = merged.size();
+		int from = this.offset != null
+				? Math.min(size, Math.max(0, this.offset))
+				: 0;
+		int to = this.limit != null
+				? (int) Math.min(size, (long) from + Math.max(0, this.limit))
+				: size;
+
+		try {
+			future.complete(Response.success(new ArrayList<>(merged.subList(from, to)), first.raw()));
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Cancel all chunk calls w/o marking this call as canceled.
+	 */
+	private void cancelCalls() {
+		this.calls.forEach(Call::cancel);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.clientapi.MethodVersionTable;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.annotations.MethodVersion;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * A kreedz version call adapter factory.
+ *
+ * <p>Rejects the service methods unsupported by the client version
+ * on the caller thread, as soon as they're invoked. Retrofit resolves
+ * the call adapter once per method, so supported methods are left
+ * to the next call adapter factory at no cost per call, and unsupported
+ * ones throw before any OkHttp request or call is created, let alone
+ * dispatched. Must be the first call adapter factory.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class KreedzVersionCallAdapterFactory extends CallAdapter.Factory {
+
+	/**
+	 * A method API version table.
+	 */
+	private final MethodVersionTable versionTable;
+
+	/**
+	 * Initialize a {@link KreedzVersionCallAdapterFactory} instance.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param versionTable	method API version table
+	 */
+	public KreedzVersionCallAdapterFactory(MethodVersionTable versionTable) {
+		if (versionTable == null) {
+			throw new IllegalArgumentException("Version table mustn't be <null>");
+		}
+
+		this.versionTable = versionTable;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+		MethodVersion annotation = findMethodVersionOrNull(annotations);
+
+		if (this.versionTable.isSupported(annotation)) {
+			return null;
+		}
+
+		MethodVersionTable versionTable = this.versionTable;
+		CallAdapter<?, ?> delegate = retrofit.nextCallAdapter(this, returnType, annotations);
+
+		return new CallAdapter<Object, Object>() {
+
+			@Override
+			public Type responseType() {
+				return delegate.responseType();
+			}
+
+			@Override
+			public Object adapt(Call<Object> call) {
+				throw versionTable.newUnsupportedException(annotation);
+			}
+		};
+	}
+
+	/**
+	 * Find a method API version annotation in the provided
+	 * method annotations or return {@code null} if none.
+	 *
+	 * @param annotations	method annotations
+	 * @return				method API version annotation or {@code null}
+	 */
+	private static MethodVersion findMethodVersionOrNull(Annotation[] annotations) {
+		for (Annotation annotation : annotations) {
+			if (annotation instanceof MethodVersion) {
+				return (MethodVersion) annotation;
+			}
+		}
+
+		return null;
+	}
+}
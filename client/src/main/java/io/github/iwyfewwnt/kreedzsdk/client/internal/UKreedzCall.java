@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * A kreedz call utilities.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class UKreedzCall {
+
+	/**
+	 * A set of unmodifiable view classes of the collections.
+	 */
+	private static final Set<Class<?>> UNMODIFIABLE_CLASSES = initUnmodifiableClasses();
+
+	/**
+	 * Enqueue the provided call and bind its result to a future.
+	 *
+	 * <p>The call is performed by the OkHttp dispatcher, so no caller
+	 * thread is blocked. Cancelling the returned future cancels the call.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param call		call to enqueue
+	 * @param executor	executor to complete the future on, may be null
+	 * @param <R>		response type
+	 * @return			future of the response body
+	 */
+	public static <R> CompletableFuture<R> enqueue(Call<R> call, Executor executor) {
+		CompletableFuture<R> future = new CompletableFuture<>();
+
+		if (call == null) {
+			future.completeExceptionally(new NullPointerException("Call mustn't be <null>"));
+			return future;
+		}
+
+		future.whenComplete((unused, throwable) -> {
+			if (future.isCancelled()) {
+				call.cancel();
+			}
+		});
+
+		call.enqueue(new Callback<R>() {
+
+			@Override
+			public void onResponse(Call<R> call, Response<R> response) {
+				if (response.isSuccessful()) {
+					complete(future, executor, response.body(), null);
+				} else {
+					complete(future, executor, null, new HttpException(response));
+				}
+			}
+
+			@Override
+			public void onFailure(Call<R> call, Throwable throwable) {
+				complete(future, executor, null, throwable);
+			}
+		});
+
+		return future;
+	}
+
+	/**
+	 * Create a call by the provided supplier, enqueue it
+	 * and bind its result to a future.
+	 *
+	 * <p>Wraps {@link #enqueue(Call, Executor)}, any runtime exception
+	 * thrown by the supplier completes the future exceptionally.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param callSupplier	supplier of the call to enqueue
+	 * @param executor		executor to complete the future on, may be null
+	 * @param <R>			response type
+	 * @return				future of the response body
+	 */
+	public static <R> CompletableFuture<R> enqueue(Supplier<Call<R>> callSupplier, Executor executor) {
+		Call<R> call;
+
+		try {
+			call = callSupplier.get();
+		} catch (RuntimeException e) {
+			CompletableFuture<R> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+
+			return future;
+		}
+
+		return enqueue(call, executor);
+	}
+
+	/**
+	 * Execute the provided call synchronously
+	 * or return {@code null} if failed.
+	 *
+	 * <p>A non-successful HTTP response yields {@code null},
+	 * a thrown exception is also stored into the first
+	 * element of the provided array if there is one.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param call			call to execute
+	 * @param throwables	array to store a thrown exception into, may be null
+	 * @param <R>			response type
+	 * @return				response body or {@code null}
+	 */
+	public static <R> R executeOrNull(Call<R> call, Throwable[] throwables) {
+		if (call == null) {
+			return null;
+		}
+
+		try {
+			Response<R> response = call.execute();
+
+			if (!response.isSuccessful()) {
+				return null;
+			}
+
+			return response.body();
+		} catch (IOException | RuntimeException e) {
+			if (throwables != null && throwables.length > 0) {
+				throwables[0] = e;
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * Convert the provided successful response to
+	 * one w/ an unmodifiable view of its body.
+	 *
+	 * <p>Entities are immutable, so only a collection body
+	 * is wrapped, anything else, or a body that already is
+	 * an unmodifiable view, is returned as is.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param response	successful response to convert
+	 * @param <R>		response type
+	 * @return			response w/ an unmodifiable body
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> Response<R> toUnmodifiable(Response<R> response) {
+		Object body = response.body();
+
+		if (body == null || UNMODIFIABLE_CLASSES.contains(body.getClass())) {
+			return response;
+		}
+
+		if (body instanceof List) {
+			body = Collections.unmodifiableList((List<?>) body);
+		} else if (body instanceof Set) {
+			body = Collections.unmodifiableSet((Set<?>) body);
+		} else if (body instanceof Map) {
+			body = Collections.unmodifiableMap((Map<?, ?>) body);
+		} else {
+			return response;
+		}
+
+		return Response.success((R) body, response.raw());
+	}
+
+	/**
+	 * Complete the provided future w/ a value or a throwable.
+	 *
+	 * @param future		future to complete
+	 * @param executor		executor to complete the future on, may be null
+	 * @param value			value to complete w/
+	 * @param throwable		throwable to complete w/, may be null
+	 * @param <R>			value type
+	 */
+	private static <R> void complete(CompletableFuture<R> future, Executor executor, R value, Throwable throwable) {
+		Runnable runnable = () -> {
+			if (throwable != null) {
+				future.completeExceptionally(throwable);
+			} else {
+				future.complete(value);
+			}
+		};
+
+		if (executor == null) {
+			runnable.run();
+			return;
+		}
+
+		try {
+			executor.execute(runnable);
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Initialize a set of unmodifiable view classes of the collections.
+	 *
+	 * @return	unmodifiable set of unmodifiable view classes
+	 */
+	private static Set<Class<?>> initUnmodifiableClasses() {
+		Set<Class<?>> result = new HashSet<>(4);
+
+		result.add(Collections.unmodifiableList(new ArrayList<>()).getClass());
+		result.add(Collections.unmodifiableList(new LinkedList<>()).getClass());
+		result.add(Collections.unmodifiableSet(new HashSet<>()).getClass());
+		result.add(Collections.unmodifiableMap(new HashMap<>()).getClass());
+
+		return Collections.unmodifiableSet(result);
+	}
+
+	private UKreedzCall() {
+		throw new UnsupportedOperationException();
+	}
+}
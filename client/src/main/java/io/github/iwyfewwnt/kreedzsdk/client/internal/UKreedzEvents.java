@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+/**
+ * A kreedz event utilities.
+ *
+ * <p>Emits Java Flight Recorder events of the SDK activity. This is
+ * the Java 8 variant that does nothing, the multi-release jar
+ * replaces it on Java 11+ w/ one that commits JFR events.
+ *
+ * <p>A duration event is begun by a {@code begin*OrNull} method,
+ * which returns {@code null} if the event isn't recorded, and is
+ * committed by the matching {@code commit*} method.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class UKreedzEvents {
+
+	/**
+	 * Check if events are supported by this runtime.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @return	boolean value
+	 */
+	public static boolean isSupported() {
+		return false;
+	}
+
+	/**
+	 * Begin an API call event or return {@code null} if it isn't recorded.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @return	event or {@code null}
+	 */
+	public static Object beginApiCallOrNull() {
+		return null;
+	}
+
+	/**
+	 * Commit the provided API call event.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param event			event, may be null
+	 * @param endpoint		endpoint, may be null
+	 * @param status		HTTP code or {@code 0} if failed w/o a response
+	 * @param byteCount		number of response body bytes
+	 */
+	public static void commitApiCall(Object event, String endpoint, int status, long byteCount) {
+	}
+
+	/**
+	 * Begin a deserialization event or return {@code null} if it isn't recorded.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @return	event or {@code null}
+	 */
+	public static Object beginDeserializationOrNull() {
+		return null;
+	}
+
+	/**
+	 * Commit the provided deserialization event.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param event			event, may be null
+	 * @param endpoint		endpoint, may be null
+	 * @param entityType	name of the deserialized type
+	 * @param count			number of deserialized entities
+	 */
+	public static void commitDeserialization(Object event, String endpoint, String entityType, int count) {
+	}
+
+	/**
+	 * Begin a page event or return {@code null} if it isn't recorded.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @return	event or {@code null}
+	 */
+	public static Object beginPageOrNull() {
+		return null;
+	}
+
+	/**
+	 * Commit the provided page event.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param event		event, may be null
+	 * @param offset	offset of the page
+	 * @param limit		number of entities per page
+	 * @param count		number of received entities or {@code -1} if failed
+	 */
+	public static void commitPage(Object event, int offset, int limit, int count) {
+	}
+
+	/**
+	 * Commit a cache lookup event.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param endpoint	endpoint, may be null
+	 * @param isHit		whether a response was found
+	 * @param isStale	whether the found response is expired
+	 */
+	public static void commitCacheLookup(String endpoint, boolean isHit, boolean isStale) {
+	}
+
+	private UKreedzEvents() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import okhttp3.Request;
+import retrofit2.Invocation;
+import retrofit2.http.GET;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * A kreedz HTTP utilities.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class UKreedzHttp {
+
+	/**
+	 * A "Too Many Requests" status code.
+	 */
+	public static final int TOO_MANY_REQUESTS = 429;
+
+	/**
+	 * A "Retry-After" header name.
+	 */
+	public static final String RETRY_AFTER = "Retry-After";
+
+	/**
+	 * Check if the provided status code signals an overloaded server.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param code	HTTP status code
+	 * @return		boolean value as a result
+	 */
+	public static boolean isOverloaded(int code) {
+		return code == TOO_MANY_REQUESTS || code >= 500;
+	}
+
+	/**
+	 * Parse a "Retry-After" header value
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Accepts both a number of seconds and an HTTP date,
+	 * a date in the past yields a zero duration.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param value		header value, may be null
+	 * @return			delay or {@code null}
+	 */
+	public static Duration parseRetryAfterOrNull(String value) {
+		if (value == null) {
+			return null;
+		}
+
+		value = value.trim();
+
+		if (value.isEmpty()) {
+			return null;
+		}
+
+		if (Character.isDigit(value.charAt(0))) {
+			try {
+				return Duration.ofSeconds(Long.parseLong(value));
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		try {
+			Duration delay = Duration.between(ZonedDateTime.now(),
+					ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+
+			return delay.isNegative()
+					? Duration.ZERO
+					: delay;
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Find a relative URL template of the {@link GET} annotation
+	 * or return {@code null} if none.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param annotations	array of method annotations
+	 * @return				relative URL template or {@code null}
+	 */
+	public static String findEndpointOrNull(Annotation[] annotations) {
+		if (annotations == null) {
+			return null;
+		}
+
+		for (Annotation annotation : annotations) {
+			if (annotation instanceof GET) {
+				return ((GET) annotation).value();
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Find a relative URL template of the service method
+	 * of the provided request or return {@code null} if none.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param request	request to take the {@link Invocation} tag of
+	 * @return			relative URL template or {@code null}
+	 */
+	public static String findEndpointOrNull(Request request) {
+		Invocation invocation = request != null
+				? request.tag(Invocation.class)
+				: null;
+
+		if (invocation == null) {
+			return null;
+		}
+
+		Method method = invocation.method();
+		GET annotation = method != null
+				? method.getAnnotation(GET.class)
+				: null;
+
+		if (annotation == null) {
+			return null;
+		}
+
+		return annotation.value();
+	}
+
+	private UKreedzHttp() {
+		throw new UnsupportedOperationException();
+	}
+}
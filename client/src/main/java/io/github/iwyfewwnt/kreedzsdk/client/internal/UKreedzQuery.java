@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import retrofit2.Call;
+
+import java.util.*;
+
+/**
+ * A kreedz query utilities.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class UKreedzQuery {
+
+	/**
+	 * A maximum length of the set parameters of a query.
+	 *
+	 * <p>Leaves room for the base URL and the other parameters
+	 * within the usual 8 KiB limit of a request line.
+	 */
+	public static final int MAX_QUERY_LENGTH = 4096;
+
+	/**
+	 * A query call factory.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param <T>	set element type
+	 * @param <E>	result element type
+	 */
+	@FunctionalInterface
+	public interface CallFactory<T, E> {
+
+		/**
+		 * Create a call of the query w/ the provided set and page bounds.
+		 *
+		 * @param values	set of parameter values, may be null
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @return			call
+		 */
+		Call<List<E>> create(Set<T> values, Integer offset, Integer limit);
+	}
+
+	/**
+	 * Get a length of the provided set parameter in a query.
+	 *
+	 * <p>A set is serialized as a repeated {@code name=value&} pair.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param name		parameter name
+	 * @param values	set of parameter values, may be null
+	 * @return			length of the parameter
+	 */
+	public static int lengthOf(String name, Set<?> values) {
+		if (values == null) {
+			return 0;
+		}
+
+		long length = 0L;
+
+		for (Object value : values) {
+			length += valueLengthOf(name, value);
+		}
+
+		return (int) Math.min(Integer.MAX_VALUE, length);
+	}
+
+	/**
+	 * Partition the provided set into chunks of a bounded query length
+	 * or return {@code null} if it fits as a whole.
+	 *
+	 * <p>Keeps the iteration order of the set,
+	 * a value too long on its own makes a chunk of its own.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param name			parameter name
+	 * @param values		set of parameter values, may be null
+	 * @param maxLength		maximum length of a chunk
+	 * @param <T>			set element type
+	 * @return				list of chunks or {@code null}
+	 */
+	public static <T> List<Set<T>> partitionOrNull(String name, Set<T> values, int maxLength) {
+		if (values == null || lengthOf(name, values) <= maxLength) {
+			return null;
+		}
+
+		List<Set<T>> chunks = new ArrayList<>();
+
+		Set<T> chunk = new LinkedHashSet<>();
+		int chunkLength = 0;
+
+		for (T value : values) {
+			int length = valueLengthOf(name, value);
+
+			if (!chunk.isEmpty() && chunkLength + length > maxLength) {
+				chunks.add(Collections.unmodifiableSet(chunk));
+
+				chunk = new LinkedHashSet<>();
+				chunkLength = 0;
+			}
+
+			chunk.add(value);
+			chunkLength += length;
+		}
+
+		chunks.add(Collections.unmodifiableSet(chunk));
+
+		return chunks;
+	}
+
+	/**
+	 * Create a call of the query, split by the provided set
+	 * parameter if it exceeds the maximum length.
+	 *
+	 * <p>Each chunk is called from the start up to the end of the
+	 * requested page, so the merged result can be sorted & cut to
+	 * the page. W/o a limit each chunk is bounded by the API default
+	 * one, so the merged result holds up to that many entities per chunk.
+	 *
+	 * <p>A page of {@link io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages}
+	 * w/o a comparator calls each chunk at the page offset instead & isn't cut,
+	 * so it holds up to a limit of entities per chunk and is short only once
+	 * every chunk is exhausted. W/ a comparator the chunks are still called
+	 * from the start, as the order spans all of them, so paging through
+	 * a sorted split query re-fetches the preceding pages of every chunk,
+	 * i.e. it's quadratic in the number of pages.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param name			parameter name
+	 * @param values		set of parameter values, may be null
+	 * @param maxLength		maximum length of the parameter
+	 * @param offset		offset, may be null
+	 * @param limit			limit, may be null
+	 * @param isPage		whether the call is a page of a page sequence
+	 * @param comparator	order of the results, may be null to keep the chunk order
+	 * @param callFactory	factory of the calls
+	 * @param <T>			set element type
+	 * @param <E>			result element type
+	 * @return				call
+	 */
+	public static <T, E> Call<List<E>> split(String name, Set<T> values, int maxLength,
+											 Integer offset, Integer limit, boolean isPage,
+											 Comparator<? super E> comparator, CallFactory<T, E> callFactory) {
+		List<Set<T>> chunks = partitionOrNull(name, values, maxLength);
+
+		if (chunks == null) {
+			return callFactory.create(values, offset, limit);
+		}
+
+		List<Call<List<E>>> calls = new ArrayList<>(chunks.size());
+
+		if (isPage && comparator == null) {
+			for (Set<T> chunk : chunks) {
+				calls.add(callFactory.create(chunk, offset, limit));
+			}
+
+			return new KreedzSplitCall<>(calls, null, null, null);
+		}
+
+		Integer chunkOffset = offset != null
+				? 0
+				: null;
+
+		Integer chunkLimit = limit != null
+				? (int) Math.min(Integer.MAX_VALUE, (long) (offset != null ? offset : 0) + limit)
+				: null;
+
+		for (Set<T> chunk : chunks) {
+			calls.add(callFactory.create(chunk, chunkOffset, chunkLimit));
+		}
+
+		return new KreedzSplitCall<>(calls, offset, limit, comparator);
+	}
+
+	/**
+	 * Get a length of the provided parameter value in a query.
+	 *
+	 * @param name		parameter name
+	 * @param value		parameter value
+	 * @return			length of the value
+	 */
+	private static int valueLengthOf(String name, Object value) {
+		return name.length() + String.valueOf(value).length() + 2;
+	}
+
+	private UKreedzQuery() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A kreedz SPI utilities.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class UKreedzSpi {
+
+	/**
+	 * An SPI configuration file prefix.
+	 */
+	private static final String PREFIX = "META-INF/services/";
+
+	/**
+	 * Find SPI implementation classes except the provided ones.
+	 *
+	 * <p>Reads the provider-configuration files directly,
+	 * so excluded implementations are never loaded.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param iClass			SPI interface class
+	 * @param excludedNames		set of binary class names to skip
+	 * @param <U>				SPI interface type
+	 * @return					list of implementation classes or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <U> List<Class<? extends U>> findSpiTypesOrNull(Class<U> iClass, Set<String> excludedNames) {
+		if (iClass == null) {
+			return null;
+		}
+
+		ClassLoader classLoader = Thread.currentThread()
+				.getContextClassLoader();
+
+		if (classLoader == null) {
+			classLoader = iClass.getClassLoader();
+		}
+
+		Set<String> names = new LinkedHashSet<>();
+
+		try {
+			Enumeration<URL> urls = classLoader.getResources(PREFIX + iClass.getName());
+
+			while (urls.hasMoreElements()) {
+				readNames(urls.nextElement(), names);
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+
+		if (excludedNames != null) {
+			names.removeAll(excludedNames);
+		}
+
+		List<Class<? extends U>> result = new ArrayList<>(names.size());
+
+		for (String name : names) {
+			try {
+				Class<?> clazz = Class.forName(name, false, classLoader);
+
+				if (iClass.isAssignableFrom(clazz)) {
+					result.add((Class<? extends U>) clazz);
+				}
+			} catch (LinkageError e) {
+				e.printStackTrace();
+			} catch (ClassNotFoundException ignored) {
+			}
+		}
+
+		if (result.isEmpty()) {
+			return null;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Read class names from a provider-configuration file.
+	 *
+	 * @param url		provider-configuration file URL
+	 * @param names		set of class names to fill
+	 * @throws IOException	if an I/O error occurs
+	 */
+	private static void readNames(URL url, Set<String> names) throws IOException {
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+			String line;
+
+			while ((line = reader.readLine()) != null) {
+				int index = line.indexOf('#');
+
+				if (index >= 0) {
+					line = line.substring(0, index);
+				}
+
+				line = line.trim();
+
+				if (!line.isEmpty()) {
+					names.add(line);
+				}
+			}
+		}
+	}
+
+	private UKreedzSpi() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A kreedz histogram.
+ *
+ * <p>Counts non-negative values in log-linear buckets, HDR-style:
+ * each power of two is split into 32 equal buckets, so a percentile
+ * is reported w/ a relative error of about 3%. Values above
+ * {@link #MAX_VALUE} are counted as that.
+ *
+ * <p>Recording is lock-free and may run concurrently w/ snapshots.
+ */
+public final class KreedzHistogram {
+
+	/**
+	 * A maximum value to tell apart.
+	 */
+	public static final long MAX_VALUE = (1L << 40) - 1;
+
+	/**
+	 * A number of bits of a bucket within its power of two.
+	 */
+	private static final int SUB_BUCKET_BITS = 5;
+
+	/**
+	 * A number of buckets within a power of two.
+	 */
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * A number of buckets.
+	 */
+	private static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+
+	/**
+	 * An array of counts by bucket.
+	 */
+	private final AtomicLongArray counts;
+
+	/**
+	 * A sum of the recorded values.
+	 */
+	private final LongAdder sum;
+
+	/**
+	 * Initialize a {@link KreedzHistogram} instance.
+	 */
+	public KreedzHistogram() {
+		this.counts = new AtomicLongArray(BUCKET_COUNT);
+		this.sum = new LongAdder();
+	}
+
+	/**
+	 * Record the provided value.
+	 *
+	 * @param value		value to record, negative ones are counted as zero
+	 */
+	public void record(long value) {
+		value = Math.max(0L, Math.min(MAX_VALUE, value));
+
+		this.counts.incrementAndGet(indexOf(value));
+		this.sum.add(value);
+	}
+
+	/**
+	 * Take a snapshot of this histogram.
+	 *
+	 * @return	snapshot
+	 */
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKET_COUNT];
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = this.counts.get(i);
+		}
+
+		return new Snapshot(counts, this.sum.sum());
+	}
+
+	/**
+	 * Take a snapshot of this histogram and reset it.
+	 *
+	 * <p>Values recorded meanwhile land
+	 * in either this snapshot or the next one.
+	 *
+	 * @return	snapshot
+	 */
+	public Snapshot snapshotAndReset() {
+		long[] counts = new long[BUCKET_COUNT];
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = this.counts.getAndSet(i, 0L);
+		}
+
+		return new Snapshot(counts, this.sum.sumThenReset());
+	}
+
+	/**
+	 * Get a bucket index of the provided value.
+	 *
+	 * @param value		non-negative value
+	 * @return			bucket index
+	 */
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+
+		return SUB_BUCKET_COUNT * (shift + 1) + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+	}
+
+	/**
+	 * Get a highest value of the provided bucket.
+	 *
+	 * @param index		bucket index
+	 * @return			highest value of the bucket
+	 */
+	private static long highestValueOf(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+
+		return lowest + (1L << shift) - 1;
+	}
+
+	/**
+	 * An immutable snapshot of a {@link KreedzHistogram}.
+	 */
+	public static final class Snapshot {
+
+		/**
+		 * An array of counts by bucket.
+		 */
+		private final long[] counts;
+
+		/**
+		 * A number of the recorded values.
+		 */
+		private final long count;
+
+		/**
+		 * A sum of the recorded values.
+		 */
+		private final long sum;
+
+		/**
+		 * Initialize a {@link Snapshot} instance.
+		 *
+		 * @param counts	array of counts by bucket
+		 * @param sum		sum of the recorded values
+		 */
+		private Snapshot(long[] counts, long sum) {
+			long count = 0L;
+
+			for (long bucketCount : counts) {
+				count += bucketCount;
+			}
+
+			this.counts = counts;
+			this.count = count;
+			this.sum = sum;
+		}
+
+		/**
+		 * Get this number of the recorded values.
+		 *
+		 * @return	number of values
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Get this mean of the recorded values.
+		 *
+		 * @return	mean, zero if none
+		 */
+		public double getMean() {
+			if (this.count == 0L) {
+				return 0.0d;
+			}
+
+			return (double) this.sum / this.count;
+		}
+
+		/**
+		 * Get this maximum of the recorded values.
+		 *
+		 * @return	highest value of the highest bucket, zero if none
+		 */
+		public long getMax() {
+			for (int i = this.counts.length - 1; i >= 0; i--) {
+				if (this.counts[i] > 0L) {
+					return highestValueOf(i);
+				}
+			}
+
+			return 0L;
+		}
+
+		/**
+		 * Get a value at the provided percentile.
+		 *
+		 * @param percentile	percentile in [0, 100]
+		 * @return				highest value of the bucket at the percentile, zero if none
+		 */
+		public long getValueAtPercentile(double percentile) {
+			if (!(percentile >= 0.0d && percentile <= 100.0d)) {
+				throw new IllegalArgumentException("Percentile must be in [0, 100]");
+			}
+
+			if (this.count == 0L) {
+				return 0L;
+			}
+
+			long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0d * this.count));
+			long seen = 0L;
+
+			for (int i = 0; i < this.counts.length; i++) {
+				seen += this.counts[i];
+
+				if (seen >= rank) {
+					return highestValueOf(i);
+				}
+			}
+
+			return this.getMax();
+		}
+
+		/**
+		 * Get a median of the recorded values.
+		 *
+		 * <p>Wraps {@link #getValueAtPercentile(double)}.
+		 *
+		 * @return	value at the 50th percentile
+		 */
+		public long getP50() {
+			return this.getValueAtPercentile(50.0d);
+		}
+
+		/**
+		 * Get a value at the 99th percentile.
+		 *
+		 * <p>Wraps {@link #getValueAtPercentile(double)}.
+		 *
+		 * @return	value at the 99th percentile
+		 */
+		public long getP99() {
+			return this.getValueAtPercentile(99.0d);
+		}
+
+		/**
+		 * Get a value at the 99.9th percentile.
+		 *
+		 * <p>Wraps {@link #getValueAtPercentile(double)}.
+		 *
+		 * @return	value at the 99.9th percentile
+		 */
+		public long getP999() {
+			return this.getValueAtPercentile(99.9d);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			return this.getClass().getSimpleName()
+					+ "[count=" + this.count
+					+ ", mean=" + this.getMean()
+					+ ", p50=" + this.getP50()
+					+ ", p99=" + this.getP99()
+					+ ", p999=" + this.getP999()
+					+ ", max=" + this.getMax()
+					+ "]";
+		}
+	}
+}
@@ -0,0 +1,447 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.metrics;
+
+import io.github.iwyfewwnt.kreedzsdk.client.internal.KreedzCountingResponseBody;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzHttp;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.internal.UKreedzMap;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A kreedz metrics.
+ *
+ * <p>Instruments each HTTP exchange and aggregates it per endpoint,
+ * which is the {@code GET} path template of the service method,
+ * e.g. {@code records/top}, so it stays bounded by the API surface.
+ *
+ * <p>Per endpoint it counts requests, failures, status classes and
+ * in-flight requests, and records {@link KreedzHistogram}s of:
+ * <ul>
+ *     <li>network time in nanoseconds, until the response headers</li>
+ *     <li>deserialization time in nanoseconds, incl. body streaming</li>
+ *     <li>response body size in bytes</li>
+ * </ul>
+ *
+ * <p>Recording is lock-free, snapshots may be taken at any time.
+ */
+public final class KreedzMetrics implements Interceptor {
+
+	/**
+	 * An endpoint of requests w/o a service method.
+	 */
+	public static final String UNKNOWN_ENDPOINT = "<unknown>";
+
+	/**
+	 * A map of recorders by endpoint.
+	 */
+	private final ConcurrentMap<String, Recorder> recorders;
+
+	/**
+	 * Initialize a {@link KreedzMetrics} instance.
+	 */
+	public KreedzMetrics() {
+		this.recorders = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		Recorder recorder = this.recorderOf(UKreedzHttp.findEndpointOrNull(request));
+
+		recorder.requestCount.increment();
+		recorder.inFlightCount.increment();
+
+		long startNanos = System.nanoTime();
+		Response response;
+
+		try {
+			response = chain.proceed(request);
+		} catch (IOException | RuntimeException e) {
+			recorder.failureCount.increment();
+			recorder.inFlightCount.decrement();
+			throw e;
+		}
+
+		recorder.networkNanos.record(System.nanoTime() - startNanos);
+		recorder.statusCounts[statusClassOf(response.code())].increment();
+
+		ResponseBody body = response.body();
+
+		if (body == null) {
+			recorder.inFlightCount.decrement();
+			return response;
+		}
+
+		return response.newBuilder()
+				.body(new KreedzCountingResponseBody(body, byteCount -> {
+					recorder.responseBytes.record(byteCount);
+					recorder.inFlightCount.decrement();
+				}))
+				.build();
+	}
+
+	/**
+	 * Record a deserialization time of the provided endpoint.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param endpoint	endpoint, may be null
+	 * @param nanos		deserialization time in nanoseconds
+	 */
+	public void recordDeserialization(String endpoint, long nanos) {
+		this.recorderOf(endpoint).deserializationNanos.record(nanos);
+	}
+
+	/**
+	 * Take a snapshot of these metrics.
+	 *
+	 * @return	unmodifiable map of snapshots by endpoint
+	 */
+	public Map<String, EndpointSnapshot> snapshot() {
+		return this.snapshot(false);
+	}
+
+	/**
+	 * Take a snapshot of these metrics and reset them.
+	 *
+	 * <p>In-flight counts are gauges, so they are kept.
+	 *
+	 * @return	unmodifiable map of snapshots by endpoint
+	 */
+	public Map<String, EndpointSnapshot> snapshotAndReset() {
+		return this.snapshot(true);
+	}
+
+	/**
+	 * Take a snapshot of these metrics.
+	 *
+	 * @param isReset	whether to reset them
+	 * @return			unmodifiable map of snapshots by endpoint
+	 */
+	private Map<String, EndpointSnapshot> snapshot(boolean isReset) {
+		Map<String, EndpointSnapshot> snapshots = new TreeMap<>();
+
+		for (Map.Entry<String, Recorder> entry : this.recorders.entrySet()) {
+			snapshots.put(entry.getKey(), entry.getValue().snapshot(entry.getKey(), isReset));
+		}
+
+		return Collections.unmodifiableMap(snapshots);
+	}
+
+	/**
+	 * Get a recorder of the provided endpoint.
+	 *
+	 * @param endpoint	endpoint, may be null
+	 * @return			recorder of the endpoint
+	 */
+	private Recorder recorderOf(String endpoint) {
+		if (endpoint == null) {
+			endpoint = UNKNOWN_ENDPOINT;
+		}
+
+		return UKreedzMap.computeIfAbsent(this.recorders, endpoint, unused -> new Recorder());
+	}
+
+	/**
+	 * Get a status class index of the provided HTTP code.
+	 *
+	 * @param code	HTTP code
+	 * @return		index of 1xx to 5xx, others count as 5xx
+	 */
+	private static int statusClassOf(int code) {
+		int index = code / 100 - 1;
+
+		if (index < 0 || index >= EndpointSnapshot.STATUS_CLASS_COUNT) {
+			return EndpointSnapshot.STATUS_CLASS_COUNT - 1;
+		}
+
+		return index;
+	}
+
+	/**
+	 * A recorder of an endpoint.
+	 */
+	private static final class Recorder {
+
+		/**
+		 * A number of requests.
+		 */
+		private final LongAdder requestCount;
+
+		/**
+		 * A number of requests failed w/o a response.
+		 */
+		private final LongAdder failureCount;
+
+		/**
+		 * A number of requests in flight.
+		 */
+		private final LongAdder inFlightCount;
+
+		/**
+		 * An array of response counts by status class.
+		 */
+		private final LongAdder[] statusCounts;
+
+		/**
+		 * A histogram of network times in nanoseconds.
+		 */
+		private final KreedzHistogram networkNanos;
+
+		/**
+		 * A histogram of deserialization times in nanoseconds.
+		 */
+		private final KreedzHistogram deserializationNanos;
+
+		/**
+		 * A histogram of response body sizes in bytes.
+		 */
+		private final KreedzHistogram responseBytes;
+
+		/**
+		 * Initialize a {@link Recorder} instance.
+		 */
+		private Recorder() {
+			this.requestCount = new LongAdder();
+			this.failureCount = new LongAdder();
+			this.inFlightCount = new LongAdder();
+			this.statusCounts = new LongAdder[EndpointSnapshot.STATUS_CLASS_COUNT];
+			this.networkNanos = new KreedzHistogram();
+			this.deserializationNanos = new KreedzHistogram();
+			this.responseBytes = new KreedzHistogram();
+
+			for (int i = 0; i < this.statusCounts.length; i++) {
+				this.statusCounts[i] = new LongAdder();
+			}
+		}
+
+		/**
+		 * Take a snapshot of this recorder.
+		 *
+		 * @param endpoint	endpoint of this recorder
+		 * @param isReset	whether to reset it
+		 * @return			snapshot
+		 */
+		private EndpointSnapshot snapshot(String endpoint, boolean isReset) {
+			long[] statusCounts = new long[this.statusCounts.length];
+
+			for (int i = 0; i < statusCounts.length; i++) {
+				statusCounts[i] = isReset
+						? this.statusCounts[i].sumThenReset()
+						: this.statusCounts[i].sum();
+			}
+
+			return new EndpointSnapshot(endpoint,
+					isReset ? this.requestCount.sumThenReset() : this.requestCount.sum(),
+					isReset ? this.failureCount.sumThenReset() : this.failureCount.sum(),
+					this.inFlightCount.sum(),
+					statusCounts,
+					isReset ? this.networkNanos.snapshotAndReset() : this.networkNanos.snapshot(),
+					isReset ? this.deserializationNanos.snapshotAndReset() : this.deserializationNanos.snapshot(),
+					isReset ? this.responseBytes.snapshotAndReset() : this.responseBytes.snapshot());
+		}
+	}
+
+	/**
+	 * An immutable snapshot of an endpoint.
+	 */
+	public static final class EndpointSnapshot {
+
+		/**
+		 * A number of status classes, 1xx to 5xx.
+		 */
+		public static final int STATUS_CLASS_COUNT = 5;
+
+		/**
+		 * An endpoint.
+		 */
+		private final String endpoint;
+
+		/**
+		 * A number of requests.
+		 */
+		private final long requestCount;
+
+		/**
+		 * A number of requests failed w/o a response.
+		 */
+		private final long failureCount;
+
+		/**
+		 * A number of requests in flight.
+		 */
+		private final long inFlightCount;
+
+		/**
+		 * An array of response counts by status class.
+		 */
+		private final long[] statusCounts;
+
+		/**
+		 * A snapshot of network times in nanoseconds.
+		 */
+		private final KreedzHistogram.Snapshot networkNanos;
+
+		/**
+		 * A snapshot of deserialization times in nanoseconds.
+		 */
+		private final KreedzHistogram.Snapshot deserializationNanos;
+
+		/**
+		 * A snapshot of response body sizes in bytes.
+		 */
+		private final KreedzHistogram.Snapshot responseBytes;
+
+		/**
+		 * Initialize an {@link EndpointSnapshot} instance.
+		 *
+		 * @param endpoint				endpoint
+		 * @param requestCount			number of requests
+		 * @param failureCount			number of requests failed w/o a response
+		 * @param inFlightCount			number of requests in flight
+		 * @param statusCounts			array of response counts by status class
+		 * @param networkNanos			snapshot of network times
+		 * @param deserializationNanos	snapshot of deserialization times
+		 * @param responseBytes			snapshot of response body sizes
+		 */
+		private EndpointSnapshot(String endpoint, long requestCount, long failureCount, long inFlightCount,
+				long[] statusCounts, KreedzHistogram.Snapshot networkNanos,
+				KreedzHistogram.Snapshot deserializationNanos, KreedzHistogram.Snapshot responseBytes) {
+			this.endpoint = endpoint;
+			this.requestCount = requestCount;
+			this.failureCount = failureCount;
+			this.inFlightCount = inFlightCount;
+			this.statusCounts = statusCounts;
+			this.networkNanos = networkNanos;
+			this.deserializationNanos = deserializationNanos;
+			this.responseBytes = responseBytes;
+		}
+
+		/**
+		 * Get this endpoint.
+		 *
+		 * @return	endpoint
+		 */
+		public String getEndpoint() {
+			return this.endpoint;
+		}
+
+		/**
+		 * Get this number of requests.
+		 *
+		 * @return	number of requests
+		 */
+		public long getRequestCount() {
+			return this.requestCount;
+		}
+
+		/**
+		 * Get this number of requests failed w/o a response.
+		 *
+		 * @return	number of failures
+		 */
+		public long getFailureCount() {
+			return this.failureCount;
+		}
+
+		/**
+		 * Get this number of requests in flight.
+		 *
+		 * @return	number of requests in flight
+		 */
+		public long getInFlightCount() {
+			return this.inFlightCount;
+		}
+
+		/**
+		 * Get this number of responses of the provided status class.
+		 *
+		 * @param statusClass	status class in [1, 5], e.g. 2 for 2xx
+		 * @return				number of responses
+		 */
+		public long getStatusCount(int statusClass) {
+			if (statusClass < 1 || statusClass > STATUS_CLASS_COUNT) {
+				throw new IllegalArgumentException("Status class must be in [1, " + STATUS_CLASS_COUNT + "]");
+			}
+
+			return this.statusCounts[statusClass - 1];
+		}
+
+		/**
+		 * Get this snapshot of network times in nanoseconds.
+		 *
+		 * @return	snapshot of network times
+		 */
+		public KreedzHistogram.Snapshot getNetworkNanos() {
+			return this.networkNanos;
+		}
+
+		/**
+		 * Get this snapshot of deserialization times in nanoseconds.
+		 *
+		 * @return	snapshot of deserialization times
+		 */
+		public KreedzHistogram.Snapshot getDeserializationNanos() {
+			return this.deserializationNanos;
+		}
+
+		/**
+		 * Get this snapshot of response body sizes in bytes.
+		 *
+		 * @return	snapshot of response body sizes
+		 */
+		public KreedzHistogram.Snapshot getResponseBytes() {
+			return this.responseBytes;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder(this.getClass().getSimpleName())
+					.append("[endpoint=").append(this.endpoint)
+					.append(", requests=").append(this.requestCount)
+					.append(", failures=").append(this.failureCount)
+					.append(", inFlight=").append(this.inFlightCount);
+
+			for (int i = 0; i < STATUS_CLASS_COUNT; i++) {
+				sb.append(", ").append(i + 1).append("xx=").append(this.statusCounts[i]);
+			}
+
+			return sb.append(", network=").append(this.networkNanos)
+					.append(", deserialization=").append(this.deserializationNanos)
+					.append(", bytes=").append(this.responseBytes)
+					.append("]")
+					.toString();
+		}
+	}
+}
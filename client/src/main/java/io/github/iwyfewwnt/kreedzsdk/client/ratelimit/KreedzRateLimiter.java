@@ -0,0 +1,651 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.ratelimit;
+
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzHttp;
+import io.github.iwyfewwnt.kreedzsdk.clientapi.internal.UKreedzMap;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A kreedz rate limiter.
+ *
+ * <p>Throttles requests per host w/ a token bucket and an adaptive
+ * concurrency window. The window grows additively on success and
+ * shrinks multiplicatively on a 429 or 5xx response, on a timeout
+ * and, more gently, on a latency well above the usual one.
+ * A "Retry-After" header holds all requests to its host back
+ * for the given delay.
+ *
+ * <p>Waiting requests block the thread they're executed on,
+ * i.e. the caller thread or an OkHttp dispatcher thread.
+ */
+@SuppressWarnings("NullableProblems")
+public final class KreedzRateLimiter implements Interceptor {
+
+	/**
+	 * A Global API host.
+	 */
+	public static final String GLOBAL_API_HOST = "kztimerglobal.com";
+
+	/**
+	 * A health API host.
+	 */
+	public static final String HEALTH_API_HOST = "health.global-api.com";
+
+	/**
+	 * A status API host.
+	 */
+	public static final String STATUS_API_HOST = "status.global-api.com";
+
+	/**
+	 * A raw GitHub content host.
+	 */
+	public static final String GITHUB_RAW_HOST = "raw.githubusercontent.com";
+
+	/**
+	 * A maximum time to wait before re-checking the cancellation of a call.
+	 */
+	private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/**
+	 * A budget by host.
+	 */
+	private final Map<String, Budget> budgets;
+
+	/**
+	 * A default budget.
+	 */
+	private final Budget defaultBudget;
+
+	/**
+	 * A map of host limiters by their host.
+	 */
+	private final ConcurrentMap<String, HostLimiter> limiters;
+
+	/**
+	 * A number of requests that had to wait.
+	 */
+	private final LongAdder delayCount;
+
+	/**
+	 * A number of throttling responses.
+	 */
+	private final LongAdder throttleCount;
+
+	/**
+	 * Initialize a {@link KreedzRateLimiter} instance.
+	 *
+	 * @param builder	builder to take the configuration from
+	 */
+	private KreedzRateLimiter(Builder builder) {
+		this.budgets = Collections.unmodifiableMap(new HashMap<>(builder.budgets));
+		this.defaultBudget = builder.defaultBudget;
+		this.limiters = new ConcurrentHashMap<>();
+		this.delayCount = new LongAdder();
+		this.throttleCount = new LongAdder();
+	}
+
+	/**
+	 * Initialize a {@link KreedzRateLimiter} instance
+	 * w/ the default configuration.
+	 *
+	 * <p>Wraps {@link Builder#build()}.
+	 *
+	 * @return	{@code KreedzRateLimiter} instance
+	 */
+	public static KreedzRateLimiter create() {
+		return new Builder().build();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		HostLimiter limiter = this.limiterOf(request.url().host());
+
+		if (limiter.acquire(chain)) {
+			this.delayCount.increment();
+		}
+
+		long startNanos = System.nanoTime();
+		Response response;
+
+		try {
+			response = chain.proceed(request);
+		} catch (SocketTimeoutException e) {
+			limiter.release(true, 0L, null);
+			throw e;
+		} catch (IOException | RuntimeException e) {
+			limiter.release(false, 0L, null);
+			throw e;
+		}
+
+		boolean isOverloaded = UKreedzHttp.isOverloaded(response.code());
+
+		if (isOverloaded) {
+			this.throttleCount.increment();
+		}
+
+		limiter.release(isOverloaded, System.nanoTime() - startNanos,
+				UKreedzHttp.parseRetryAfterOrNull(response.header(UKreedzHttp.RETRY_AFTER)));
+
+		return response;
+	}
+
+	/**
+	 * Get a budget of the provided host.
+	 *
+	 * @param host	host name
+	 * @return		budget of the host
+	 */
+	public Budget getBudget(String host) {
+		Budget budget = host != null
+				? this.budgets.get(host)
+				: null;
+
+		if (budget == null) {
+			return this.defaultBudget;
+		}
+
+		return budget;
+	}
+
+	/**
+	 * Get a current concurrency window of the provided host.
+	 *
+	 * @param host	host name
+	 * @return		maximum number of concurrent requests to the host
+	 */
+	public int getConcurrencyLimit(String host) {
+		HostLimiter limiter = host != null
+				? this.limiters.get(host)
+				: null;
+
+		if (limiter == null) {
+			return this.getBudget(host).initialConcurrency;
+		}
+
+		return limiter.getConcurrencyLimit();
+	}
+
+	/**
+	 * Get this number of requests that had to wait.
+	 *
+	 * @return	number of delayed requests
+	 */
+	public long getDelayCount() {
+		return this.delayCount.sum();
+	}
+
+	/**
+	 * Get this number of 429 and 5xx responses.
+	 *
+	 * @return	number of throttling responses
+	 */
+	public long getThrottleCount() {
+		return this.throttleCount.sum();
+	}
+
+	/**
+	 * Get a host limiter of the provided host.
+	 *
+	 * @param host	host name
+	 * @return		host limiter
+	 */
+	private HostLimiter limiterOf(String host) {
+		return UKreedzMap.computeIfAbsent(this.limiters, host, key -> new HostLimiter(this.getBudget(key)));
+	}
+
+	/**
+	 * A per-host request budget.
+	 */
+	public static final class Budget {
+
+		/**
+		 * A number of permits per second.
+		 */
+		private final double permitsPerSecond;
+
+		/**
+		 * A maximum number of stored permits.
+		 */
+		private final int burst;
+
+		/**
+		 * An initial number of concurrent requests.
+		 */
+		private final int initialConcurrency;
+
+		/**
+		 * A maximum number of concurrent requests.
+		 */
+		private final int maxConcurrency;
+
+		/**
+		 * Initialize a {@link Budget} instance.
+		 *
+		 * @param permitsPerSecond		number of permits per second
+		 * @param burst					maximum number of stored permits
+		 * @param initialConcurrency	initial number of concurrent requests
+		 * @param maxConcurrency		maximum number of concurrent requests
+		 */
+		public Budget(double permitsPerSecond, int burst, int initialConcurrency, int maxConcurrency) {
+			if (!(permitsPerSecond > 0.0d) || Double.isInfinite(permitsPerSecond)) {
+				throw new IllegalArgumentException("Permits per second must be positive & finite");
+			}
+
+			if (burst < 1) {
+				throw new IllegalArgumentException("Burst must be positive");
+			}
+
+			if (initialConcurrency < 1 || initialConcurrency > maxConcurrency) {
+				throw new IllegalArgumentException("Initial concurrency must be in [1, max concurrency]");
+			}
+
+			this.permitsPerSecond = permitsPerSecond;
+			this.burst = burst;
+			this.initialConcurrency = initialConcurrency;
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		/**
+		 * Get this number of permits per second.
+		 *
+		 * @return	number of permits per second
+		 */
+		public double getPermitsPerSecond() {
+			return this.permitsPerSecond;
+		}
+
+		/**
+		 * Get this maximum number of stored permits.
+		 *
+		 * @return	maximum number of stored permits
+		 */
+		public int getBurst() {
+			return this.burst;
+		}
+
+		/**
+		 * Get this initial number of concurrent requests.
+		 *
+		 * @return	initial number of concurrent requests
+		 */
+		public int getInitialConcurrency() {
+			return this.initialConcurrency;
+		}
+
+		/**
+		 * Get this maximum number of concurrent requests.
+		 *
+		 * @return	maximum number of concurrent requests
+		 */
+		public int getMaxConcurrency() {
+			return this.maxConcurrency;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			return this.getClass().getSimpleName()
+					+ "[permitsPerSecond=" + this.permitsPerSecond
+					+ ", burst=" + this.burst
+					+ ", initialConcurrency=" + this.initialConcurrency
+					+ ", maxConcurrency=" + this.maxConcurrency
+					+ "]";
+		}
+	}
+
+	/**
+	 * A host limiter.
+	 */
+	private static final class HostLimiter {
+
+		/**
+		 * A multiplier of the window on a throttling response.
+		 */
+		private static final double BACKOFF_RATIO = 0.5d;
+
+		/**
+		 * A multiplier of the window on a high latency.
+		 */
+		private static final double LATENCY_BACKOFF_RATIO = 0.9d;
+
+		/**
+		 * A ratio of a latency to the usual one to consider it high.
+		 */
+		private static final double LATENCY_TOLERANCE = 2.0d;
+
+		/**
+		 * A smoothing factor of the usual latency.
+		 */
+		private static final double LATENCY_SMOOTHING = 0.05d;
+
+		/**
+		 * A budget.
+		 */
+		private final Budget budget;
+
+		/**
+		 * A lock that guards the state.
+		 */
+		private final ReentrantLock lock;
+
+		/**
+		 * A condition signalled when a request is released.
+		 */
+		private final Condition released;
+
+		/**
+		 * A number of stored permits.
+		 */
+		private double permits;
+
+		/**
+		 * A time of the last refill in nanoseconds.
+		 */
+		private long refillNanos;
+
+		/**
+		 * A time to hold requests back until in nanoseconds.
+		 */
+		private long blockedUntilNanos;
+
+		/**
+		 * A concurrency window.
+		 */
+		private double concurrencyLimit;
+
+		/**
+		 * A number of requests in flight.
+		 */
+		private int inFlightCount;
+
+		/**
+		 * A smoothed latency in nanoseconds, zero if unknown.
+		 */
+		private double usualLatencyNanos;
+
+		/**
+		 * Initialize a {@link HostLimiter} instance.
+		 *
+		 * @param budget	budget
+		 */
+		private HostLimiter(Budget budget) {
+			long now = System.nanoTime();
+
+			this.budget = budget;
+			this.lock = new ReentrantLock();
+			this.released = this.lock.newCondition();
+			this.permits = budget.burst;
+			this.refillNanos = now;
+			this.blockedUntilNanos = now;
+			this.concurrencyLimit = budget.initialConcurrency;
+		}
+
+		/**
+		 * Wait for a permit and a free slot of the concurrency window.
+		 *
+		 * @param chain		interceptor chain of the request
+		 * @return			whether the request had to wait
+		 * @throws IOException	if the call was canceled or the thread interrupted
+		 */
+		private boolean acquire(Chain chain) throws IOException {
+			boolean isDelayed = false;
+
+			this.lock.lock();
+
+			try {
+				while (true) {
+					long now = System.nanoTime();
+					this.refill(now);
+
+					long waitNanos;
+
+					if (now - this.blockedUntilNanos < 0) {
+						waitNanos = this.blockedUntilNanos - now;
+					} else if (this.inFlightCount >= (int) this.concurrencyLimit) {
+						waitNanos = MAX_WAIT_NANOS;
+					} else if (this.permits < 1.0d) {
+						waitNanos = (long) Math.ceil((1.0d - this.permits)
+								* TimeUnit.SECONDS.toNanos(1) / this.budget.permitsPerSecond);
+					} else {
+						this.permits -= 1.0d;
+						this.inFlightCount++;
+
+						break;
+					}
+
+					if (chain.call().isCanceled()) {
+						throw new IOException("Canceled");
+					}
+
+					isDelayed = true;
+
+					//noinspection ResultOfMethodCallIgnored
+					this.released.awaitNanos(Math.min(waitNanos, MAX_WAIT_NANOS));
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			} finally {
+				this.lock.unlock();
+			}
+
+			return isDelayed;
+		}
+
+		/**
+		 * Release a request slot and adapt the concurrency window.
+		 *
+		 * @param isOverloaded		whether the host signalled an overload
+		 * @param latencyNanos		latency of the response in nanoseconds, zero if none
+		 * @param retryAfter		delay to hold requests back for, may be null
+		 */
+		private void release(boolean isOverloaded, long latencyNanos, Duration retryAfter) {
+			this.lock.lock();
+
+			try {
+				this.inFlightCount--;
+
+				double limit = this.concurrencyLimit;
+
+				if (isOverloaded) {
+					limit *= BACKOFF_RATIO;
+				} else if (latencyNanos > 0L) {
+					double usualLatencyNanos = this.usualLatencyNanos;
+
+					if (usualLatencyNanos > 0.0d && latencyNanos > usualLatencyNanos * LATENCY_TOLERANCE) {
+						limit *= LATENCY_BACKOFF_RATIO;
+					} else {
+						limit += 1.0d / limit;
+					}
+
+					this.usualLatencyNanos = usualLatencyNanos > 0.0d
+							? usualLatencyNanos + (latencyNanos - usualLatencyNanos) * LATENCY_SMOOTHING
+							: latencyNanos;
+				}
+
+				this.concurrencyLimit = Math.max(1.0d, Math.min(this.budget.maxConcurrency, limit));
+
+				if (retryAfter != null) {
+					long blockedUntilNanos = System.nanoTime() + retryAfter.toNanos();
+
+					if (blockedUntilNanos - this.blockedUntilNanos > 0) {
+						this.blockedUntilNanos = blockedUntilNanos;
+					}
+				}
+
+				this.released.signalAll();
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Get this current concurrency window.
+		 *
+		 * @return	maximum number of concurrent requests
+		 */
+		private int getConcurrencyLimit() {
+			this.lock.lock();
+
+			try {
+				return (int) this.concurrencyLimit;
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Refill the permits for the time elapsed.
+		 *
+		 * @param now	current time in nanoseconds
+		 */
+		private void refill(long now) {
+			long elapsedNanos = now - this.refillNanos;
+
+			if (elapsedNanos <= 0L) {
+				return;
+			}
+
+			this.permits = Math.min(this.budget.burst, this.permits
+					+ elapsedNanos * this.budget.permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+
+			this.refillNanos = now;
+		}
+	}
+
+	/**
+	 * A {@link KreedzRateLimiter} builder.
+	 *
+	 * <p>Defaults to separate budgets for the Global API,
+	 * the health API, the status API and raw GitHub content.
+	 */
+	public static final class Builder {
+
+		/**
+		 * A default budget of the Global API.
+		 */
+		private static final Budget DEFAULT_GLOBAL_API_BUDGET = new Budget(10.0d, 20, 8, 32);
+
+		/**
+		 * A default budget of the health & status APIs.
+		 */
+		private static final Budget DEFAULT_STATUS_API_BUDGET = new Budget(2.0d, 4, 2, 4);
+
+		/**
+		 * A default budget of raw GitHub content.
+		 */
+		private static final Budget DEFAULT_GITHUB_RAW_BUDGET = new Budget(5.0d, 10, 4, 8);
+
+		/**
+		 * A default budget of any other host.
+		 */
+		private static final Budget DEFAULT_BUDGET = new Budget(5.0d, 10, 4, 16);
+
+		/**
+		 * A budget by host.
+		 */
+		private final Map<String, Budget> budgets;
+
+		/**
+		 * A default budget.
+		 */
+		private Budget defaultBudget;
+
+		/**
+		 * Initialize a {@link KreedzRateLimiter.Builder} instance.
+		 */
+		public Builder() {
+			this.budgets = new HashMap<>();
+
+			this.budgets.put(GLOBAL_API_HOST, DEFAULT_GLOBAL_API_BUDGET);
+			this.budgets.put(HEALTH_API_HOST, DEFAULT_STATUS_API_BUDGET);
+			this.budgets.put(STATUS_API_HOST, DEFAULT_STATUS_API_BUDGET);
+			this.budgets.put(GITHUB_RAW_HOST, DEFAULT_GITHUB_RAW_BUDGET);
+
+			this.defaultBudget = DEFAULT_BUDGET;
+		}
+
+		/**
+		 * Build a {@link KreedzRateLimiter} instance.
+		 *
+		 * @return	{@code KreedzRateLimiter} instance
+		 */
+		public KreedzRateLimiter build() {
+			return new KreedzRateLimiter(this);
+		}
+
+		/**
+		 * Set a budget of the provided host.
+		 *
+		 * @param host		host name, e.g. {@link #GLOBAL_API_HOST}
+		 * @param budget	budget of the host
+		 * @return			this instance
+		 */
+		public Builder setBudget(String host, Budget budget) {
+			if (host == null) {
+				throw new IllegalArgumentException("Host mustn't be <null>");
+			}
+
+			if (budget == null) {
+				throw new IllegalArgumentException("Budget mustn't be <null>");
+			}
+
+			this.budgets.put(host, budget);
+			return this;
+		}
+
+		/**
+		 * Set this default budget.
+		 *
+		 * <p>Applies to every host w/o its own budget.
+		 *
+		 * @param defaultBudget		default budget
+		 * @return					this instance
+		 */
+		public Builder setDefaultBudget(Budget defaultBudget) {
+			if (defaultBudget == null) {
+				throw new IllegalArgumentException("Default budget mustn't be <null>");
+			}
+
+			this.defaultBudget = defaultBudget;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.retry;
+
+import io.github.iwyfewwnt.kreedzsdk.clientapi.internal.UKreedzMap;
+import retrofit2.http.GET;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A kreedz retrier.
+ *
+ * <p>Holds the retry policies of the service methods
+ * along w/ the counters of retries and hedges.
+ * A policy is looked up by the service method first,
+ * then by its relative URL template, e.g. {@code "records/top"}.
+ */
+public final class KreedzRetrier {
+
+	/**
+	 * A name of the scheduler thread.
+	 */
+	private static final String THREAD_NAME = "kreedz-retrier";
+
+	/**
+	 * A policy by service method.
+	 */
+	private final Map<Method, KreedzRetryPolicy> methodPolicies;
+
+	/**
+	 * A policy by endpoint.
+	 */
+	private final Map<String, KreedzRetryPolicy> endpointPolicies;
+
+	/**
+	 * A default policy.
+	 */
+	private final KreedzRetryPolicy defaultPolicy;
+
+	/**
+	 * A map of resolved policies by their service method.
+	 */
+	private final ConcurrentMap<Method, KreedzRetryPolicy> policyCache;
+
+	/**
+	 * A scheduler of the delayed attempts.
+	 */
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * A number of retries.
+	 */
+	private final LongAdder retryCount;
+
+	/**
+	 * A number of hedges.
+	 */
+	private final LongAdder hedgeCount;
+
+	/**
+	 * A number of hedges that answered first.
+	 */
+	private final LongAdder hedgeWonCount;
+
+	/**
+	 * A number of hedges that were outrun.
+	 */
+	private final LongAdder hedgeLostCount;
+
+	/**
+	 * Initialize a {@link KreedzRetrier} instance.
+	 *
+	 * @param builder	builder to take the configuration from
+	 */
+	private KreedzRetrier(Builder builder) {
+		this.methodPolicies = Collections.unmodifiableMap(new HashMap<>(builder.methodPolicies));
+		this.endpointPolicies = Collections.unmodifiableMap(new HashMap<>(builder.endpointPolicies));
+		this.defaultPolicy = builder.defaultPolicy;
+		this.policyCache = new ConcurrentHashMap<>();
+
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME);
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		scheduler.setRemoveOnCancelPolicy(true);
+
+		this.scheduler = scheduler;
+
+		this.retryCount = new LongAdder();
+		this.hedgeCount = new LongAdder();
+		this.hedgeWonCount = new LongAdder();
+		this.hedgeLostCount = new LongAdder();
+	}
+
+	/**
+	 * Initialize a {@link KreedzRetrier} instance
+	 * w/ the default configuration.
+	 *
+	 * <p>Wraps {@link Builder#build()}.
+	 *
+	 * @return	{@code KreedzRetrier} instance
+	 */
+	public static KreedzRetrier create() {
+		return new Builder().build();
+	}
+
+	/**
+	 * Get a policy of the provided service method.
+	 *
+	 * @param method	service method, may be null
+	 * @return			retry policy
+	 */
+	public KreedzRetryPolicy getPolicy(Method method) {
+		if (method == null) {
+			return this.defaultPolicy;
+		}
+
+		return UKreedzMap.computeIfAbsent(this.policyCache, method, this::resolvePolicy);
+	}
+
+	/**
+	 * Schedule the provided task.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param task			task to run
+	 * @param delayNanos	delay in nanoseconds
+	 * @return				future of the task
+	 */
+	public ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+		return this.scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Count a retry.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 */
+	public void onRetry() {
+		this.retryCount.increment();
+	}
+
+	/**
+	 * Count a hedge.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 */
+	public void onHedge() {
+		this.hedgeCount.increment();
+	}
+
+	/**
+	 * Count a hedge outcome.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param isWon		whether the hedge answered first
+	 */
+	public void onHedgeOutcome(boolean isWon) {
+		if (isWon) {
+			this.hedgeWonCount.increment();
+		} else {
+			this.hedgeLostCount.increment();
+		}
+	}
+
+	/**
+	 * Get this number of retries.
+	 *
+	 * @return	number of retries
+	 */
+	public long getRetryCount() {
+		return this.retryCount.sum();
+	}
+
+	/**
+	 * Get this number of hedges.
+	 *
+	 * @return	number of hedges
+	 */
+	public long getHedgeCount() {
+		return this.hedgeCount.sum();
+	}
+
+	/**
+	 * Get this number of hedges that answered first.
+	 *
+	 * @return	number of hedges won
+	 */
+	public long getHedgeWonCount() {
+		return this.hedgeWonCount.sum();
+	}
+
+	/**
+	 * Get this number of hedges that were outrun.
+	 *
+	 * @return	number of hedges lost
+	 */
+	public long getHedgeLostCount() {
+		return this.hedgeLostCount.sum();
+	}
+
+	/**
+	 * Resolve a policy of the provided service method.
+	 *
+	 * @param method	service method
+	 * @return			retry policy
+	 */
+	private KreedzRetryPolicy resolvePolicy(Method method) {
+		KreedzRetryPolicy policy = this.methodPolicies.get(method);
+
+		if (policy != null) {
+			return policy;
+		}
+
+		GET annotation = method.getAnnotation(GET.class);
+
+		if (annotation != null) {
+			policy = this.endpointPolicies.get(annotation.value());
+		}
+
+		if (policy == null) {
+			return this.defaultPolicy;
+		}
+
+		return policy;
+	}
+
+	/**
+	 * A {@link KreedzRetrier} builder.
+	 */
+	public static final class Builder {
+
+		/**
+		 * A policy by service method.
+		 */
+		private final Map<Method, KreedzRetryPolicy> methodPolicies;
+
+		/**
+		 * A policy by endpoint.
+		 */
+		private final Map<String, KreedzRetryPolicy> endpointPolicies;
+
+		/**
+		 * A default policy.
+		 */
+		private KreedzRetryPolicy defaultPolicy;
+
+		/**
+		 * Initialize a {@link KreedzRetrier.Builder} instance.
+		 */
+		public Builder() {
+			this.methodPolicies = new HashMap<>();
+			this.endpointPolicies = new HashMap<>();
+			this.defaultPolicy = KreedzRetryPolicy.create();
+		}
+
+		/**
+		 * Build a {@link KreedzRetrier} instance.
+		 *
+		 * @return	{@code KreedzRetrier} instance
+		 */
+		public KreedzRetrier build() {
+			return new KreedzRetrier(this);
+		}
+
+		/**
+		 * Set a policy of the provided service method.
+		 *
+		 * @param method	service method, e.g. of {@code IRecordService}
+		 * @param policy	retry policy
+		 * @return			this instance
+		 */
+		public Builder setPolicy(Method method, KreedzRetryPolicy policy) {
+			if (method == null) {
+				throw new IllegalArgumentException("Method mustn't be <null>");
+			}
+
+			this.methodPolicies.put(method, requirePolicy(policy));
+			return this;
+		}
+
+		/**
+		 * Set a policy of the provided endpoint.
+		 *
+		 * @param endpoint	relative URL template of a service method, e.g. {@code "records/top"}
+		 * @param policy	retry policy
+		 * @return			this instance
+		 */
+		public Builder setPolicy(String endpoint, KreedzRetryPolicy policy) {
+			if (endpoint == null) {
+				throw new IllegalArgumentException("Endpoint mustn't be <null>");
+			}
+
+			this.endpointPolicies.put(endpoint, requirePolicy(policy));
+			return this;
+		}
+
+		/**
+		 * Set this default policy.
+		 *
+		 * <p>Applies to every service method w/o its own policy.
+		 *
+		 * @param defaultPolicy		default retry policy
+		 * @return					this instance
+		 */
+		public Builder setDefaultPolicy(KreedzRetryPolicy defaultPolicy) {
+			this.defaultPolicy = requirePolicy(defaultPolicy);
+			return this;
+		}
+
+		/**
+		 * Require the provided policy to be non-null.
+		 *
+		 * @param policy	policy to check
+		 * @return			provided policy
+		 */
+		private static KreedzRetryPolicy requirePolicy(KreedzRetryPolicy policy) {
+			if (policy == null) {
+				throw new IllegalArgumentException("Policy mustn't be <null>");
+			}
+
+			return policy;
+		}
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A kreedz retry policy.
+ *
+ * <p>Defines how many times a failed idempotent call is retried,
+ * the exponential backoff w/ full jitter between the attempts and
+ * an optional hedging delay, after which a duplicate call is fired
+ * and the first one to answer wins.
+ */
+public final class KreedzRetryPolicy {
+
+	/**
+	 * A maximum number of retries.
+	 */
+	private final int maxRetries;
+
+	/**
+	 * A base backoff delay.
+	 */
+	private final Duration baseDelay;
+
+	/**
+	 * A maximum backoff delay.
+	 */
+	private final Duration maxDelay;
+
+	/**
+	 * A hedging delay.
+	 */
+	private final Duration hedgeDelay;
+
+	/**
+	 * Initialize a {@link KreedzRetryPolicy} instance.
+	 *
+	 * @param builder	builder to take the configuration from
+	 */
+	private KreedzRetryPolicy(Builder builder) {
+		this.maxRetries = builder.maxRetries;
+		this.baseDelay = builder.baseDelay;
+		this.maxDelay = builder.maxDelay;
+		this.hedgeDelay = builder.hedgeDelay;
+	}
+
+	/**
+	 * Initialize a {@link KreedzRetryPolicy} instance
+	 * w/ the default configuration.
+	 *
+	 * <p>Wraps {@link Builder#build()}.
+	 *
+	 * @return	{@code KreedzRetryPolicy} instance
+	 */
+	public static KreedzRetryPolicy create() {
+		return new Builder().build();
+	}
+
+	/**
+	 * Get this maximum number of retries.
+	 *
+	 * @return	maximum number of retries
+	 */
+	public int getMaxRetries() {
+		return this.maxRetries;
+	}
+
+	/**
+	 * Get this base backoff delay.
+	 *
+	 * @return	base backoff delay
+	 */
+	public Duration getBaseDelay() {
+		return this.baseDelay;
+	}
+
+	/**
+	 * Get this maximum backoff delay.
+	 *
+	 * @return	maximum backoff delay
+	 */
+	public Duration getMaxDelay() {
+		return this.maxDelay;
+	}
+
+	/**
+	 * Get this hedging delay or return {@code null} if none.
+	 *
+	 * @return	hedging delay or {@code null}
+	 */
+	public Duration getHedgeDelayOrNull() {
+		return this.hedgeDelay;
+	}
+
+	/**
+	 * Get a jittered backoff delay of the provided retry.
+	 *
+	 * <p>Picks a uniformly random delay up to the exponential
+	 * one, the server-provided delay is a lower bound.
+	 *
+	 * @param retry			one-based retry number
+	 * @param retryAfter	server-provided delay, may be null
+	 * @return				backoff delay in nanoseconds
+	 */
+	public long getBackoffNanos(int retry, Duration retryAfter) {
+		long maxNanos = this.maxDelay.toNanos();
+		long capNanos = this.baseDelay.toNanos();
+
+		for (int i = 1; i < retry && capNanos < maxNanos && capNanos <= Long.MAX_VALUE >> 1; i++) {
+			capNanos <<= 1;
+		}
+
+		capNanos = Math.min(capNanos, maxNanos);
+
+		long delayNanos = capNanos > 0L
+				? ThreadLocalRandom.current().nextLong(capNanos + 1L)
+				: 0L;
+
+		if (retryAfter != null) {
+			delayNanos = Math.max(delayNanos, retryAfter.toNanos());
+		}
+
+		return delayNanos;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return this.getClass().getSimpleName()
+				+ "[maxRetries=" + this.maxRetries
+				+ ", baseDelay=" + this.baseDelay
+				+ ", maxDelay=" + this.maxDelay
+				+ ", hedgeDelay=" + this.hedgeDelay
+				+ "]";
+	}
+
+	/**
+	 * A {@link KreedzRetryPolicy} builder.
+	 */
+	public static final class Builder {
+
+		/**
+		 * A default maximum number of retries.
+		 */
+		private static final int DEFAULT_MAX_RETRIES = 2;
+
+		/**
+		 * A default base backoff delay.
+		 */
+		private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(100);
+
+		/**
+		 * A default maximum backoff delay.
+		 */
+		private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(2);
+
+		/**
+		 * A maximum number of retries.
+		 */
+		private int maxRetries;
+
+		/**
+		 * A base backoff delay.
+		 */
+		private Duration baseDelay;
+
+		/**
+		 * A maximum backoff delay.
+		 */
+		private Duration maxDelay;
+
+		/**
+		 * A hedging delay.
+		 */
+		private Duration hedgeDelay;
+
+		/**
+		 * Initialize a {@link KreedzRetryPolicy.Builder} instance.
+		 */
+		public Builder() {
+			this.maxRetries = DEFAULT_MAX_RETRIES;
+			this.baseDelay = DEFAULT_BASE_DELAY;
+			this.maxDelay = DEFAULT_MAX_DELAY;
+		}
+
+		/**
+		 * Build a {@link KreedzRetryPolicy} instance.
+		 *
+		 * @return	{@code KreedzRetryPolicy} instance
+		 */
+		public KreedzRetryPolicy build() {
+			if (this.maxDelay.compareTo(this.baseDelay) < 0) {
+				throw new IllegalArgumentException("Max delay mustn't be less than the base delay");
+			}
+
+			return new KreedzRetryPolicy(this);
+		}
+
+		/**
+		 * Set this maximum number of retries.
+		 *
+		 * @param maxRetries	maximum number of retries, zero to not retry
+		 * @return				this instance
+		 */
+		public Builder setMaxRetries(int maxRetries) {
+			if (maxRetries < 0) {
+				throw new IllegalArgumentException("Max retries mustn't be negative");
+			}
+
+			this.maxRetries = maxRetries;
+			return this;
+		}
+
+		/**
+		 * Set this base backoff delay.
+		 *
+		 * @param baseDelay		base backoff delay
+		 * @return				this instance
+		 */
+		public Builder setBaseDelay(Duration baseDelay) {
+			this.baseDelay = requireNonNegative(baseDelay, "Base delay");
+			return this;
+		}
+
+		/**
+		 * Set this maximum backoff delay.
+		 *
+		 * @param maxDelay	maximum backoff delay
+		 * @return			this instance
+		 */
+		public Builder setMaxDelay(Duration maxDelay) {
+			this.maxDelay = requireNonNegative(maxDelay, "Max delay");
+			return this;
+		}
+
+		/**
+		 * Set this hedging delay.
+		 *
+		 * <p>Should be about the 95th percentile latency of the endpoint.
+		 *
+		 * @param hedgeDelay	hedging delay, may be null to not hedge
+		 * @return				this instance
+		 */
+		public Builder setHedgeDelay(Duration hedgeDelay) {
+			this.hedgeDelay = hedgeDelay != null
+					? requireNonNegative(hedgeDelay, "Hedge delay")
+					: null;
+
+			return this;
+		}
+
+		/**
+		 * Require the provided duration to be non-null and non-negative.
+		 *
+		 * @param duration	duration to check
+		 * @param name		name of the duration to use in the exception message
+		 * @return			provided duration
+		 */
+		private static Duration requireNonNegative(Duration duration, String name) {
+			if (duration == null || duration.isNegative()) {
+				throw new IllegalArgumentException(name + " mustn't be <null> or negative");
+			}
+
+			return duration;
+		}
+	}
+}
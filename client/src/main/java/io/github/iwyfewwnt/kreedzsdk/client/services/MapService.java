@@ -17,11 +17,13 @@
 package io.github.iwyfewwnt.kreedzsdk.client.services;
 
 import com.google.auto.service.AutoService;
+import io.github.iwyfewwnt.kreedzsdk.client.batch.KreedzBatchLoader;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IKreedzService;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IMapService;
 import io.github.iwyfewwnt.kreedzsdk.client.services.requests.map.GetMapByIdRequest;
 import io.github.iwyfewwnt.kreedzsdk.client.services.requests.map.GetMapByNameRequest;
 import io.github.iwyfewwnt.kreedzsdk.client.services.requests.map.GetMapsRequest;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.MapEntity;
 import io.github.iwyfewwnt.uwretrofit.services.impl.RetrofitServiceWrapper;
 import retrofit2.Retrofit;
 
@@ -32,6 +34,11 @@ import retrofit2.Retrofit;
 @AutoService(IKreedzService.class)
 public final class MapService extends RetrofitServiceWrapper<IMapService> implements IKreedzService {
 
+	/**
+	 * A batch loader of maps by their identifier.
+	 */
+	private final KreedzBatchLoader<Integer, MapEntity> mapLoader;
+
 	/**
 	 * Initialize a {@link MapService} instance.
 	 *
@@ -39,6 +46,9 @@ public final class MapService extends RetrofitServiceWrapper<IMapService> implem
 	 */
 	public MapService(Retrofit retrofit) {
 		super(retrofit, IMapService.class);
+
+		this.mapLoader = new KreedzBatchLoader<>(ids -> this.service.getMaps(ids,
+				null, null, null, null, null, null, null, null, ids.size()), MapEntity::getId);
 	}
 
 	/**
@@ -67,4 +77,15 @@ public final class MapService extends RetrofitServiceWrapper<IMapService> implem
 	public GetMapByNameRequest.Manager mapByName() {
 		return new GetMapByNameRequest.Manager(this.service);
 	}
+
+	/**
+	 * Get this batch loader of maps by their identifier.
+	 *
+	 * <p>Resolves concurrent lookups w/ one /maps/ request.
+	 *
+	 * @return	batch loader
+	 */
+	public KreedzBatchLoader<Integer, MapEntity> getMapLoader() {
+		return this.mapLoader;
+	}
 }
@@ -17,9 +17,12 @@
 package io.github.iwyfewwnt.kreedzsdk.client.services;
 
 import com.google.auto.service.AutoService;
+import io.github.iwyfewwnt.kreedzsdk.client.batch.KreedzBatchLoader;
 import io.github.iwyfewwnt.kreedzsdk.client.services.requests.player.GetPlayersRequest;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IKreedzService;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IPlayerService;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.PlayerEntity;
+import io.github.iwyfewwnt.steamid.SteamId;
 import io.github.iwyfewwnt.uwretrofit.services.impl.RetrofitServiceWrapper;
 import retrofit2.Retrofit;
 
@@ -30,6 +33,11 @@ import retrofit2.Retrofit;
 @AutoService(IKreedzService.class)
 public final class PlayerService extends RetrofitServiceWrapper<IPlayerService> implements IKreedzService {
 
+	/**
+	 * A batch loader of players by their type-64 identifier.
+	 */
+	private final KreedzBatchLoader<Long, PlayerEntity> playerLoader;
+
 	/**
 	 * Initialize a {@link PlayerService} instance.
 	 *
@@ -37,6 +45,10 @@ public final class PlayerService extends RetrofitServiceWrapper<IPlayerService>
 	 */
 	public PlayerService(Retrofit retrofit) {
 		super(retrofit, IPlayerService.class);
+
+		this.playerLoader = new KreedzBatchLoader<>(steamId64s -> this.service.getPlayers(
+				null, null, null, steamId64s, null, steamId64s.size()),
+				player -> SteamId.toSteam64OrNull(player.getSteamId()));
 	}
 
 	/**
@@ -47,4 +59,15 @@ public final class PlayerService extends RetrofitServiceWrapper<IPlayerService>
 	public GetPlayersRequest.Manager players() {
 		return new GetPlayersRequest.Manager(this.service);
 	}
+
+	/**
+	 * Get this batch loader of players by their type-64 identifier.
+	 *
+	 * <p>Resolves concurrent lookups w/ one /players/ request.
+	 *
+	 * @return	batch loader
+	 */
+	public KreedzBatchLoader<Long, PlayerEntity> getPlayerLoader() {
+		return this.playerLoader;
+	}
 }
@@ -17,10 +17,12 @@
 package io.github.iwyfewwnt.kreedzsdk.client.services;
 
 import com.google.auto.service.AutoService;
+import io.github.iwyfewwnt.kreedzsdk.client.batch.KreedzBatchLoader;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IKreedzService;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IServerService;
 import io.github.iwyfewwnt.kreedzsdk.client.services.requests.server.GetServerByIdRequest;
 import io.github.iwyfewwnt.kreedzsdk.client.services.requests.server.GetServersRequest;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.ServerEntity;
 import io.github.iwyfewwnt.uwretrofit.services.impl.RetrofitServiceWrapper;
 import retrofit2.Retrofit;
 
@@ -31,6 +33,11 @@ import retrofit2.Retrofit;
 @AutoService(IKreedzService.class)
 public final class ServerService extends RetrofitServiceWrapper<IServerService> implements IKreedzService {
 
+	/**
+	 * A batch loader of servers by their identifier.
+	 */
+	private final KreedzBatchLoader<Integer, ServerEntity> serverLoader;
+
 	/**
 	 * Initialize a {@link ServerService} instance.
 	 *
@@ -38,6 +45,9 @@ public final class ServerService extends RetrofitServiceWrapper<IServerService>
 	 */
 	public ServerService(Retrofit retrofit) {
 		super(retrofit, IServerService.class);
+
+		this.serverLoader = new KreedzBatchLoader<>(ids -> this.service.getServers(ids,
+				null, null, null, null, null, null, ids.size()), ServerEntity::getId);
 	}
 
 	/**
@@ -57,4 +67,15 @@ public final class ServerService extends RetrofitServiceWrapper<IServerService>
 	public GetServerByIdRequest.Manager serverById() {
 		return new GetServerByIdRequest.Manager(this.service);
 	}
+
+	/**
+	 * Get this batch loader of servers by their identifier.
+	 *
+	 * <p>Resolves concurrent lookups w/ one /servers/ request.
+	 *
+	 * @return	batch loader
+	 */
+	public KreedzBatchLoader<Integer, ServerEntity> getServerLoader() {
+		return this.serverLoader;
+	}
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.services.requests;
+
+import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
+
+/**
+ * An abstract kreedz request manager.
+ *
+ * <p>Defines a {@link BaseKreedzRequestManager} w/o
+ * inherited fluent setters to return.
+ *
+ * @param <U>	request type
+ * @param <R>	response type
+ */
+public abstract class AbstractKreedzRequestManager<U extends IRequest, R>
+		extends BaseKreedzRequestManager<AbstractKreedzRequestManager<U, R>, U, R> {
+
+	/**
+	 * Initialize an {@link AbstractKreedzRequestManager} instance.
+	 */
+	protected AbstractKreedzRequestManager() {
+	}
+}
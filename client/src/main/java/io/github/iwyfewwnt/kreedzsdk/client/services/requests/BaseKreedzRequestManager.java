@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.services.requests;
+
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCall;
+import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
+import io.github.iwyfewwnt.uwretrofit.services.requests.impl.BaseRequestManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A base kreedz request manager.
+ *
+ * <p>Extends the blocking {@link BaseRequestManager}
+ * w/ a non-blocking execution path.
+ *
+ * @param <T>	manager type
+ * @param <U>	request type
+ * @param <R>	response type
+ */
+@SuppressWarnings("unused")
+public abstract class BaseKreedzRequestManager<T extends BaseKreedzRequestManager<T, U, R>, U extends IRequest, R>
+		extends BaseRequestManager<T, U, R> {
+
+	/**
+	 * Initialize a {@link BaseKreedzRequestManager} instance.
+	 */
+	protected BaseKreedzRequestManager() {
+	}
+
+	/**
+	 * Execute this request asynchronously.
+	 *
+	 * <p>The call is enqueued into the OkHttp dispatcher
+	 * and the returned future is completed on its thread.
+	 * Any non-successful HTTP response completes the future
+	 * exceptionally w/ a {@link retrofit2.HttpException}.
+	 *
+	 * @param executor	executor to complete the future on, may be null
+	 * @return			future of the response
+	 */
+	public CompletableFuture<R> executeAsync(Executor executor) {
+		return UKreedzCall.enqueue(() -> this.call(this.build()), executor);
+	}
+
+	/**
+	 * Execute this request asynchronously.
+	 *
+	 * <p>Wraps {@link #executeAsync(Executor)}
+	 * w/ {@code null} as the executor.
+	 *
+	 * @return	future of the response
+	 */
+	public final CompletableFuture<R> executeAsync() {
+		return this.executeAsync(null);
+	}
+}
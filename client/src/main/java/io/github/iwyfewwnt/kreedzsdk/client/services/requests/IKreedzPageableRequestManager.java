@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.services.requests;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * A kreedz pageable request manager.
+ *
+ * <p>Implemented by the request managers of offset/limit endpoints.
+ *
+ * @param <E>	entity type
+ */
+public interface IKreedzPageableRequestManager<E> {
+
+	/**
+	 * Get all pages of this request.
+	 *
+	 * <p>Pages of this limit start at this offset,
+	 * other parameters are fixed at the time of this call.
+	 *
+	 * @return	page sequence
+	 */
+	KreedzPages<E> pages();
+
+	/**
+	 * Iterate over all pages of this request lazily.
+	 *
+	 * <p>Wraps {@link KreedzPages#iterator()}, the next page
+	 * is prefetched while the current one is consumed.
+	 *
+	 * @return	iterator of all entities
+	 */
+	default KreedzPageIterator<E> iterateAll() {
+		return this.pages().iterator();
+	}
+
+	/**
+	 * Stream all pages of this request lazily.
+	 *
+	 * <p>Wraps {@link #iterateAll()}, closing the stream
+	 * cancels the prefetched page, if any.
+	 *
+	 * @return	stream of all entities
+	 */
+	default Stream<E> streamAll() {
+		return this.iterateAll().stream();
+	}
+
+	/**
+	 * Fetch all pages of this request w/ up to
+	 * the provided number of pages in flight.
+	 *
+	 * <p>Wraps {@link KreedzPages#fetchAll(int)}.
+	 *
+	 * @param maxConcurrency	maximum number of pages in flight
+	 * @return					list of all entities
+	 */
+	default List<E> fetchAll(int maxConcurrency) {
+		return this.pages().fetchAll(maxConcurrency);
+	}
+
+	/**
+	 * Fetch all pages of this request lazily into a spliterator.
+	 *
+	 * <p>Wraps {@link KreedzPages#spliterator(int)}.
+	 *
+	 * @param maxConcurrency	maximum number of pages in flight
+	 * @return					spliterator of all entities
+	 */
+	default Spliterator<E> spliterateAll(int maxConcurrency) {
+		return this.pages().spliterator(maxConcurrency);
+	}
+
+	/**
+	 * Fetch all pages of this request lazily into a parallel stream.
+	 *
+	 * <p>Wraps {@link KreedzPages#parallelStream(int)}.
+	 *
+	 * @param maxConcurrency	maximum number of pages in flight
+	 * @return					parallel stream of all entities
+	 */
+	default Stream<E> parallelStreamAll(int maxConcurrency) {
+		return this.pages().parallelStream(maxConcurrency);
+	}
+}
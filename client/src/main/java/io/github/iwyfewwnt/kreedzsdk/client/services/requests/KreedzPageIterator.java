@@ -0,0 +1,192 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.services.requests;
+
+import retrofit2.Call;
+
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A kreedz page iterator.
+ *
+ * <p>Iterates over the entities of an offset/limit endpoint page
+ * by page. No page is fetched until the first element is requested,
+ * and once a full page is received the next one is prefetched
+ * while the current one is consumed. A short page is the last one.
+ *
+ * <p>Closing this iterator cancels the prefetched page, if any.
+ * Isn't thread-safe.
+ *
+ * @param <E>	entity type
+ */
+public final class KreedzPageIterator<E> implements Iterator<E>, AutoCloseable {
+
+	/**
+	 * A page call factory.
+	 */
+	private final PageCallFactory<E> callFactory;
+
+	/**
+	 * A number of entities per page.
+	 */
+	private final int limit;
+
+	/**
+	 * An offset of the next page to fetch.
+	 */
+	private int nextOffset;
+
+	/**
+	 * A future of the next page.
+	 */
+	private CompletableFuture<List<E>> nextPage;
+
+	/**
+	 * An iterator of the current page.
+	 */
+	private Iterator<E> page;
+
+	/**
+	 * An "isLastPage" boolean value.
+	 */
+	private boolean isLastPage;
+
+	/**
+	 * Initialize a {@link KreedzPageIterator} instance.
+	 *
+	 * @param callFactory	page call factory
+	 * @param offset		offset of the first page
+	 * @param limit			number of entities per page
+	 */
+	KreedzPageIterator(PageCallFactory<E> callFactory, int offset, int limit) {
+		this.callFactory = callFactory;
+		this.nextOffset = offset;
+		this.limit = limit;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Blocks until the next page is received if the current one is consumed.
+	 *
+	 * @throws UncheckedIOException	if a page couldn't be fetched
+	 * @throws retrofit2.HttpException	if a page request wasn't successful
+	 */
+	@Override
+	public boolean hasNext() {
+		while (this.page == null || !this.page.hasNext()) {
+			if (this.nextPage == null) {
+				if (this.isLastPage) {
+					return false;
+				}
+
+				this.nextPage = this.fetch();
+			}
+
+			List<E> entities = KreedzPages.await(this.nextPage);
+			this.nextPage = null;
+
+			if (entities == null || entities.size() < this.limit) {
+				this.isLastPage = true;
+			} else {
+				this.nextPage = this.fetch();
+			}
+
+			this.page = entities != null
+					? entities.iterator()
+					: Collections.emptyIterator();
+		}
+
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E next() {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return this.page.next();
+	}
+
+	/**
+	 * Cancel the prefetched page and end this iteration.
+	 */
+	@Override
+	public void close() {
+		this.isLastPage = true;
+		this.page = null;
+
+		if (this.nextPage != null) {
+			this.nextPage.cancel(false);
+			this.nextPage = null;
+		}
+	}
+
+	/**
+	 * Create a sequential stream of the remaining entities.
+	 *
+	 * <p>Closing the stream closes this iterator.
+	 *
+	 * @return	stream of entities
+	 */
+	public Stream<E> stream() {
+		Spliterator<E> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+
+		return StreamSupport.stream(spliterator, false)
+				.onClose(this::close);
+	}
+
+	/**
+	 * Enqueue the call of the next page.
+	 *
+	 * @return	future of the page
+	 */
+	private CompletableFuture<List<E>> fetch() {
+		int offset = this.nextOffset;
+		int limit = this.limit;
+
+		this.nextOffset += limit;
+
+		return KreedzPages.enqueue(this.callFactory, offset, limit);
+	}
+
+	/**
+	 * A page call factory.
+	 *
+	 * @param <E>	entity type
+	 */
+	@FunctionalInterface
+	public interface PageCallFactory<E> {
+
+		/**
+		 * Create a call of the provided page.
+		 *
+		 * @param offset	offset of the page
+		 * @param limit		number of entities per page
+		 * @return			call of the page
+		 */
+		Call<List<E>> create(int offset, int limit);
+	}
+}
@@ -0,0 +1,543 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.services.requests;
+
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCall;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzEvents;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A kreedz page sequence.
+ *
+ * <p>Describes all pages of an offset/limit request, where the limit
+ * is the page size. May be iterated lazily page by page or fetched
+ * in bulk w/ several pages in flight.
+ *
+ * @param <E>	entity type
+ */
+public final class KreedzPages<E> {
+
+	/**
+	 * A default number of entities per page.
+	 */
+	public static final int DEFAULT_PAGE_LIMIT = 100;
+
+	/**
+	 * A page call factory.
+	 */
+	private final KreedzPageIterator.PageCallFactory<E> callFactory;
+
+	/**
+	 * An offset of the first page.
+	 */
+	private final int offset;
+
+	/**
+	 * A number of entities per page.
+	 */
+	private final int limit;
+
+	/**
+	 * An entity identifier function.
+	 */
+	private final Function<? super E, ?> idFunction;
+
+	/**
+	 * Initialize a {@link KreedzPages} instance.
+	 *
+	 * @param callFactory	page call factory
+	 * @param offset		offset of the first page, may be null for zero
+	 * @param limit			number of entities per page, may be null for {@link #DEFAULT_PAGE_LIMIT}
+	 * @param idFunction	entity identifier function to dedupe by, may be null
+	 */
+	public KreedzPages(KreedzPageIterator.PageCallFactory<E> callFactory,
+					   Integer offset, Integer limit, Function<? super E, ?> idFunction) {
+		if (callFactory == null) {
+			throw new IllegalArgumentException("Call factory mustn't be <null>");
+		}
+
+		if (offset != null && offset < 0) {
+			throw new IllegalArgumentException("Offset mustn't be negative");
+		}
+
+		if (limit != null && limit < 1) {
+			throw new IllegalArgumentException("Limit must be positive");
+		}
+
+		this.callFactory = callFactory;
+		this.offset = offset != null ? offset : 0;
+		this.limit = limit != null ? limit : DEFAULT_PAGE_LIMIT;
+		this.idFunction = idFunction;
+	}
+
+	/**
+	 * Iterate over these pages lazily.
+	 *
+	 * @return	page iterator
+	 */
+	public KreedzPageIterator<E> iterator() {
+		return new KreedzPageIterator<>(this.callFactory, this.offset, this.limit);
+	}
+
+	/**
+	 * Fetch all of these pages w/ up to the provided number of pages in flight.
+	 *
+	 * <p>Consecutive offset windows are enqueued concurrently until
+	 * a short page marks the end of data, windows past the end that
+	 * are still in flight get cancelled. Pages are stitched in order
+	 * and entities w/ an already seen identifier are dropped, as rows
+	 * may shift between windows while the data changes.
+	 *
+	 * <p>Up to {@code maxConcurrency - 1} calls past the end of data
+	 * may be made. The actual concurrency is also capped by
+	 * the dispatcher limits of the client.
+	 *
+	 * @param maxConcurrency	maximum number of pages in flight
+	 * @return					list of all entities
+	 * @throws UncheckedIOException		if a page couldn't be fetched
+	 * @throws retrofit2.HttpException	if a page request wasn't successful
+	 */
+	public List<E> fetchAll(int maxConcurrency) {
+		if (maxConcurrency < 1) {
+			throw new IllegalArgumentException("Max concurrency must be positive");
+		}
+
+		SortedMap<Integer, CompletableFuture<List<E>>> inFlight = new TreeMap<>();
+		List<List<E>> pages = new ArrayList<>();
+
+		int nextIndex = 0;
+		int endIndex = Integer.MAX_VALUE;
+
+		try {
+			while (nextIndex < endIndex || !inFlight.isEmpty()) {
+				while (inFlight.size() < maxConcurrency && nextIndex < endIndex) {
+					inFlight.put(nextIndex, this.fetch(nextIndex));
+					nextIndex++;
+				}
+
+				CompletableFuture.anyOf(inFlight.values().toArray(new CompletableFuture<?>[0]))
+						.exceptionally(throwable -> null)
+						.join();
+
+				Iterator<Map.Entry<Integer, CompletableFuture<List<E>>>> iterator
+						= inFlight.entrySet().iterator();
+
+				while (iterator.hasNext()) {
+					Map.Entry<Integer, CompletableFuture<List<E>>> entry = iterator.next();
+
+					int index = entry.getKey();
+					CompletableFuture<List<E>> future = entry.getValue();
+
+					if (!future.isDone()) {
+						continue;
+					}
+
+					// A removed tree map entry may be reused for its successor.
+					iterator.remove();
+
+					if (index >= endIndex) {
+						continue;
+					}
+
+					List<E> page = await(future);
+
+					while (pages.size() <= index) {
+						pages.add(null);
+					}
+
+					pages.set(index, page);
+
+					if (page == null || page.size() < this.limit) {
+						endIndex = index + 1;
+					}
+				}
+
+				cancelFrom(inFlight, endIndex);
+			}
+		} catch (RuntimeException e) {
+			cancelFrom(inFlight, 0);
+			throw e;
+		}
+
+		return this.stitch(pages, endIndex);
+	}
+
+	/**
+	 * Fetch these pages lazily into a spliterator.
+	 *
+	 * <p>Nothing is fetched until the spliterator is traversed or split.
+	 * Consecutive offset windows are then enqueued ahead w/ up to the provided
+	 * number of pages in flight and consumed in order, as w/ {@link #fetchAll(int)}.
+	 * Each split hands the next page over as a sized array spliterator,
+	 * so the pages of a parallel stream are processed by the fork-join
+	 * workers while the following ones are still being fetched.
+	 *
+	 * <p>Up to {@code maxConcurrency} calls may still be in flight
+	 * once a short-circuiting stream operation stops the traversal.
+	 *
+	 * @param maxConcurrency	maximum number of pages in flight
+	 * @return					spliterator of all entities
+	 */
+	public Spliterator<E> spliterator(int maxConcurrency) {
+		if (maxConcurrency < 1) {
+			throw new IllegalArgumentException("Max concurrency must be positive");
+		}
+
+		return new PageSpliterator(maxConcurrency);
+	}
+
+	/**
+	 * Fetch these pages lazily into a parallel stream.
+	 *
+	 * <p>Wraps {@link #spliterator(int)}.
+	 *
+	 * @param maxConcurrency	maximum number of pages in flight
+	 * @return					parallel stream of all entities
+	 */
+	public Stream<E> parallelStream(int maxConcurrency) {
+		return StreamSupport.stream(this.spliterator(maxConcurrency), true);
+	}
+
+	/**
+	 * Enqueue the call of the provided page.
+	 *
+	 * @param index		page index
+	 * @return			future of the page
+	 */
+	private CompletableFuture<List<E>> fetch(int index) {
+		int offset = Math.addExact(this.offset, Math.multiplyExact(index, this.limit));
+
+		return enqueue(this.callFactory, offset, this.limit);
+	}
+
+	/**
+	 * Concatenate the provided pages in order
+	 * and drop entities w/ an already seen identifier.
+	 *
+	 * @param pages		list of pages, may contain nulls
+	 * @param count		number of pages to take
+	 * @return			list of entities
+	 */
+	private List<E> stitch(List<List<E>> pages, int count) {
+		int size = 0;
+
+		for (int i = 0; i < count; i++) {
+			List<E> page = pages.get(i);
+
+			if (page != null) {
+				size += page.size();
+			}
+		}
+
+		List<E> entities = new ArrayList<>(size);
+		Set<Object> ids = this.idFunction != null
+				? new HashSet<>(size * 4 / 3 + 1)
+				: null;
+
+		for (int i = 0; i < count; i++) {
+			List<E> page = pages.get(i);
+
+			if (page == null) {
+				continue;
+			}
+
+			for (E entity : page) {
+				if (entity == null) {
+					continue;
+				}
+
+				if (ids != null) {
+					Object id = this.idFunction.apply(entity);
+
+					if (id != null && !ids.add(id)) {
+						continue;
+					}
+				}
+
+				entities.add(entity);
+			}
+		}
+
+		return entities;
+	}
+
+	/**
+	 * Cancel the provided in-flight pages starting at the provided index.
+	 *
+	 * @param inFlight		map of in-flight pages by their index
+	 * @param fromIndex		index to cancel from
+	 * @param <E>			entity type
+	 */
+	private static <E> void cancelFrom(SortedMap<Integer, CompletableFuture<List<E>>> inFlight, int fromIndex) {
+		Map<Integer, CompletableFuture<List<E>>> tail = inFlight.tailMap(fromIndex);
+
+		tail.values().forEach(future -> future.cancel(false));
+		tail.clear();
+	}
+
+	/**
+	 * Enqueue the call of the provided page.
+	 *
+	 * <p>Emits a page event once the page is received.
+	 *
+	 * @param callFactory	page call factory
+	 * @param offset		offset of the page
+	 * @param limit			number of entities per page
+	 * @param <E>			entity type
+	 * @return				future of the page
+	 */
+	static <E> CompletableFuture<List<E>> enqueue(KreedzPageIterator.PageCallFactory<E> callFactory,
+			int offset, int limit) {
+		Object event = UKreedzEvents.beginPageOrNull();
+		CompletableFuture<List<E>> future = UKreedzCall.enqueue(() -> callFactory.create(offset, limit), null);
+
+		if (event != null) {
+			future.whenComplete((entities, throwable) -> UKreedzEvents.commitPage(event, offset, limit,
+					entities != null ? entities.size() : -1));
+		}
+
+		return future;
+	}
+
+	/**
+	 * Wait for the provided page.
+	 *
+	 * @param future	future of the page
+	 * @param <E>		entity type
+	 * @return			page of entities, may be null
+	 */
+	static <E> List<E> await(CompletableFuture<List<E>> future) {
+		try {
+			return future.join();
+		} catch (CancellationException e) {
+			return null;
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException) {
+				throw new UncheckedIOException((IOException) cause);
+			}
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * A lazy page spliterator.
+	 *
+	 * <p>Splits off one fetched page at a time, in order,
+	 * so entities are deduped the same way {@link #fetchAll(int)} does.
+	 */
+	private final class PageSpliterator implements Spliterator<E> {
+
+		/**
+		 * A bit set of the spliterator characteristics.
+		 */
+		private static final int CHARACTERISTICS
+				= Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+		/**
+		 * A maximum number of pages in flight.
+		 */
+		private final int maxConcurrency;
+
+		/**
+		 * A queue of in-flight pages in order.
+		 */
+		private final Deque<CompletableFuture<List<E>>> inFlight = new ArrayDeque<>();
+
+		/**
+		 * A set of already seen identifiers, may be null.
+		 */
+		private final Set<Object> ids;
+
+		/**
+		 * An index of the next page to enqueue.
+		 */
+		private int nextIndex;
+
+		/**
+		 * An index past the last page.
+		 */
+		private int endIndex = Integer.MAX_VALUE;
+
+		/**
+		 * A spliterator of the page being traversed, may be null.
+		 */
+		private Spliterator<E> page;
+
+		/**
+		 * Initialize a {@link PageSpliterator} instance.
+		 *
+		 * @param maxConcurrency	maximum number of pages in flight
+		 */
+		private PageSpliterator(int maxConcurrency) {
+			this.maxConcurrency = maxConcurrency;
+			this.ids = KreedzPages.this.idFunction != null
+					? new HashSet<>()
+					: null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			do {
+				if (this.page != null && this.page.tryAdvance(action)) {
+					return true;
+				}
+
+				this.page = this.nextPageOrNull();
+			} while (this.page != null);
+
+			return false;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Spliterator<E> trySplit() {
+			Spliterator<E> prefix = this.page;
+			this.page = null;
+
+			return prefix != null
+					? prefix
+					: this.nextPageOrNull();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long estimateSize() {
+			long size = this.page != null
+					? this.page.estimateSize()
+					: 0L;
+
+			if (this.endIndex == Integer.MAX_VALUE) {
+				return Long.MAX_VALUE;
+			}
+
+			return size + (long) this.inFlight.size() * KreedzPages.this.limit;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+
+		/**
+		 * Wait for the next non-empty page.
+		 *
+		 * <p>Tops the in-flight pages up beforehand, a short page
+		 * marks the end of data & cancels the pages past it.
+		 *
+		 * @return	spliterator of the next page, or null if there's none
+		 */
+		private Spliterator<E> nextPageOrNull() {
+			try {
+				while (true) {
+					while (this.inFlight.size() < this.maxConcurrency && this.nextIndex < this.endIndex) {
+						this.inFlight.add(KreedzPages.this.fetch(this.nextIndex));
+						this.nextIndex++;
+					}
+
+					CompletableFuture<List<E>> future = this.inFlight.poll();
+
+					if (future == null) {
+						return null;
+					}
+
+					List<E> page = await(future);
+
+					if (page == null || page.size() < KreedzPages.this.limit) {
+						this.endIndex = this.nextIndex - this.inFlight.size();
+						this.cancelAll();
+					}
+
+					Object[] entities = this.dedupe(page);
+
+					if (entities.length > 0) {
+						return Spliterators.spliterator(entities, CHARACTERISTICS);
+					}
+				}
+			} catch (RuntimeException e) {
+				this.cancelAll();
+				throw e;
+			}
+		}
+
+		/**
+		 * Drop the null entities & the ones w/ an already seen identifier.
+		 *
+		 * @param page	page of entities, may be null
+		 * @return		array of entities
+		 */
+		private Object[] dedupe(List<E> page) {
+			if (page == null) {
+				return new Object[0];
+			}
+
+			List<E> entities = new ArrayList<>(page.size());
+
+			for (E entity : page) {
+				if (entity == null) {
+					continue;
+				}
+
+				if (this.ids != null) {
+					Object id = KreedzPages.this.idFunction.apply(entity);
+
+					if (id != null && !this.ids.add(id)) {
+						continue;
+					}
+				}
+
+				entities.add(entity);
+			}
+
+			return entities.toArray();
+		}
+
+		/**
+		 * Cancel all of the in-flight pages.
+		 */
+		private void cancelAll() {
+			this.inFlight.forEach(future -> future.cancel(false));
+			this.inFlight.clear();
+		}
+	}
+}
@@ -16,12 +16,14 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.ban;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IBanService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.BanEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EBanType;
 import io.github.iwyfewwnt.steamid.SteamId;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import io.github.iwyfewwnt.uwutils.UwObject;
 import io.github.iwyfewwnt.uwutils.UwSet;
 import org.joda.time.DateTime;
@@ -34,7 +36,7 @@ import java.util.stream.Stream;
 /**
  * A request for /bans/ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public final class GetBansRequest implements IRequest, Cloneable {
 
 	/**
@@ -95,42 +97,12 @@ public final class GetBansRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetBansRequest} instance.
@@ -170,8 +142,6 @@ public final class GetBansRequest implements IRequest, Cloneable {
 		this.updatedSinceDate = updatedSinceDate;
 		this.offset = offset;
 		this.limit = limit;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -231,30 +201,26 @@ public final class GetBansRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.banTypes,
-							this.steamId64,
-							this.isExpired,
-							this.notes,
-							this.stats,
-							this.serverId,
-							this.createdSinceDate,
-							this.updatedSinceDate,
-							this.offset,
-							this.limit
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.banTypes,
+						this.steamId64,
+						this.isExpired,
+						this.notes,
+						this.stats,
+						this.serverId,
+						this.createdSinceDate,
+						this.updatedSinceDate,
+						this.offset,
+						this.limit
+				)
+		);
 	}
 
 	/**
@@ -262,28 +228,24 @@ public final class GetBansRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "banTypes=" + this.banTypes
-					+ ", steamId64=" + this.steamId64
-					+ ", isExpired=" + this.isExpired
-					+ ", notes=\"" + this.notes + "\""
-					+ ", stats=\"" + this.stats + "\""
-					+ ", serverId=" + this.serverId
-					+ ", createdSinceDate=" + this.createdSinceDate
-					+ ", updatedSinceDate=" + this.updatedSinceDate
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "banTypes=" + this.banTypes
+				+ ", steamId64=" + this.steamId64
+				+ ", isExpired=" + this.isExpired
+				+ ", notes=\"" + this.notes + "\""
+				+ ", stats=\"" + this.stats + "\""
+				+ ", serverId=" + this.serverId
+				+ ", createdSinceDate=" + this.createdSinceDate
+				+ ", updatedSinceDate=" + this.updatedSinceDate
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ "]");
 	}
 
 	/**
@@ -298,8 +260,9 @@ public final class GetBansRequest implements IRequest, Cloneable {
 	 * A request manager for /bans/ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends AbstractRequestManager<
-			GetBansRequest, List<BanEntity>> {
+	public static final class Manager extends AbstractKreedzRequestManager<
+			GetBansRequest, List<BanEntity>>
+			implements IKreedzPageableRequestManager<BanEntity> {
 
 		/**
 		 * A ban service.
@@ -395,6 +358,29 @@ public final class GetBansRequest implements IRequest, Cloneable {
 		 */
 		@Override
 		public Call<List<BanEntity>> call(GetBansRequest request) {
+			return this.callPage(request, request.offset, request.limit);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<BanEntity> pages() {
+			GetBansRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit),
+					request.offset, request.limit, BanEntity::getId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @return			call of the page
+		 */
+		private Call<List<BanEntity>> callPage(GetBansRequest request, Integer offset, Integer limit) {
 			return this.banService.getBans(
 					request.banTypes,
 					request.steamId64,
@@ -404,8 +390,8 @@ public final class GetBansRequest implements IRequest, Cloneable {
 					request.serverId,
 					request.createdSinceDate,
 					request.updatedSinceDate,
-					request.offset,
-					request.limit
+					offset,
+					limit
 			);
 		}
 
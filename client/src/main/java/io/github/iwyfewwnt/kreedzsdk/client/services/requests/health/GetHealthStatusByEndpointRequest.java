@@ -16,11 +16,11 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.health;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IHealthService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.health.responses.HealthStatusResponseEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.health.EHealthEndpoint;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import retrofit2.Call;
 
 import java.util.Objects;
@@ -28,7 +28,7 @@ import java.util.Objects;
 /**
  * A request for /endpoints/.../statuses/ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public final class GetHealthStatusByEndpointRequest implements IRequest, Cloneable {
 
 	/**
@@ -49,42 +49,12 @@ public final class GetHealthStatusByEndpointRequest implements IRequest, Cloneab
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetHealthStatusByEndpointRequest} instance.
@@ -98,8 +68,6 @@ public final class GetHealthStatusByEndpointRequest implements IRequest, Cloneab
 	) {
 		this.group = group;
 		this.endpoint = endpoint;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -143,22 +111,18 @@ public final class GetHealthStatusByEndpointRequest implements IRequest, Cloneab
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.group,
-							this.endpoint
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.group,
+						this.endpoint
+				)
+		);
 	}
 
 	/**
@@ -166,20 +130,16 @@ public final class GetHealthStatusByEndpointRequest implements IRequest, Cloneab
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "group=\"" + this.group + "\""
-					+ ", endpoint=\"" + this.endpoint + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "group=\"" + this.group + "\""
+				+ ", endpoint=\"" + this.endpoint + "\""
+				+ "]");
 	}
 
 	/**
@@ -194,7 +154,7 @@ public final class GetHealthStatusByEndpointRequest implements IRequest, Cloneab
 	 * A request manager for /endpoints/.../statuses/ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends AbstractRequestManager<
+	public static final class Manager extends AbstractKreedzRequestManager<
 			GetHealthStatusByEndpointRequest, HealthStatusResponseEntity> {
 
 		/**
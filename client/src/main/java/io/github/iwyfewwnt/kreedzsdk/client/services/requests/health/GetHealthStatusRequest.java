@@ -16,10 +16,10 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.health;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IHealthService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.health.responses.HealthStatusResponseEntity;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import retrofit2.Call;
 
 import java.util.List;
@@ -36,7 +36,7 @@ public final class GetHealthStatusRequest implements IRequest {
 	/**
 	 * A request manager for /endpoints/statuses/ endpoint.
 	 */
-	public static final class Manager extends AbstractRequestManager<
+	public static final class Manager extends AbstractKreedzRequestManager<
 			GetHealthStatusRequest, List<HealthStatusResponseEntity>> {
 
 		/**
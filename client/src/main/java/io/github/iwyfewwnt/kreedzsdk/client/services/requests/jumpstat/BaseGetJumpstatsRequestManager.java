@@ -16,11 +16,11 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.jumpstat;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.BaseKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.JumpstatEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.DataUpdater;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EJumpType;
 import io.github.iwyfewwnt.steamid.SteamId;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.BaseRequestManager;
 import io.github.iwyfewwnt.uwutils.UwObject;
 import io.github.iwyfewwnt.uwutils.UwSet;
 import org.joda.time.DateTime;
@@ -38,7 +38,7 @@ import java.util.stream.Stream;
  */
 @SuppressWarnings("unused")
 public abstract class BaseGetJumpstatsRequestManager<T extends BaseGetJumpstatsRequestManager<T, U>, U extends GetJumpstatsRequest>
-		extends BaseRequestManager<T, U, List<JumpstatEntity>> {
+		extends BaseKreedzRequestManager<T, U, List<JumpstatEntity>> {
 
 	/**
 	 * An identifier.
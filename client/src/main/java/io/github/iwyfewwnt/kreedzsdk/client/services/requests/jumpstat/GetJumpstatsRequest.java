@@ -17,6 +17,9 @@
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.jumpstat;
 
 import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzQuery;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IJumpstatService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.JumpstatEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EJumpType;
@@ -30,7 +33,7 @@ import java.util.*;
 /**
  * A request for /jumpstats/ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public class GetJumpstatsRequest implements IRequest, Cloneable {
 
 	/**
@@ -111,42 +114,12 @@ public class GetJumpstatsRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	protected transient volatile Integer hashCodeCache;
+	protected transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	protected transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	protected transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	protected transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	protected void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	protected transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetJumpstatsRequest} instance.
@@ -201,8 +174,6 @@ public class GetJumpstatsRequest implements IRequest, Cloneable {
 		this.updatedSinceDate = updatedSinceDate;
 		this.offset = offset;
 		this.limit = limit;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -272,35 +243,31 @@ public class GetJumpstatsRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.serverId,
-							this.steamId64s,
-							this.jumpType,
-							this.distanceGreaterThan,
-							this.distanceLessThan,
-							this.isMsl,
-							this.isCrouchBind,
-							this.isForwardBind,
-							this.isCrouchBoost,
-							this.dataUpdaterId,
-							this.createdSinceDate,
-							this.updatedSinceDate,
-							this.offset,
-							this.limit
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.serverId,
+						this.steamId64s,
+						this.jumpType,
+						this.distanceGreaterThan,
+						this.distanceLessThan,
+						this.isMsl,
+						this.isCrouchBind,
+						this.isForwardBind,
+						this.isCrouchBoost,
+						this.dataUpdaterId,
+						this.createdSinceDate,
+						this.updatedSinceDate,
+						this.offset,
+						this.limit
+				)
+		);
 	}
 
 	/**
@@ -308,36 +275,32 @@ public class GetJumpstatsRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			String simpleName = this.getClass()
-					.getSimpleName();
-
-			return (this.stringCache = simpleName + "["
-					+ "id=" + this.id
-					+ ", serverId=" + this.serverId
-					+ ", steamId64s=" + this.steamId64s
-					+ ", jumpType=" + this.jumpType
-					+ ", distanceGreaterThan=" + this.distanceGreaterThan
-					+ ", distanceLessThan=" + this.distanceLessThan
-					+ ", isMsl=" + this.isMsl
-					+ ", isCrouchBind=" + this.isCrouchBind
-					+ ", isForwardBind=" + this.isForwardBind
-					+ ", isCrouchBoost=" + this.isCrouchBoost
-					+ ", dataUpdaterId=" + this.dataUpdaterId
-					+ ", createdSinceDate=" + this.createdSinceDate
-					+ ", updatedSinceDate=" + this.updatedSinceDate
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		String simpleName = this.getClass()
+				.getSimpleName();
+
+		return (this.stringCache = simpleName + "["
+				+ "id=" + this.id
+				+ ", serverId=" + this.serverId
+				+ ", steamId64s=" + this.steamId64s
+				+ ", jumpType=" + this.jumpType
+				+ ", distanceGreaterThan=" + this.distanceGreaterThan
+				+ ", distanceLessThan=" + this.distanceLessThan
+				+ ", isMsl=" + this.isMsl
+				+ ", isCrouchBind=" + this.isCrouchBind
+				+ ", isForwardBind=" + this.isForwardBind
+				+ ", isCrouchBoost=" + this.isCrouchBoost
+				+ ", dataUpdaterId=" + this.dataUpdaterId
+				+ ", createdSinceDate=" + this.createdSinceDate
+				+ ", updatedSinceDate=" + this.updatedSinceDate
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ "]");
 	}
 
 	/**
@@ -352,7 +315,13 @@ public class GetJumpstatsRequest implements IRequest, Cloneable {
 	 * A request manager for /jumpstats/ endpoint.
 	 */
 	public static final class Manager extends BaseGetJumpstatsRequestManager<
-				Manager, GetJumpstatsRequest> {
+				Manager, GetJumpstatsRequest>
+			implements IKreedzPageableRequestManager<JumpstatEntity> {
+
+		/**
+		 * A query parameter name of the person identifiers.
+		 */
+		private static final String STEAMID64_LIST = "steamid64_list";
 
 		/**
 		 * A jumpstat service.
@@ -403,23 +372,52 @@ public class GetJumpstatsRequest implements IRequest, Cloneable {
 		 */
 		@Override
 		public Call<List<JumpstatEntity>> call(GetJumpstatsRequest request) {
-			return this.jumpstatService.getJumpstats(
-					request.id,
-					request.serverId,
-					request.steamId64s,
-					request.jumpType,
-					request.distanceGreaterThan,
-					request.distanceLessThan,
-					request.isMsl,
-					request.isCrouchBind,
-					request.isForwardBind,
-					request.isCrouchBoost,
-					request.dataUpdaterId,
-					request.createdSinceDate,
-					request.updatedSinceDate,
-					request.offset,
-					request.limit
-			);
+			return this.callPage(request, request.offset, request.limit, false);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<JumpstatEntity> pages() {
+			GetJumpstatsRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit, true),
+					request.offset, request.limit, JumpstatEntity::getId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * <p>An oversized set of the person identifiers is split into
+		 * concurrent calls, whose results are merged.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @param isPage	whether the call is a page of a page sequence
+		 * @return			call of the page
+		 */
+		private Call<List<JumpstatEntity>> callPage(GetJumpstatsRequest request, Integer offset, Integer limit,
+													boolean isPage) {
+			return UKreedzQuery.split(STEAMID64_LIST, request.steamId64s, UKreedzQuery.MAX_QUERY_LENGTH,
+					offset, limit, isPage, null, (steamId64s, chunkOffset, chunkLimit) -> this.jumpstatService.getJumpstats(
+							request.id,
+							request.serverId,
+							steamId64s,
+							request.jumpType,
+							request.distanceGreaterThan,
+							request.distanceLessThan,
+							request.isMsl,
+							request.isCrouchBind,
+							request.isForwardBind,
+							request.isCrouchBoost,
+							request.dataUpdaterId,
+							request.createdSinceDate,
+							request.updatedSinceDate,
+							chunkOffset,
+							chunkLimit
+					));
 		}
 	}
 }
@@ -17,12 +17,16 @@
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.jumpstat;
 
 import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzQuery;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IJumpstatService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.JumpstatEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EJumpType;
 import org.joda.time.DateTime;
 import retrofit2.Call;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 
@@ -31,18 +35,6 @@ import java.util.Set;
  */
 public final class GetJumpstatsTopRequest extends GetJumpstatsRequest implements Cloneable {
 
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
-
 	/**
 	 * Initialize a {@code GetJumpstatsTopRequest} instance.
 	 *
@@ -121,7 +113,19 @@ public final class GetJumpstatsTopRequest extends GetJumpstatsRequest implements
 	 * A request manager for /jumpstats/.../top/ endpoint.
 	 */
 	public static final class Manager extends BaseGetJumpstatsRequestManager<
-				Manager, GetJumpstatsTopRequest> {
+				Manager, GetJumpstatsTopRequest>
+			implements IKreedzPageableRequestManager<JumpstatEntity> {
+
+		/**
+		 * A query parameter name of the person identifiers.
+		 */
+		private static final String STEAMID64_LIST = "steamid64_list";
+
+		/**
+		 * An order of the top jumpstats, the longest first.
+		 */
+		private static final Comparator<JumpstatEntity> ORDER = Comparator.comparing(
+				JumpstatEntity::getDistance, Comparator.nullsLast(Comparator.reverseOrder()));
 
 		/**
 		 * A jumpstat service.
@@ -172,23 +176,52 @@ public final class GetJumpstatsTopRequest extends GetJumpstatsRequest implements
 		 */
 		@Override
 		public Call<List<JumpstatEntity>> call(GetJumpstatsTopRequest request) {
-			return this.jumpstatService.getJumpstatsTop(
-					request.jumpType,
-					request.id,
-					request.serverId,
-					request.steamId64s,
-					request.distanceGreaterThan,
-					request.distanceLessThan,
-					request.isMsl,
-					request.isCrouchBind,
-					request.isForwardBind,
-					request.isCrouchBoost,
-					request.dataUpdaterId,
-					request.createdSinceDate,
-					request.updatedSinceDate,
-					request.offset,
-					request.limit
-			);
+			return this.callPage(request, request.offset, request.limit, false);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<JumpstatEntity> pages() {
+			GetJumpstatsTopRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit, true),
+					request.offset, request.limit, JumpstatEntity::getId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * <p>An oversized set of the person identifiers is split into
+		 * concurrent calls, whose results are merged.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @param isPage	whether the call is a page of a page sequence
+		 * @return			call of the page
+		 */
+		private Call<List<JumpstatEntity>> callPage(GetJumpstatsTopRequest request, Integer offset, Integer limit,
+													boolean isPage) {
+			return UKreedzQuery.split(STEAMID64_LIST, request.steamId64s, UKreedzQuery.MAX_QUERY_LENGTH,
+					offset, limit, isPage, ORDER, (steamId64s, chunkOffset, chunkLimit) -> this.jumpstatService.getJumpstatsTop(
+							request.jumpType,
+							request.id,
+							request.serverId,
+							steamId64s,
+							request.distanceGreaterThan,
+							request.distanceLessThan,
+							request.isMsl,
+							request.isCrouchBind,
+							request.isForwardBind,
+							request.isCrouchBoost,
+							request.dataUpdaterId,
+							request.createdSinceDate,
+							request.updatedSinceDate,
+							chunkOffset,
+							chunkLimit
+					));
 		}
 	}
 }
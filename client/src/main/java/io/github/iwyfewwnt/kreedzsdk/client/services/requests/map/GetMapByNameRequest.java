@@ -16,10 +16,10 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.map;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IMapService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.MapEntity;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import retrofit2.Call;
 
 import java.util.Objects;
@@ -27,7 +27,7 @@ import java.util.Objects;
 /**
  * A request for /maps/name/.../ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public final class GetMapByNameRequest implements IRequest, Cloneable {
 
 	/**
@@ -43,42 +43,12 @@ public final class GetMapByNameRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetMapByNameRequest} instance.
@@ -87,8 +57,6 @@ public final class GetMapByNameRequest implements IRequest, Cloneable {
 	 */
 	private GetMapByNameRequest(String mapName) {
 		this.mapName = mapName;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -128,18 +96,14 @@ public final class GetMapByNameRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(this.mapName));
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(this.mapName));
 	}
 
 	/**
@@ -147,19 +111,15 @@ public final class GetMapByNameRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "mapName=\"" + this.mapName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "mapName=\"" + this.mapName + "\""
+				+ "]");
 	}
 
 	/**
@@ -174,7 +134,7 @@ public final class GetMapByNameRequest implements IRequest, Cloneable {
 	 * A request manager for /maps/name/.../ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends AbstractRequestManager<GetMapByNameRequest, MapEntity> {
+	public static final class Manager extends AbstractKreedzRequestManager<GetMapByNameRequest, MapEntity> {
 
 		/**
 		 * A map service.
@@ -16,11 +16,14 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.map;
 
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzQuery;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IMapService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.MapEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EDifficulty;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import io.github.iwyfewwnt.uwutils.UwSet;
 import org.joda.time.DateTime;
 import retrofit2.Call;
@@ -32,7 +35,7 @@ import java.util.stream.Stream;
 /**
  * A request for /maps/ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public final class GetMapsRequest implements IRequest, Cloneable {
 
 	/**
@@ -93,42 +96,12 @@ public final class GetMapsRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetMapsRequest} instance.
@@ -168,8 +141,6 @@ public final class GetMapsRequest implements IRequest, Cloneable {
 		this.updatedSinceDate = updatedSinceDate;
 		this.offset = offset;
 		this.limit = limit;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -229,30 +200,26 @@ public final class GetMapsRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.ids,
-							this.mapName,
-							this.fileSizeLargerThan,
-							this.fileSizeSmallerThan,
-							this.isValidated,
-							this.difficulty,
-							this.createdSinceDate,
-							this.updatedSinceDate,
-							this.offset,
-							this.limit
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.ids,
+						this.mapName,
+						this.fileSizeLargerThan,
+						this.fileSizeSmallerThan,
+						this.isValidated,
+						this.difficulty,
+						this.createdSinceDate,
+						this.updatedSinceDate,
+						this.offset,
+						this.limit
+				)
+		);
 	}
 
 	/**
@@ -260,28 +227,24 @@ public final class GetMapsRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "ids=" + this.ids
-					+ ", mapName=\"" + this.mapName + "\""
-					+ ", fileSizeLargerThan=" + this.fileSizeLargerThan
-					+ ", fileSizeSmallerThan=" + this.fileSizeSmallerThan
-					+ ", isValidated=" + this.isValidated
-					+ ", difficulty=" + this.difficulty
-					+ ", createdSinceDate=" + this.createdSinceDate
-					+ ", updatedSinceDate=" + this.updatedSinceDate
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "ids=" + this.ids
+				+ ", mapName=\"" + this.mapName + "\""
+				+ ", fileSizeLargerThan=" + this.fileSizeLargerThan
+				+ ", fileSizeSmallerThan=" + this.fileSizeSmallerThan
+				+ ", isValidated=" + this.isValidated
+				+ ", difficulty=" + this.difficulty
+				+ ", createdSinceDate=" + this.createdSinceDate
+				+ ", updatedSinceDate=" + this.updatedSinceDate
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ "]");
 	}
 
 	/**
@@ -296,7 +259,13 @@ public final class GetMapsRequest implements IRequest, Cloneable {
 	 * A request manager for /maps/ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends AbstractRequestManager<GetMapsRequest, List<MapEntity>> {
+	public static final class Manager extends AbstractKreedzRequestManager<GetMapsRequest, List<MapEntity>>
+			implements IKreedzPageableRequestManager<MapEntity> {
+
+		/**
+		 * A query parameter name of the map identifiers.
+		 */
+		private static final String IDS = "id";
 
 		/**
 		 * A map service.
@@ -390,18 +359,47 @@ public final class GetMapsRequest implements IRequest, Cloneable {
 		 */
 		@Override
 		public Call<List<MapEntity>> call(GetMapsRequest request) {
-			return this.mapService.getMaps(
-					request.ids,
-					request.mapName,
-					request.fileSizeLargerThan,
-					request.fileSizeSmallerThan,
-					request.isValidated,
-					request.difficulty,
-					request.createdSinceDate,
-					request.updatedSinceDate,
-					request.offset,
-					request.limit
-			);
+			return this.callPage(request, request.offset, request.limit, false);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<MapEntity> pages() {
+			GetMapsRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit, true),
+					request.offset, request.limit, MapEntity::getId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * <p>An oversized set of the map identifiers is split into
+		 * concurrent calls, whose results are merged.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @param isPage	whether the call is a page of a page sequence
+		 * @return			call of the page
+		 */
+		private Call<List<MapEntity>> callPage(GetMapsRequest request, Integer offset, Integer limit,
+											   boolean isPage) {
+			return UKreedzQuery.split(IDS, request.ids, UKreedzQuery.MAX_QUERY_LENGTH,
+					offset, limit, isPage, null, (ids, chunkOffset, chunkLimit) -> this.mapService.getMaps(
+							ids,
+							request.mapName,
+							request.fileSizeLargerThan,
+							request.fileSizeSmallerThan,
+							request.isValidated,
+							request.difficulty,
+							request.createdSinceDate,
+							request.updatedSinceDate,
+							chunkOffset,
+							chunkLimit
+					));
 		}
 
 		/**
@@ -16,10 +16,10 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.mapimage;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IMapImageService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.map.MapImageEntity;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import retrofit2.Call;
 
 import java.util.List;
@@ -36,7 +36,7 @@ public final class GetMapImagesRequest implements IRequest {
 	/**
 	 * A request manager for /public/maps.mis.json/ endpoint.
 	 */
-	public static final class Manager extends AbstractRequestManager<GetMapImagesRequest, List<MapImageEntity>> {
+	public static final class Manager extends AbstractKreedzRequestManager<GetMapImagesRequest, List<MapImageEntity>> {
 
 		/**
 		 * A map image service.
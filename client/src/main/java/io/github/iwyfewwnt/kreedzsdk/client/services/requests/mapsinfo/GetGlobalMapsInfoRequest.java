@@ -16,10 +16,10 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.mapsinfo;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IMapInfoService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.map.MapInfoEntity;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import retrofit2.Call;
 
 import java.util.List;
@@ -36,7 +36,7 @@ public final class GetGlobalMapsInfoRequest implements IRequest {
 	/**
 	 * A request manager for /main/global.min.json/ endpoint.
 	 */
-	public static final class Manager extends AbstractRequestManager<GetGlobalMapsInfoRequest, List<MapInfoEntity>> {
+	public static final class Manager extends AbstractKreedzRequestManager<GetGlobalMapsInfoRequest, List<MapInfoEntity>> {
 
 		/**
 		 * A map information service.
@@ -16,10 +16,10 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.mode;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IModeService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.ModeEntity;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import retrofit2.Call;
 
 import java.util.List;
@@ -36,7 +36,7 @@ public final class GetModesRequest implements IRequest {
 	/**
 	 * A request manager for /modes/ endpoint.
 	 */
-	public static final class Manager extends AbstractRequestManager<GetModesRequest, List<ModeEntity>> {
+	public static final class Manager extends AbstractKreedzRequestManager<GetModesRequest, List<ModeEntity>> {
 
 		/**
 		 * A mode service.
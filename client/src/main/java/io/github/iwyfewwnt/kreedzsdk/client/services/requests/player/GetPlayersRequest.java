@@ -17,11 +17,14 @@
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.player;
 
 import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzQuery;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IPlayerService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.PlayerEntity;
 import io.github.iwyfewwnt.steamid.SteamId;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import io.github.iwyfewwnt.uwutils.UwSet;
 import retrofit2.Call;
 
@@ -31,7 +34,7 @@ import java.util.stream.Stream;
 /**
  * A request for /players/ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public final class GetPlayersRequest implements IRequest, Cloneable {
 
 	/**
@@ -72,42 +75,12 @@ public final class GetPlayersRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetPlayersRequest} instance.
@@ -135,8 +108,6 @@ public final class GetPlayersRequest implements IRequest, Cloneable {
 		this.steamId64s = steamId64s;
 		this.offset = offset;
 		this.limit = limit;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -188,26 +159,22 @@ public final class GetPlayersRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.playerName,
-							this.isBanned,
-							this.recordCount,
-							this.steamId64s,
-							this.offset,
-							this.limit
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.playerName,
+						this.isBanned,
+						this.recordCount,
+						this.steamId64s,
+						this.offset,
+						this.limit
+				)
+		);
 	}
 
 	/**
@@ -215,24 +182,20 @@ public final class GetPlayersRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "playerName=\"" + this.playerName + "\""
-					+ ", isBanned=" + this.isBanned
-					+ ", recordCount=" + this.recordCount
-					+ ", steamId64s=" + this.steamId64s
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "playerName=\"" + this.playerName + "\""
+				+ ", isBanned=" + this.isBanned
+				+ ", recordCount=" + this.recordCount
+				+ ", steamId64s=" + this.steamId64s
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ "]");
 	}
 
 	/**
@@ -247,7 +210,13 @@ public final class GetPlayersRequest implements IRequest, Cloneable {
 	 * A request manager for /players/ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends AbstractRequestManager<GetPlayersRequest, List<PlayerEntity>> {
+	public static final class Manager extends AbstractKreedzRequestManager<GetPlayersRequest, List<PlayerEntity>>
+			implements IKreedzPageableRequestManager<PlayerEntity> {
+
+		/**
+		 * A query parameter name of the person identifiers.
+		 */
+		private static final String STEAMID64_LIST = "steamid64_list";
 
 		/**
 		 * A player service.
@@ -319,14 +288,43 @@ public final class GetPlayersRequest implements IRequest, Cloneable {
 		 */
 		@Override
 		public Call<List<PlayerEntity>> call(GetPlayersRequest request) {
-			return this.playerService.getPlayers(
-					request.playerName,
-					request.isBanned,
-					request.recordCount,
-					request.steamId64s,
-					request.offset,
-					request.limit
-			);
+			return this.callPage(request, request.offset, request.limit, false);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<PlayerEntity> pages() {
+			GetPlayersRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit, true),
+					request.offset, request.limit, PlayerEntity::getSteamId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * <p>An oversized set of the person identifiers is split into
+		 * concurrent calls, whose results are merged.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @param isPage	whether the call is a page of a page sequence
+		 * @return			call of the page
+		 */
+		private Call<List<PlayerEntity>> callPage(GetPlayersRequest request, Integer offset, Integer limit,
+												  boolean isPage) {
+			return UKreedzQuery.split(STEAMID64_LIST, request.steamId64s, UKreedzQuery.MAX_QUERY_LENGTH,
+					offset, limit, isPage, null, (steamId64s, chunkOffset, chunkLimit) -> this.playerService.getPlayers(
+							request.playerName,
+							request.isBanned,
+							request.recordCount,
+							steamId64s,
+							chunkOffset,
+							chunkLimit
+					));
 		}
 
 		/**
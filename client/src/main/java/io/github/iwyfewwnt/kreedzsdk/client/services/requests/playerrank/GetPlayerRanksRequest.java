@@ -17,6 +17,10 @@
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.playerrank;
 
 import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCommon;
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzQuery;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IPlayerRankService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.PlayerRankEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
@@ -24,7 +28,6 @@ import io.github.iwyfewwnt.kreedzsdk.structs.types.ERunType;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ETickrate;
 import io.github.iwyfewwnt.steamid.SteamId;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import io.github.iwyfewwnt.uwutils.UwSet;
 import retrofit2.Call;
 
@@ -35,7 +38,7 @@ import java.util.stream.Stream;
 /**
  * A request for /player_ranks/ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public final class GetPlayerRanksRequest implements IRequest, Cloneable {
 
 	/**
@@ -116,42 +119,12 @@ public final class GetPlayerRanksRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetPlayerRanksRequest} instance.
@@ -208,8 +181,6 @@ public final class GetPlayerRanksRequest implements IRequest, Cloneable {
 		this.mapTag = mapTag;
 		this.offset = offset;
 		this.limit = limit;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -277,34 +248,30 @@ public final class GetPlayerRanksRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.pointsGreaterThan,
-							this.avgPointsGreaterThan,
-							this.ratingGreaterThan,
-							this.finishCountGreaterThan,
-							this.steamId64s,
-							this.recordFilterIds,
-							this.mapIds,
-							this.stages,
-							this.modes,
-							this.tickrates,
-							this.runType,
-							this.mapTag,
-							this.offset,
-							this.limit
-					)
-			);
-		}
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.pointsGreaterThan,
+						this.avgPointsGreaterThan,
+						this.ratingGreaterThan,
+						this.finishCountGreaterThan,
+						this.steamId64s,
+						this.recordFilterIds,
+						this.mapIds,
+						this.stages,
+						this.modes,
+						this.tickrates,
+						this.runType,
+						this.mapTag,
+						this.offset,
+						this.limit
+				)
+		);
 	}
 
 	/**
@@ -312,32 +279,28 @@ public final class GetPlayerRanksRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "pointsGreaterThan=" + this.pointsGreaterThan
-					+ ", avgPointsGreaterThan=" + this.avgPointsGreaterThan
-					+ ", ratingGreaterThan=" + this.ratingGreaterThan
-					+ ", finishCountGreaterThan=" + this.finishCountGreaterThan
-					+ ", steamId64s=" + this.steamId64s
-					+ ", recordFilterIds=" + this.recordFilterIds
-					+ ", mapIds=" + this.mapIds
-					+ ", stages=" + this.stages
-					+ ", modes=" + this.modes
-					+ ", tickrates=" + this.tickrates
-					+ ", runType=" + this.runType
-					+ ", mapTag=\"" + this.mapTag + "\""
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ "]");
-		}
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "pointsGreaterThan=" + this.pointsGreaterThan
+				+ ", avgPointsGreaterThan=" + this.avgPointsGreaterThan
+				+ ", ratingGreaterThan=" + this.ratingGreaterThan
+				+ ", finishCountGreaterThan=" + this.finishCountGreaterThan
+				+ ", steamId64s=" + this.steamId64s
+				+ ", recordFilterIds=" + this.recordFilterIds
+				+ ", mapIds=" + this.mapIds
+				+ ", stages=" + this.stages
+				+ ", modes=" + this.modes
+				+ ", tickrates=" + this.tickrates
+				+ ", runType=" + this.runType
+				+ ", mapTag=\"" + this.mapTag + "\""
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ "]");
 	}
 
 	/**
@@ -352,7 +315,29 @@ public final class GetPlayerRanksRequest implements IRequest, Cloneable {
 	 * A request manager for /player_ranks/ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends AbstractRequestManager<GetPlayerRanksRequest, List<PlayerRankEntity>> {
+	public static final class Manager extends AbstractKreedzRequestManager<GetPlayerRanksRequest, List<PlayerRankEntity>>
+			implements IKreedzPageableRequestManager<PlayerRankEntity> {
+
+		/**
+		 * A query parameter name of the person identifiers.
+		 */
+		private static final String STEAMID64S = "steamid64s";
+
+		/**
+		 * A query parameter name of the record filter identifiers.
+		 */
+		private static final String RECORD_FILTER_IDS = "record_filter_ids";
+
+		/**
+		 * A query parameter name of the map identifiers.
+		 */
+		private static final String MAP_IDS = "map_ids";
+
+		/**
+		 * An order of the player ranks, the most points first.
+		 */
+		private static final Comparator<PlayerRankEntity> ORDER = Comparator.comparing(
+				PlayerRankEntity::getPointCount, Comparator.nullsLast(Comparator.reverseOrder()));
 
 		/**
 		 * A player rank service.
@@ -472,22 +457,56 @@ public final class GetPlayerRanksRequest implements IRequest, Cloneable {
 		 */
 		@Override
 		public Call<List<PlayerRankEntity>> call(GetPlayerRanksRequest request) {
-			return this.playerRankService.getPlayerRanks(
-					request.pointsGreaterThan,
-					request.avgPointsGreaterThan,
-					request.ratingGreaterThan,
-					request.finishCountGreaterThan,
-					request.steamId64s,
-					request.recordFilterIds,
-					request.mapIds,
-					request.stages,
-					request.modes,
-					request.tickrates,
-					request.runType,
-					request.mapTag,
-					request.offset,
-					request.limit
-			);
+			return this.callPage(request, request.offset, request.limit, false);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<PlayerRankEntity> pages() {
+			GetPlayerRanksRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit, true),
+					request.offset, request.limit, PlayerRankEntity::getSteamId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * <p>An oversized set of the person identifiers is split into
+		 * concurrent calls, whose results are merged.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @param isPage	whether the call is a page of a page sequence
+		 * @return			call of the page
+		 */
+		private Call<List<PlayerRankEntity>> callPage(GetPlayerRanksRequest request, Integer offset, Integer limit,
+													  boolean isPage) {
+			// Only the person identifiers are split, as ranks are aggregated over the maps & filters.
+			int maxLength = Math.max(UKreedzQuery.MAX_QUERY_LENGTH / 4, UKreedzQuery.MAX_QUERY_LENGTH
+					- UKreedzQuery.lengthOf(RECORD_FILTER_IDS, request.recordFilterIds)
+					- UKreedzQuery.lengthOf(MAP_IDS, request.mapIds));
+
+			return UKreedzQuery.split(STEAMID64S, request.steamId64s, maxLength,
+					offset, limit, isPage, ORDER, (steamId64s, chunkOffset, chunkLimit) -> this.playerRankService.getPlayerRanks(
+							request.pointsGreaterThan,
+							request.avgPointsGreaterThan,
+							request.ratingGreaterThan,
+							request.finishCountGreaterThan,
+							steamId64s,
+							request.recordFilterIds,
+							request.mapIds,
+							request.stages,
+							request.modes,
+							request.tickrates,
+							request.runType,
+							request.mapTag,
+							chunkOffset,
+							chunkLimit
+					));
 		}
 
 		/**
@@ -16,7 +16,7 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.record;
 
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.BaseRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.BaseKreedzRequestManager;
 
 /**
  * A base request manager for record identifier only endpoints.
@@ -27,7 +27,7 @@ import io.github.iwyfewwnt.uwretrofit.services.requests.impl.BaseRequestManager;
  */
 @SuppressWarnings("unused")
 public abstract class BaseGetRecordByIdRequestManager<T extends BaseGetRecordByIdRequestManager<T, U, R>, U extends GetRecordByIdRequest, R>
-		extends BaseRequestManager<T, U, R> {
+		extends BaseKreedzRequestManager<T, U, R> {
 
 	/**
 	 * An identifier.
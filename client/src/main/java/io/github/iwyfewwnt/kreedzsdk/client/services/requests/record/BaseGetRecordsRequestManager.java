@@ -16,14 +16,19 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.record;
 
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzCall;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.BaseKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordTable;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ERunType;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ETickrate;
 import io.github.iwyfewwnt.steamid.SteamId;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.BaseRequestManager;
+import retrofit2.Call;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * A base request manager for /records/top/{@literal **}/ endpoints.
@@ -33,7 +38,7 @@ import java.util.List;
  */
 @SuppressWarnings("unused")
 public abstract class BaseGetRecordsRequestManager<T extends BaseGetRecordsRequestManager<T, U>, U extends GetRecordsRequest>
-		extends BaseRequestManager<T, U, List<RecordEntity>> {
+		extends BaseKreedzRequestManager<T, U, List<RecordEntity>> {
 
 	/**
 	 * A person identifier.
@@ -86,6 +91,77 @@ public abstract class BaseGetRecordsRequestManager<T extends BaseGetRecordsReque
 	BaseGetRecordsRequestManager() {
 	}
 
+	/**
+	 * Create a call that decodes the response into a {@link RecordTable}.
+	 *
+	 * @param request	request to create a call for
+	 * @return			call of the record table
+	 */
+	public abstract Call<RecordTable> callTable(U request);
+
+	/**
+	 * Execute this request and decode the response
+	 * into a {@link RecordTable} or return {@code null} if failed.
+	 *
+	 * <p>Opt-in alternative to {@link #execute(Throwable[])}
+	 * for large result sets held in memory.
+	 *
+	 * @param throwables	array to store a thrown exception into, may be null
+	 * @return				record table or {@code null}
+	 */
+	public final RecordTable executeTable(Throwable[] throwables) {
+		Call<RecordTable> call;
+
+		try {
+			call = this.callTable(this.build());
+		} catch (RuntimeException e) {
+			if (throwables != null && throwables.length > 0) {
+				throwables[0] = e;
+			}
+
+			return null;
+		}
+
+		return UKreedzCall.executeOrNull(call, throwables);
+	}
+
+	/**
+	 * Execute this request and decode the response
+	 * into a {@link RecordTable} or return {@code null} if failed.
+	 *
+	 * <p>Wraps {@link #executeTable(Throwable[])}
+	 * w/ {@code null} as the array of throwables.
+	 *
+	 * @return	record table or {@code null}
+	 */
+	public final RecordTable executeTable() {
+		return this.executeTable(null);
+	}
+
+	/**
+	 * Execute this request asynchronously and decode
+	 * the response into a {@link RecordTable}.
+	 *
+	 * @param executor	executor to complete the future on, may be null
+	 * @return			future of the record table
+	 */
+	public final CompletableFuture<RecordTable> executeTableAsync(Executor executor) {
+		return UKreedzCall.enqueue(() -> this.callTable(this.build()), executor);
+	}
+
+	/**
+	 * Execute this request asynchronously and decode
+	 * the response into a {@link RecordTable}.
+	 *
+	 * <p>Wraps {@link #executeTableAsync(Executor)}
+	 * w/ {@code null} as the executor.
+	 *
+	 * @return	future of the record table
+	 */
+	public final CompletableFuture<RecordTable> executeTableAsync() {
+		return this.executeTableAsync(null);
+	}
+
 	/**
 	 * Set this person identifier.
 	 *
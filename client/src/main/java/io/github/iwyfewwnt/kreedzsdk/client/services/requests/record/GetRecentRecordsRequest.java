@@ -16,8 +16,11 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.record;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IRecordService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordTable;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ERunType;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ETickrate;
@@ -32,7 +35,6 @@ import java.util.Objects;
 /**
  * A request for /records/top/recent/ endpoint.
  */
-@SuppressWarnings("SynchronizeOnNonFinalField")
 public final class GetRecentRecordsRequest extends GetRecordsRequest implements Cloneable {
 
 	/**
@@ -58,18 +60,6 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 	// Should be "this#updatedSinceDate" as well,
 	//  but there is nothing on the kreedz API swagger page.
 
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
-
 	/**
 	 * Initialize a {@link GetRecentRecordsRequest} instance.
 	 *
@@ -170,32 +160,28 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.steamId64,
-							this.mapId,
-							this.mapName,
-							this.runType,
-							this.tickrate,
-							this.stage,
-							this.modeName,
-							this.offset,
-							this.limit,
-							this.minPlace,
-							this.minOverallPlace,
-							this.createdSinceDate
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.steamId64,
+						this.mapId,
+						this.mapName,
+						this.runType,
+						this.tickrate,
+						this.stage,
+						this.modeName,
+						this.offset,
+						this.limit,
+						this.minPlace,
+						this.minOverallPlace,
+						this.createdSinceDate
+				)
+		);
 	}
 
 	/**
@@ -203,30 +189,26 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "steamId64=" + this.steamId64
-					+ ", mapId=" + this.mapId
-					+ ", mapName=\"" + this.mapName + "\""
-					+ ", runType=" + this.runType
-					+ ", tickrate=" + this.tickrate
-					+ ", stage=" + this.stage
-					+ ", modeName=\"" + this.modeName + "\""
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ ", minPlace=" + this.minPlace
-					+ ", minOverallPlace=" + this.minOverallPlace
-					+ ", createdSinceDate=" + this.createdSinceDate
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "steamId64=" + this.steamId64
+				+ ", mapId=" + this.mapId
+				+ ", mapName=\"" + this.mapName + "\""
+				+ ", runType=" + this.runType
+				+ ", tickrate=" + this.tickrate
+				+ ", stage=" + this.stage
+				+ ", modeName=\"" + this.modeName + "\""
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ ", minPlace=" + this.minPlace
+				+ ", minOverallPlace=" + this.minOverallPlace
+				+ ", createdSinceDate=" + this.createdSinceDate
+				+ "]");
 	}
 
 	/**
@@ -241,7 +223,8 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 	 * A request manager for /records/top/recent/ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends BaseGetRecordsRequestManager<Manager, GetRecentRecordsRequest> {
+	public static final class Manager extends BaseGetRecordsRequestManager<Manager, GetRecentRecordsRequest>
+			implements IKreedzPageableRequestManager<RecordEntity> {
 
 		/**
 		 * A record service.
@@ -305,7 +288,51 @@ public final class GetRecentRecordsRequest extends GetRecordsRequest implements
 		 */
 		@Override
 		public Call<List<RecordEntity>> call(GetRecentRecordsRequest request) {
+			return this.callPage(request, request.offset, request.limit);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<RecordEntity> pages() {
+			GetRecentRecordsRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit),
+					request.offset, request.limit, RecordEntity::getId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @return			call of the page
+		 */
+		private Call<List<RecordEntity>> callPage(GetRecentRecordsRequest request, Integer offset, Integer limit) {
 			return this.recordService.getRecentRecords(
+					request.steamId64,
+					request.mapId,
+					request.mapName,
+					request.runType,
+					request.tickrate,
+					request.stage,
+					request.modeName,
+					request.minPlace,
+					request.minOverallPlace,
+					request.createdSinceDate,
+					offset,
+					limit
+			);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Call<RecordTable> callTable(GetRecentRecordsRequest request) {
+			return this.recordService.getRecentRecordsTable(
 					request.steamId64,
 					request.mapId,
 					request.mapName,
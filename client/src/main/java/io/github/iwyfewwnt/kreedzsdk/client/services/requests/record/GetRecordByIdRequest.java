@@ -26,7 +26,7 @@ import java.util.Objects;
 /**
  * A request for /records/.../ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public class GetRecordByIdRequest implements IRequest, Cloneable {
 
 	/**
@@ -37,42 +37,12 @@ public class GetRecordByIdRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	protected transient volatile Integer hashCodeCache;
+	protected transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	protected transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	protected transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	protected transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	protected void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	protected transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetRecordByIdRequest} instance.
@@ -81,8 +51,6 @@ public class GetRecordByIdRequest implements IRequest, Cloneable {
 	 */
 	GetRecordByIdRequest(Integer id) {
 		this.id = id;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -119,18 +87,14 @@ public class GetRecordByIdRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(this.id));
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(this.id));
 	}
 
 	/**
@@ -138,22 +102,18 @@ public class GetRecordByIdRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		if (string != null) {
+			return string;
+		}
 
-			String simpleName = this.getClass()
-					.getSimpleName();
+		String simpleName = this.getClass()
+				.getSimpleName();
 
-			return (this.stringCache = simpleName + "["
-					+ "id=" + this.id
-					+ "]");
-		}
+		return (this.stringCache = simpleName + "["
+				+ "id=" + this.id
+				+ "]");
 	}
 
 	/**
@@ -25,7 +25,7 @@ import java.util.Objects;
 /**
  * A base request for /records/top/{@literal **}/ endpoints.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public class GetRecordsRequest implements IRequest, Cloneable {
 
 	/**
@@ -81,42 +81,12 @@ public class GetRecordsRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	protected transient volatile Integer hashCodeCache;
+	protected transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	protected transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	protected transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	protected transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	protected void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	protected transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetRecordsRequest} instance.
@@ -151,8 +121,6 @@ public class GetRecordsRequest implements IRequest, Cloneable {
 		this.modeName = modeName;
 		this.offset = offset;
 		this.limit = limit;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -210,29 +178,25 @@ public class GetRecordsRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.steamId64,
-							this.mapId,
-							this.mapName,
-							this.runType,
-							this.tickrate,
-							this.stage,
-							this.modeName,
-							this.offset,
-							this.limit
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.steamId64,
+						this.mapId,
+						this.mapName,
+						this.runType,
+						this.tickrate,
+						this.stage,
+						this.modeName,
+						this.offset,
+						this.limit
+				)
+		);
 	}
 
 	/**
@@ -240,27 +204,23 @@ public class GetRecordsRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "steamId64=" + this.steamId64
-					+ ", mapId=" + this.mapId
-					+ ", mapName=\"" + this.mapName + "\""
-					+ ", runType=" + this.runType
-					+ ", tickrate=" + this.tickrate
-					+ ", stage=" + this.stage
-					+ ", modeName=\"" + this.modeName + "\""
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "steamId64=" + this.steamId64
+				+ ", mapId=" + this.mapId
+				+ ", mapName=\"" + this.mapName + "\""
+				+ ", runType=" + this.runType
+				+ ", tickrate=" + this.tickrate
+				+ ", stage=" + this.stage
+				+ ", modeName=\"" + this.modeName + "\""
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ "]");
 	}
 
 	/**
@@ -16,8 +16,11 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.record;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IRecordService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordTable;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ERunType;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ETickrate;
@@ -31,7 +34,6 @@ import java.util.Objects;
 /**
  * A request for /records/top/ endpoint.
  */
-@SuppressWarnings("SynchronizeOnNonFinalField")
 public final class GetRecordsTopRequest extends GetRecordsRequest implements Cloneable {
 
 	/**
@@ -54,18 +56,6 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 	 */
 	private final String playerName;
 
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
-
 	/**
 	 * Initialize a {@link GetRecordsTopRequest} instance.
 	 *
@@ -166,32 +156,28 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.steamId64,
-							this.mapId,
-							this.mapName,
-							this.runType,
-							this.tickrate,
-							this.stage,
-							this.modeName,
-							this.offset,
-							this.limit,
-							this.serverId,
-							this.isOverall,
-							this.playerName
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.steamId64,
+						this.mapId,
+						this.mapName,
+						this.runType,
+						this.tickrate,
+						this.stage,
+						this.modeName,
+						this.offset,
+						this.limit,
+						this.serverId,
+						this.isOverall,
+						this.playerName
+				)
+		);
 	}
 
 	/**
@@ -199,30 +185,26 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "steamId64=" + this.steamId64
-					+ ", mapId=" + this.mapId
-					+ ", mapName=\"" + this.mapName + "\""
-					+ ", runType=" + this.runType
-					+ ", tickrate=" + this.tickrate
-					+ ", stage=" + this.stage
-					+ ", modeName=\"" + this.modeName + "\""
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ ", serverId=" + this.serverId
-					+ ", isOverall=" + this.isOverall
-					+ ", playerName=\"" + this.playerName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "steamId64=" + this.steamId64
+				+ ", mapId=" + this.mapId
+				+ ", mapName=\"" + this.mapName + "\""
+				+ ", runType=" + this.runType
+				+ ", tickrate=" + this.tickrate
+				+ ", stage=" + this.stage
+				+ ", modeName=\"" + this.modeName + "\""
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ ", serverId=" + this.serverId
+				+ ", isOverall=" + this.isOverall
+				+ ", playerName=\"" + this.playerName + "\""
+				+ "]");
 	}
 
 	/**
@@ -237,7 +219,8 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 	 * A request manager for /records/top/ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends BaseGetRecordsRequestManager<Manager, GetRecordsTopRequest> {
+	public static final class Manager extends BaseGetRecordsRequestManager<Manager, GetRecordsTopRequest>
+			implements IKreedzPageableRequestManager<RecordEntity> {
 
 		/**
 		 * A record service.
@@ -299,7 +282,51 @@ public final class GetRecordsTopRequest extends GetRecordsRequest implements Clo
 		 */
 		@Override
 		public Call<List<RecordEntity>> call(GetRecordsTopRequest request) {
+			return this.callPage(request, request.offset, request.limit);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<RecordEntity> pages() {
+			GetRecordsTopRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit),
+					request.offset, request.limit, RecordEntity::getId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @return			call of the page
+		 */
+		private Call<List<RecordEntity>> callPage(GetRecordsTopRequest request, Integer offset, Integer limit) {
 			return this.recordService.getRecordsTop(
+					request.serverId,
+					request.steamId64,
+					request.mapId,
+					request.mapName,
+					request.tickrate,
+					request.isOverall,
+					request.stage,
+					request.modeName,
+					request.runType,
+					request.playerName,
+					offset,
+					limit
+			);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Call<RecordTable> callTable(GetRecordsTopRequest request) {
+			return this.recordService.getRecordsTopTable(
 					request.serverId,
 					request.steamId64,
 					request.mapId,
@@ -16,13 +16,15 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.record;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IRecordService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordCountEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ERunType;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ETickrate;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import io.github.iwyfewwnt.uwutils.UwSet;
 import retrofit2.Call;
 
@@ -36,7 +38,7 @@ import java.util.stream.Stream;
 /**
  * A request for /records/top/world_records/ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public final class GetWorldRecordsTopRequest implements IRequest, Cloneable {
 
 	/**
@@ -92,42 +94,12 @@ public final class GetWorldRecordsTopRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetWorldRecordsTopRequest} instance.
@@ -168,8 +140,6 @@ public final class GetWorldRecordsTopRequest implements IRequest, Cloneable {
 		this.mapTag = mapTag;
 		this.offset = offset;
 		this.limit = limit;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -227,29 +197,25 @@ public final class GetWorldRecordsTopRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.ids,
-							this.mapIds,
-							this.stages,
-							this.modes,
-							this.tickrates,
-							this.runType,
-							this.mapTag,
-							this.offset,
-							this.limit
-					)
-			);
-		}
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.ids,
+						this.mapIds,
+						this.stages,
+						this.modes,
+						this.tickrates,
+						this.runType,
+						this.mapTag,
+						this.offset,
+						this.limit
+				)
+		);
 	}
 
 	/**
@@ -257,27 +223,23 @@ public final class GetWorldRecordsTopRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "ids=" + this.ids
-					+ ", mapIds=" + this.mapIds
-					+ ", stages=" + this.stages
-					+ ", modes=" + this.modes
-					+ ", tickrates=" + this.tickrates
-					+ ", runType=" + this.runType
-					+ ", mapTag=\"" + this.mapTag + "\""
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ "]");
-		}
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "ids=" + this.ids
+				+ ", mapIds=" + this.mapIds
+				+ ", stages=" + this.stages
+				+ ", modes=" + this.modes
+				+ ", tickrates=" + this.tickrates
+				+ ", runType=" + this.runType
+				+ ", mapTag=\"" + this.mapTag + "\""
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ "]");
 	}
 
 	/**
@@ -292,7 +254,8 @@ public final class GetWorldRecordsTopRequest implements IRequest, Cloneable {
 	 * A request manager for /records/top/world_records/ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends AbstractRequestManager<GetWorldRecordsTopRequest, List<RecordCountEntity>> {
+	public static final class Manager extends AbstractKreedzRequestManager<GetWorldRecordsTopRequest, List<RecordCountEntity>>
+			implements IKreedzPageableRequestManager<RecordCountEntity> {
 
 		/**
 		 * A record service.
@@ -380,6 +343,29 @@ public final class GetWorldRecordsTopRequest implements IRequest, Cloneable {
 		 */
 		@Override
 		public Call<List<RecordCountEntity>> call(GetWorldRecordsTopRequest request) {
+			return this.callPage(request, request.offset, request.limit);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<RecordCountEntity> pages() {
+			GetWorldRecordsTopRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit),
+					request.offset, request.limit, RecordCountEntity::getSteamId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @return			call of the page
+		 */
+		private Call<List<RecordCountEntity>> callPage(GetWorldRecordsTopRequest request, Integer offset, Integer limit) {
 			return this.recordService.getWorldRecordsTop(
 					request.ids,
 					request.mapIds,
@@ -388,8 +374,8 @@ public final class GetWorldRecordsTopRequest implements IRequest, Cloneable {
 					request.tickrates,
 					request.runType,
 					request.mapTag,
-					request.offset,
-					request.limit
+					offset,
+					limit
 			);
 		}
 
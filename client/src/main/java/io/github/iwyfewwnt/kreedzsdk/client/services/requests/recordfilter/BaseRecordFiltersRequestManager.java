@@ -16,10 +16,10 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.recordfilter;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.BaseKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ERunType;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.ETickrate;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.BaseRequestManager;
 import io.github.iwyfewwnt.uwutils.UwSet;
 
 import java.util.*;
@@ -35,7 +35,7 @@ import java.util.stream.Stream;
  */
 @SuppressWarnings("unused")
 public abstract class BaseRecordFiltersRequestManager<T extends BaseRecordFiltersRequestManager<T, U, R>, U extends GetRecordFiltersRequest, R>
-		extends BaseRequestManager<T, U, R> {
+		extends BaseKreedzRequestManager<T, U, R> {
 
 	/**
 	 * A set of identifiers.
@@ -16,6 +16,9 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.recordfilter;
 
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzQuery;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IRecordFilterService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordDistributionEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
@@ -31,18 +34,6 @@ import java.util.Set;
  */
 public final class GetRecordDistributionsRequest extends GetRecordFiltersRequest implements Cloneable {
 
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
-
 	/**
 	 * Initialize a {@link GetRecordDistributionsRequest} instance.
 	 *
@@ -100,7 +91,13 @@ public final class GetRecordDistributionsRequest extends GetRecordFiltersRequest
 	 * A request manager for /record_filters/distributions/ endpoint.
 	 */
 	public static final class Manager extends BaseRecordFiltersRequestManager<
-			Manager, GetRecordDistributionsRequest, List<RecordDistributionEntity>> {
+			Manager, GetRecordDistributionsRequest, List<RecordDistributionEntity>>
+			implements IKreedzPageableRequestManager<RecordDistributionEntity> {
+
+		/**
+		 * A query parameter name of the record filter identifiers.
+		 */
+		private static final String IDS = "ids";
 
 		/**
 		 * A record filter service.
@@ -142,16 +139,45 @@ public final class GetRecordDistributionsRequest extends GetRecordFiltersRequest
 		 */
 		@Override
 		public Call<List<RecordDistributionEntity>> call(GetRecordDistributionsRequest request) {
-			return this.recordFilterService.getRecordFilterDistributions(
-					request.ids,
-					request.mapIds,
-					request.stages,
-					request.modes,
-					request.tickrates,
-					request.runType,
-					request.offset,
-					request.limit
-			);
+			return this.callPage(request, request.offset, request.limit, false);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<RecordDistributionEntity> pages() {
+			GetRecordDistributionsRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit, true),
+					request.offset, request.limit, RecordDistributionEntity::getRecordFilterId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * <p>An oversized set of the record filter identifiers is split into
+		 * concurrent calls, whose results are merged.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @param isPage	whether the call is a page of a page sequence
+		 * @return			call of the page
+		 */
+		private Call<List<RecordDistributionEntity>> callPage(GetRecordDistributionsRequest request, Integer offset, Integer limit,
+															  boolean isPage) {
+			return UKreedzQuery.split(IDS, request.ids, UKreedzQuery.MAX_QUERY_LENGTH,
+					offset, limit, isPage, null, (ids, chunkOffset, chunkLimit) -> this.recordFilterService.getRecordFilterDistributions(
+							ids,
+							request.mapIds,
+							request.stages,
+							request.modes,
+							request.tickrates,
+							request.runType,
+							chunkOffset,
+							chunkLimit
+					));
 		}
 	}
 }
@@ -16,6 +16,9 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.recordfilter;
 
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzQuery;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IRecordFilterService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordFilterEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
@@ -30,7 +33,7 @@ import java.util.*;
 /**
  * A request for /record_filters/ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public class GetRecordFiltersRequest implements IRequest, Cloneable {
 
 	/**
@@ -76,42 +79,12 @@ public class GetRecordFiltersRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	protected transient volatile Integer hashCodeCache;
+	protected transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	protected transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	protected transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	protected transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	protected void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	protected transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetRecordFiltersRequest} instance.
@@ -149,8 +122,6 @@ public class GetRecordFiltersRequest implements IRequest, Cloneable {
 		this.runType = runType;
 		this.offset = offset;
 		this.limit = limit;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -206,28 +177,24 @@ public class GetRecordFiltersRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.ids,
-							this.mapIds,
-							this.stages,
-							this.modes,
-							this.tickrates,
-							this.runType,
-							this.offset,
-							this.limit
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.ids,
+						this.mapIds,
+						this.stages,
+						this.modes,
+						this.tickrates,
+						this.runType,
+						this.offset,
+						this.limit
+				)
+		);
 	}
 
 	/**
@@ -235,29 +202,25 @@ public class GetRecordFiltersRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			String simpleName = this.getClass()
-					.getSimpleName();
-
-			return (this.stringCache = simpleName + "["
-					+ "ids=" + this.ids
-					+ ", mapIds=" + this.mapIds
-					+ ", stages=" + this.stages
-					+ ", modes=" + this.modes
-					+ ", tickrates=" + this.tickrates
-					+ ", runType=" + this.runType
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		String simpleName = this.getClass()
+				.getSimpleName();
+
+		return (this.stringCache = simpleName + "["
+				+ "ids=" + this.ids
+				+ ", mapIds=" + this.mapIds
+				+ ", stages=" + this.stages
+				+ ", modes=" + this.modes
+				+ ", tickrates=" + this.tickrates
+				+ ", runType=" + this.runType
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ "]");
 	}
 
 	/**
@@ -272,7 +235,13 @@ public class GetRecordFiltersRequest implements IRequest, Cloneable {
 	 * A request manager for /record_filters/ endpoint.
 	 */
 	public static final class Manager extends BaseRecordFiltersRequestManager<
-				Manager, GetRecordFiltersRequest, List<RecordFilterEntity>> {
+				Manager, GetRecordFiltersRequest, List<RecordFilterEntity>>
+			implements IKreedzPageableRequestManager<RecordFilterEntity> {
+
+		/**
+		 * A query parameter name of the record filter identifiers.
+		 */
+		private static final String IDS = "ids";
 
 		/**
 		 * A record filter service.
@@ -314,16 +283,45 @@ public class GetRecordFiltersRequest implements IRequest, Cloneable {
 		 */
 		@Override
 		public Call<List<RecordFilterEntity>> call(GetRecordFiltersRequest request) {
-			return this.recordFilterService.getRecordFilters(
-					request.ids,
-					request.mapIds,
-					request.stages,
-					request.modes,
-					request.tickrates,
-					request.runType,
-					request.offset,
-					request.limit
-			);
+			return this.callPage(request, request.offset, request.limit, false);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<RecordFilterEntity> pages() {
+			GetRecordFiltersRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit, true),
+					request.offset, request.limit, RecordFilterEntity::getId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * <p>An oversized set of the record filter identifiers is split into
+		 * concurrent calls, whose results are merged.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @param isPage	whether the call is a page of a page sequence
+		 * @return			call of the page
+		 */
+		private Call<List<RecordFilterEntity>> callPage(GetRecordFiltersRequest request, Integer offset, Integer limit,
+														boolean isPage) {
+			return UKreedzQuery.split(IDS, request.ids, UKreedzQuery.MAX_QUERY_LENGTH,
+					offset, limit, isPage, null, (ids, chunkOffset, chunkLimit) -> this.recordFilterService.getRecordFilters(
+							ids,
+							request.mapIds,
+							request.stages,
+							request.modes,
+							request.tickrates,
+							request.runType,
+							chunkOffset,
+							chunkLimit
+					));
 		}
 	}
 }
@@ -16,12 +16,15 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.server;
 
+import io.github.iwyfewwnt.kreedzsdk.client.internal.UKreedzQuery;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.IKreedzPageableRequestManager;
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.KreedzPages;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IServerService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.ServerEntity;
 import io.github.iwyfewwnt.kreedzsdk.structs.types.EApprovalStatus;
 import io.github.iwyfewwnt.steamid.SteamId;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import io.github.iwyfewwnt.uwutils.UwObject;
 import io.github.iwyfewwnt.uwutils.UwSet;
 import retrofit2.Call;
@@ -33,7 +36,7 @@ import java.util.stream.Stream;
 /**
  * A request for /servers/ endpoint.
  */
-@SuppressWarnings({"MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings("MethodDoesntCallSuperMethod")
 public final class GetServersRequest implements IRequest, Cloneable {
 
 	/**
@@ -84,42 +87,12 @@ public final class GetServersRequest implements IRequest, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link GetServersRequest} instance.
@@ -153,8 +126,6 @@ public final class GetServersRequest implements IRequest, Cloneable {
 		this.approvalStatus = approvalStatus;
 		this.offset = offset;
 		this.limit = limit;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -210,28 +181,24 @@ public final class GetServersRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.ids,
-							this.serverPort,
-							this.serverIp,
-							this.serverName,
-							this.ownersSteamId64,
-							this.approvalStatus,
-							this.offset,
-							this.limit
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.ids,
+						this.serverPort,
+						this.serverIp,
+						this.serverName,
+						this.ownersSteamId64,
+						this.approvalStatus,
+						this.offset,
+						this.limit
+				)
+		);
 	}
 
 	/**
@@ -239,26 +206,22 @@ public final class GetServersRequest implements IRequest, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "ids=" + this.ids
-					+ ", serverPort=" + this.serverPort
-					+ ", serverIp=\"" + this.serverIp + "\""
-					+ ", serverName=\"" + this.serverName + "\""
-					+ ", ownersSteamId64=" + this.ownersSteamId64
-					+ ", approvalStatus=" + this.approvalStatus
-					+ ", offset=" + this.offset
-					+ ", limit=" + this.limit
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "ids=" + this.ids
+				+ ", serverPort=" + this.serverPort
+				+ ", serverIp=\"" + this.serverIp + "\""
+				+ ", serverName=\"" + this.serverName + "\""
+				+ ", ownersSteamId64=" + this.ownersSteamId64
+				+ ", approvalStatus=" + this.approvalStatus
+				+ ", offset=" + this.offset
+				+ ", limit=" + this.limit
+				+ "]");
 	}
 
 	/**
@@ -273,7 +236,13 @@ public final class GetServersRequest implements IRequest, Cloneable {
 	 * A request manager for /servers/ endpoint.
 	 */
 	@SuppressWarnings("unused")
-	public static final class Manager extends AbstractRequestManager<GetServersRequest, List<ServerEntity>> {
+	public static final class Manager extends AbstractKreedzRequestManager<GetServersRequest, List<ServerEntity>>
+			implements IKreedzPageableRequestManager<ServerEntity> {
+
+		/**
+		 * A query parameter name of the server identifiers.
+		 */
+		private static final String IDS = "ids";
 
 		/**
 		 * A server service.
@@ -357,16 +326,45 @@ public final class GetServersRequest implements IRequest, Cloneable {
 		 */
 		@Override
 		public Call<List<ServerEntity>> call(GetServersRequest request) {
-			return this.serverService.getServers(
-					request.ids,
-					request.serverPort,
-					request.serverIp,
-					request.serverName,
-					request.ownersSteamId64,
-					request.approvalStatus,
-					request.offset,
-					request.limit
-			);
+			return this.callPage(request, request.offset, request.limit, false);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public KreedzPages<ServerEntity> pages() {
+			GetServersRequest request = this.build();
+
+			return new KreedzPages<>((offset, limit) -> this.callPage(request, offset, limit, true),
+					request.offset, request.limit, ServerEntity::getId);
+		}
+
+		/**
+		 * Call the provided request w/ the provided page bounds.
+		 *
+		 * <p>An oversized set of the server identifiers is split into
+		 * concurrent calls, whose results are merged.
+		 *
+		 * @param request	request to call
+		 * @param offset	offset, may be null
+		 * @param limit		limit, may be null
+		 * @param isPage	whether the call is a page of a page sequence
+		 * @return			call of the page
+		 */
+		private Call<List<ServerEntity>> callPage(GetServersRequest request, Integer offset, Integer limit,
+												  boolean isPage) {
+			return UKreedzQuery.split(IDS, request.ids, UKreedzQuery.MAX_QUERY_LENGTH,
+					offset, limit, isPage, null, (ids, chunkOffset, chunkLimit) -> this.serverService.getServers(
+							ids,
+							request.serverPort,
+							request.serverIp,
+							request.serverName,
+							request.ownersSteamId64,
+							request.approvalStatus,
+							chunkOffset,
+							chunkLimit
+					));
 		}
 
 		/**
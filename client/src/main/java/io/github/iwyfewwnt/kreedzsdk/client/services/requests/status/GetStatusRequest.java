@@ -16,10 +16,10 @@
 
 package io.github.iwyfewwnt.kreedzsdk.client.services.requests.status;
 
+import io.github.iwyfewwnt.kreedzsdk.client.services.requests.AbstractKreedzRequestManager;
 import io.github.iwyfewwnt.kreedzsdk.clientapi.IStatusService;
 import io.github.iwyfewwnt.kreedzsdk.structs.entities.status.responses.StatusResponseEntity;
 import io.github.iwyfewwnt.uwretrofit.services.requests.IRequest;
-import io.github.iwyfewwnt.uwretrofit.services.requests.impl.AbstractRequestManager;
 import retrofit2.Call;
 
 /**
@@ -34,7 +34,7 @@ public final class GetStatusRequest implements IRequest {
 	/**
 	 * A request manager for /status.json/ endpoint.
 	 */
-	public static final class Manager extends AbstractRequestManager<
+	public static final class Manager extends AbstractKreedzRequestManager<
 			GetStatusRequest, StatusResponseEntity> {
 
 		/**
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A kreedz API call event.
+ *
+ * <p>Lasts from sending the request until
+ * its response body is read or closed.
+ */
+@Name(KreedzApiCallEvent.NAME)
+@Label("API Call")
+@Category({"Kreedz SDK", "HTTP"})
+@Description("Global API request until its response body is consumed")
+final class KreedzApiCallEvent extends Event {
+
+	/**
+	 * An event name.
+	 */
+	static final String NAME = "io.github.iwyfewwnt.kreedzsdk.ApiCall";
+
+	/**
+	 * An endpoint.
+	 */
+	@Label("Endpoint")
+	@Description("Path template of the service method")
+	String endpoint;
+
+	/**
+	 * An HTTP code.
+	 */
+	@Label("Status")
+	@Description("HTTP code or 0 if failed w/o a response")
+	int status;
+
+	/**
+	 * A number of response body bytes.
+	 */
+	@Label("Bytes")
+	@DataAmount
+	long byteCount;
+
+	/**
+	 * Begin an event or return {@code null} if it isn't recorded.
+	 *
+	 * @return	event or {@code null}
+	 */
+	static Object beginOrNull() {
+		KreedzApiCallEvent event = new KreedzApiCallEvent();
+
+		if (!event.isEnabled()) {
+			return null;
+		}
+
+		event.begin();
+
+		return event;
+	}
+
+	/**
+	 * Commit the provided event.
+	 *
+	 * @param object		event
+	 * @param endpoint		endpoint, may be null
+	 * @param status		HTTP code
+	 * @param byteCount		number of response body bytes
+	 */
+	static void commit(Object object, String endpoint, int status, long byteCount) {
+		KreedzApiCallEvent event = (KreedzApiCallEvent) object;
+		event.end();
+
+		if (!event.shouldCommit()) {
+			return;
+		}
+
+		event.endpoint = endpoint;
+		event.status = status;
+		event.byteCount = byteCount;
+		event.commit();
+	}
+}
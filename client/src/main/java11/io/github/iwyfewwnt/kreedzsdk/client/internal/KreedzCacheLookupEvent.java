@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A kreedz cache lookup event.
+ *
+ * <p>An instant event of a response cache lookup.
+ */
+@Name(KreedzCacheLookupEvent.NAME)
+@Label("Cache Lookup")
+@Category({"Kreedz SDK", "Cache"})
+@Description("Response cache lookup of a call")
+@StackTrace(false)
+final class KreedzCacheLookupEvent extends Event {
+
+	/**
+	 * An event name.
+	 */
+	static final String NAME = "io.github.iwyfewwnt.kreedzsdk.CacheLookup";
+
+	/**
+	 * An endpoint.
+	 */
+	@Label("Endpoint")
+	@Description("Path template of the service method")
+	String endpoint;
+
+	/**
+	 * An "isHit" boolean value.
+	 */
+	@Label("Hit")
+	boolean isHit;
+
+	/**
+	 * An "isStale" boolean value.
+	 */
+	@Label("Stale")
+	@Description("Whether an expired response was served")
+	boolean isStale;
+
+	/**
+	 * Commit an event.
+	 *
+	 * @param endpoint	endpoint, may be null
+	 * @param isHit		whether a response was found
+	 * @param isStale	whether the found response is expired
+	 */
+	static void commit(String endpoint, boolean isHit, boolean isStale) {
+		KreedzCacheLookupEvent event = new KreedzCacheLookupEvent();
+
+		if (!event.shouldCommit()) {
+			return;
+		}
+
+		event.endpoint = endpoint;
+		event.isHit = isHit;
+		event.isStale = isStale;
+		event.commit();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A kreedz deserialization event.
+ *
+ * <p>Lasts for the conversion of a response body,
+ * which includes streaming it.
+ */
+@Name(KreedzDeserializationEvent.NAME)
+@Label("Deserialization")
+@Category({"Kreedz SDK", "Gson"})
+@Description("Conversion of a response body into entities")
+final class KreedzDeserializationEvent extends Event {
+
+	/**
+	 * An event name.
+	 */
+	static final String NAME = "io.github.iwyfewwnt.kreedzsdk.Deserialization";
+
+	/**
+	 * An endpoint.
+	 */
+	@Label("Endpoint")
+	@Description("Path template of the service method")
+	String endpoint;
+
+	/**
+	 * A name of the deserialized type.
+	 */
+	@Label("Entity Type")
+	String entityType;
+
+	/**
+	 * A number of deserialized entities.
+	 */
+	@Label("Count")
+	int count;
+
+	/**
+	 * Begin an event or return {@code null} if it isn't recorded.
+	 *
+	 * @return	event or {@code null}
+	 */
+	static Object beginOrNull() {
+		KreedzDeserializationEvent event = new KreedzDeserializationEvent();
+
+		if (!event.isEnabled()) {
+			return null;
+		}
+
+		event.begin();
+
+		return event;
+	}
+
+	/**
+	 * Commit the provided event.
+	 *
+	 * @param object		event
+	 * @param endpoint		endpoint, may be null
+	 * @param entityType	name of the deserialized type
+	 * @param count			number of deserialized entities
+	 */
+	static void commit(Object object, String endpoint, String entityType, int count) {
+		KreedzDeserializationEvent event = (KreedzDeserializationEvent) object;
+		event.end();
+
+		if (!event.shouldCommit()) {
+			return;
+		}
+
+		event.endpoint = endpoint;
+		event.entityType = entityType;
+		event.count = count;
+		event.commit();
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A kreedz page event.
+ *
+ * <p>Lasts from enqueueing a page call until its entities are received.
+ */
+@Name(KreedzPageEvent.NAME)
+@Label("Page")
+@Category({"Kreedz SDK", "Pagination"})
+@Description("Fetch of an offset/limit page")
+final class KreedzPageEvent extends Event {
+
+	/**
+	 * An event name.
+	 */
+	static final String NAME = "io.github.iwyfewwnt.kreedzsdk.Page";
+
+	/**
+	 * An offset of the page.
+	 */
+	@Label("Offset")
+	int offset;
+
+	/**
+	 * A number of entities per page.
+	 */
+	@Label("Limit")
+	int limit;
+
+	/**
+	 * A number of received entities.
+	 */
+	@Label("Count")
+	@Description("Number of received entities or -1 if failed")
+	int count;
+
+	/**
+	 * Begin an event or return {@code null} if it isn't recorded.
+	 *
+	 * @return	event or {@code null}
+	 */
+	static Object beginOrNull() {
+		KreedzPageEvent event = new KreedzPageEvent();
+
+		if (!event.isEnabled()) {
+			return null;
+		}
+
+		event.begin();
+
+		return event;
+	}
+
+	/**
+	 * Commit the provided event.
+	 *
+	 * @param object	event
+	 * @param offset	offset of the page
+	 * @param limit		number of entities per page
+	 * @param count		number of received entities
+	 */
+	static void commit(Object object, int offset, int limit, int count) {
+		KreedzPageEvent event = (KreedzPageEvent) object;
+		event.end();
+
+		if (!event.shouldCommit()) {
+			return;
+		}
+
+		event.offset = offset;
+		event.limit = limit;
+		event.count = count;
+		event.commit();
+	}
+}
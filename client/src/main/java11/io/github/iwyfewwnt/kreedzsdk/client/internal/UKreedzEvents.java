@@ -0,0 +1,171 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+/**
+ * A kreedz event utilities.
+ *
+ * <p>Emits Java Flight Recorder events of the SDK activity. This is
+ * the Java 11+ variant of the multi-release jar, it commits JFR events
+ * if the {@code jdk.jfr} module is present and does nothing otherwise.
+ *
+ * <p>A duration event is begun by a {@code begin*OrNull} method,
+ * which returns {@code null} if the event isn't recorded, and is
+ * committed by the matching {@code commit*} method.
+ *
+ * <p><b>For internal usage only.</b>
+ */
+public final class UKreedzEvents {
+
+	/**
+	 * An "isSupported" boolean value.
+	 */
+	private static final boolean IS_SUPPORTED = ModuleLayer.boot()
+			.findModule("jdk.jfr")
+			.isPresent();
+
+	/**
+	 * Check if events are supported by this runtime.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @return	boolean value
+	 */
+	public static boolean isSupported() {
+		return IS_SUPPORTED;
+	}
+
+	/**
+	 * Begin an API call event or return {@code null} if it isn't recorded.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @return	event or {@code null}
+	 */
+	public static Object beginApiCallOrNull() {
+		if (!IS_SUPPORTED) {
+			return null;
+		}
+
+		return KreedzApiCallEvent.beginOrNull();
+	}
+
+	/**
+	 * Commit the provided API call event.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param event			event, may be null
+	 * @param endpoint		endpoint, may be null
+	 * @param status		HTTP code or {@code 0} if failed w/o a response
+	 * @param byteCount		number of response body bytes
+	 */
+	public static void commitApiCall(Object event, String endpoint, int status, long byteCount) {
+		if (event == null) {
+			return;
+		}
+
+		KreedzApiCallEvent.commit(event, endpoint, status, byteCount);
+	}
+
+	/**
+	 * Begin a deserialization event or return {@code null} if it isn't recorded.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @return	event or {@code null}
+	 */
+	public static Object beginDeserializationOrNull() {
+		if (!IS_SUPPORTED) {
+			return null;
+		}
+
+		return KreedzDeserializationEvent.beginOrNull();
+	}
+
+	/**
+	 * Commit the provided deserialization event.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param event			event, may be null
+	 * @param endpoint		endpoint, may be null
+	 * @param entityType	name of the deserialized type
+	 * @param count			number of deserialized entities
+	 */
+	public static void commitDeserialization(Object event, String endpoint, String entityType, int count) {
+		if (event == null) {
+			return;
+		}
+
+		KreedzDeserializationEvent.commit(event, endpoint, entityType, count);
+	}
+
+	/**
+	 * Begin a page event or return {@code null} if it isn't recorded.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @return	event or {@code null}
+	 */
+	public static Object beginPageOrNull() {
+		if (!IS_SUPPORTED) {
+			return null;
+		}
+
+		return KreedzPageEvent.beginOrNull();
+	}
+
+	/**
+	 * Commit the provided page event.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param event		event, may be null
+	 * @param offset	offset of the page
+	 * @param limit		number of entities per page
+	 * @param count		number of received entities or {@code -1} if failed
+	 */
+	public static void commitPage(Object event, int offset, int limit, int count) {
+		if (event == null) {
+			return;
+		}
+
+		KreedzPageEvent.commit(event, offset, limit, count);
+	}
+
+	/**
+	 * Commit a cache lookup event.
+	 *
+	 * <p><b>For internal usage only.</b>
+	 *
+	 * @param endpoint	endpoint, may be null
+	 * @param isHit		whether a response was found
+	 * @param isStale	whether the found response is expired
+	 */
+	public static void commitCacheLookup(String endpoint, boolean isHit, boolean isStale) {
+		if (!IS_SUPPORTED) {
+			return;
+		}
+
+		KreedzCacheLookupEvent.commit(endpoint, isHit, isStale);
+	}
+
+	private UKreedzEvents() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * A kreedz converter client.
+ *
+ * <p>Converts JSON by the exact Gson stack a client builds,
+ * w/ every type adapter it finds by SPI, w/o a request.
+ */
+public final class KreedzConverterClient extends KreedzClient {
+
+	/**
+	 * A JSON media type.
+	 */
+	private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+	/**
+	 * An empty array of method annotations.
+	 */
+	private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+	/**
+	 * Initialize a {@link KreedzConverterClient} instance
+	 * w/ the default builder configuration.
+	 */
+	public KreedzConverterClient() {
+		super(new Builder());
+	}
+
+	/**
+	 * Convert the provided JSON into the provided type.
+	 *
+	 * @param type	type to convert to
+	 * @param json	JSON
+	 * @param <T>	value type
+	 * @return		converted value
+	 * @throws IOException	if the JSON couldn't be converted
+	 */
+	public <T> T convert(Type type, String json) throws IOException {
+		return this.retrofit.<T>responseBodyConverter(type, NO_ANNOTATIONS)
+				.convert(ResponseBody.create(JSON, json));
+	}
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client;
+
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * A kreedz stub call.
+ *
+ * <p>Never touches the network: an enqueued call is put into a queue
+ * shared w/ its clones and waits there until a test completes it,
+ * an executed one also blocks its caller until then.
+ * Cancelling a pending call fails it w/ an {@link IOException},
+ * the way an OkHttp call does.
+ *
+ * @param <T>	response type
+ */
+public final class KreedzStubCall<T> implements Call<T> {
+
+	/**
+	 * A maximum time to wait for a call to be enqueued.
+	 */
+	private static final long TIMEOUT_SECONDS = 5L;
+
+	/**
+	 * A request.
+	 */
+	private final Request request;
+
+	/**
+	 * A queue of enqueued calls, shared w/ the clones.
+	 */
+	private final BlockingQueue<KreedzStubCall<T>> enqueued;
+
+	/**
+	 * An "isExecuted" flag.
+	 */
+	private final AtomicBoolean isExecuted;
+
+	/**
+	 * An "isCanceled" flag.
+	 */
+	private final AtomicBoolean isCanceled;
+
+	/**
+	 * An "isCompleted" flag.
+	 */
+	private final AtomicBoolean isCompleted;
+
+	/**
+	 * A latch released once this call is canceled.
+	 */
+	private final CountDownLatch canceled;
+
+	/**
+	 * A callback to complete.
+	 */
+	private volatile Callback<T> callback;
+
+	/**
+	 * Initialize a {@link KreedzStubCall} instance.
+	 *
+	 * @param request	request
+	 * @param enqueued	queue to put this call & its clones into once enqueued
+	 */
+	public KreedzStubCall(Request request, BlockingQueue<KreedzStubCall<T>> enqueued) {
+		this.request = request;
+		this.enqueued = enqueued;
+		this.isExecuted = new AtomicBoolean();
+		this.isCanceled = new AtomicBoolean();
+		this.isCompleted = new AtomicBoolean();
+		this.canceled = new CountDownLatch(1);
+	}
+
+	/**
+	 * Initialize a {@link KreedzStubCall} instance
+	 * of a request to the provided URL.
+	 *
+	 * @param url		request URL
+	 * @param enqueued	queue to put this call & its clones into once enqueued
+	 */
+	public KreedzStubCall(String url, BlockingQueue<KreedzStubCall<T>> enqueued) {
+		this(new Request.Builder().url(url).build(), enqueued);
+	}
+
+	/**
+	 * Take the next enqueued call of the provided queue.
+	 *
+	 * @param enqueued	queue of enqueued calls
+	 * @param <T>		response type
+	 * @return			enqueued call
+	 * @throws InterruptedException	if interrupted while waiting
+	 */
+	public static <T> KreedzStubCall<T> take(BlockingQueue<KreedzStubCall<T>> enqueued) throws InterruptedException {
+		KreedzStubCall<T> call = enqueued.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+		assertNotNull(call, "No call was enqueued");
+
+		return call;
+	}
+
+	/**
+	 * Create a callback that completes the provided future.
+	 *
+	 * @param future	future to complete w/ the response or the failure
+	 * @param <T>		response type
+	 * @return			callback
+	 */
+	public static <T> Callback<T> completing(CompletableFuture<Response<T>> future) {
+		return new Callback<T>() {
+
+			@Override
+			public void onResponse(Call<T> call, Response<T> response) {
+				future.complete(response);
+			}
+
+			@Override
+			public void onFailure(Call<T> call, Throwable throwable) {
+				future.completeExceptionally(throwable);
+			}
+		};
+	}
+
+	/**
+	 * Complete this call w/ a successful response.
+	 *
+	 * @param body	response body
+	 * @return		boolean value as a result
+	 */
+	public boolean respond(T body) {
+		return this.complete(Response.success(body, this.newRawResponse(200, null)), null);
+	}
+
+	/**
+	 * Complete this call w/ an error response.
+	 *
+	 * @param code			HTTP status code
+	 * @param retryAfter	value of the {@code Retry-After} header, may be null
+	 * @return				boolean value as a result
+	 */
+	public boolean respondError(int code, String retryAfter) {
+		ResponseBody body = ResponseBody.create(MediaType.get("application/json"), "");
+
+		return this.complete(Response.error(body, this.newRawResponse(code, retryAfter)), null);
+	}
+
+	/**
+	 * Complete this call w/ a failure.
+	 *
+	 * @param throwable		failure
+	 * @return				boolean value as a result
+	 */
+	public boolean fail(Throwable throwable) {
+		return this.complete(null, throwable);
+	}
+
+	/**
+	 * Wait until this call is canceled, possibly from another thread.
+	 *
+	 * @return	boolean value as a result
+	 * @throws InterruptedException	if interrupted while waiting
+	 */
+	public boolean awaitCanceled() throws InterruptedException {
+		return this.canceled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response<T> execute() throws IOException {
+		CompletableFuture<Response<T>> future = new CompletableFuture<>();
+		this.enqueue(completing(future));
+
+		try {
+			return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+
+			throw new IOException(cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted");
+		} catch (TimeoutException e) {
+			throw new InterruptedIOException("Not completed");
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void enqueue(Callback<T> callback) {
+		if (!this.isExecuted.compareAndSet(false, true)) {
+			throw new IllegalStateException("Already executed");
+		}
+
+		this.callback = callback;
+		this.enqueued.add(this);
+
+		if (this.isCanceled.get()) {
+			this.fail(new IOException("Canceled"));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isExecuted() {
+		return this.isExecuted.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void cancel() {
+		if (!this.isCanceled.compareAndSet(false, true)) {
+			return;
+		}
+
+		this.canceled.countDown();
+
+		if (this.callback != null) {
+			this.fail(new IOException("Canceled"));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isCanceled() {
+		return this.isCanceled.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("MethodDoesntCallSuperMethod")
+	@Override
+	public KreedzStubCall<T> clone() {
+		return new KreedzStubCall<>(this.request, this.enqueued);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Request request() {
+		return this.request;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Timeout timeout() {
+		return Timeout.NONE;
+	}
+
+	/**
+	 * Complete this call once.
+	 *
+	 * @param response		response, may be null
+	 * @param throwable		failure, may be null
+	 * @return				boolean value as a result
+	 */
+	private boolean complete(Response<T> response, Throwable throwable) {
+		Callback<T> callback = this.callback;
+
+		if (callback == null) {
+			throw new IllegalStateException("Not enqueued");
+		}
+
+		if (!this.isCompleted.compareAndSet(false, true)) {
+			return false;
+		}
+
+		if (response != null) {
+			callback.onResponse(this, response);
+		} else {
+			callback.onFailure(this, throwable);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Create a raw response of this request.
+	 *
+	 * @param code			HTTP status code
+	 * @param retryAfter	value of the {@code Retry-After} header, may be null
+	 * @return				raw response
+	 */
+	private okhttp3.Response newRawResponse(int code, String retryAfter) {
+		okhttp3.Response.Builder builder = new okhttp3.Response.Builder()
+				.request(this.request)
+				.protocol(Protocol.HTTP_1_1)
+				.code(code)
+				.message("Stub");
+
+		if (retryAfter != null) {
+			builder.header("Retry-After", retryAfter);
+		}
+
+		return builder.build();
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordEntity;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.RecordTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@code RecordTableTypeAdapter} test.
+ *
+ * <p>Decodes the same records both into a {@link RecordTable}
+ * and into a list of {@link RecordEntity} instances by the Gson
+ * stack of a client, so the columnar path is checked against
+ * the entity one.
+ */
+class RecordTableTypeAdapterTest {
+
+	/**
+	 * A type of a record entity list.
+	 */
+	private static final Type ENTITIES_TYPE = new TypeToken<List<RecordEntity>>() {}.getType();
+
+	/**
+	 * A records resource.
+	 */
+	private static final String RECORDS = "/records.json";
+
+	/**
+	 * A record w/ every nullable column set to null,
+	 * followed by a complete one.
+	 */
+	private static final String NULL_COLUMNS = "["
+			+ "{\"id\":1,\"steamid64\":null,\"player_name\":null,\"steam_id\":null,\"server_id\":541,"
+			+ "\"map_id\":318,\"stage\":0,\"mode\":null,\"tickrate\":null,\"time\":null,\"teleports\":0,"
+			+ "\"created_on\":\"2020-05-13T22:13:48\",\"updated_on\":null,\"updated_by\":null,"
+			+ "\"record_filter_id\":11957,\"server_name\":null,\"map_name\":null,\"points\":0,"
+			+ "\"replay_id\":null},"
+			+ "{\"id\":2,\"steamid64\":\"76561198165203332\",\"player_name\":\"KiwiTaco\","
+			+ "\"steam_id\":\"STEAM_1:0:102468802\",\"server_id\":541,\"map_id\":318,\"stage\":0,"
+			+ "\"mode\":\"kz_simple\",\"tickrate\":128,\"time\":3459.405,\"teleports\":42,"
+			+ "\"created_on\":\"2020-05-13T22:13:48\",\"updated_on\":\"2020-05-13T22:13:48\",\"updated_by\":0,"
+			+ "\"record_filter_id\":11957,\"server_name\":\"Sneaky's KZ Server\",\"map_name\":\"kz_synergy_x\","
+			+ "\"points\":111,\"replay_id\":546156}"
+			+ "]";
+
+	/**
+	 * A client to convert the records w/.
+	 */
+	private KreedzConverterClient client;
+
+	/**
+	 * Create the client.
+	 */
+	@BeforeEach
+	void createClient() {
+		this.client = new KreedzConverterClient();
+	}
+
+	/**
+	 * Close the client.
+	 */
+	@AfterEach
+	void closeClient() {
+		this.client.close();
+	}
+
+	/**
+	 * Check that the table of the records materializes
+	 * into the entities Gson decodes & is rebuilt from them.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@Test
+	void recordsRoundTrip() throws IOException {
+		assertRoundTrip(loadRecords());
+	}
+
+	/**
+	 * Check that null columns stay null in the table & its entities
+	 * and don't shift the columns of the next row.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@Test
+	void nullColumnsRoundTrip() throws IOException {
+		RecordTable table = this.assertRoundTrip(NULL_COLUMNS);
+
+		for (RecordTable.Column column : new RecordTable.Column[] {
+				RecordTable.Column.STEAM_ID,
+				RecordTable.Column.PLAYER_NAME,
+				RecordTable.Column.MODE,
+				RecordTable.Column.TICKRATE,
+				RecordTable.Column.TIME,
+				RecordTable.Column.UPDATE_DATE,
+				RecordTable.Column.DATA_UPDATER,
+				RecordTable.Column.SERVER_NAME,
+				RecordTable.Column.MAP_NAME}) {
+			assertTrue(table.isNull(0, column), () -> "<" + column + "> of the first row isn't null");
+			assertFalse(table.isNull(1, column), () -> "<" + column + "> of the second row is null");
+		}
+
+		RecordEntity entity = table.toEntity(0);
+
+		assertNull(entity.getPlayerName());
+		assertNull(entity.getServerName());
+		assertNull(entity.getTime());
+		assertNull(entity.getReplayId());
+
+		assertEquals("KiwiTaco", table.getPlayerName(1));
+		assertEquals("kz_synergy_x", table.getMapName(1));
+	}
+
+	/**
+	 * Check that a name repeated across the rows is decoded once
+	 * and shared by all of them, the materialized entities included.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@Test
+	void repeatedNamesShareDictionaryEntry() throws IOException {
+		RecordTable table = this.client.convert(RecordTable.class, loadRecords());
+		List<RecordEntity> entities = table.toEntities();
+
+		Map<String, String> playerNames = new HashMap<>();
+		Map<String, String> mapNames = new HashMap<>();
+
+		int repeatCount = 0;
+
+		for (int row = 0; row < table.size(); row++) {
+			String playerName = table.getPlayerName(row);
+			String mapName = table.getMapName(row);
+
+			String firstPlayerName = playerNames.putIfAbsent(playerName, playerName);
+			String firstMapName = mapNames.putIfAbsent(mapName, mapName);
+
+			if (firstPlayerName != null) {
+				assertSame(firstPlayerName, playerName);
+				assertSame(firstPlayerName, entities.get(row).getPlayerName());
+				repeatCount++;
+			}
+
+			if (firstMapName != null) {
+				assertSame(firstMapName, mapName);
+				assertSame(firstMapName, entities.get(row).getMapName());
+			}
+		}
+
+		assertTrue(repeatCount > 0, "No player name repeats in the records");
+	}
+
+	/**
+	 * Check that the provided records decode into a table
+	 * equal to the one built from the Gson entities
+	 * & materializing into those very entities.
+	 *
+	 * @param json	records JSON
+	 * @return		decoded table
+	 * @throws IOException	if failed
+	 */
+	private RecordTable assertRoundTrip(String json) throws IOException {
+		RecordTable table = this.client.convert(RecordTable.class, json);
+		List<RecordEntity> entities = this.client.convert(ENTITIES_TYPE, json);
+
+		assertEquals(entities.size(), table.size());
+		assertEquals(entities, table.toEntities());
+		assertEquals(table, RecordTable.fromEntitiesOrNull(entities));
+
+		return table;
+	}
+
+	/**
+	 * Load the records resource.
+	 *
+	 * @return	records JSON
+	 * @throws IOException	if failed
+	 */
+	private static String loadRecords() throws IOException {
+		try (InputStream in = RecordTableTypeAdapterTest.class.getResourceAsStream(RECORDS)) {
+			assertNotNull(in, "No <" + RECORDS + "> resource");
+
+			try (Scanner scanner = new Scanner(in, StandardCharsets.UTF_8.name())) {
+				return scanner.useDelimiter("\\A").next();
+			}
+		}
+	}
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.breaker;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzConverterClient;
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzStubCall;
+import io.github.iwyfewwnt.kreedzsdk.client.ratelimit.KreedzRateLimiter;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.status.responses.StatusSummaryResponseEntity;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@link KreedzCircuitBreaker} test.
+ *
+ * <p>Polls are stub calls completed by the test, one at a time,
+ * while the requests of the Global API host are redirected
+ * to a {@link MockWebServer} past the breaker.
+ */
+class KreedzCircuitBreakerTest {
+
+	/**
+	 * A poll interval.
+	 */
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(10L);
+
+	/**
+	 * A maximum time to wait for a response in seconds.
+	 */
+	private static final long TIMEOUT_SECONDS = 5L;
+
+	/**
+	 * A status summary w/ a major outage of the API component only.
+	 */
+	private static final String API_OUTAGE = newSummaryJson("major_outage", "operational");
+
+	/**
+	 * A status summary w/ a major outage of the website component only.
+	 */
+	private static final String WEBSITE_OUTAGE = newSummaryJson("operational", "major_outage");
+
+	/**
+	 * A queue of executed polls.
+	 */
+	private final BlockingQueue<KreedzStubCall<StatusSummaryResponseEntity>> polls = new LinkedBlockingQueue<>();
+
+	/**
+	 * A mock web server.
+	 */
+	private MockWebServer server;
+
+	/**
+	 * A client to convert the status summaries w/.
+	 */
+	private KreedzConverterClient converterClient;
+
+	/**
+	 * Start the mock web server.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@BeforeEach
+	void startServer() throws IOException {
+		this.server = new MockWebServer();
+		this.server.start();
+
+		this.converterClient = new KreedzConverterClient();
+	}
+
+	/**
+	 * Shut the mock web server down.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@AfterEach
+	void shutdownServer() throws IOException {
+		this.converterClient.close();
+		this.server.shutdown();
+	}
+
+	/**
+	 * Check that the poller trips the Global API circuit
+	 * on a major outage of the API component only & releases it
+	 * once the component recovers.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void pollerTripsAndReleasesByApiComponent() throws Exception {
+		try (KreedzCircuitBreaker breaker = newPollingBuilder().build()) {
+			breaker.startPolling(this, null, this.newPollFactory(this.polls));
+
+			this.takePoll().respond(this.toSummary(API_OUTAGE));
+
+			// The next poll starts once the previous one is applied.
+			KreedzStubCall<StatusSummaryResponseEntity> poll = this.takePoll();
+
+			assertEquals(KreedzCircuitBreaker.State.OPEN, breaker.getState(KreedzRateLimiter.GLOBAL_API_HOST));
+
+			poll.respond(this.toSummary(WEBSITE_OUTAGE));
+			this.takePoll();
+
+			assertEquals(KreedzCircuitBreaker.State.HALF_OPEN, breaker.getState(KreedzRateLimiter.GLOBAL_API_HOST));
+			assertEquals(1L, breaker.getOpenCount());
+		}
+	}
+
+	/**
+	 * Check that the status page component may be looked up by its identifier.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void pollerLooksComponentUpById() throws Exception {
+		try (KreedzCircuitBreaker breaker = newPollingBuilder()
+				.setStatusComponent("f1tdv6w0qcg5")
+				.build()) {
+			breaker.startPolling(this, null, this.newPollFactory(this.polls));
+
+			this.takePoll().respond(this.toSummary(WEBSITE_OUTAGE));
+			this.takePoll();
+
+			assertEquals(KreedzCircuitBreaker.State.OPEN, breaker.getState(KreedzRateLimiter.GLOBAL_API_HOST));
+		}
+	}
+
+	/**
+	 * Check that a failed poll expires the trip, so the circuit
+	 * turns half-open after the open duration.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void failedPollExpiresTrip() throws Exception {
+		try (KreedzCircuitBreaker breaker = newPollingBuilder()
+				.setOpenDuration(Duration.ofMillis(100L))
+				.build()) {
+			breaker.startPolling(this, null, this.newPollFactory(this.polls));
+
+			this.takePoll().respond(this.toSummary(API_OUTAGE));
+			this.takePoll().fail(new IOException("Status page is down"));
+
+			// Held back, so no poll releases the circuit.
+			this.takePoll();
+
+			assertEquals(1L, breaker.getFailedPollCount());
+			assertEquals(KreedzCircuitBreaker.State.OPEN, breaker.getState(KreedzRateLimiter.GLOBAL_API_HOST));
+
+			Thread.sleep(200L);
+
+			this.server.enqueue(new MockResponse());
+
+			assertEquals(200, this.get(this.newHttpClient(breaker)));
+			assertEquals(KreedzCircuitBreaker.State.HALF_OPEN, breaker.getState(KreedzRateLimiter.GLOBAL_API_HOST));
+		}
+	}
+
+	/**
+	 * Check that a half-open circuit admits only its probes,
+	 * closes once all of them succeed & reopens once one fails.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void halfOpenCircuitProbes() throws Exception {
+		KreedzCircuitBreaker breaker = new KreedzCircuitBreaker.Builder()
+				.setHalfOpenProbes(2)
+				.setOpenDuration(Duration.ofMinutes(1L))
+				.setPollInterval(null)
+				.build();
+
+		OkHttpClient httpClient = this.newHttpClient(breaker);
+
+		breaker.setTripped(KreedzRateLimiter.GLOBAL_API_HOST, true);
+
+		assertThrows(KreedzCircuitOpenException.class, () -> this.get(httpClient));
+
+		breaker.setTripped(KreedzRateLimiter.GLOBAL_API_HOST, false);
+
+		CountDownLatch release = new CountDownLatch(1);
+		this.server.setDispatcher(new HoldingDispatcher(release));
+
+		CompletableFuture<Integer> first = this.enqueue(httpClient);
+		CompletableFuture<Integer> second = this.enqueue(httpClient);
+
+		this.server.takeRequest();
+		this.server.takeRequest();
+
+		assertThrows(KreedzCircuitOpenException.class, () -> this.get(httpClient));
+
+		release.countDown();
+
+		assertEquals(200, first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		assertEquals(200, second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		assertEquals(KreedzCircuitBreaker.State.CLOSED, breaker.getState(KreedzRateLimiter.GLOBAL_API_HOST));
+
+		breaker.setTripped(KreedzRateLimiter.GLOBAL_API_HOST, true);
+		breaker.setTripped(KreedzRateLimiter.GLOBAL_API_HOST, false);
+
+		this.server.setDispatcher(new HoldingDispatcher(new CountDownLatch(0), 503));
+
+		assertEquals(503, this.get(httpClient));
+		assertEquals(KreedzCircuitBreaker.State.OPEN, breaker.getState(KreedzRateLimiter.GLOBAL_API_HOST));
+		assertThrows(KreedzCircuitOpenException.class, () -> this.get(httpClient));
+
+		assertEquals(3L, breaker.getRejectedCount());
+		assertEquals(3L, breaker.getOpenCount());
+	}
+
+	/**
+	 * Check that the poller keeps polling through another owner
+	 * once one stops & stops once none is left.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void pollerOutlivesOneOfItsOwners() throws Exception {
+		BlockingQueue<KreedzStubCall<StatusSummaryResponseEntity>> otherPolls = new LinkedBlockingQueue<>();
+		Object other = new Object();
+
+		try (KreedzCircuitBreaker breaker = newPollingBuilder().build()) {
+			breaker.startPolling(this, null, this.newPollFactory(this.polls));
+			breaker.startPolling(other, null, this.newPollFactory(otherPolls));
+
+			KreedzStubCall<StatusSummaryResponseEntity> poll = this.takePoll();
+
+			breaker.stopPolling(this);
+			poll.respond(this.toSummary(API_OUTAGE));
+
+			KreedzStubCall.take(otherPolls)
+					.respond(this.toSummary(API_OUTAGE));
+
+			KreedzStubCall.take(otherPolls);
+
+			assertNull(this.polls.poll(100L, TimeUnit.MILLISECONDS), "A stopped owner was polled");
+
+			breaker.stopPolling(other);
+
+			assertNull(otherPolls.poll(100L, TimeUnit.MILLISECONDS), "The poller wasn't stopped");
+		}
+	}
+
+	/**
+	 * Take the next executed poll.
+	 *
+	 * @return	executed poll
+	 * @throws InterruptedException	if interrupted while waiting
+	 */
+	private KreedzStubCall<StatusSummaryResponseEntity> takePoll() throws InterruptedException {
+		return KreedzStubCall.take(this.polls);
+	}
+
+	/**
+	 * Create a factory of the polls put into the provided queue once executed.
+	 *
+	 * @param polls		queue of executed polls
+	 * @return			poll factory
+	 */
+	private Supplier<Call<StatusSummaryResponseEntity>> newPollFactory(
+			BlockingQueue<KreedzStubCall<StatusSummaryResponseEntity>> polls) {
+		return () -> new KreedzStubCall<>("https://kztimerglobal.statuspage.io/api/v2/summary.json", polls);
+	}
+
+	/**
+	 * Convert the provided status summary JSON.
+	 *
+	 * @param json	status summary JSON
+	 * @return		status summary
+	 * @throws IOException	if failed
+	 */
+	private StatusSummaryResponseEntity toSummary(String json) throws IOException {
+		return this.converterClient.convert(StatusSummaryResponseEntity.class, json);
+	}
+
+	/**
+	 * Create an HTTP client w/ the provided circuit breaker,
+	 * whose requests are redirected to the mock web server past it.
+	 *
+	 * @param breaker	circuit breaker
+	 * @return			HTTP client
+	 */
+	private OkHttpClient newHttpClient(KreedzCircuitBreaker breaker) {
+		HttpUrl serverUrl = this.server.url("/");
+
+		return new OkHttpClient.Builder()
+				.addInterceptor(breaker)
+				.addInterceptor(chain -> chain.proceed(chain.request()
+						.newBuilder()
+						.url(chain.request()
+								.url()
+								.newBuilder()
+								.scheme(serverUrl.scheme())
+								.host(serverUrl.host())
+								.port(serverUrl.port())
+								.build())
+						.build()))
+				.build();
+	}
+
+	/**
+	 * Request the Global API w/ the provided HTTP client.
+	 *
+	 * @param httpClient	HTTP client
+	 * @return				status code
+	 * @throws IOException	if failed
+	 */
+	private int get(OkHttpClient httpClient) throws IOException {
+		try (Response response = httpClient.newCall(newRequest()).execute()) {
+			return response.code();
+		}
+	}
+
+	/**
+	 * Enqueue a request of the Global API w/ the provided HTTP client.
+	 *
+	 * @param httpClient	HTTP client
+	 * @return				future of the status code
+	 */
+	private CompletableFuture<Integer> enqueue(OkHttpClient httpClient) {
+		CompletableFuture<Integer> future = new CompletableFuture<>();
+
+		httpClient.newCall(newRequest()).enqueue(new Callback() {
+
+			@Override
+			public void onFailure(okhttp3.Call call, IOException e) {
+				future.completeExceptionally(e);
+			}
+
+			@Override
+			public void onResponse(okhttp3.Call call, Response response) {
+				try (Response closeable = response) {
+					future.complete(closeable.code());
+				}
+			}
+		});
+
+		return future;
+	}
+
+	/**
+	 * Create a circuit breaker builder that polls the status API quickly.
+	 *
+	 * @return	circuit breaker builder
+	 */
+	private static KreedzCircuitBreaker.Builder newPollingBuilder() {
+		return new KreedzCircuitBreaker.Builder()
+				.setPollInterval(POLL_INTERVAL);
+	}
+
+	/**
+	 * Create a request of the Global API.
+	 *
+	 * @return	request
+	 */
+	private static Request newRequest() {
+		return new Request.Builder()
+				.url("https://" + KreedzRateLimiter.GLOBAL_API_HOST + "/api/v2/records/top")
+				.build();
+	}
+
+	/**
+	 * Create a status summary JSON w/ the API & website components,
+	 * as served by the status page.
+	 *
+	 * @param apiStatus			status of the API component
+	 * @param websiteStatus		status of the website component
+	 * @return					status summary JSON
+	 */
+	private static String newSummaryJson(String apiStatus, String websiteStatus) {
+		return "{\"components\":["
+				+ "{\"id\":\"q2mbzgbk1vld\",\"name\":\"API\",\"status\":\"" + apiStatus + "\"},"
+				+ "{\"id\":\"f1tdv6w0qcg5\",\"name\":\"Website\",\"status\":\"" + websiteStatus + "\"}]}";
+	}
+
+	/**
+	 * A holding dispatcher.
+	 *
+	 * <p>Answers every request w/ the provided status code
+	 * once the provided latch is released.
+	 */
+	private static final class HoldingDispatcher extends Dispatcher {
+
+		/**
+		 * A latch to release the responses.
+		 */
+		private final CountDownLatch release;
+
+		/**
+		 * A status code of a response.
+		 */
+		private final int code;
+
+		/**
+		 * Initialize a {@link HoldingDispatcher} instance.
+		 *
+		 * @param release	latch to release the responses
+		 * @param code		status code of a response
+		 */
+		private HoldingDispatcher(CountDownLatch release, int code) {
+			this.release = release;
+			this.code = code;
+		}
+
+		/**
+		 * Initialize a {@link HoldingDispatcher} instance
+		 * w/ a successful status code.
+		 *
+		 * @param release	latch to release the responses
+		 */
+		private HoldingDispatcher(CountDownLatch release) {
+			this(release, 200);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+			this.release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+			return new MockResponse().setResponseCode(this.code);
+		}
+	}
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.cache;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzClient;
+import io.github.iwyfewwnt.kreedzsdk.client.breaker.KreedzCircuitBreaker;
+import io.github.iwyfewwnt.kreedzsdk.client.ratelimit.KreedzRateLimiter;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@link KreedzHttpCache} test.
+ *
+ * <p>Runs the map info endpoint of a real client
+ * against a {@link MockWebServer}, so the responses
+ * go through the whole interceptor chain & the disk cache.
+ */
+class KreedzHttpCacheTest {
+
+	/**
+	 * An entity tag of the served file.
+	 */
+	private static final String ETAG = "\"v1\"";
+
+	/**
+	 * A maximum time to wait for a response in seconds.
+	 */
+	private static final long TIMEOUT_SECONDS = 5L;
+
+	/**
+	 * A cache directory.
+	 */
+	@TempDir
+	File directory;
+
+	/**
+	 * A mock web server.
+	 */
+	private MockWebServer server;
+
+	/**
+	 * Start the mock web server.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@BeforeEach
+	void startServer() throws IOException {
+		this.server = new MockWebServer();
+		this.server.start();
+	}
+
+	/**
+	 * Shut the mock web server down.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@AfterEach
+	void shutdownServer() throws IOException {
+		this.server.shutdown();
+	}
+
+	/**
+	 * Check that an unchanged file is revalidated by its ETag
+	 * and served from disk on a 304.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void revalidatesByETag() throws Exception {
+		this.server.enqueue(newFileResponse());
+		this.server.enqueue(new MockResponse().setResponseCode(304));
+
+		try (KreedzHttpCache cache = this.newCache(Duration.ZERO)) {
+			KreedzClient client = this.newClient(cache, null, null);
+
+			fetch(client);
+
+			assertNull(this.server.takeRequest().getHeader("If-None-Match"));
+
+			fetch(client);
+
+			assertEquals(ETAG, this.server.takeRequest().getHeader("If-None-Match"));
+
+			assertEquals(1L, cache.getHitCount());
+			assertEquals(2L, cache.getNetworkCount());
+		}
+	}
+
+	/**
+	 * Check that a stale file is served right away
+	 * and revalidated by a single background request
+	 * while that revalidation is in flight.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void servesStaleWhileRevalidating() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		this.server.setDispatcher(new RevalidatingDispatcher(release, 304));
+
+		try (KreedzHttpCache cache = this.newCache(Duration.ofDays(1L))) {
+			KreedzClient client = this.newClient(cache, null, null);
+
+			fetch(client);
+			this.server.takeRequest();
+
+			// The revalidation started by the first stale hit is held back by the server.
+			fetch(client);
+			fetch(client);
+
+			assertEquals(2L, cache.getStaleHitCount());
+			assertEquals(1L, cache.getRevalidationCount());
+
+			RecordedRequest revalidation = this.server.takeRequest(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+			assertNotNull(revalidation, "No background revalidation was sent");
+			assertEquals(ETAG, revalidation.getHeader("If-None-Match"));
+
+			release.countDown();
+
+			assertNull(this.server.takeRequest(100, TimeUnit.MILLISECONDS), "A URL was revalidated twice");
+			assertEquals(2, this.server.getRequestCount());
+		}
+	}
+
+	/**
+	 * Check that a cache reopened on the same directory
+	 * revalidates the file stored by the previous one.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void reusesDirectoryAfterRestart() throws Exception {
+		this.server.enqueue(newFileResponse());
+		this.server.enqueue(new MockResponse().setResponseCode(304));
+
+		try (KreedzHttpCache cache = this.newCache(Duration.ZERO)) {
+			fetch(this.newClient(cache, null, null));
+		}
+
+		this.server.takeRequest();
+
+		try (KreedzHttpCache cache = this.newCache(Duration.ZERO)) {
+			fetch(this.newClient(cache, null, null));
+
+			assertEquals(ETAG, this.server.takeRequest().getHeader("If-None-Match"));
+			assertEquals(1L, cache.getHitCount());
+		}
+	}
+
+	/**
+	 * Check that a background revalidation passes
+	 * the rate limiter & the circuit breaker of the client.
+	 *
+	 * <p>Both see the foreground requests w/ their original host,
+	 * so only the revalidation reaches them w/ the host of the server.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void revalidatesThroughLimiterAndBreaker() throws Exception {
+		String host = this.server.url("/")
+				.host();
+
+		KreedzRateLimiter rateLimiter = new KreedzRateLimiter.Builder()
+				.setBudget(host, new KreedzRateLimiter.Budget(1000.0d, 1000, 4, 4))
+				.build();
+
+		KreedzCircuitBreaker circuitBreaker = new KreedzCircuitBreaker.Builder()
+				.setWindowSize(1)
+				.setMinimumCalls(1)
+				.setPollInterval(null)
+				.build();
+
+		this.server.setDispatcher(new RevalidatingDispatcher(new CountDownLatch(0), 429));
+
+		try (KreedzHttpCache cache = this.newCache(Duration.ofDays(1L));
+			 KreedzClient client = this.newClient(cache, rateLimiter, circuitBreaker)) {
+			fetch(client);
+			fetch(client);
+
+			assertEquals(1L, cache.getRevalidationCount());
+
+			assertTrue(await(() -> rateLimiter.getThrottleCount() == 1L),
+					"The revalidation wasn't throttled by the rate limiter");
+
+			assertTrue(await(() -> circuitBreaker.getState(host) == KreedzCircuitBreaker.State.OPEN),
+					"The revalidation wasn't recorded by the circuit breaker");
+		}
+	}
+
+	/**
+	 * Create an HTTP cache of the cache directory
+	 * whose entries are stale right away.
+	 *
+	 * @param staleWhileRevalidate	stale-while-revalidate window
+	 * @return						HTTP cache
+	 */
+	private KreedzHttpCache newCache(Duration staleWhileRevalidate) {
+		return new KreedzHttpCache.Builder(this.directory)
+				.setMaxAge(Duration.ZERO)
+				.setStaleWhileRevalidate(staleWhileRevalidate)
+				.build();
+	}
+
+	/**
+	 * Create a client w/ the provided HTTP cache,
+	 * whose requests are redirected to the mock web server.
+	 *
+	 * @param cache				HTTP cache
+	 * @param rateLimiter		rate limiter, may be null
+	 * @param circuitBreaker	circuit breaker, may be null
+	 * @return					client
+	 */
+	private KreedzClient newClient(KreedzHttpCache cache,
+								   KreedzRateLimiter rateLimiter,
+								   KreedzCircuitBreaker circuitBreaker) {
+		HttpUrl serverUrl = this.server.url("/");
+
+		Interceptor redirect = chain -> {
+			HttpUrl url = chain.request()
+					.url()
+					.newBuilder()
+					.scheme(serverUrl.scheme())
+					.host(serverUrl.host())
+					.port(serverUrl.port())
+					.build();
+
+			return chain.proceed(chain.request()
+					.newBuilder()
+					.url(url)
+					.build());
+		};
+
+		return new KreedzClient.Builder()
+				.setHttpCache(cache)
+				.setRateLimiter(rateLimiter)
+				.setCircuitBreaker(circuitBreaker)
+				.addInterceptor(redirect)
+				.build();
+	}
+
+	/**
+	 * Fetch the map info file w/ the provided client.
+	 *
+	 * @param client	client
+	 * @throws Exception	if failed
+	 */
+	private static void fetch(KreedzClient client) throws Exception {
+		assertEquals(Collections.emptyList(), client.getMapInfoService()
+				.all()
+				.executeAsync()
+				.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Create a response serving the map info file w/ its ETag.
+	 *
+	 * @return	response
+	 */
+	private static MockResponse newFileResponse() {
+		return new MockResponse()
+				.setHeader("ETag", ETAG)
+				.setBody("[]");
+	}
+
+	/**
+	 * Wait until the provided condition holds.
+	 *
+	 * @param condition		condition to wait for
+	 * @return				boolean value as a result
+	 * @throws InterruptedException	if interrupted while waiting
+	 */
+	private static boolean await(BooleanSupplier condition) throws InterruptedException {
+		long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() - deadlineNanos >= 0) {
+				return false;
+			}
+
+			Thread.sleep(10L);
+		}
+
+		return true;
+	}
+
+	/**
+	 * A revalidating dispatcher.
+	 *
+	 * <p>Serves the map info file to an unconditional request
+	 * and answers a conditional one w/ the provided status code
+	 * once the provided latch is released.
+	 */
+	private static final class RevalidatingDispatcher extends Dispatcher {
+
+		/**
+		 * A latch to release the conditional responses.
+		 */
+		private final CountDownLatch release;
+
+		/**
+		 * A status code of a conditional response.
+		 */
+		private final int code;
+
+		/**
+		 * Initialize a {@link RevalidatingDispatcher} instance.
+		 *
+		 * @param release	latch to release the conditional responses
+		 * @param code		status code of a conditional response
+		 */
+		private RevalidatingDispatcher(CountDownLatch release, int code) {
+			this.release = release;
+			this.code = code;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+			if (request.getHeader("If-None-Match") == null) {
+				return newFileResponse();
+			}
+
+			this.release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+			return new MockResponse().setResponseCode(this.code);
+		}
+	}
+}
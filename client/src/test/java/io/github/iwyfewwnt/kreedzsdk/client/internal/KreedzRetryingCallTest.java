@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzStubCall;
+import io.github.iwyfewwnt.kreedzsdk.client.retry.KreedzRetrier;
+import io.github.iwyfewwnt.kreedzsdk.client.retry.KreedzRetryPolicy;
+import org.junit.jupiter.api.Test;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@link KreedzRetryingCall} test.
+ */
+class KreedzRetryingCallTest {
+
+	/**
+	 * A request URL.
+	 */
+	private static final String URL = "http://localhost/records";
+
+	/**
+	 * A hedging delay.
+	 */
+	private static final Duration HEDGE_DELAY = Duration.ofMillis(10L);
+
+	/**
+	 * A queue of enqueued attempts.
+	 */
+	private final BlockingQueue<KreedzStubCall<String>> enqueued = new LinkedBlockingQueue<>();
+
+	/**
+	 * Check that the winner of a hedged round cancels the loser.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void hedgeWinnerCancelsLoser() throws Exception {
+		KreedzRetrier retrier = newRetrier(new KreedzRetryPolicy.Builder()
+				.setHedgeDelay(HEDGE_DELAY)
+				.build());
+
+		CompletableFuture<Response<String>> future = this.enqueue(retrier);
+
+		KreedzStubCall<String> original = KreedzStubCall.take(this.enqueued);
+		KreedzStubCall<String> hedge = KreedzStubCall.take(this.enqueued);
+
+		hedge.respond("hedge");
+
+		assertEquals("hedge", future.get(5, TimeUnit.SECONDS).body());
+		assertTrue(original.isCanceled(), "The losing attempt wasn't canceled");
+
+		assertEquals(1L, retrier.getHedgeCount());
+		assertEquals(1L, retrier.getHedgeWonCount());
+		assertEquals(0L, retrier.getHedgeLostCount());
+	}
+
+	/**
+	 * Check that a retryable failure of one racer waits for the other one
+	 * instead of retrying or failing the call.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void retryableFailureWaitsForOtherRacer() throws Exception {
+		KreedzRetrier retrier = newRetrier(new KreedzRetryPolicy.Builder()
+				.setHedgeDelay(HEDGE_DELAY)
+				.build());
+
+		CompletableFuture<Response<String>> future = this.enqueue(retrier);
+
+		KreedzStubCall<String> original = KreedzStubCall.take(this.enqueued);
+		KreedzStubCall<String> hedge = KreedzStubCall.take(this.enqueued);
+
+		original.respondError(503, null);
+
+		assertFalse(future.isDone(), "The call completed w/ a racer still in flight");
+		assertFalse(hedge.isCanceled());
+
+		hedge.respond("hedge");
+
+		assertEquals("hedge", future.get(5, TimeUnit.SECONDS).body());
+		assertNull(this.enqueued.poll(100, TimeUnit.MILLISECONDS), "The failed racer was retried");
+
+		assertEquals(0L, retrier.getRetryCount());
+		assertEquals(1L, retrier.getHedgeWonCount());
+	}
+
+	/**
+	 * Check that cancelling the call during a backoff fails it
+	 * and drops the scheduled retry.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void cancelDuringBackoff() throws Exception {
+		KreedzRetrier retrier = newRetrier(new KreedzRetryPolicy.Builder()
+				.setMaxRetries(1)
+				.build());
+
+		KreedzRetryingCall<String> call = new KreedzRetryingCall<>(new KreedzStubCall<>(URL, this.enqueued), retrier);
+		CompletableFuture<Response<String>> future = new CompletableFuture<>();
+
+		call.enqueue(KreedzStubCall.completing(future));
+
+		// The Retry-After header holds the retry back for longer than the test runs.
+		KreedzStubCall.take(this.enqueued)
+				.respondError(503, "5");
+
+		assertFalse(future.isDone(), "The call completed instead of backing off");
+
+		call.cancel();
+
+		ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IOException.class, e.getCause());
+		assertEquals("Canceled", e.getCause().getMessage());
+
+		assertTrue(call.isCanceled());
+		assertNull(this.enqueued.poll(100, TimeUnit.MILLISECONDS), "The call was retried after cancel");
+		assertEquals(0L, retrier.getRetryCount());
+	}
+
+	/**
+	 * Enqueue a retrying call of a stub call.
+	 *
+	 * @param retrier	retrier
+	 * @return			future of the response
+	 */
+	private CompletableFuture<Response<String>> enqueue(KreedzRetrier retrier) {
+		CompletableFuture<Response<String>> future = new CompletableFuture<>();
+
+		new KreedzRetryingCall<>(new KreedzStubCall<>(URL, this.enqueued), retrier)
+				.enqueue(KreedzStubCall.completing(future));
+
+		return future;
+	}
+
+	/**
+	 * Create a retrier w/ the provided default policy.
+	 *
+	 * @param policy	default retry policy
+	 * @return			retrier
+	 */
+	private static KreedzRetrier newRetrier(KreedzRetryPolicy policy) {
+		return new KreedzRetrier.Builder()
+				.setDefaultPolicy(policy)
+				.build();
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.internal;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzStubCall;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@link KreedzSplitCall} test.
+ *
+ * <p>Splits a query w/ six identifiers into three chunks of two
+ * by {@link UKreedzQuery#split}, each chunk being a stub call.
+ */
+class KreedzSplitCallTest {
+
+	/**
+	 * A name of the split parameter.
+	 */
+	private static final String NAME = "id";
+
+	/**
+	 * A maximum length of the split parameter, two identifiers per chunk.
+	 */
+	private static final int MAX_LENGTH = 10;
+
+	/**
+	 * A set of identifiers to split.
+	 */
+	private static final Set<Integer> IDS = new LinkedHashSet<>(Arrays.asList(1, 2, 3, 4, 5, 6));
+
+	/**
+	 * A queue of enqueued chunk calls.
+	 */
+	private final BlockingQueue<KreedzStubCall<List<Integer>>> enqueued = new LinkedBlockingQueue<>();
+
+	/**
+	 * Check that a page w/o a comparator calls every chunk at the page
+	 * bounds and concatenates the chunks in order w/o cutting them.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void unsortedPageCallsChunksAtPageOffset() throws Exception {
+		CompletableFuture<Response<List<Integer>>> future = this.enqueue(4, 2, true, null);
+		Map<String, KreedzStubCall<List<Integer>>> calls = this.takeChunks();
+
+		for (KreedzStubCall<List<Integer>> call : calls.values()) {
+			assertEquals("4", call.request().url().queryParameter("offset"));
+			assertEquals("2", call.request().url().queryParameter("limit"));
+		}
+
+		calls.get("5,6").respond(Arrays.asList(50, 60));
+		calls.get("1,2").respond(Arrays.asList(10, 20));
+		calls.get("3,4").respond(Arrays.asList(30));
+
+		assertEquals(Arrays.asList(10, 20, 30, 50, 60), future.get(5, TimeUnit.SECONDS).body());
+	}
+
+	/**
+	 * Check that a sorted query calls every chunk from the start
+	 * up to the end of the requested page, merges the chunks
+	 * in order & cuts the result to the page.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void sortedQueryMergesAndCutsToPage() throws Exception {
+		CompletableFuture<Response<List<Integer>>> future = this.enqueue(1, 3, false, Comparator.naturalOrder());
+		Map<String, KreedzStubCall<List<Integer>>> calls = this.takeChunks();
+
+		for (KreedzStubCall<List<Integer>> call : calls.values()) {
+			assertEquals("0", call.request().url().queryParameter("offset"));
+			assertEquals("4", call.request().url().queryParameter("limit"));
+		}
+
+		calls.get("1,2").respond(Arrays.asList(3, 6));
+		calls.get("3,4").respond(Arrays.asList(1, 5));
+		calls.get("5,6").respond(Arrays.asList(2, 4));
+
+		assertEquals(Arrays.asList(2, 3, 4), future.get(5, TimeUnit.SECONDS).body());
+	}
+
+	/**
+	 * Check that the first failed chunk fails the query
+	 * and cancels the sibling chunks.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void firstFailureCancelsSiblings() throws Exception {
+		CompletableFuture<Response<List<Integer>>> future = this.enqueue(null, null, false, null);
+		Map<String, KreedzStubCall<List<Integer>>> calls = this.takeChunks();
+
+		calls.get("1,2").respond(Arrays.asList(1, 2));
+		calls.get("3,4").fail(new IOException("Broken pipe"));
+
+		ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IOException.class, e.getCause());
+
+		assertTrue(calls.get("5,6").awaitCanceled(), "The pending chunk wasn't canceled");
+	}
+
+	/**
+	 * Check that the first non-successful chunk is the response
+	 * of the query and cancels the sibling chunks.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void firstErrorResponseCancelsSiblings() throws Exception {
+		CompletableFuture<Response<List<Integer>>> future = this.enqueue(null, null, false, null);
+		Map<String, KreedzStubCall<List<Integer>>> calls = this.takeChunks();
+
+		calls.get("5,6").respondError(503, null);
+
+		assertEquals(503, future.get(5, TimeUnit.SECONDS).code());
+
+		assertTrue(calls.get("1,2").awaitCanceled(), "The chunk <1,2> wasn't canceled");
+		assertTrue(calls.get("3,4").awaitCanceled(), "The chunk <3,4> wasn't canceled");
+	}
+
+	/**
+	 * Split the query w/ the provided page bounds and enqueue it.
+	 *
+	 * @param offset		offset, may be null
+	 * @param limit			limit, may be null
+	 * @param isPage		whether the call is a page of a page sequence
+	 * @param comparator	order of the results, may be null
+	 * @return				future of the merged response
+	 */
+	private CompletableFuture<Response<List<Integer>>> enqueue(Integer offset, Integer limit, boolean isPage,
+																Comparator<Integer> comparator) {
+		Call<List<Integer>> call = UKreedzQuery.split(NAME, IDS, MAX_LENGTH, offset, limit, isPage, comparator,
+				(chunk, chunkOffset, chunkLimit) -> new KreedzStubCall<>(newUrl(chunk, chunkOffset, chunkLimit),
+						this.enqueued));
+
+		assertInstanceOf(KreedzSplitCall.class, call);
+
+		CompletableFuture<Response<List<Integer>>> future = new CompletableFuture<>();
+		call.enqueue(KreedzStubCall.completing(future));
+
+		return future;
+	}
+
+	/**
+	 * Take the chunk calls, enqueued concurrently.
+	 *
+	 * @return	map of the chunk query parameter & the call of the chunk
+	 * @throws InterruptedException	if interrupted while waiting
+	 */
+	private Map<String, KreedzStubCall<List<Integer>>> takeChunks() throws InterruptedException {
+		Map<String, KreedzStubCall<List<Integer>>> calls = new HashMap<>();
+
+		for (int i = 0; i < 3; i++) {
+			KreedzStubCall<List<Integer>> call = KreedzStubCall.take(this.enqueued);
+
+			calls.put(call.request().url().queryParameter(NAME), call);
+		}
+
+		assertEquals(Arrays.asList("1,2", "3,4", "5,6"), calls.keySet()
+				.stream()
+				.sorted()
+				.collect(Collectors.toList()));
+
+		return calls;
+	}
+
+	/**
+	 * Create a URL of the provided chunk.
+	 *
+	 * @param chunk		set of identifiers
+	 * @param offset	offset, may be null
+	 * @param limit		limit, may be null
+	 * @return			chunk URL
+	 */
+	private static String newUrl(Set<Integer> chunk, Integer offset, Integer limit) {
+		HttpUrl.Builder builder = HttpUrl.get("http://localhost/records")
+				.newBuilder()
+				.addQueryParameter(NAME, chunk.stream()
+						.map(String::valueOf)
+						.collect(Collectors.joining(",")));
+
+		if (offset != null) {
+			builder.addQueryParameter("offset", offset.toString());
+		}
+
+		if (limit != null) {
+			builder.addQueryParameter("limit", limit.toString());
+		}
+
+		return builder.build()
+				.toString();
+	}
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.ratelimit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@link KreedzRateLimiter} test.
+ *
+ * <p>Runs against a {@link MockWebServer}, so the limiter
+ * sees real responses & real latencies.
+ */
+class KreedzRateLimiterTest {
+
+	/**
+	 * A number of requests the throttling server accepts per second.
+	 */
+	private static final int SERVER_LIMIT = 20;
+
+	/**
+	 * A latency of an accepted request in milliseconds.
+	 */
+	private static final long LATENCY_MILLIS = 50L;
+
+	/**
+	 * A number of client threads.
+	 */
+	private static final int THREAD_COUNT = 8;
+
+	/**
+	 * A duration of the load in milliseconds.
+	 */
+	private static final long LOAD_MILLIS = 4000L;
+
+	/**
+	 * A duration of the load to let the limiter adapt in milliseconds.
+	 */
+	private static final long WARMUP_MILLIS = 1000L;
+
+	/**
+	 * A mock web server.
+	 */
+	private MockWebServer server;
+
+	/**
+	 * A host of the mock web server.
+	 */
+	private String host;
+
+	/**
+	 * Start the mock web server.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@BeforeEach
+	void startServer() throws IOException {
+		this.server = new MockWebServer();
+		this.server.start();
+
+		this.host = this.server.url("/")
+				.host();
+	}
+
+	/**
+	 * Shut the mock web server down.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@AfterEach
+	void shutdownServer() throws IOException {
+		this.server.shutdown();
+	}
+
+	/**
+	 * Check that a 429 response halves the concurrency window, down to a single request.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@Test
+	void halvesWindowOn429() throws IOException {
+		KreedzRateLimiter limiter = this.newLimiter(8);
+		OkHttpClient client = newClient(limiter);
+
+		for (int i = 0; i < 4; i++) {
+			this.server.enqueue(new MockResponse().setResponseCode(429));
+		}
+
+		assertEquals(8, limiter.getConcurrencyLimit(this.host));
+
+		int[] windows = {4, 2, 1, 1};
+
+		for (int window : windows) {
+			this.execute(client);
+
+			assertEquals(window, limiter.getConcurrencyLimit(this.host));
+		}
+
+		assertEquals(windows.length, limiter.getThrottleCount());
+	}
+
+	/**
+	 * Check that a "Retry-After" header holds the next request back for its delay.
+	 *
+	 * @throws IOException	if failed
+	 */
+	@Test
+	void honorsRetryAfter() throws IOException {
+		KreedzRateLimiter limiter = this.newLimiter(8);
+		OkHttpClient client = newClient(limiter);
+
+		this.server.enqueue(new MockResponse()
+				.setResponseCode(429)
+				.setHeader("Retry-After", "1"));
+
+		this.server.enqueue(new MockResponse()
+				.setBody("[]"));
+
+		assertEquals(429, this.execute(client));
+
+		long startNanos = System.nanoTime();
+
+		assertEquals(200, this.execute(client));
+
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+		assertTrue(elapsedMillis >= 900L, () -> "The request was sent " + elapsedMillis
+				+ " ms after a \"Retry-After: 1\" response");
+
+		assertEquals(1L, limiter.getDelayCount());
+	}
+
+	/**
+	 * Check that the offered load converges below the limit of a throttling server.
+	 *
+	 * <p>The threads alone would offer {@code THREAD_COUNT * 1000 / LATENCY_MILLIS} requests
+	 * per second, i.e. 8 times the server limit, & have most of them rejected.
+	 *
+	 * @throws InterruptedException	if interrupted while waiting
+	 */
+	@Test
+	void convergesBelowServerLimit() throws InterruptedException {
+		ThrottlingDispatcher dispatcher = new ThrottlingDispatcher(SERVER_LIMIT);
+		this.server.setDispatcher(dispatcher);
+
+		KreedzRateLimiter limiter = this.newLimiter(THREAD_COUNT);
+		OkHttpClient client = newClient(limiter);
+
+		long startNanos = System.nanoTime();
+		long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(LOAD_MILLIS);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			executor.execute(() -> {
+				while (System.nanoTime() - deadlineNanos < 0) {
+					try {
+						this.execute(client);
+					} catch (IOException e) {
+						return;
+					}
+				}
+			});
+		}
+
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(LOAD_MILLIS * 3, TimeUnit.MILLISECONDS));
+
+		long fromNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(WARMUP_MILLIS);
+		long endNanos = Math.max(deadlineNanos, dispatcher.getLastNanos());
+
+		int offered = dispatcher.countSince(fromNanos, false);
+		int rejected = dispatcher.countSince(fromNanos, true);
+
+		double seconds = (endNanos - fromNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+		double offeredRate = offered / seconds;
+
+		assertTrue(offeredRate <= SERVER_LIMIT * 1.25d, () -> "Offered " + offeredRate
+				+ " requests per second against a limit of " + SERVER_LIMIT);
+
+		assertTrue(rejected <= offered / 2, () -> rejected + " of " + offered + " requests were rejected");
+		assertTrue(offered - rejected >= SERVER_LIMIT * seconds / 4, () -> "Only " + (offered - rejected)
+				+ " requests were accepted in " + seconds + " s");
+
+		assertTrue(limiter.getThrottleCount() > 0L);
+	}
+
+	/**
+	 * Create a rate limiter whose token bucket never binds,
+	 * so only its concurrency window throttles the requests.
+	 *
+	 * @param initialConcurrency	initial concurrency window
+	 * @return						rate limiter
+	 */
+	private KreedzRateLimiter newLimiter(int initialConcurrency) {
+		return new KreedzRateLimiter.Builder()
+				.setBudget(this.host, new KreedzRateLimiter.Budget(1000.0d, 1000, initialConcurrency, 32))
+				.build();
+	}
+
+	/**
+	 * Execute a request to the mock web server.
+	 *
+	 * @param client	client to execute the request w/
+	 * @return			response code
+	 * @throws IOException	if failed
+	 */
+	private int execute(OkHttpClient client) throws IOException {
+		Request request = new Request.Builder()
+				.url(this.server.url("/api/v2.0/records/top"))
+				.build();
+
+		try (Response response = client.newCall(request).execute()) {
+			return response.code();
+		}
+	}
+
+	/**
+	 * Create a client w/ the provided rate limiter.
+	 *
+	 * @param limiter	rate limiter
+	 * @return			client
+	 */
+	private static OkHttpClient newClient(KreedzRateLimiter limiter) {
+		return new OkHttpClient.Builder()
+				.addInterceptor(limiter)
+				.build();
+	}
+
+	/**
+	 * A throttling dispatcher.
+	 *
+	 * <p>Accepts up to a number of requests per sliding second
+	 * and rejects the rest w/ a 429 & a "Retry-After" header.
+	 */
+	private static final class ThrottlingDispatcher extends Dispatcher {
+
+		/**
+		 * A number of requests to accept per second.
+		 */
+		private final int limit;
+
+		/**
+		 * A queue of the acceptance times of the last second in nanoseconds.
+		 */
+		private final Deque<Long> acceptedNanos;
+
+		/**
+		 * A list of the received requests, each as a time in nanoseconds & a rejection flag.
+		 */
+		private final List<long[]> received;
+
+		/**
+		 * Initialize a {@link ThrottlingDispatcher} instance.
+		 *
+		 * @param limit		number of requests to accept per second
+		 */
+		private ThrottlingDispatcher(int limit) {
+			this.limit = limit;
+			this.acceptedNanos = new ArrayDeque<>();
+			this.received = new ArrayList<>();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized MockResponse dispatch(RecordedRequest request) {
+			long now = System.nanoTime();
+			long windowStartNanos = now - TimeUnit.SECONDS.toNanos(1);
+
+			while (!this.acceptedNanos.isEmpty() && this.acceptedNanos.peekFirst() - windowStartNanos <= 0) {
+				this.acceptedNanos.pollFirst();
+			}
+
+			if (this.acceptedNanos.size() >= this.limit) {
+				this.received.add(new long[] {now, 1L});
+
+				return new MockResponse()
+						.setResponseCode(429)
+						.setHeader("Retry-After", "1");
+			}
+
+			this.acceptedNanos.addLast(now);
+			this.received.add(new long[] {now, 0L});
+
+			return new MockResponse()
+					.setBody("[]")
+					.setHeadersDelay(LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+		}
+
+		/**
+		 * Count the requests received since the provided time.
+		 *
+		 * @param fromNanos		time in nanoseconds
+		 * @param isRejected	whether to count only the rejected requests
+		 * @return				number of requests
+		 */
+		private synchronized int countSince(long fromNanos, boolean isRejected) {
+			int count = 0;
+
+			for (long[] entry : this.received) {
+				if (entry[0] - fromNanos >= 0 && (!isRejected || entry[1] != 0L)) {
+					count++;
+				}
+			}
+
+			return count;
+		}
+
+		/**
+		 * Get a time of the last received request in nanoseconds.
+		 *
+		 * @return	time in nanoseconds, zero if none
+		 */
+		private synchronized long getLastNanos() {
+			return this.received.isEmpty()
+					? 0L
+					: this.received.get(this.received.size() - 1)[0];
+		}
+	}
+}
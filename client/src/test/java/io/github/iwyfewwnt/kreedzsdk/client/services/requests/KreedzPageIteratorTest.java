@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.services.requests;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzStubCall;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@link KreedzPageIterator} test.
+ */
+class KreedzPageIteratorTest {
+
+	/**
+	 * A number of entities per page.
+	 */
+	private static final int LIMIT = 2;
+
+	/**
+	 * A queue of enqueued page calls.
+	 */
+	private final BlockingQueue<KreedzStubCall<List<Integer>>> enqueued = new LinkedBlockingQueue<>();
+
+	/**
+	 * Check that a full page prefetches the next one
+	 * and a short page ends the iteration.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void shortPageEndsIteration() throws Exception {
+		KreedzPageIterator<Integer> iterator = this.newPages().iterator();
+
+		CompletableFuture<List<Integer>> entities = CompletableFuture.supplyAsync(() -> {
+			List<Integer> result = new ArrayList<>();
+			iterator.forEachRemaining(result::add);
+
+			return result;
+		});
+
+		KreedzStubCall<List<Integer>> first = KreedzStubCall.take(this.enqueued);
+		assertEquals("0", offsetOf(first));
+		first.respond(Arrays.asList(1, 2));
+
+		KreedzStubCall<List<Integer>> second = KreedzStubCall.take(this.enqueued);
+		assertEquals("2", offsetOf(second));
+		second.respond(Collections.singletonList(3));
+
+		assertEquals(Arrays.asList(1, 2, 3), entities.get(5, TimeUnit.SECONDS));
+		assertNull(this.enqueued.poll(100, TimeUnit.MILLISECONDS), "A page past the short one was fetched");
+	}
+
+	/**
+	 * Check that closing the iterator early cancels the prefetched page.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void closeCancelsPrefetchedPage() throws Exception {
+		KreedzPageIterator<Integer> iterator = this.newPages().iterator();
+
+		CompletableFuture<Integer> entity = CompletableFuture.supplyAsync(iterator::next);
+
+		KreedzStubCall<List<Integer>> first = KreedzStubCall.take(this.enqueued);
+		first.respond(Arrays.asList(1, 2));
+
+		assertEquals(1, entity.get(5, TimeUnit.SECONDS));
+
+		KreedzStubCall<List<Integer>> prefetched = KreedzStubCall.take(this.enqueued);
+		assertEquals("2", offsetOf(prefetched));
+		assertFalse(prefetched.isCanceled());
+
+		iterator.close();
+
+		assertTrue(prefetched.isCanceled(), "The prefetched page wasn't canceled");
+		assertFalse(iterator.hasNext());
+		assertNull(this.enqueued.poll(100, TimeUnit.MILLISECONDS), "A page was fetched after close");
+	}
+
+	/**
+	 * Create pages of stub calls.
+	 *
+	 * @return	pages of stub calls
+	 */
+	private KreedzPages<Integer> newPages() {
+		return new KreedzPages<>((offset, limit) -> new KreedzStubCall<>(
+				"http://localhost/records?offset=" + offset + "&limit=" + limit, this.enqueued), 0, LIMIT, null);
+	}
+
+	/**
+	 * Get the offset query parameter of the provided call.
+	 *
+	 * @param call	call
+	 * @return		offset query parameter
+	 */
+	private static String offsetOf(KreedzStubCall<?> call) {
+		return call.request()
+				.url()
+				.queryParameter("offset");
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.client.services.requests;
+
+import io.github.iwyfewwnt.kreedzsdk.client.KreedzStubCall;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@link KreedzPages} test.
+ */
+class KreedzPagesTest {
+
+	/**
+	 * A number of entities per page.
+	 */
+	private static final int LIMIT = 2;
+
+	/**
+	 * A maximum number of pages in flight.
+	 */
+	private static final int MAX_CONCURRENCY = 4;
+
+	/**
+	 * A queue of enqueued page calls.
+	 */
+	private final BlockingQueue<KreedzStubCall<List<Integer>>> enqueued = new LinkedBlockingQueue<>();
+
+	/**
+	 * Check that a short page cancels the windows past it that are still in flight.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void fetchAllCancelsWindowsPastTheEnd() throws Exception {
+		CompletableFuture<List<Integer>> entities = CompletableFuture.supplyAsync(
+				() -> this.newPages().fetchAll(MAX_CONCURRENCY));
+
+		Map<String, KreedzStubCall<List<Integer>>> calls = this.takeWindows();
+
+		calls.get("2").respond(Collections.singletonList(3));
+
+		assertTrue(calls.get("4").awaitCanceled(), "The window at offset 4 wasn't canceled");
+		assertTrue(calls.get("6").awaitCanceled(), "The window at offset 6 wasn't canceled");
+		assertFalse(calls.get("0").isCanceled());
+
+		calls.get("0").respond(Arrays.asList(1, 2));
+
+		assertEquals(Arrays.asList(1, 2, 3), entities.get(5, TimeUnit.SECONDS));
+		assertNull(this.enqueued.poll(100, TimeUnit.MILLISECONDS), "A window past the end was fetched");
+	}
+
+	/**
+	 * Check that a failed page cancels every other window in flight.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void fetchAllCancelsWindowsOnFailure() throws Exception {
+		CompletableFuture<List<Integer>> entities = CompletableFuture.supplyAsync(
+				() -> this.newPages().fetchAll(MAX_CONCURRENCY));
+
+		Map<String, KreedzStubCall<List<Integer>>> calls = this.takeWindows();
+
+		calls.get("2").fail(new IOException("Broken pipe"));
+
+		ExecutionException e = assertThrows(ExecutionException.class, () -> entities.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(UncheckedIOException.class, e.getCause());
+
+		assertTrue(calls.get("0").isCanceled(), "The window at offset 0 wasn't canceled");
+		assertTrue(calls.get("4").isCanceled(), "The window at offset 4 wasn't canceled");
+		assertTrue(calls.get("6").isCanceled(), "The window at offset 6 wasn't canceled");
+	}
+
+	/**
+	 * Check that a parallel stream fetches nothing until it's traversed
+	 * and then yields the pages in order up to a short one.
+	 *
+	 * @throws Exception	if failed
+	 */
+	@Test
+	void parallelStreamFetchesLazilyInOrder() throws Exception {
+		Stream<Integer> stream = this.newPages().parallelStream(MAX_CONCURRENCY);
+
+		assertNull(this.enqueued.poll(100, TimeUnit.MILLISECONDS), "A page was fetched before the traversal");
+
+		CompletableFuture<List<Integer>> entities = CompletableFuture.supplyAsync(
+				() -> stream.collect(Collectors.toList()));
+
+		Map<String, KreedzStubCall<List<Integer>>> calls = this.takeWindows();
+
+		calls.get("4").respond(Collections.singletonList(5));
+		calls.get("2").respond(Arrays.asList(3, 4));
+		calls.get("0").respond(Arrays.asList(1, 2));
+
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), entities.get(5, TimeUnit.SECONDS));
+		assertTrue(calls.get("6").isCanceled(), "The window at offset 6 wasn't canceled");
+
+		// Each consumed page tops the windows in flight up.
+		for (String offset : Arrays.asList("8", "10")) {
+			KreedzStubCall<List<Integer>> call = KreedzStubCall.take(this.enqueued);
+
+			assertEquals(offset, call.request().url().queryParameter("offset"));
+			assertTrue(call.isCanceled(), "The window at offset " + offset + " wasn't canceled");
+		}
+
+		assertNull(this.enqueued.poll(100, TimeUnit.MILLISECONDS), "A window past the end was fetched");
+	}
+
+	/**
+	 * Take the first windows, enqueued concurrently.
+	 *
+	 * @return	map of the offset query parameter & the call of the window
+	 * @throws InterruptedException	if interrupted while waiting
+	 */
+	private Map<String, KreedzStubCall<List<Integer>>> takeWindows() throws InterruptedException {
+		Map<String, KreedzStubCall<List<Integer>>> calls = new HashMap<>();
+
+		for (int i = 0; i < MAX_CONCURRENCY; i++) {
+			KreedzStubCall<List<Integer>> call = KreedzStubCall.take(this.enqueued);
+
+			calls.put(call.request().url().queryParameter("offset"), call);
+		}
+
+		assertEquals(Arrays.asList("0", "2", "4", "6"), calls.keySet()
+				.stream()
+				.sorted()
+				.collect(Collectors.toList()));
+
+		return calls;
+	}
+
+	/**
+	 * Create pages of stub calls.
+	 *
+	 * @return	pages of stub calls
+	 */
+	private KreedzPages<Integer> newPages() {
+		return new KreedzPages<>((offset, limit) -> new KreedzStubCall<>(
+				"http://localhost/records?offset=" + offset + "&limit=" + limit, this.enqueued), 0, LIMIT, null);
+	}
+}
@@ -40,6 +40,6 @@ public final class DateTimeQueryConverter implements Converter<DateTime, String>
 	 */
 	@Override
 	public String convert(DateTime date) {
-		return date.toString(UKreedzDate.FORMATTER);
+		return UKreedzDate.formatOrNull(date);
 	}
 }
@@ -0,0 +1,663 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.processor;
+
+import com.google.auto.service.AutoService;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * A kreedz SPI registry annotation processor.
+ *
+ * <p>Collects every {@code @AutoService} annotated kreedz SPI implementation
+ * of the compiled module, resolves its binding type at the compile time
+ * and generates a static registry class w/ constructor references.
+ * This way the {@code KreedzClient} doesn't have to scan the classpath
+ * and reflect over generic types for the built-in implementations.
+ *
+ * <p>Registries are generated once, in the first round, rather than once
+ * processing is over, as sources of the last round aren't processed
+ * & the {@code KreedzClient} refers to them. Javac only runs another
+ * round for generated sources, so there's no later one to wait for.
+ * An implementation generated by another processor in a later round
+ * is left to the reflective lookup.
+ *
+ * <p>Interceptors, converter factories & type adapter factories aren't bound
+ * to a type, so they are registered by their own class. If the {@value #REGISTRY_PACKAGE}
+ * option is provided, registries of those are generated into its package,
+ * even w/o implementations, so the {@code KreedzClient} can always refer to them.
+ */
+@SuppressWarnings("unused")
+@AutoService(Processor.class)
+@SupportedAnnotationTypes(KreedzSpiRegistryProcessor.AUTO_SERVICE)
+@SupportedOptions(KreedzSpiRegistryProcessor.REGISTRY_PACKAGE)
+public final class KreedzSpiRegistryProcessor extends AbstractProcessor {
+
+	/**
+	 * An {@code AutoService} annotation name.
+	 */
+	static final String AUTO_SERVICE = "com.google.auto.service.AutoService";
+
+	/**
+	 * A package option name of the interceptor, converter factory
+	 * & type adapter factory registries.
+	 */
+	static final String REGISTRY_PACKAGE = "kreedz.registryPackage";
+
+	/**
+	 * A {@code Retrofit} class name.
+	 */
+	private static final String RETROFIT = "retrofit2.Retrofit";
+
+	/**
+	 * A {@code Converter} class name.
+	 */
+	private static final String CONVERTER = "retrofit2.Converter";
+
+	/**
+	 * A {@code RetrofitServiceWrapper} class name.
+	 */
+	private static final String RETROFIT_SERVICE_WRAPPER = "io.github.iwyfewwnt.uwretrofit.services.impl.RetrofitServiceWrapper";
+
+	/**
+	 * An {@code IServiceWrapper} class name.
+	 */
+	private static final String SERVICE_WRAPPER = "io.github.iwyfewwnt.uwretrofit.services.IServiceWrapper";
+
+	/**
+	 * An {@code Interceptor} class name.
+	 */
+	private static final String INTERCEPTOR = "okhttp3.Interceptor";
+
+	/**
+	 * A {@code Converter.Factory} class name.
+	 */
+	private static final String CONVERTER_FACTORY = "retrofit2.Converter.Factory";
+
+	/**
+	 * A {@code TypeAdapterFactory} class name.
+	 */
+	private static final String TYPE_ADAPTER_FACTORY = "com.google.gson.TypeAdapterFactory";
+
+	/**
+	 * A {@code TypeAdapter} class name.
+	 */
+	private static final String TYPE_ADAPTER = "com.google.gson.TypeAdapter";
+
+	/**
+	 * A {@code JsonDeserializer} class name.
+	 */
+	private static final String JSON_DESERIALIZER = "com.google.gson.JsonDeserializer";
+
+	/**
+	 * A {@code JsonSerializer} class name.
+	 */
+	private static final String JSON_SERIALIZER = "com.google.gson.JsonSerializer";
+
+	/**
+	 * An {@code IKreedzService} class name.
+	 */
+	private static final String KREEDZ_SERVICE = "io.github.iwyfewwnt.kreedzsdk.clientapi.IKreedzService";
+
+	/**
+	 * An {@code IKreedzTypeAdapter} class name.
+	 */
+	private static final String KREEDZ_TYPE_ADAPTER = "io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapter";
+
+	/**
+	 * An {@code IKreedzQueryConverter} class name.
+	 */
+	private static final String KREEDZ_QUERY_CONVERTER = "io.github.iwyfewwnt.kreedzsdk.converterapi.IKreedzQueryConverter";
+
+	/**
+	 * An {@code IKreedzInterceptor} class name.
+	 */
+	private static final String KREEDZ_INTERCEPTOR = "io.github.iwyfewwnt.kreedzsdk.clientapi.IKreedzInterceptor";
+
+	/**
+	 * An {@code IKreedzConverterFactory} class name.
+	 */
+	private static final String KREEDZ_CONVERTER_FACTORY = "io.github.iwyfewwnt.kreedzsdk.converterapi.IKreedzConverterFactory";
+
+	/**
+	 * An {@code IKreedzTypeAdapterFactory} class name.
+	 */
+	private static final String KREEDZ_TYPE_ADAPTER_FACTORY = "io.github.iwyfewwnt.kreedzsdk.adapterapi.IKreedzTypeAdapterFactory";
+
+	/**
+	 * A map of generated registry simple names by their SPI class name.
+	 */
+	private static final Map<String, String> REGISTRY_NAMES = initRegistryNames();
+
+	/**
+	 * A map of the implemented class names by their simple SPI class name.
+	 */
+	private static final Map<String, String> SIMPLE_SPI_TYPES = initSimpleSpiTypes();
+
+	/**
+	 * A map of collected SPI implementation names by their SPI class name.
+	 *
+	 * <p>Names rather than elements, as elements
+	 * of a previous round mustn't be reused.
+	 */
+	private final Map<String, Set<String>> elementNames = new HashMap<>();
+
+	/**
+	 * An "isGenerated" flag.
+	 */
+	private boolean isGenerated;
+
+	/**
+	 * Initialize a {@link KreedzSpiRegistryProcessor} instance.
+	 */
+	public KreedzSpiRegistryProcessor() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return	false, always - to leave the annotation
+	 * 			unclaimed for the {@code AutoService} processor
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		TypeElement autoService = this.processingEnv.getElementUtils()
+				.getTypeElement(AUTO_SERVICE);
+
+		if (autoService == null || roundEnv.processingOver()) {
+			return false;
+		}
+
+		for (TypeElement element : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(autoService))) {
+			for (String spiName : this.findSpiNames(element)) {
+				if (this.isGenerated) {
+					this.processingEnv.getMessager()
+							.printMessage(Diagnostic.Kind.NOTE, "<" + element.getSimpleName()
+									+ "> class is generated after the registries, it's looked up reflectively", element);
+					continue;
+				}
+
+				this.elementNames.computeIfAbsent(spiName, key -> new TreeSet<>())
+						.add(element.getQualifiedName().toString());
+			}
+		}
+
+		if (!this.isGenerated) {
+			this.isGenerated = true;
+			this.generateAll();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Generate the registries of every collected SPI implementation
+	 * and the empty ones of the {@value #REGISTRY_PACKAGE} option.
+	 */
+	private void generateAll() {
+		Elements elementUtils = this.processingEnv.getElementUtils();
+
+		String registryPackage = this.processingEnv.getOptions()
+				.get(REGISTRY_PACKAGE);
+
+		if (registryPackage != null && registryPackage.isEmpty()) {
+			registryPackage = null;
+		}
+
+		for (Map.Entry<String, Set<String>> entry : this.elementNames.entrySet()) {
+			List<TypeElement> elements = new ArrayList<>(entry.getValue().size());
+
+			for (String name : entry.getValue()) {
+				TypeElement element = elementUtils.getTypeElement(name);
+
+				if (element != null) {
+					elements.add(element);
+				}
+			}
+
+			if (elements.isEmpty()) {
+				continue;
+			}
+
+			String packageName = registryPackage != null && SIMPLE_SPI_TYPES.containsKey(entry.getKey())
+					? registryPackage
+					: elementUtils.getPackageOf(elements.get(0)).getQualifiedName().toString();
+
+			this.generate(entry.getKey(), packageName, elements);
+		}
+
+		if (registryPackage == null) {
+			return;
+		}
+
+		for (String spiName : SIMPLE_SPI_TYPES.keySet()) {
+			if (!this.elementNames.containsKey(spiName)) {
+				this.generate(spiName, registryPackage, Collections.emptyList());
+			}
+		}
+	}
+
+	/**
+	 * Find kreedz SPI class names listed in the {@code AutoService} annotation.
+	 *
+	 * @param element	annotated element
+	 * @return			list of kreedz SPI class names
+	 */
+	private List<String> findSpiNames(TypeElement element) {
+		List<String> result = new ArrayList<>(1);
+
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+
+			if (!annotation.getQualifiedName().contentEquals(AUTO_SERVICE)) {
+				continue;
+			}
+
+			mirror.getElementValues().forEach((key, value) -> {
+				if (!key.getSimpleName().contentEquals("value")) {
+					return;
+				}
+
+				Object object = value.getValue();
+
+				List<?> values = object instanceof List
+						? (List<?>) object
+						: Collections.singletonList(value);
+
+				for (Object item : values) {
+					Object type = ((AnnotationValue) item).getValue();
+
+					if (!(type instanceof DeclaredType)) {
+						continue;
+					}
+
+					String name = ((TypeElement) ((DeclaredType) type).asElement())
+							.getQualifiedName()
+							.toString();
+
+					if (REGISTRY_NAMES.containsKey(name)) {
+						result.add(name);
+					}
+				}
+			});
+		}
+
+		return result;
+	}
+
+	/**
+	 * Generate a registry source file.
+	 *
+	 * @param spiName		SPI class name
+	 * @param packageName	registry package name
+	 * @param elements		list of SPI implementations sorted by name, may be empty
+	 */
+	private void generate(String spiName, String packageName, List<TypeElement> elements) {
+		String simpleName = REGISTRY_NAMES.get(spiName);
+		boolean isService = KREEDZ_SERVICE.equals(spiName);
+
+		String factoryType = isService
+				? "java.util.function.Function<" + RETROFIT + ", " + spiName + ">"
+				: "java.util.function.Supplier<" + spiName + ">";
+
+		StringBuilder entries = new StringBuilder();
+		StringBuilder names = new StringBuilder();
+
+		for (TypeElement element : elements) {
+			String className = element.getQualifiedName().toString();
+			String bindingType = this.findBindingType(spiName, element);
+			String factory = this.findFactory(isService, element);
+
+			if (bindingType == null || factory == null) {
+				continue;
+			}
+
+			entries.append("\t\tmap.put(").append(bindingType).append(".class, ")
+					.append(factory).append(");\n");
+
+			names.append("\t\tset.add(\"").append(this.processingEnv.getElementUtils().getBinaryName(element))
+					.append("\");\n");
+		}
+
+		String source = "package " + packageName + ";\n"
+				+ "\n"
+				+ "/**\n"
+				+ " * A generated registry of the {@link " + spiName + "} implementations.\n"
+				+ " *\n"
+				+ " * <p><b>For internal usage only.</b>\n"
+				+ " */\n"
+				+ "public final class " + simpleName + " {\n"
+				+ "\n"
+				+ "\tprivate static final java.util.Map<Class<?>, " + factoryType + "> FACTORIES = initFactories();\n"
+				+ "\n"
+				+ "\tprivate static final java.util.Set<String> CLASS_NAMES = initClassNames();\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * Get a map of implementation factories by their binding type.\n"
+				+ "\t *\n"
+				+ "\t * @return\tunmodifiable map of implementation factories\n"
+				+ "\t */\n"
+				+ "\tpublic static java.util.Map<Class<?>, " + factoryType + "> getFactories() {\n"
+				+ "\t\treturn FACTORIES;\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * Get a set of registered implementation binary class names.\n"
+				+ "\t *\n"
+				+ "\t * @return\tunmodifiable set of class names\n"
+				+ "\t */\n"
+				+ "\tpublic static java.util.Set<String> getClassNames() {\n"
+				+ "\t\treturn CLASS_NAMES;\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\tprivate static java.util.Map<Class<?>, " + factoryType + "> initFactories() {\n"
+				+ "\t\tjava.util.Map<Class<?>, " + factoryType + "> map = new java.util.LinkedHashMap<>();\n"
+				+ "\n"
+				+ entries
+				+ "\n"
+				+ "\t\treturn java.util.Collections.unmodifiableMap(map);\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\tprivate static java.util.Set<String> initClassNames() {\n"
+				+ "\t\tjava.util.Set<String> set = new java.util.HashSet<>();\n"
+				+ "\n"
+				+ names
+				+ "\n"
+				+ "\t\treturn java.util.Collections.unmodifiableSet(set);\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\tprivate " + simpleName + "() {\n"
+				+ "\t\tthrow new UnsupportedOperationException();\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		try (Writer writer = this.processingEnv.getFiler()
+				.createSourceFile(packageName + "." + simpleName, elements.toArray(new Element[0]))
+				.openWriter()) {
+			writer.write(source);
+		} catch (IOException e) {
+			this.error("Unable to write a <" + simpleName + "> registry: " + e.getMessage(), null);
+		}
+	}
+
+	/**
+	 * Find a binding type of the provided SPI implementation.
+	 *
+	 * @param spiName	SPI class name
+	 * @param element	SPI implementation
+	 * @return			binding type name or {@code null}
+	 */
+	private String findBindingType(String spiName, TypeElement element) {
+		TypeMirror type = element.asType();
+		String className = element.getSimpleName().toString();
+
+		String simpleSpiType = SIMPLE_SPI_TYPES.get(spiName);
+
+		if (simpleSpiType != null) {
+			if (!this.hasSupertype(type, simpleSpiType)) {
+				this.error("Unable to find a <" + simpleSpiType.substring(simpleSpiType.lastIndexOf('.') + 1)
+						+ "> implementation for <" + className + "> class", element);
+				return null;
+			}
+
+			return this.toSourceName(type);
+		}
+
+		if (KREEDZ_SERVICE.equals(spiName)) {
+			TypeMirror bindingType = this.findTypeArgument(type, RETROFIT_SERVICE_WRAPPER, 0);
+
+			if (bindingType == null) {
+				bindingType = this.findTypeArgument(type, SERVICE_WRAPPER, 0);
+			}
+
+			return this.toSourceName(bindingType == null ? type : bindingType);
+		}
+
+		if (KREEDZ_TYPE_ADAPTER.equals(spiName)) {
+			TypeMirror bindingType = this.findTypeArgument(type, TYPE_ADAPTER, 0);
+
+			if (bindingType == null) {
+				TypeMirror deserializerType = this.findTypeArgument(type, JSON_DESERIALIZER, 0);
+				TypeMirror serializerType = this.findTypeArgument(type, JSON_SERIALIZER, 0);
+
+				if (deserializerType != null && serializerType != null
+						&& !this.processingEnv.getTypeUtils().isSameType(deserializerType, serializerType)) {
+					this.error("Generic types of the <" + className + "> doesn't match each other", element);
+					return null;
+				}
+
+				bindingType = deserializerType == null ? serializerType : deserializerType;
+			}
+
+			if (bindingType == null) {
+				this.error("Unable to find a <TypeAdapter|JsonDeserializer|JsonSerializer>"
+						+ " implementation for <" + className + "> class", element);
+				return null;
+			}
+
+			return this.toSourceName(bindingType);
+		}
+
+		TypeMirror bindingType = this.findTypeArgument(type, CONVERTER, 0);
+		TypeMirror resultType = this.findTypeArgument(type, CONVERTER, 1);
+
+		if (bindingType == null || resultType == null
+				|| !resultType.toString().equals(String.class.getName())) {
+			this.error("Unable to find a <Convert<?, String>>"
+					+ " implementation for <" + className + "> class", element);
+			return null;
+		}
+
+		return this.toSourceName(bindingType);
+	}
+
+	/**
+	 * Find a factory expression of the provided SPI implementation.
+	 *
+	 * @param isService		"isService" boolean value
+	 * @param element		SPI implementation
+	 * @return				factory expression or {@code null}
+	 */
+	private String findFactory(boolean isService, TypeElement element) {
+		String className = element.getQualifiedName().toString();
+
+		boolean hasRetrofitConstructor = false;
+		boolean hasDefaultConstructor = false;
+
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+			if (!constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				continue;
+			}
+
+			List<? extends VariableElement> parameters = constructor.getParameters();
+
+			if (parameters.isEmpty()) {
+				hasDefaultConstructor = true;
+			} else if (parameters.size() == 1
+					&& parameters.get(0).asType().toString().equals(RETROFIT)) {
+				hasRetrofitConstructor = true;
+			}
+		}
+
+		if (element.getModifiers().contains(Modifier.ABSTRACT)
+				|| !element.getModifiers().contains(Modifier.PUBLIC)) {
+			hasRetrofitConstructor = hasDefaultConstructor = false;
+		}
+
+		if (isService && hasRetrofitConstructor) {
+			return "retrofit -> new " + className + "(retrofit)";
+		}
+
+		if (hasDefaultConstructor) {
+			return isService
+					? "retrofit -> new " + className + "()"
+					: className + "::new";
+		}
+
+		this.error("Unable to find a public constructor of the <"
+				+ element.getSimpleName() + "> class", element);
+
+		return null;
+	}
+
+	/**
+	 * Check if the provided type has a supertype of the provided name.
+	 *
+	 * @param type		type to start the search from
+	 * @param rawName	raw supertype name
+	 * @return			boolean value as a result
+	 */
+	private boolean hasSupertype(TypeMirror type, String rawName) {
+		Types types = this.processingEnv.getTypeUtils();
+
+		Deque<TypeMirror> queue = new ArrayDeque<>();
+		queue.add(type);
+
+		while (!queue.isEmpty()) {
+			TypeMirror current = queue.poll();
+
+			if (current.getKind() != TypeKind.DECLARED) {
+				continue;
+			}
+
+			if (((TypeElement) ((DeclaredType) current).asElement()).getQualifiedName().contentEquals(rawName)) {
+				return true;
+			}
+
+			queue.addAll(types.directSupertypes(current));
+		}
+
+		return false;
+	}
+
+	/**
+	 * Find an erased type argument of the provided supertype.
+	 *
+	 * @param type		type to start the search from
+	 * @param rawName	raw supertype name
+	 * @param index		type argument index
+	 * @return			erased type argument or {@code null}
+	 */
+	private TypeMirror findTypeArgument(TypeMirror type, String rawName, int index) {
+		Types types = this.processingEnv.getTypeUtils();
+
+		Deque<TypeMirror> queue = new ArrayDeque<>();
+		queue.add(type);
+
+		while (!queue.isEmpty()) {
+			TypeMirror current = queue.poll();
+
+			if (current.getKind() != TypeKind.DECLARED) {
+				continue;
+			}
+
+			DeclaredType declaredType = (DeclaredType) current;
+			TypeElement element = (TypeElement) declaredType.asElement();
+
+			if (element.getQualifiedName().contentEquals(rawName)) {
+				List<? extends TypeMirror> arguments = declaredType.getTypeArguments();
+
+				if (arguments.size() <= index
+						|| arguments.get(index).getKind() != TypeKind.DECLARED) {
+					return null;
+				}
+
+				return types.erasure(arguments.get(index));
+			}
+
+			queue.addAll(types.directSupertypes(current));
+		}
+
+		return null;
+	}
+
+	/**
+	 * Get a source name of the provided type.
+	 *
+	 * @param type	type
+	 * @return		canonical type name
+	 */
+	private String toSourceName(TypeMirror type) {
+		return ((TypeElement) this.processingEnv.getTypeUtils().asElement(type))
+				.getQualifiedName()
+				.toString();
+	}
+
+	/**
+	 * Print an error message.
+	 *
+	 * @param message	error message
+	 * @param element	element to bind the message to, may be null
+	 */
+	private void error(String message, Element element) {
+		this.processingEnv.getMessager()
+				.printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	/**
+	 * Initialize a map of generated registry simple names by their SPI class name.
+	 *
+	 * @return	map of generated registry simple names
+	 */
+	private static Map<String, String> initRegistryNames() {
+		Map<String, String> result = new HashMap<>(6);
+
+		result.put(KREEDZ_SERVICE, "KreedzServiceRegistry");
+		result.put(KREEDZ_TYPE_ADAPTER, "KreedzTypeAdapterRegistry");
+		result.put(KREEDZ_QUERY_CONVERTER, "KreedzQueryConverterRegistry");
+		result.put(KREEDZ_INTERCEPTOR, "KreedzInterceptorRegistry");
+		result.put(KREEDZ_CONVERTER_FACTORY, "KreedzConverterFactoryRegistry");
+		result.put(KREEDZ_TYPE_ADAPTER_FACTORY, "KreedzTypeAdapterFactoryRegistry");
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Initialize a map of the implemented class names by their simple SPI class name.
+	 *
+	 * @return	map of the implemented class names
+	 */
+	private static Map<String, String> initSimpleSpiTypes() {
+		Map<String, String> result = new HashMap<>(3);
+
+		result.put(KREEDZ_INTERCEPTOR, INTERCEPTOR);
+		result.put(KREEDZ_CONVERTER_FACTORY, CONVERTER_FACTORY);
+		result.put(KREEDZ_TYPE_ADAPTER_FACTORY, TYPE_ADAPTER_FACTORY);
+
+		return Collections.unmodifiableMap(result);
+	}
+}
@@ -29,7 +29,7 @@ import java.util.Objects;
 /**
  * A kreedz API ban entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class BanEntity implements Serializable, Cloneable {
 
 	/**
@@ -100,42 +100,12 @@ public final class BanEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -259,30 +229,26 @@ public final class BanEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.banType,
-							this.expireDate,
-							this.steamId,
-							this.notes,
-							this.stats,
-							this.serverId,
-							this.dataUpdater,
-							this.createDate,
-							this.updateDate
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.banType,
+						this.expireDate,
+						this.steamId,
+						this.notes,
+						this.stats,
+						this.serverId,
+						this.dataUpdater,
+						this.createDate,
+						this.updateDate
+				)
+		);
 	}
 
 	/**
@@ -290,28 +256,24 @@ public final class BanEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", banType=" + this.banType
-					+ ", expireDate=" + this.expireDate
-					+ ", steamId=" + this.steamId
-					+ ", notes=\"" + this.notes + "\""
-					+ ", stats=" + this.stats
-					+ ", serverId=" + this.serverId
-					+ ", dataUpdater=" + this.dataUpdater
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", banType=" + this.banType
+				+ ", expireDate=" + this.expireDate
+				+ ", steamId=" + this.steamId
+				+ ", notes=\"" + this.notes + "\""
+				+ ", stats=" + this.stats
+				+ ", serverId=" + this.serverId
+				+ ", dataUpdater=" + this.dataUpdater
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ "]");
 	}
 
 	/**
@@ -358,8 +320,6 @@ public final class BanEntity implements Serializable, Cloneable {
 		this.dataUpdater = dataUpdater;
 		this.createDate = createDate;
 		this.updateDate = updateDate;
-
-		this.initMutexObjects();
 	}
 
 	/**
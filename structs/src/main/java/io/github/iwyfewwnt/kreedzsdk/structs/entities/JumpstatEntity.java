@@ -29,7 +29,7 @@ import java.util.Objects;
 /**
  * A kreedz API jumpstat entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class JumpstatEntity implements Serializable, Cloneable {
 
 	/**
@@ -130,42 +130,12 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -339,35 +309,31 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.serverId,
-							this.steamId,
-							this.playerName,
-							this.jumpType,
-							this.distance,
-							this.tickrate,
-							this.mslCount,
-							this.strafeCount,
-							this.isCrouchBind,
-							this.isForwardBind,
-							this.isCrouchBoost,
-							this.dataUpdater,
-							this.createDate,
-							this.updateDate
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.serverId,
+						this.steamId,
+						this.playerName,
+						this.jumpType,
+						this.distance,
+						this.tickrate,
+						this.mslCount,
+						this.strafeCount,
+						this.isCrouchBind,
+						this.isForwardBind,
+						this.isCrouchBoost,
+						this.dataUpdater,
+						this.createDate,
+						this.updateDate
+				)
+		);
 	}
 
 	/**
@@ -375,33 +341,29 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", serverId=" + this.serverId
-					+ ", steamId=" + this.steamId
-					+ ", playerName=\"" + this.playerName + "\""
-					+ ", jumpType=" + this.jumpType
-					+ ", distance=" + this.distance
-					+ ", tickrate=" + this.tickrate
-					+ ", mslCount=" + this.mslCount
-					+ ", strafeCount=" + this.strafeCount
-					+ ", isCrouchBind=" + this.isCrouchBind
-					+ ", isForwardBind=" + this.isForwardBind
-					+ ", isCrouchBoost=" + this.isCrouchBoost
-					+ ", dataUpdater=" + this.dataUpdater
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", serverId=" + this.serverId
+				+ ", steamId=" + this.steamId
+				+ ", playerName=\"" + this.playerName + "\""
+				+ ", jumpType=" + this.jumpType
+				+ ", distance=" + this.distance
+				+ ", tickrate=" + this.tickrate
+				+ ", mslCount=" + this.mslCount
+				+ ", strafeCount=" + this.strafeCount
+				+ ", isCrouchBind=" + this.isCrouchBind
+				+ ", isForwardBind=" + this.isForwardBind
+				+ ", isCrouchBoost=" + this.isCrouchBoost
+				+ ", dataUpdater=" + this.dataUpdater
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ "]");
 	}
 
 	/**
@@ -463,8 +425,6 @@ public final class JumpstatEntity implements Serializable, Cloneable {
 		this.dataUpdater = dataUpdater;
 		this.createDate = createDate;
 		this.updateDate = updateDate;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -26,7 +26,7 @@ import java.util.Objects;
 /**
  * A kreedz API map entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class MapEntity implements Serializable, Cloneable {
 
 	/**
@@ -91,42 +91,12 @@ public final class MapEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -240,29 +210,25 @@ public final class MapEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.name,
-							this.fileSize,
-							this.isValidated,
-							this.difficulty,
-							this.createDate,
-							this.updateDate,
-							this.workshopUrl,
-							this.downloadUrl
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.name,
+						this.fileSize,
+						this.isValidated,
+						this.difficulty,
+						this.createDate,
+						this.updateDate,
+						this.workshopUrl,
+						this.downloadUrl
+				)
+		);
 	}
 
 	/**
@@ -270,27 +236,23 @@ public final class MapEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", name=\"" + this.name + "\""
-					+ ", fileSize=" + this.fileSize
-					+ ", isValidated=" + this.isValidated
-					+ ", difficulty=" + this.difficulty
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", workshopUrl=\"" + this.workshopUrl + "\""
-					+ ", downloadUrl=\"" + this.downloadUrl + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", name=\"" + this.name + "\""
+				+ ", fileSize=" + this.fileSize
+				+ ", isValidated=" + this.isValidated
+				+ ", difficulty=" + this.difficulty
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", workshopUrl=\"" + this.workshopUrl + "\""
+				+ ", downloadUrl=\"" + this.downloadUrl + "\""
+				+ "]");
 	}
 
 	/**
@@ -334,8 +296,6 @@ public final class MapEntity implements Serializable, Cloneable {
 		this.updateDate = updateDate;
 		this.workshopUrl = workshopUrl;
 		this.downloadUrl = downloadUrl;
-
-		this.initMutexObjects();
 	}
 
 	/**
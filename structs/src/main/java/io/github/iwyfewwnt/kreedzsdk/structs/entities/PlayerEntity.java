@@ -25,7 +25,7 @@ import java.util.Objects;
 /**
  * A kreedz API player entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class PlayerEntity implements Serializable, Cloneable {
 
 	/**
@@ -60,42 +60,12 @@ public final class PlayerEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this person identifier.
@@ -159,24 +129,20 @@ public final class PlayerEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.steamId,
-							this.isBanned,
-							this.recordCount,
-							this.name
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.steamId,
+						this.isBanned,
+						this.recordCount,
+						this.name
+				)
+		);
 	}
 
 	/**
@@ -184,22 +150,18 @@ public final class PlayerEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "steamId=" + this.steamId
-					+ ", isBanned=" + this.isBanned
-					+ ", recordCount=" + this.recordCount
-					+ ", name=\"" + this.name + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "steamId=" + this.steamId
+				+ ", isBanned=" + this.isBanned
+				+ ", recordCount=" + this.recordCount
+				+ ", name=\"" + this.name + "\""
+				+ "]");
 	}
 
 	/**
@@ -228,8 +190,6 @@ public final class PlayerEntity implements Serializable, Cloneable {
 		this.isBanned = isBanned;
 		this.recordCount = recordCount;
 		this.name = name;
-
-		this.initMutexObjects();
 	}
 
 	/**
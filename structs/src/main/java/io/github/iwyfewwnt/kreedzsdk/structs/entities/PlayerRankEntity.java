@@ -25,7 +25,7 @@ import java.util.Objects;
 /**
  * A kreedz API player rank entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class PlayerRankEntity implements Serializable, Cloneable {
 
 	/**
@@ -66,42 +66,12 @@ public final class PlayerRankEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this point count.
@@ -175,25 +145,21 @@ public final class PlayerRankEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.pointCount,
-							this.avgPointCount,
-							this.rating,
-							this.finishCount,
-							this.steamId
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.pointCount,
+						this.avgPointCount,
+						this.rating,
+						this.finishCount,
+						this.steamId
+				)
+		);
 	}
 
 	/**
@@ -201,23 +167,19 @@ public final class PlayerRankEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "pointCount=" + this.pointCount
-					+ ", avgPointCount=" + this.avgPointCount
-					+ ", rating=" + this.rating
-					+ ", finishCount=" + this.finishCount
-					+ ", steamId=" + this.steamId
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "pointCount=" + this.pointCount
+				+ ", avgPointCount=" + this.avgPointCount
+				+ ", rating=" + this.rating
+				+ ", finishCount=" + this.finishCount
+				+ ", steamId=" + this.steamId
+				+ "]");
 	}
 
 	/**
@@ -249,8 +211,6 @@ public final class PlayerRankEntity implements Serializable, Cloneable {
 		this.rating = rating;
 		this.finishCount = finishCount;
 		this.steamId = steamId;
-
-		this.initMutexObjects();
 	}
 
 	/**
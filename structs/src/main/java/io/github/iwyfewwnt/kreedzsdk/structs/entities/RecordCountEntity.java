@@ -25,7 +25,7 @@ import java.util.Objects;
 /**
  * A kreedz API player record count entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class RecordCountEntity implements Serializable, Cloneable {
 
 	/**
@@ -54,42 +54,12 @@ public final class RecordCountEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this record count.
@@ -143,23 +113,19 @@ public final class RecordCountEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.recordCount,
-							this.steamId,
-							this.playerName
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.recordCount,
+						this.steamId,
+						this.playerName
+				)
+		);
 	}
 
 	/**
@@ -167,21 +133,17 @@ public final class RecordCountEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "recordCount=" + this.recordCount
-					+ ", steamId=" + this.steamId
-					+ ", playerName=\"" + this.playerName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "recordCount=" + this.recordCount
+				+ ", steamId=" + this.steamId
+				+ ", playerName=\"" + this.playerName + "\""
+				+ "]");
 	}
 
 	/**
@@ -207,8 +169,6 @@ public final class RecordCountEntity implements Serializable, Cloneable {
 		this.steamId = steamId;
 		this.recordCount = recordCount;
 		this.playerName = playerName;
-
-		this.initMutexObjects();
 	}
 
 	/**
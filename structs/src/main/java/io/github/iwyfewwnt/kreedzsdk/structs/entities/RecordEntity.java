@@ -30,7 +30,7 @@ import java.util.Objects;
 /**
  * A kreedz API record entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class RecordEntity implements Serializable, Cloneable {
 
 	/**
@@ -149,42 +149,12 @@ public final class RecordEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -388,38 +358,34 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.steamId,
-							this.playerName,
-							this.serverId,
-							this.mapId,
-							this.stage,
-							this.mode,
-							this.tickrate,
-							this.time,
-							this.teleportCount,
-							this.createDate,
-							this.updateDate,
-							this.dataUpdater,
-							this.recordFilterId,
-							this.serverName,
-							this.mapName,
-							this.pointCount,
-							this.replayId
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.steamId,
+						this.playerName,
+						this.serverId,
+						this.mapId,
+						this.stage,
+						this.mode,
+						this.tickrate,
+						this.time,
+						this.teleportCount,
+						this.createDate,
+						this.updateDate,
+						this.dataUpdater,
+						this.recordFilterId,
+						this.serverName,
+						this.mapName,
+						this.pointCount,
+						this.replayId
+				)
+		);
 	}
 
 	/**
@@ -427,36 +393,32 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", steamId=" + this.steamId
-					+ ", playerName=\"" + this.playerName + "\""
-					+ ", serverId=" + this.serverId
-					+ ", mapId=" + this.mapId
-					+ ", stage=" + this.stage
-					+ ", mode=" + this.mode
-					+ ", tickrate=" + this.tickrate
-					+ ", time=" + this.time
-					+ ", teleportCount=" + this.teleportCount
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", dataUpdater=" + this.dataUpdater
-					+ ", recordFilterId=" + this.recordFilterId
-					+ ", serverName=\"" + this.serverName + "\""
-					+ ", mapName=\"" + this.mapName + "\""
-					+ ", pointCount=" + this.pointCount
-					+ ", replayId=" + this.replayId
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", steamId=" + this.steamId
+				+ ", playerName=\"" + this.playerName + "\""
+				+ ", serverId=" + this.serverId
+				+ ", mapId=" + this.mapId
+				+ ", stage=" + this.stage
+				+ ", mode=" + this.mode
+				+ ", tickrate=" + this.tickrate
+				+ ", time=" + this.time
+				+ ", teleportCount=" + this.teleportCount
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", dataUpdater=" + this.dataUpdater
+				+ ", recordFilterId=" + this.recordFilterId
+				+ ", serverName=\"" + this.serverName + "\""
+				+ ", mapName=\"" + this.mapName + "\""
+				+ ", pointCount=" + this.pointCount
+				+ ", replayId=" + this.replayId
+				+ "]");
 	}
 
 	/**
@@ -489,7 +451,7 @@ public final class RecordEntity implements Serializable, Cloneable {
 	 * @param pointCount		point count
 	 * @param replayId			replay identifier
 	 */
-	private RecordEntity(
+	RecordEntity(
 			Integer id,
 			SteamId steamId,
 			String playerName,
@@ -527,8 +489,6 @@ public final class RecordEntity implements Serializable, Cloneable {
 		this.mapName = mapName;
 		this.pointCount = pointCount;
 		this.replayId = replayId;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -28,7 +28,7 @@ import java.util.Objects;
 /**
  * A kreedz API record filter entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class RecordFilterEntity implements Serializable, Cloneable {
 
 	/**
@@ -81,42 +81,12 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -210,27 +180,23 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.mapId,
-							this.tickrate,
-							this.runType,
-							this.createDate,
-							this.updateDate,
-							this.dataUpdater
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.mapId,
+						this.tickrate,
+						this.runType,
+						this.createDate,
+						this.updateDate,
+						this.dataUpdater
+				)
+		);
 	}
 
 	/**
@@ -238,25 +204,21 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", mapId=" + this.mapId
-					+ ", tickrate=" + this.tickrate
-					+ ", runType=" + this.runType
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", dataUpdater=" + this.dataUpdater
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", mapId=" + this.mapId
+				+ ", tickrate=" + this.tickrate
+				+ ", runType=" + this.runType
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", dataUpdater=" + this.dataUpdater
+				+ "]");
 	}
 
 	/**
@@ -294,8 +256,6 @@ public final class RecordFilterEntity implements Serializable, Cloneable {
 		this.createDate = createDate;
 		this.updateDate = updateDate;
 		this.dataUpdater = dataUpdater;
-
-		this.initMutexObjects();
 	}
 
 	/**
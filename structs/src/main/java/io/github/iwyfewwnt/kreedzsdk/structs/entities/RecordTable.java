@@ -0,0 +1,1662 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.structs.entities;
+
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.DataUpdater;
+import io.github.iwyfewwnt.kreedzsdk.structs.entities.inner.RunTime;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.EMode;
+import io.github.iwyfewwnt.kreedzsdk.structs.types.ETickrate;
+import io.github.iwyfewwnt.steamid.SteamId;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * A columnar record API entity container.
+ *
+ * <p>Stores the {@link RecordEntity} fields in primitive column
+ * arrays w/ a null bitmap, player, server and map names are
+ * dictionary-encoded. Dates are stored as epoch seconds in UTC,
+ * as the kreedz API never returns a fraction of second.
+ *
+ * <p>Rows are exposed as {@link Row} views and materialized
+ * into {@link RecordEntity} instances on demand.
+ */
+@SuppressWarnings("unused")
+public final class RecordTable implements Iterable<RecordTable.Row>, Serializable {
+
+	/**
+	 * A simple name of this class.
+	 */
+	private static final String SIMPLE_NAME = RecordTable.class.getSimpleName();
+
+	/**
+	 * A column count.
+	 */
+	private static final int COLUMN_COUNT = Column.values().length;
+
+	/**
+	 * A row count.
+	 */
+	private final int size;
+
+	/**
+	 * An array of identifiers.
+	 */
+	private final int[] ids;
+
+	/**
+	 * An array of person identifiers in the steam64 format.
+	 */
+	private final long[] steamIds64;
+
+	/**
+	 * An array of player name dictionary indexes.
+	 */
+	private final int[] playerNames;
+
+	/**
+	 * An array of server identifiers.
+	 */
+	private final int[] serverIds;
+
+	/**
+	 * An array of map identifiers.
+	 */
+	private final int[] mapIds;
+
+	/**
+	 * An array of stage identifiers.
+	 */
+	private final int[] stages;
+
+	/**
+	 * An array of game mode indexes.
+	 */
+	private final byte[] modes;
+
+	/**
+	 * An array of tickrate indexes.
+	 */
+	private final byte[] tickrates;
+
+	/**
+	 * An array of run times in seconds.
+	 */
+	private final float[] times;
+
+	/**
+	 * An array of teleport counts.
+	 */
+	private final int[] teleportCounts;
+
+	/**
+	 * An array of create dates in epoch seconds.
+	 */
+	private final long[] createDates;
+
+	/**
+	 * An array of update dates in epoch seconds.
+	 */
+	private final long[] updateDates;
+
+	/**
+	 * An array of data updater identifiers.
+	 */
+	private final long[] dataUpdaterIds;
+
+	/**
+	 * An array of record filter identifiers.
+	 */
+	private final int[] recordFilterIds;
+
+	/**
+	 * An array of server name dictionary indexes.
+	 */
+	private final int[] serverNames;
+
+	/**
+	 * An array of map name dictionary indexes.
+	 */
+	private final int[] mapNames;
+
+	/**
+	 * An array of point counts.
+	 */
+	private final int[] pointCounts;
+
+	/**
+	 * An array of replay identifiers.
+	 */
+	private final int[] replayIds;
+
+	/**
+	 * A null bitmap.
+	 *
+	 * <p>A bit of the {@code row * COLUMN_COUNT + column} index
+	 * is set if the column value of the row is {@code null}.
+	 */
+	private final long[] nullBits;
+
+	/**
+	 * A name dictionary.
+	 */
+	private final String[] dictionary;
+
+	/**
+	 * A {@link #hashCode()} cache.
+	 */
+	private transient int hashCodeCache;
+
+	/**
+	 * A {@link #toString()} cache.
+	 */
+	private transient String stringCache;
+
+	/**
+	 * Initialize a {@link RecordTable} instance.
+	 *
+	 * @param builder	builder to copy the trimmed columns from
+	 */
+	private RecordTable(Builder builder) {
+		int size = builder.size;
+
+		this.size = size;
+
+		this.ids = Arrays.copyOf(builder.ids, size);
+		this.steamIds64 = Arrays.copyOf(builder.steamIds64, size);
+		this.playerNames = Arrays.copyOf(builder.playerNames, size);
+		this.serverIds = Arrays.copyOf(builder.serverIds, size);
+		this.mapIds = Arrays.copyOf(builder.mapIds, size);
+		this.stages = Arrays.copyOf(builder.stages, size);
+		this.modes = Arrays.copyOf(builder.modes, size);
+		this.tickrates = Arrays.copyOf(builder.tickrates, size);
+		this.times = Arrays.copyOf(builder.times, size);
+		this.teleportCounts = Arrays.copyOf(builder.teleportCounts, size);
+		this.createDates = Arrays.copyOf(builder.createDates, size);
+		this.updateDates = Arrays.copyOf(builder.updateDates, size);
+		this.dataUpdaterIds = Arrays.copyOf(builder.dataUpdaterIds, size);
+		this.recordFilterIds = Arrays.copyOf(builder.recordFilterIds, size);
+		this.serverNames = Arrays.copyOf(builder.serverNames, size);
+		this.mapNames = Arrays.copyOf(builder.mapNames, size);
+		this.pointCounts = Arrays.copyOf(builder.pointCounts, size);
+		this.replayIds = Arrays.copyOf(builder.replayIds, size);
+
+		this.nullBits = Arrays.copyOf(builder.nullBits, getNullBitsLength(size));
+		this.dictionary = builder.dictionary.toArray(new String[0]);
+	}
+
+	/**
+	 * Get this row count.
+	 *
+	 * @return	row count
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Check if this table has no rows.
+	 *
+	 * @return	boolean value, {@code true} - yes, {@code false} - no
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Check if the provided column value of a row is {@code null}.
+	 *
+	 * @param row		row index
+	 * @param column	column to check
+	 * @return			boolean value, {@code true} - yes, {@code false} - no
+	 */
+	public boolean isNull(int row, Column column) {
+		if (column == null) {
+			throw new IllegalArgumentException("Column mustn't be <null>");
+		}
+
+		this.checkRow(row);
+
+		return isNullBit(this.nullBits, row, column);
+	}
+
+	/**
+	 * Get an identifier of a row.
+	 *
+	 * @param row	row index
+	 * @return		identifier or {@code 0} if null
+	 */
+	public int getId(int row) {
+		return this.ids[row];
+	}
+
+	/**
+	 * Get a person identifier of a row in the steam64 format.
+	 *
+	 * @param row	row index
+	 * @return		person identifier or {@code 0} if null
+	 */
+	public long getSteamId64(int row) {
+		return this.steamIds64[row];
+	}
+
+	/**
+	 * Get a player name of a row.
+	 *
+	 * @param row	row index
+	 * @return		player name or {@code null}
+	 */
+	public String getPlayerName(int row) {
+		return this.getName(row, Column.PLAYER_NAME, this.playerNames);
+	}
+
+	/**
+	 * Get a server identifier of a row.
+	 *
+	 * @param row	row index
+	 * @return		server identifier or {@code 0} if null
+	 */
+	public int getServerId(int row) {
+		return this.serverIds[row];
+	}
+
+	/**
+	 * Get a map identifier of a row.
+	 *
+	 * @param row	row index
+	 * @return		map identifier or {@code 0} if null
+	 */
+	public int getMapId(int row) {
+		return this.mapIds[row];
+	}
+
+	/**
+	 * Get a stage identifier of a row.
+	 *
+	 * @param row	row index
+	 * @return		stage identifier or {@code 0} if null
+	 */
+	public int getStage(int row) {
+		return this.stages[row];
+	}
+
+	/**
+	 * Get a game mode of a row.
+	 *
+	 * @param row	row index
+	 * @return		game mode or {@code null}
+	 */
+	public EMode getMode(int row) {
+		if (this.isNull(row, Column.MODE)) {
+			return null;
+		}
+
+		return EMode.fromIndexOrNull((int) this.modes[row]);
+	}
+
+	/**
+	 * Get a tickrate of a row.
+	 *
+	 * @param row	row index
+	 * @return		tickrate or {@code null}
+	 */
+	public ETickrate getTickrate(int row) {
+		if (this.isNull(row, Column.TICKRATE)) {
+			return null;
+		}
+
+		return ETickrate.fromIndexOrNull((int) this.tickrates[row]);
+	}
+
+	/**
+	 * Get a run time of a row in seconds.
+	 *
+	 * @param row	row index
+	 * @return		run time or {@code 0} if null
+	 */
+	public float getTime(int row) {
+		return this.times[row];
+	}
+
+	/**
+	 * Get a teleport count of a row.
+	 *
+	 * @param row	row index
+	 * @return		teleport count or {@code 0} if null
+	 */
+	public int getTeleportCount(int row) {
+		return this.teleportCounts[row];
+	}
+
+	/**
+	 * Get a create date of a row in epoch seconds.
+	 *
+	 * @param row	row index
+	 * @return		create date or {@code 0} if null
+	 */
+	public long getCreateDateSeconds(int row) {
+		return this.createDates[row];
+	}
+
+	/**
+	 * Get an update date of a row in epoch seconds.
+	 *
+	 * @param row	row index
+	 * @return		update date or {@code 0} if null
+	 */
+	public long getUpdateDateSeconds(int row) {
+		return this.updateDates[row];
+	}
+
+	/**
+	 * Get a data updater identifier of a row.
+	 *
+	 * @param row	row index
+	 * @return		data updater identifier or {@code 0} if null
+	 */
+	public long getDataUpdaterId(int row) {
+		return this.dataUpdaterIds[row];
+	}
+
+	/**
+	 * Get a record filter identifier of a row.
+	 *
+	 * @param row	row index
+	 * @return		record filter identifier or {@code 0} if null
+	 */
+	public int getRecordFilterId(int row) {
+		return this.recordFilterIds[row];
+	}
+
+	/**
+	 * Get a server name of a row.
+	 *
+	 * @param row	row index
+	 * @return		server name or {@code null}
+	 */
+	public String getServerName(int row) {
+		return this.getName(row, Column.SERVER_NAME, this.serverNames);
+	}
+
+	/**
+	 * Get a map name of a row.
+	 *
+	 * @param row	row index
+	 * @return		map name or {@code null}
+	 */
+	public String getMapName(int row) {
+		return this.getName(row, Column.MAP_NAME, this.mapNames);
+	}
+
+	/**
+	 * Get a point count of a row.
+	 *
+	 * @param row	row index
+	 * @return		point count or {@code 0} if null
+	 */
+	public int getPointCount(int row) {
+		return this.pointCounts[row];
+	}
+
+	/**
+	 * Get a replay identifier of a row.
+	 *
+	 * @param row	row index
+	 * @return		replay identifier or {@code 0} if null
+	 */
+	public int getReplayId(int row) {
+		return this.replayIds[row];
+	}
+
+	/**
+	 * Get a row view.
+	 *
+	 * @param row	row index
+	 * @return		row view
+	 */
+	public Row getRow(int row) {
+		this.checkRow(row);
+
+		return new Row(this, row);
+	}
+
+	/**
+	 * Materialize a row into a {@link RecordEntity} instance.
+	 *
+	 * @param row	row index
+	 * @return		record entity
+	 */
+	public RecordEntity toEntity(int row) {
+		return this.getRow(row)
+				.toEntity();
+	}
+
+	/**
+	 * Materialize all rows into {@link RecordEntity} instances.
+	 *
+	 * @return	list of record entities
+	 */
+	public List<RecordEntity> toEntities() {
+		List<RecordEntity> entities = new ArrayList<>(this.size);
+
+		for (int row = 0; row < this.size; row++) {
+			entities.add(this.toEntity(row));
+		}
+
+		return entities;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<Row> iterator() {
+		return new Iterator<Row>() {
+
+			private int row;
+
+			@Override
+			public boolean hasNext() {
+				return this.row < RecordTable.this.size;
+			}
+
+			@Override
+			public Row next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				return new Row(RecordTable.this, this.row++);
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		RecordTable that = (RecordTable) obj;
+
+		if (this.size != that.size) {
+			return false;
+		}
+
+		// Dictionary indexes depend on the insertion order,
+		//  so names are compared by their values.
+		for (int row = 0; row < this.size; row++) {
+			if (!Objects.equals(this.getPlayerName(row), that.getPlayerName(row))
+					|| !Objects.equals(this.getServerName(row), that.getServerName(row))
+					|| !Objects.equals(this.getMapName(row), that.getMapName(row))) {
+				return false;
+			}
+		}
+
+		return Arrays.equals(this.ids, that.ids)
+				&& Arrays.equals(this.steamIds64, that.steamIds64)
+				&& Arrays.equals(this.serverIds, that.serverIds)
+				&& Arrays.equals(this.mapIds, that.mapIds)
+				&& Arrays.equals(this.stages, that.stages)
+				&& Arrays.equals(this.modes, that.modes)
+				&& Arrays.equals(this.tickrates, that.tickrates)
+				&& Arrays.equals(this.times, that.times)
+				&& Arrays.equals(this.teleportCounts, that.teleportCounts)
+				&& Arrays.equals(this.createDates, that.createDates)
+				&& Arrays.equals(this.updateDates, that.updateDates)
+				&& Arrays.equals(this.dataUpdaterIds, that.dataUpdaterIds)
+				&& Arrays.equals(this.recordFilterIds, that.recordFilterIds)
+				&& Arrays.equals(this.pointCounts, that.pointCounts)
+				&& Arrays.equals(this.replayIds, that.replayIds)
+				&& Arrays.equals(this.nullBits, that.nullBits);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = this.hashCodeCache;
+
+		if (hashCode != 0) {
+			return hashCode;
+		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.size,
+						Arrays.hashCode(this.ids),
+						Arrays.hashCode(this.steamIds64),
+						Arrays.hashCode(this.times),
+						Arrays.hashCode(this.nullBits)
+				)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		String string = this.stringCache;
+
+		if (string != null) {
+			return string;
+		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "size=" + this.size
+				+ ", dictionarySize=" + this.dictionary.length
+				+ "]");
+	}
+
+	/**
+	 * Convert a list of {@link RecordEntity} instances into
+	 * a {@link RecordTable} instance or return {@code null} if failed.
+	 *
+	 * @param entities	list of record entities
+	 * @return			record table or {@code null}
+	 */
+	public static RecordTable fromEntitiesOrNull(List<RecordEntity> entities) {
+		if (entities == null) {
+			return null;
+		}
+
+		Builder builder = new Builder(entities.size());
+
+		for (RecordEntity entity : entities) {
+			if (entity != null) {
+				builder.add(entity);
+			}
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Get a name from the dictionary.
+	 *
+	 * @param row		row index
+	 * @param column	name column
+	 * @param indexes	array of dictionary indexes
+	 * @return			name or {@code null}
+	 */
+	private String getName(int row, Column column, int[] indexes) {
+		if (this.isNull(row, column)) {
+			return null;
+		}
+
+		return this.dictionary[indexes[row]];
+	}
+
+	/**
+	 * Check if the provided row index is in bounds.
+	 *
+	 * @param row	row index to check
+	 */
+	private void checkRow(int row) {
+		if (row < 0 || row >= this.size) {
+			throw new IndexOutOfBoundsException("Row: " + row + ", size: " + this.size);
+		}
+	}
+
+	/**
+	 * Convert epoch seconds into a date in the UTC timezone.
+	 *
+	 * @param seconds	epoch seconds
+	 * @return			date
+	 */
+	private static DateTime toDate(long seconds) {
+		return new DateTime(seconds * 1000L, DateTimeZone.UTC);
+	}
+
+	/**
+	 * Get a null bitmap length for the provided row count.
+	 *
+	 * @param size	row count
+	 * @return		null bitmap length
+	 */
+	private static int getNullBitsLength(int size) {
+		return (int) (((long) size * COLUMN_COUNT + Long.SIZE - 1) / Long.SIZE);
+	}
+
+	/**
+	 * Check if a null bit is set.
+	 *
+	 * @param nullBits	null bitmap
+	 * @param row		row index
+	 * @param column	column
+	 * @return			boolean value, {@code true} - yes, {@code false} - no
+	 */
+	private static boolean isNullBit(long[] nullBits, int row, Column column) {
+		long index = (long) row * COLUMN_COUNT + column.ordinal();
+
+		return (nullBits[(int) (index >>> 6)] & (1L << index)) != 0;
+	}
+
+	/**
+	 * A record table column.
+	 */
+	public enum Column {
+
+		/**
+		 * An identifier.
+		 */
+		ID,
+
+		/**
+		 * A person identifier.
+		 */
+		STEAM_ID,
+
+		/**
+		 * A player name.
+		 */
+		PLAYER_NAME,
+
+		/**
+		 * A server identifier.
+		 */
+		SERVER_ID,
+
+		/**
+		 * A map identifier.
+		 */
+		MAP_ID,
+
+		/**
+		 * A stage identifier.
+		 */
+		STAGE,
+
+		/**
+		 * A game mode.
+		 */
+		MODE,
+
+		/**
+		 * A tickrate.
+		 */
+		TICKRATE,
+
+		/**
+		 * A run time.
+		 */
+		TIME,
+
+		/**
+		 * A teleport count.
+		 */
+		TELEPORT_COUNT,
+
+		/**
+		 * A create date.
+		 */
+		CREATE_DATE,
+
+		/**
+		 * An update date.
+		 */
+		UPDATE_DATE,
+
+		/**
+		 * A data updater.
+		 */
+		DATA_UPDATER,
+
+		/**
+		 * A record filter identifier.
+		 */
+		RECORD_FILTER_ID,
+
+		/**
+		 * A server name.
+		 */
+		SERVER_NAME,
+
+		/**
+		 * A map name.
+		 */
+		MAP_NAME,
+
+		/**
+		 * A point count.
+		 */
+		POINT_COUNT,
+
+		/**
+		 * A replay identifier.
+		 */
+		REPLAY_ID
+	}
+
+	/**
+	 * A record table row view.
+	 *
+	 * <p>Getters mirror the {@link RecordEntity} ones
+	 * and box the column values on every call.
+	 */
+	public static final class Row {
+
+		/**
+		 * A record table.
+		 */
+		private final RecordTable table;
+
+		/**
+		 * A row index.
+		 */
+		private final int index;
+
+		/**
+		 * Initialize a {@link Row} instance.
+		 *
+		 * @param table		record table
+		 * @param index		row index
+		 */
+		private Row(RecordTable table, int index) {
+			this.table = table;
+			this.index = index;
+		}
+
+		/**
+		 * Get this row index.
+		 *
+		 * @return	row index
+		 */
+		public int getIndex() {
+			return this.index;
+		}
+
+		/**
+		 * Get this identifier.
+		 *
+		 * @return	identifier or {@code null}
+		 */
+		public Integer getId() {
+			if (this.isNull(Column.ID)) {
+				return null;
+			}
+
+			return this.table.ids[this.index];
+		}
+
+		/**
+		 * Get this person identifier.
+		 *
+		 * @return	person identifier or {@code null}
+		 */
+		public SteamId getSteamId() {
+			if (this.isNull(Column.STEAM_ID)) {
+				return null;
+			}
+
+			return SteamId.fromSteam64OrNull(this.table.steamIds64[this.index]);
+		}
+
+		/**
+		 * Get this player name.
+		 *
+		 * @return	player name or {@code null}
+		 */
+		public String getPlayerName() {
+			return this.table.getPlayerName(this.index);
+		}
+
+		/**
+		 * Get this server identifier.
+		 *
+		 * @return	server identifier or {@code null}
+		 */
+		public Integer getServerId() {
+			if (this.isNull(Column.SERVER_ID)) {
+				return null;
+			}
+
+			return this.table.serverIds[this.index];
+		}
+
+		/**
+		 * Get this map identifier.
+		 *
+		 * @return	map identifier or {@code null}
+		 */
+		public Integer getMapId() {
+			if (this.isNull(Column.MAP_ID)) {
+				return null;
+			}
+
+			return this.table.mapIds[this.index];
+		}
+
+		/**
+		 * Get this stage identifier.
+		 *
+		 * @return	stage identifier or {@code null}
+		 */
+		public Integer getStage() {
+			if (this.isNull(Column.STAGE)) {
+				return null;
+			}
+
+			return this.table.stages[this.index];
+		}
+
+		/**
+		 * Get this game mode.
+		 *
+		 * @return	game mode or {@code null}
+		 */
+		public EMode getMode() {
+			return this.table.getMode(this.index);
+		}
+
+		/**
+		 * Get this tickrate.
+		 *
+		 * @return	tickrate or {@code null}
+		 */
+		public ETickrate getTickrate() {
+			return this.table.getTickrate(this.index);
+		}
+
+		/**
+		 * Get this run time.
+		 *
+		 * @return	run time or {@code null}
+		 */
+		public RunTime getTime() {
+			if (this.isNull(Column.TIME)) {
+				return null;
+			}
+
+			return new RunTime(this.table.times[this.index]);
+		}
+
+		/**
+		 * Get this teleport count.
+		 *
+		 * @return	teleport count or {@code null}
+		 */
+		public Integer getTeleportCount() {
+			if (this.isNull(Column.TELEPORT_COUNT)) {
+				return null;
+			}
+
+			return this.table.teleportCounts[this.index];
+		}
+
+		/**
+		 * Get this create date.
+		 *
+		 * @return	create date or {@code null}
+		 */
+		public DateTime getCreateDate() {
+			if (this.isNull(Column.CREATE_DATE)) {
+				return null;
+			}
+
+			return toDate(this.table.createDates[this.index]);
+		}
+
+		/**
+		 * Get this update date.
+		 *
+		 * @return	update date or {@code null}
+		 */
+		public DateTime getUpdateDate() {
+			if (this.isNull(Column.UPDATE_DATE)) {
+				return null;
+			}
+
+			return toDate(this.table.updateDates[this.index]);
+		}
+
+		/**
+		 * Get this data updater.
+		 *
+		 * @return	data updater or {@code null}
+		 */
+		public DataUpdater getDataUpdater() {
+			if (this.isNull(Column.DATA_UPDATER)) {
+				return null;
+			}
+
+			return new DataUpdater(this.table.dataUpdaterIds[this.index]);
+		}
+
+		/**
+		 * Get this record filter identifier.
+		 *
+		 * @return	record filter identifier or {@code null}
+		 */
+		public Integer getRecordFilterId() {
+			if (this.isNull(Column.RECORD_FILTER_ID)) {
+				return null;
+			}
+
+			return this.table.recordFilterIds[this.index];
+		}
+
+		/**
+		 * Get this server name.
+		 *
+		 * @return	server name or {@code null}
+		 */
+		public String getServerName() {
+			return this.table.getServerName(this.index);
+		}
+
+		/**
+		 * Get this map name.
+		 *
+		 * @return	map name or {@code null}
+		 */
+		public String getMapName() {
+			return this.table.getMapName(this.index);
+		}
+
+		/**
+		 * Get this point count.
+		 *
+		 * @return	point count or {@code null}
+		 */
+		public Integer getPointCount() {
+			if (this.isNull(Column.POINT_COUNT)) {
+				return null;
+			}
+
+			return this.table.pointCounts[this.index];
+		}
+
+		/**
+		 * Get this replay identifier.
+		 *
+		 * @return	replay identifier or {@code null}
+		 */
+		public Integer getReplayId() {
+			if (this.isNull(Column.REPLAY_ID)) {
+				return null;
+			}
+
+			return this.table.replayIds[this.index];
+		}
+
+		/**
+		 * Materialize this row into a {@link RecordEntity} instance.
+		 *
+		 * @return	record entity
+		 */
+		public RecordEntity toEntity() {
+			return new RecordEntity(
+					this.getId(),
+					this.getSteamId(),
+					this.getPlayerName(),
+					this.getServerId(),
+					this.getMapId(),
+					this.getStage(),
+					this.getMode(),
+					this.getTickrate(),
+					this.getTime(),
+					this.getTeleportCount(),
+					this.getCreateDate(),
+					this.getUpdateDate(),
+					this.getDataUpdater(),
+					this.getRecordFilterId(),
+					this.getServerName(),
+					this.getMapName(),
+					this.getPointCount(),
+					this.getReplayId()
+			);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			return SIMPLE_NAME + "." + Row.class.getSimpleName() + "["
+					+ "index=" + this.index
+					+ ", id=" + this.getId()
+					+ "]";
+		}
+
+		/**
+		 * Check if the provided column value of this row is {@code null}.
+		 *
+		 * @param column	column to check
+		 * @return			boolean value, {@code true} - yes, {@code false} - no
+		 */
+		private boolean isNull(Column column) {
+			return isNullBit(this.table.nullBits, this.index, column);
+		}
+	}
+
+	/**
+	 * A record table builder.
+	 *
+	 * <p>Rows are appended by {@link #addRow()}, every column
+	 * of a new row is {@code null} until its setter is called.
+	 */
+	public static final class Builder {
+
+		/**
+		 * A default row capacity.
+		 */
+		private static final int DEFAULT_CAPACITY = 16;
+
+		/**
+		 * A row count.
+		 */
+		private int size;
+
+		/**
+		 * An array of identifiers.
+		 */
+		private int[] ids;
+
+		/**
+		 * An array of person identifiers in the steam64 format.
+		 */
+		private long[] steamIds64;
+
+		/**
+		 * An array of player name dictionary indexes.
+		 */
+		private int[] playerNames;
+
+		/**
+		 * An array of server identifiers.
+		 */
+		private int[] serverIds;
+
+		/**
+		 * An array of map identifiers.
+		 */
+		private int[] mapIds;
+
+		/**
+		 * An array of stage identifiers.
+		 */
+		private int[] stages;
+
+		/**
+		 * An array of game mode indexes.
+		 */
+		private byte[] modes;
+
+		/**
+		 * An array of tickrate indexes.
+		 */
+		private byte[] tickrates;
+
+		/**
+		 * An array of run times in seconds.
+		 */
+		private float[] times;
+
+		/**
+		 * An array of teleport counts.
+		 */
+		private int[] teleportCounts;
+
+		/**
+		 * An array of create dates in epoch seconds.
+		 */
+		private long[] createDates;
+
+		/**
+		 * An array of update dates in epoch seconds.
+		 */
+		private long[] updateDates;
+
+		/**
+		 * An array of data updater identifiers.
+		 */
+		private long[] dataUpdaterIds;
+
+		/**
+		 * An array of record filter identifiers.
+		 */
+		private int[] recordFilterIds;
+
+		/**
+		 * An array of server name dictionary indexes.
+		 */
+		private int[] serverNames;
+
+		/**
+		 * An array of map name dictionary indexes.
+		 */
+		private int[] mapNames;
+
+		/**
+		 * An array of point counts.
+		 */
+		private int[] pointCounts;
+
+		/**
+		 * An array of replay identifiers.
+		 */
+		private int[] replayIds;
+
+		/**
+		 * A null bitmap.
+		 */
+		private long[] nullBits;
+
+		/**
+		 * A name dictionary.
+		 */
+		private final List<String> dictionary;
+
+		/**
+		 * A map of name dictionary indexes by names.
+		 */
+		private final Map<String, Integer> dictionaryIndexes;
+
+		/**
+		 * Initialize a {@link RecordTable.Builder} instance.
+		 *
+		 * @param capacity	initial row capacity
+		 */
+		public Builder(int capacity) {
+			if (capacity < 0) {
+				throw new IllegalArgumentException("Capacity mustn't be negative");
+			}
+
+			this.ids = new int[capacity];
+			this.steamIds64 = new long[capacity];
+			this.playerNames = new int[capacity];
+			this.serverIds = new int[capacity];
+			this.mapIds = new int[capacity];
+			this.stages = new int[capacity];
+			this.modes = new byte[capacity];
+			this.tickrates = new byte[capacity];
+			this.times = new float[capacity];
+			this.teleportCounts = new int[capacity];
+			this.createDates = new long[capacity];
+			this.updateDates = new long[capacity];
+			this.dataUpdaterIds = new long[capacity];
+			this.recordFilterIds = new int[capacity];
+			this.serverNames = new int[capacity];
+			this.mapNames = new int[capacity];
+			this.pointCounts = new int[capacity];
+			this.replayIds = new int[capacity];
+
+			this.nullBits = new long[getNullBitsLength(capacity)];
+
+			this.dictionary = new ArrayList<>();
+			this.dictionaryIndexes = new HashMap<>();
+		}
+
+		/**
+		 * Initialize a {@link RecordTable.Builder} instance.
+		 *
+		 * <p>Wraps {@link #Builder(int)}
+		 * w/ the default row capacity.
+		 */
+		public Builder() {
+			this(DEFAULT_CAPACITY);
+		}
+
+		/**
+		 * Append a new row w/ all columns set to {@code null}.
+		 *
+		 * @return	this instance
+		 */
+		public Builder addRow() {
+			int row = this.size;
+
+			if (row == this.ids.length) {
+				this.grow();
+			}
+
+			this.size++;
+
+			for (Column column : Column.values()) {
+				this.setNull(row, column, true);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Append a new row w/ the column values
+		 * of the provided {@link RecordEntity} instance.
+		 *
+		 * @param entity	record entity
+		 * @return			this instance
+		 */
+		public Builder add(RecordEntity entity) {
+			if (entity == null) {
+				throw new IllegalArgumentException("Entity mustn't be <null>");
+			}
+
+			this.addRow();
+
+			Integer id = entity.getId();
+			Long steamId64 = SteamId.toSteam64OrNull(entity.getSteamId());
+			Integer serverId = entity.getServerId();
+			Integer mapId = entity.getMapId();
+			Integer stage = entity.getStage();
+			RunTime time = entity.getTime();
+			Integer teleportCount = entity.getTeleportCount();
+			DataUpdater dataUpdater = entity.getDataUpdater();
+			Integer recordFilterId = entity.getRecordFilterId();
+			Integer pointCount = entity.getPointCount();
+			Integer replayId = entity.getReplayId();
+
+			if (id != null) {
+				this.setId(id);
+			}
+
+			if (steamId64 != null) {
+				this.setSteamId64(steamId64);
+			}
+
+			if (serverId != null) {
+				this.setServerId(serverId);
+			}
+
+			if (mapId != null) {
+				this.setMapId(mapId);
+			}
+
+			if (stage != null) {
+				this.setStage(stage);
+			}
+
+			if (time != null) {
+				this.setTime(time.getTime());
+			}
+
+			if (teleportCount != null) {
+				this.setTeleportCount(teleportCount);
+			}
+
+			if (dataUpdater != null && dataUpdater.getId() != null) {
+				this.setDataUpdaterId(dataUpdater.getId());
+			}
+
+			if (recordFilterId != null) {
+				this.setRecordFilterId(recordFilterId);
+			}
+
+			if (pointCount != null) {
+				this.setPointCount(pointCount);
+			}
+
+			if (replayId != null) {
+				this.setReplayId(replayId);
+			}
+
+			return this.setPlayerName(entity.getPlayerName())
+					.setMode(entity.getMode())
+					.setTickrate(entity.getTickrate())
+					.setCreateDate(entity.getCreateDate())
+					.setUpdateDate(entity.getUpdateDate())
+					.setServerName(entity.getServerName())
+					.setMapName(entity.getMapName());
+		}
+
+		/**
+		 * Set an identifier of the last row.
+		 *
+		 * @param id	identifier
+		 * @return		this instance
+		 */
+		public Builder setId(int id) {
+			this.ids[this.setNotNull(Column.ID)] = id;
+			return this;
+		}
+
+		/**
+		 * Set a person identifier of the last row in the steam64 format.
+		 *
+		 * @param steamId64		person identifier
+		 * @return				this instance
+		 */
+		public Builder setSteamId64(long steamId64) {
+			this.steamIds64[this.setNotNull(Column.STEAM_ID)] = steamId64;
+			return this;
+		}
+
+		/**
+		 * Set a player name of the last row.
+		 *
+		 * @param playerName	player name, may be null
+		 * @return				this instance
+		 */
+		public Builder setPlayerName(String playerName) {
+			this.setName(Column.PLAYER_NAME, this.playerNames, playerName);
+			return this;
+		}
+
+		/**
+		 * Set a server identifier of the last row.
+		 *
+		 * @param serverId	server identifier
+		 * @return			this instance
+		 */
+		public Builder setServerId(int serverId) {
+			this.serverIds[this.setNotNull(Column.SERVER_ID)] = serverId;
+			return this;
+		}
+
+		/**
+		 * Set a map identifier of the last row.
+		 *
+		 * @param mapId		map identifier
+		 * @return			this instance
+		 */
+		public Builder setMapId(int mapId) {
+			this.mapIds[this.setNotNull(Column.MAP_ID)] = mapId;
+			return this;
+		}
+
+		/**
+		 * Set a stage identifier of the last row.
+		 *
+		 * @param stage		stage identifier
+		 * @return			this instance
+		 */
+		public Builder setStage(int stage) {
+			this.stages[this.setNotNull(Column.STAGE)] = stage;
+			return this;
+		}
+
+		/**
+		 * Set a game mode of the last row.
+		 *
+		 * @param mode	game mode, may be null
+		 * @return		this instance
+		 */
+		public Builder setMode(EMode mode) {
+			if (mode == null) {
+				this.setNull(this.getLastRow(), Column.MODE, true);
+				return this;
+			}
+
+			this.modes[this.setNotNull(Column.MODE)] = (byte) mode.ordinal();
+			return this;
+		}
+
+		/**
+		 * Set a tickrate of the last row.
+		 *
+		 * @param tickrate	tickrate, may be null
+		 * @return			this instance
+		 */
+		public Builder setTickrate(ETickrate tickrate) {
+			if (tickrate == null) {
+				this.setNull(this.getLastRow(), Column.TICKRATE, true);
+				return this;
+			}
+
+			this.tickrates[this.setNotNull(Column.TICKRATE)] = (byte) tickrate.ordinal();
+			return this;
+		}
+
+		/**
+		 * Set a run time of the last row in seconds.
+		 *
+		 * @param time	run time
+		 * @return		this instance
+		 */
+		public Builder setTime(float time) {
+			this.times[this.setNotNull(Column.TIME)] = time;
+			return this;
+		}
+
+		/**
+		 * Set a teleport count of the last row.
+		 *
+		 * @param teleportCount		teleport count
+		 * @return					this instance
+		 */
+		public Builder setTeleportCount(int teleportCount) {
+			this.teleportCounts[this.setNotNull(Column.TELEPORT_COUNT)] = teleportCount;
+			return this;
+		}
+
+		/**
+		 * Set a create date of the last row.
+		 *
+		 * <p>The fraction of second is dropped.
+		 *
+		 * @param createDate	create date, may be null
+		 * @return				this instance
+		 */
+		public Builder setCreateDate(DateTime createDate) {
+			this.setDate(Column.CREATE_DATE, this.createDates, createDate);
+			return this;
+		}
+
+		/**
+		 * Set an update date of the last row.
+		 *
+		 * <p>The fraction of second is dropped.
+		 *
+		 * @param updateDate	update date, may be null
+		 * @return				this instance
+		 */
+		public Builder setUpdateDate(DateTime updateDate) {
+			this.setDate(Column.UPDATE_DATE, this.updateDates, updateDate);
+			return this;
+		}
+
+		/**
+		 * Set a data updater identifier of the last row.
+		 *
+		 * @param dataUpdaterId		data updater identifier
+		 * @return					this instance
+		 */
+		public Builder setDataUpdaterId(long dataUpdaterId) {
+			this.dataUpdaterIds[this.setNotNull(Column.DATA_UPDATER)] = dataUpdaterId;
+			return this;
+		}
+
+		/**
+		 * Set a record filter identifier of the last row.
+		 *
+		 * @param recordFilterId	record filter identifier
+		 * @return					this instance
+		 */
+		public Builder setRecordFilterId(int recordFilterId) {
+			this.recordFilterIds[this.setNotNull(Column.RECORD_FILTER_ID)] = recordFilterId;
+			return this;
+		}
+
+		/**
+		 * Set a server name of the last row.
+		 *
+		 * @param serverName	server name, may be null
+		 * @return				this instance
+		 */
+		public Builder setServerName(String serverName) {
+			this.setName(Column.SERVER_NAME, this.serverNames, serverName);
+			return this;
+		}
+
+		/**
+		 * Set a map name of the last row.
+		 *
+		 * @param mapName	map name, may be null
+		 * @return			this instance
+		 */
+		public Builder setMapName(String mapName) {
+			this.setName(Column.MAP_NAME, this.mapNames, mapName);
+			return this;
+		}
+
+		/**
+		 * Set a point count of the last row.
+		 *
+		 * @param pointCount	point count
+		 * @return				this instance
+		 */
+		public Builder setPointCount(int pointCount) {
+			this.pointCounts[this.setNotNull(Column.POINT_COUNT)] = pointCount;
+			return this;
+		}
+
+		/**
+		 * Set a replay identifier of the last row.
+		 *
+		 * @param replayId	replay identifier
+		 * @return			this instance
+		 */
+		public Builder setReplayId(int replayId) {
+			this.replayIds[this.setNotNull(Column.REPLAY_ID)] = replayId;
+			return this;
+		}
+
+		/**
+		 * Build a {@link RecordTable} instance.
+		 *
+		 * @return	record table
+		 */
+		public RecordTable build() {
+			return new RecordTable(this);
+		}
+
+		/**
+		 * Set a name column value of the last row.
+		 *
+		 * @param column	name column
+		 * @param indexes	array of dictionary indexes
+		 * @param name		name, may be null
+		 */
+		private void setName(Column column, int[] indexes, String name) {
+			if (name == null) {
+				this.setNull(this.getLastRow(), column, true);
+				return;
+			}
+
+			Integer index = this.dictionaryIndexes.get(name);
+
+			if (index == null) {
+				index = this.dictionary.size();
+
+				this.dictionary.add(name);
+				this.dictionaryIndexes.put(name, index);
+			}
+
+			indexes[this.setNotNull(column)] = index;
+		}
+
+		/**
+		 * Set a date column value of the last row.
+		 *
+		 * @param column	date column
+		 * @param seconds	array of epoch seconds
+		 * @param date		date, may be null
+		 */
+		private void setDate(Column column, long[] seconds, DateTime date) {
+			if (date == null) {
+				this.setNull(this.getLastRow(), column, true);
+				return;
+			}
+
+			seconds[this.setNotNull(column)] = Math.floorDiv(date.getMillis(), 1000L);
+		}
+
+		/**
+		 * Clear a null bit of the last row.
+		 *
+		 * @param column	column
+		 * @return			last row index
+		 */
+		private int setNotNull(Column column) {
+			int row = this.getLastRow();
+
+			this.setNull(row, column, false);
+
+			return row;
+		}
+
+		/**
+		 * Set or clear a null bit.
+		 *
+		 * @param row		row index
+		 * @param column	column
+		 * @param isNull	boolean value, {@code true} - set, {@code false} - clear
+		 */
+		private void setNull(int row, Column column, boolean isNull) {
+			long index = (long) row * COLUMN_COUNT + column.ordinal();
+			int word = (int) (index >>> 6);
+
+			if (isNull) {
+				this.nullBits[word] |= 1L << index;
+			} else {
+				this.nullBits[word] &= ~(1L << index);
+			}
+		}
+
+		/**
+		 * Get the last row index.
+		 *
+		 * @return	last row index
+		 */
+		private int getLastRow() {
+			if (this.size == 0) {
+				throw new IllegalStateException("No row to set a value to, call #addRow() first");
+			}
+
+			return this.size - 1;
+		}
+
+		/**
+		 * Grow the column arrays.
+		 */
+		private void grow() {
+			int capacity = Math.max(DEFAULT_CAPACITY, this.ids.length + (this.ids.length >> 1));
+
+			this.ids = Arrays.copyOf(this.ids, capacity);
+			this.steamIds64 = Arrays.copyOf(this.steamIds64, capacity);
+			this.playerNames = Arrays.copyOf(this.playerNames, capacity);
+			this.serverIds = Arrays.copyOf(this.serverIds, capacity);
+			this.mapIds = Arrays.copyOf(this.mapIds, capacity);
+			this.stages = Arrays.copyOf(this.stages, capacity);
+			this.modes = Arrays.copyOf(this.modes, capacity);
+			this.tickrates = Arrays.copyOf(this.tickrates, capacity);
+			this.times = Arrays.copyOf(this.times, capacity);
+			this.teleportCounts = Arrays.copyOf(this.teleportCounts, capacity);
+			this.createDates = Arrays.copyOf(this.createDates, capacity);
+			this.updateDates = Arrays.copyOf(this.updateDates, capacity);
+			this.dataUpdaterIds = Arrays.copyOf(this.dataUpdaterIds, capacity);
+			this.recordFilterIds = Arrays.copyOf(this.recordFilterIds, capacity);
+			this.serverNames = Arrays.copyOf(this.serverNames, capacity);
+			this.mapNames = Arrays.copyOf(this.mapNames, capacity);
+			this.pointCounts = Arrays.copyOf(this.pointCounts, capacity);
+			this.replayIds = Arrays.copyOf(this.replayIds, capacity);
+
+			this.nullBits = Arrays.copyOf(this.nullBits, getNullBitsLength(capacity));
+		}
+	}
+}
@@ -25,7 +25,7 @@ import java.util.Objects;
 /**
  * A kreedz API server entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class ServerEntity implements Serializable, Cloneable {
 
 	/**
@@ -66,42 +66,12 @@ public final class ServerEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -175,25 +145,21 @@ public final class ServerEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.port,
-							this.ip,
-							this.name,
-							this.ownerSteamId
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.port,
+						this.ip,
+						this.name,
+						this.ownerSteamId
+				)
+		);
 	}
 
 	/**
@@ -201,23 +167,19 @@ public final class ServerEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=" + this.id
-					+ ", port=" + this.port
-					+ ", ip=\"" + this.ip + "\""
-					+ ", name=\"" + this.name + "\""
-					+ ", ownerSteamId=" + this.ownerSteamId
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=" + this.id
+				+ ", port=" + this.port
+				+ ", ip=\"" + this.ip + "\""
+				+ ", name=\"" + this.name + "\""
+				+ ", ownerSteamId=" + this.ownerSteamId
+				+ "]");
 	}
 
 	/**
@@ -249,8 +211,6 @@ public final class ServerEntity implements Serializable, Cloneable {
 		this.ip = ip;
 		this.name = name;
 		this.ownerSteamId = ownerSteamId;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -26,7 +26,7 @@ import java.util.Objects;
 /**
  * A kreedz health API status response entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class HealthStatusResponseEntity implements Serializable, Cloneable {
 
 	/**
@@ -55,42 +55,12 @@ public final class HealthStatusResponseEntity implements Serializable, Cloneable
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this name
@@ -144,23 +114,19 @@ public final class HealthStatusResponseEntity implements Serializable, Cloneable
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.name,
-							this.key,
-							this.results
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.name,
+						this.key,
+						this.results
+				)
+		);
 	}
 
 	/**
@@ -168,21 +134,17 @@ public final class HealthStatusResponseEntity implements Serializable, Cloneable
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "name=\"" + this.name + "\""
-					+ ", key=\"" + this.key + "\""
-					+ ", results=" + this.results
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "name=\"" + this.name + "\""
+				+ ", key=\"" + this.key + "\""
+				+ ", results=" + this.results
+				+ "]");
 	}
 
 	/**
@@ -208,8 +170,6 @@ public final class HealthStatusResponseEntity implements Serializable, Cloneable
 		this.name = name;
 		this.key = key;
 		this.results = results;
-
-		this.initMutexObjects();
 	}
 
 	/**
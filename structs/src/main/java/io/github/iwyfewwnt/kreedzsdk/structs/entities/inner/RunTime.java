@@ -24,7 +24,7 @@ import java.util.Objects;
 /**
  * A kreedz API map run time representation.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class RunTime implements Serializable, Cloneable {
 
 	/**
@@ -40,42 +40,12 @@ public final class RunTime implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link RunTime} instance.
@@ -84,8 +54,6 @@ public final class RunTime implements Serializable, Cloneable {
 	 */
 	public RunTime(Float time) {
 		this.time = UwObject.ifNull(time, 0f);
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -121,6 +89,15 @@ public final class RunTime implements Serializable, Cloneable {
 		return this.time != 0;
 	}
 
+	/**
+	 * Get this total time in seconds.
+	 *
+	 * @return	total time in seconds
+	 */
+	public float getTime() {
+		return this.time;
+	}
+
 	/**
 	 * Get this total milliseconds.
 	 *
@@ -232,18 +209,14 @@ public final class RunTime implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(this.time));
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(this.time));
 	}
 
 	/**
@@ -251,32 +224,28 @@ public final class RunTime implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			int totalHours = this.getTotalHours();
-			int totalMinutes = this.getTotalMinutes();
+		if (string != null) {
+			return string;
+		}
 
-			int minutes = this.getMinutes();
-			int seconds = this.getSeconds();
-			int milliseconds = this.getMilliseconds();
+		int totalHours = this.getTotalHours();
+		int totalMinutes = this.getTotalMinutes();
 
-			if (totalHours != 0) {
-				return (this.stringCache = String.format("%d:%02d:%02d.%03d", totalHours, minutes, seconds, milliseconds));
-			}
+		int minutes = this.getMinutes();
+		int seconds = this.getSeconds();
+		int milliseconds = this.getMilliseconds();
 
-			if (totalMinutes != 0) {
-				return (this.stringCache = String.format("%d:%02d.%03d", minutes, seconds, milliseconds));
-			}
+		if (totalHours != 0) {
+			return (this.stringCache = String.format("%d:%02d:%02d.%03d", totalHours, minutes, seconds, milliseconds));
+		}
 
-			return (this.stringCache = String.format("%d.%03d", seconds, milliseconds));
+		if (totalMinutes != 0) {
+			return (this.stringCache = String.format("%d:%02d.%03d", minutes, seconds, milliseconds));
 		}
+
+		return (this.stringCache = String.format("%d.%03d", seconds, milliseconds));
 	}
 
 	/**
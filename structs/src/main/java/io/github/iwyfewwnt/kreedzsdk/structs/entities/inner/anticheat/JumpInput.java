@@ -22,7 +22,7 @@ import java.util.Objects;
 /**
  * A jump input representation.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class JumpInput implements Serializable, Cloneable {
 
 	/**
@@ -92,64 +92,22 @@ public final class JumpInput implements Serializable, Cloneable {
 	/**
 	 * A {@link #toGokzString()} cache.
 	 */
-	private transient volatile String gokzStringCache;
+	private transient String gokzStringCache;
 
 	/**
 	 * A {@link #toKztimerString()} cache.
 	 */
-	private transient volatile String kztimerStringCache;
+	private transient String kztimerStringCache;
 
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #gokzStringCache} mutex.
-	 */
-	private transient Object gokzStringCacheMutex;
-
-	/**
-	 * A {@link #kztimerStringCache} mutex.
-	 */
-	private transient Object kztimerStringCacheMutex;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.gokzStringCacheMutex = new Object();
-		this.kztimerStringCacheMutex = new Object();
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link JumpInput} instance.
@@ -162,8 +120,6 @@ public final class JumpInput implements Serializable, Cloneable {
 		this.preInputCount = preInputCount;
 		this.postInputCount = postInputCount;
 		this.isPerf = isPerf;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -252,19 +208,15 @@ public final class JumpInput implements Serializable, Cloneable {
 	 * @return	string representation
 	 */
 	public String toGokzString() {
-		if (this.gokzStringCache != null) {
-			return this.gokzStringCache;
-		}
+		String gokzString = this.gokzStringCache;
 
-		synchronized (this.gokzStringCacheMutex) {
-			if (this.gokzStringCache != null) {
-				return this.gokzStringCache;
-			}
+		if (gokzString != null) {
+			return gokzString;
+		}
 
-			char jumpChar = this.getJumpChar();
+		char jumpChar = this.getJumpChar();
 
-			return (this.gokzStringCache = String.format(GOKZ_FMT, this.preInputCount, jumpChar, this.postInputCount));
-		}
+		return (this.gokzStringCache = String.format(GOKZ_FMT, this.preInputCount, jumpChar, this.postInputCount));
 	}
 
 	/**
@@ -273,17 +225,13 @@ public final class JumpInput implements Serializable, Cloneable {
 	 * @return	string representation
 	 */
 	public String toKztimerString() {
-		if (this.kztimerStringCache != null) {
-			return this.kztimerStringCache;
-		}
+		String kztimerString = this.kztimerStringCache;
 
-		synchronized (this.kztimerStringCacheMutex) {
-			if (this.kztimerStringCache != null) {
-				return this.kztimerStringCache;
-			}
-
-			return (this.kztimerStringCache = String.format(KZTIMER_FMT, this.preInputCount));
+		if (kztimerString != null) {
+			return kztimerString;
 		}
+
+		return (this.kztimerStringCache = String.format(KZTIMER_FMT, this.preInputCount));
 	}
 
 	/**
@@ -311,23 +259,19 @@ public final class JumpInput implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.preInputCount,
-							this.postInputCount,
-							this.isPerf
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.preInputCount,
+						this.postInputCount,
+						this.isPerf
+				)
+		);
 	}
 
 	/**
@@ -335,21 +279,17 @@ public final class JumpInput implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "preInputCount=" + this.preInputCount
-					+ ", postInputCount=" + this.postInputCount
-					+ ", isPerf=" + this.isPerf
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "preInputCount=" + this.preInputCount
+				+ ", postInputCount=" + this.postInputCount
+				+ ", isPerf=" + this.isPerf
+				+ "]");
 	}
 
 	/**
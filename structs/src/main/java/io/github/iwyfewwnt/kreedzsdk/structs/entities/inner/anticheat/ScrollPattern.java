@@ -29,7 +29,7 @@ import java.util.stream.Collectors;
 /**
  * A scroll pattern representation.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class ScrollPattern implements Serializable, Cloneable {
 
 	/**
@@ -44,99 +44,47 @@ public final class ScrollPattern implements Serializable, Cloneable {
 
 	/**
 	 * A {@link #getPerfJumpCount()} cache.
+	 *
+	 * <p>Holds the count plus one, so zero stands for
+	 * a count not computed yet rather than a zero count.
 	 */
-	private transient volatile Integer perfJumpCountCache;
+	private transient int perfJumpCountCache;
 
 	/**
 	 * A {@link #getTotalPreInputCount()} cache.
+	 *
+	 * <p>Holds the count plus one, so zero stands for
+	 * a count not computed yet rather than a zero count.
 	 */
-	private transient volatile Integer totalPreInputCountCache;
+	private transient int totalPreInputCountCache;
 
 	/**
 	 * A {@link #getTotalPostInputCount()} cache.
+	 *
+	 * <p>Holds the count plus one, so zero stands for
+	 * a count not computed yet rather than a zero count.
 	 */
-	private transient volatile Integer totalPostInputCountCache;
+	private transient int totalPostInputCountCache;
 
 	/**
 	 * A {@link #toGokzString()} cache.
 	 */
-	private transient volatile String gokzStringCache;
+	private transient String gokzStringCache;
 
 	/**
 	 * A {@link #toKztimerString()} cache.
 	 */
-	private transient volatile String kztimerStringCache;
+	private transient String kztimerStringCache;
 
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #perfJumpCountCache} mutex.
-	 */
-	private transient Object perfJumpCountCacheMutex;
-
-	/**
-	 * A {@link #totalPreInputCountCache} mutex.
-	 */
-	private transient Object totalPreInputCountCacheMutex;
-
-	/**
-	 * A {@link #totalPostInputCountCache} mutex.
-	 */
-	private transient Object totalPostInputCountCacheMutex;
-
-	/**
-	 * A {@link #gokzStringCache} mutex.
-	 */
-	private transient Object gokzStringCacheMutex;
-
-	/**
-	 * A {@link #kztimerStringCache} mutex.
-	 */
-	private transient Object kztimerStringCacheMutex;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.perfJumpCountCacheMutex = new Object();
-		this.totalPreInputCountCacheMutex = new Object();
-		this.totalPostInputCountCacheMutex = new Object();
-		this.gokzStringCacheMutex = new Object();
-		this.kztimerStringCacheMutex = new Object();
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Initialize a {@link ScrollPattern} instance.
@@ -169,8 +117,6 @@ public final class ScrollPattern implements Serializable, Cloneable {
 		jumpInputs = UwList.toUnmodifiable(jumpInputs);
 
 		this.jumpInputs = jumpInputs;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -217,19 +163,18 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	perf-jump count
 	 */
 	public int getPerfJumpCount() {
-		if (this.perfJumpCountCache != null) {
-			return this.perfJumpCountCache;
+		int perfJumpCount = this.perfJumpCountCache - 1;
+
+		if (perfJumpCount >= 0) {
+			return perfJumpCount;
 		}
 
-		synchronized (this.perfJumpCountCacheMutex) {
-			if (this.perfJumpCountCache != null) {
-				return this.perfJumpCountCache;
-			}
+		perfJumpCount = (int) this.jumpInputs.stream()
+				.filter(JumpInput::isPerf)
+				.count();
+		this.perfJumpCountCache = perfJumpCount + 1;
 
-			return (this.perfJumpCountCache = (int) this.jumpInputs.stream()
-					.filter(JumpInput::isPerf)
-					.count());
-		}
+		return perfJumpCount;
 	}
 
 	/**
@@ -256,19 +201,18 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	total pre-input count.
 	 */
 	public int getTotalPreInputCount() {
-		if (this.totalPreInputCountCache != null) {
-			return this.totalPreInputCountCache;
+		int totalPreInputCount = this.totalPreInputCountCache - 1;
+
+		if (totalPreInputCount >= 0) {
+			return totalPreInputCount;
 		}
 
-		synchronized (this.totalPreInputCountCacheMutex) {
-			if (this.totalPreInputCountCache != null) {
-				return this.totalPreInputCountCache;
-			}
+		totalPreInputCount = this.jumpInputs.stream()
+				.mapToInt(JumpInput::getPreInputCount)
+				.sum();
+		this.totalPreInputCountCache = totalPreInputCount + 1;
 
-			return (this.totalPreInputCountCache = this.jumpInputs.stream()
-					.mapToInt(JumpInput::getPreInputCount)
-					.sum());
-		}
+		return totalPreInputCount;
 	}
 
 	/**
@@ -277,19 +221,18 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	total post-input count.
 	 */
 	public int getTotalPostInputCount() {
-		if (this.totalPostInputCountCache != null) {
-			return this.totalPostInputCountCache;
+		int totalPostInputCount = this.totalPostInputCountCache - 1;
+
+		if (totalPostInputCount >= 0) {
+			return totalPostInputCount;
 		}
 
-		synchronized (this.totalPostInputCountCacheMutex) {
-			if (this.totalPostInputCountCache != null) {
-				return this.totalPostInputCountCache;
-			}
+		totalPostInputCount = this.jumpInputs.stream()
+				.mapToInt(JumpInput::getPostInputCount)
+				.sum();
+		this.totalPostInputCountCache = totalPostInputCount + 1;
 
-			return (this.totalPostInputCountCache = this.jumpInputs.stream()
-					.mapToInt(JumpInput::getPostInputCount)
-					.sum());
-		}
+		return totalPostInputCount;
 	}
 
 	/**
@@ -356,19 +299,15 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	string representation, always not null
 	 */
 	public String toGokzString() {
-		if (this.gokzStringCache != null) {
-			return this.gokzStringCache;
-		}
+		String gokzString = this.gokzStringCache;
 
-		synchronized (this.gokzStringCacheMutex) {
-			if (this.gokzStringCache != null) {
-				return this.gokzStringCache;
-			}
-
-			return (this.gokzStringCache = this.jumpInputs.stream()
-					.map(JumpInput::toGokzString)
-					.collect(Collectors.joining()));
+		if (gokzString != null) {
+			return gokzString;
 		}
+
+		return (this.gokzStringCache = this.jumpInputs.stream()
+				.map(JumpInput::toGokzString)
+				.collect(Collectors.joining()));
 	}
 
 	/**
@@ -377,19 +316,15 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 * @return	string representation, always not null
 	 */
 	public String toKztimerString() {
-		if (this.kztimerStringCache != null) {
-			return this.kztimerStringCache;
-		}
-
-		synchronized (this.kztimerStringCacheMutex) {
-			if (this.kztimerStringCache != null) {
-				return this.kztimerStringCache;
-			}
+		String kztimerString = this.kztimerStringCache;
 
-			return (this.kztimerStringCache = this.jumpInputs.stream()
-					.map(JumpInput::toKztimerString)
-					.collect(Collectors.joining(" ")));
+		if (kztimerString != null) {
+			return kztimerString;
 		}
+
+		return (this.kztimerStringCache = this.jumpInputs.stream()
+				.map(JumpInput::toKztimerString)
+				.collect(Collectors.joining(" ")));
 	}
 
 	/**
@@ -415,18 +350,14 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
-
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
+		int hashCode = this.hashCodeCache;
 
-			return (this.hashCodeCache
-					= Objects.hash(this.jumpInputs));
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(this.jumpInputs));
 	}
 
 	/**
@@ -434,19 +365,15 @@ public final class ScrollPattern implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "jumpInputs=" + this.jumpInputs
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "jumpInputs=" + this.jumpInputs
+				+ "]");
 	}
 
 	/**
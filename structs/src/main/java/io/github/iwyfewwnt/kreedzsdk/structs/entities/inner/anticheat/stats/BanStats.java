@@ -31,7 +31,7 @@ import java.util.regex.Pattern;
 /**
  * A kreedz API ban stats representation.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public class BanStats implements Serializable, Cloneable {
 
 	/**
@@ -64,53 +64,17 @@ public class BanStats implements Serializable, Cloneable {
 	/**
 	 * A {@link #getScrollPattern()} cache.
 	 */
-	private transient volatile ScrollPattern scrollPatternCache;
+	private transient ScrollPattern scrollPatternCache;
 
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	protected transient volatile Integer hashCodeCache;
+	protected transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	protected transient volatile String stringCache;
-
-	/**
-	 * A {@link #scrollPatternCache} mutex.
-	 */
-	private transient Object scrollPatternCacheMutex;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	protected transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	protected transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	protected void initMutexObjects() {
-		this.scrollPatternCacheMutex = new Object();
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	protected transient String stringCache;
 
 	/**
 	 * Initialize a {@link BanStats} instance.
@@ -124,8 +88,6 @@ public class BanStats implements Serializable, Cloneable {
 
 		this.rawStats = rawStats;
 		this.pluginType = pluginType;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -191,25 +153,21 @@ public class BanStats implements Serializable, Cloneable {
 	 * @return	scroll pattern
 	 */
 	public final ScrollPattern getScrollPattern() {
-		if (this.scrollPatternCache != null) {
-			return this.scrollPatternCache;
-		}
+		ScrollPattern scrollPattern = this.scrollPatternCache;
 
-		synchronized (this.scrollPatternCacheMutex) {
-			if (this.scrollPatternCache != null) {
-				return this.scrollPatternCache;
-			}
-
-			JumpInput[] jumpInputs = null;
+		if (scrollPattern != null) {
+			return scrollPattern;
+		}
 
-			Matcher m = JUMP_INPUTS_PATTERN.matcher(this.rawStats);
+		JumpInput[] jumpInputs = null;
 
-			if (m.matches()) {
-				jumpInputs = this.parseJumpInputs(m.group(1));
-			}
+		Matcher m = JUMP_INPUTS_PATTERN.matcher(this.rawStats);
 
-			return (this.scrollPatternCache = new ScrollPattern(jumpInputs));
+		if (m.matches()) {
+			jumpInputs = this.parseJumpInputs(m.group(1));
 		}
+
+		return (this.scrollPatternCache = new ScrollPattern(jumpInputs));
 	}
 
 	/**
@@ -392,22 +350,18 @@ public class BanStats implements Serializable, Cloneable {
 	 */
 	@Override
 	public final int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.rawStats,
-							this.pluginType
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.rawStats,
+						this.pluginType
+				)
+		);
 	}
 
 	/**
@@ -415,20 +369,16 @@ public class BanStats implements Serializable, Cloneable {
 	 */
 	@Override
 	public final String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "rawStats=\"" + this.rawStats + "\""
-					+ ", pluginType=" + this.pluginType
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "rawStats=\"" + this.rawStats + "\""
+				+ ", pluginType=" + this.pluginType
+				+ "]");
 	}
 
 	/**
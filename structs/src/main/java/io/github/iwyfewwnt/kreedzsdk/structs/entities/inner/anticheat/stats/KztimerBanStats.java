@@ -33,18 +33,6 @@ public final class KztimerBanStats extends BanStats implements Cloneable {
 	 */
 	private static final String JUMP_INPUT_SEPARATOR_REGEX = " ";
 
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
-
 	/**
 	 * Initialize a {@link KztimerBanStats} instance.
 	 *
@@ -25,7 +25,7 @@ import java.util.Objects;
 /**
  * A kreedz status API affected component entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class StatusAffectedComponentEntity implements Serializable, Cloneable {
 
 	/**
@@ -60,42 +60,12 @@ public final class StatusAffectedComponentEntity implements Serializable, Clonea
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -159,24 +129,20 @@ public final class StatusAffectedComponentEntity implements Serializable, Clonea
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.name,
-							this.prevStatus,
-							this.currStatus
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.name,
+						this.prevStatus,
+						this.currStatus
+				)
+		);
 	}
 
 	/**
@@ -184,22 +150,18 @@ public final class StatusAffectedComponentEntity implements Serializable, Clonea
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=\"" + this.id + "\""
-					+ ", name=\"" + this.name + "\""
-					+ ", prevStatus=" + this.prevStatus
-					+ ", currStatus=" + this.currStatus
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=\"" + this.id + "\""
+				+ ", name=\"" + this.name + "\""
+				+ ", prevStatus=" + this.prevStatus
+				+ ", currStatus=" + this.currStatus
+				+ "]");
 	}
 
 	/**
@@ -228,8 +190,6 @@ public final class StatusAffectedComponentEntity implements Serializable, Clonea
 		this.name = name;
 		this.prevStatus = prevStatus;
 		this.currStatus = currStatus;
-
-		this.initMutexObjects();
 	}
 
 	/**
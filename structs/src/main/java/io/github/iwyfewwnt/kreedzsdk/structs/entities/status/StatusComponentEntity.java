@@ -26,7 +26,7 @@ import java.util.Objects;
 /**
  * A kreedz status API component entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class StatusComponentEntity implements Serializable, Cloneable {
 
 	/**
@@ -79,42 +79,12 @@ public final class StatusComponentEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -208,27 +178,23 @@ public final class StatusComponentEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.name,
-							this.status,
-							this.createDate,
-							this.updateDate,
-							this.description,
-							this.pageId
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.name,
+						this.status,
+						this.createDate,
+						this.updateDate,
+						this.description,
+						this.pageId
+				)
+		);
 	}
 
 	/**
@@ -236,25 +202,21 @@ public final class StatusComponentEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=\"" + this.id + "\""
-					+ ", name=\"" + this.name + "\""
-					+ ", status=" + this.status
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", description=\"" + this.description + "\""
-					+ ", pageId=\"" + this.pageId + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=\"" + this.id + "\""
+				+ ", name=\"" + this.name + "\""
+				+ ", status=" + this.status
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", description=\"" + this.description + "\""
+				+ ", pageId=\"" + this.pageId + "\""
+				+ "]");
 	}
 
 	/**
@@ -292,8 +254,6 @@ public final class StatusComponentEntity implements Serializable, Cloneable {
 		this.updateDate = updateDate;
 		this.description = description;
 		this.pageId = pageId;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -28,7 +28,7 @@ import java.util.Objects;
 /**
  * A kreedz status API incident entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public class StatusIncidentEntity implements Serializable, Cloneable {
 
 	/**
@@ -111,42 +111,12 @@ public class StatusIncidentEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	protected transient volatile Integer hashCodeCache;
+	protected transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	protected transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	protected transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	protected transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	protected void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	protected transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -290,32 +260,28 @@ public class StatusIncidentEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.name,
-							this.status,
-							this.createDate,
-							this.updateDate,
-							this.monitorDate,
-							this.resolveDate,
-							this.impact,
-							this.shortUrl,
-							this.pageId,
-							this.updates,
-							this.components
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.name,
+						this.status,
+						this.createDate,
+						this.updateDate,
+						this.monitorDate,
+						this.resolveDate,
+						this.impact,
+						this.shortUrl,
+						this.pageId,
+						this.updates,
+						this.components
+				)
+		);
 	}
 
 	/**
@@ -323,30 +289,26 @@ public class StatusIncidentEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=\"" + this.id + "\""
-					+ ", name=\"" + this.name + "\""
-					+ ", status=" + this.status
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", monitorDate=" + this.monitorDate
-					+ ", resolveDate=" + this.resolveDate
-					+ ", impact=" + this.impact
-					+ ", shortUrl=\"" + this.shortUrl + "\""
-					+ ", pageId=\"" + this.pageId + "\""
-					+ ", updates=" + this.updates
-					+ ", components=" + this.components
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=\"" + this.id + "\""
+				+ ", name=\"" + this.name + "\""
+				+ ", status=" + this.status
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", monitorDate=" + this.monitorDate
+				+ ", resolveDate=" + this.resolveDate
+				+ ", impact=" + this.impact
+				+ ", shortUrl=\"" + this.shortUrl + "\""
+				+ ", pageId=\"" + this.pageId + "\""
+				+ ", updates=" + this.updates
+				+ ", components=" + this.components
+				+ "]");
 	}
 
 	/**
@@ -399,8 +361,6 @@ public class StatusIncidentEntity implements Serializable, Cloneable {
 		this.pageId = pageId;
 		this.updates = updates;
 		this.components = components;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -27,7 +27,7 @@ import java.util.Objects;
 /**
  * A kreedz status API incident update entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class StatusUpdateEntity implements Serializable, Cloneable {
 
 	/**
@@ -86,42 +86,12 @@ public final class StatusUpdateEntity implements Serializable, Cloneable {
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this identifier.
@@ -225,28 +195,24 @@ public final class StatusUpdateEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.id,
-							this.status,
-							this.body,
-							this.incidentId,
-							this.createDate,
-							this.updateDate,
-							this.displayDate,
-							this.affectedComponents
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.id,
+						this.status,
+						this.body,
+						this.incidentId,
+						this.createDate,
+						this.updateDate,
+						this.displayDate,
+						this.affectedComponents
+				)
+		);
 	}
 
 	/**
@@ -254,26 +220,22 @@ public final class StatusUpdateEntity implements Serializable, Cloneable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "id=\"" + this.id + "\""
-					+ ", status=" + this.status
-					+ ", body=\"" + this.body + "\""
-					+ ", incidentId=\"" + this.incidentId + "\""
-					+ ", createDate=" + this.createDate
-					+ ", updateDate=" + this.updateDate
-					+ ", displayDate=" + this.displayDate
-					+ ", affectedComponents=" + this.affectedComponents
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "id=\"" + this.id + "\""
+				+ ", status=" + this.status
+				+ ", body=\"" + this.body + "\""
+				+ ", incidentId=\"" + this.incidentId + "\""
+				+ ", createDate=" + this.createDate
+				+ ", updateDate=" + this.updateDate
+				+ ", displayDate=" + this.displayDate
+				+ ", affectedComponents=" + this.affectedComponents
+				+ "]");
 	}
 
 	/**
@@ -314,8 +276,6 @@ public final class StatusUpdateEntity implements Serializable, Cloneable {
 		this.updateDate = updateDate;
 		this.displayDate = displayDate;
 		this.affectedComponents = affectedComponents;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -27,7 +27,7 @@ import java.util.Objects;
 /**
  * A kreedz status API scheduled incidents response entity.
  */
-@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod", "SynchronizeOnNonFinalField"})
+@SuppressWarnings({"unused", "MethodDoesntCallSuperMethod"})
 public final class StatusScheduledIncidentsResponseEntity implements Serializable, Cloneable {
 
 	/**
@@ -50,42 +50,12 @@ public final class StatusScheduledIncidentsResponseEntity implements Serializabl
 	/**
 	 * A {@link #hashCode()} cache.
 	 */
-	private transient volatile Integer hashCodeCache;
+	private transient int hashCodeCache;
 
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private transient volatile String stringCache;
-
-	/**
-	 * A {@link #hashCodeCache} mutex.
-	 */
-	private transient Object hashCodeCacheMutex;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private transient Object stringCacheMutex;
-
-	/**
-	 * Initialize this mutex objects.
-	 */
-	private void initMutexObjects() {
-		this.hashCodeCacheMutex = new Object();
-		this.stringCacheMutex = new Object();
-	}
-
-	/**
-	 * Override the {@code #readResolve} method to set up
-	 * the object cache mutexes after deserialization.
-	 *
-	 * @return	this instance
-	 */
-	private Object readResolve() {
-		this.initMutexObjects();
-
-		return this;
-	}
+	private transient String stringCache;
 
 	/**
 	 * Get this page.
@@ -129,22 +99,18 @@ public final class StatusScheduledIncidentsResponseEntity implements Serializabl
 	 */
 	@Override
 	public int hashCode() {
-		if (this.hashCodeCache != null) {
-			return this.hashCodeCache;
-		}
+		int hashCode = this.hashCodeCache;
 
-		synchronized (this.hashCodeCacheMutex) {
-			if (this.hashCodeCache != null) {
-				return this.hashCodeCache;
-			}
-
-			return (this.hashCodeCache
-					= Objects.hash(
-							this.page,
-							this.incidents
-					)
-			);
+		if (hashCode != 0) {
+			return hashCode;
 		}
+
+		return (this.hashCodeCache
+				= Objects.hash(
+						this.page,
+						this.incidents
+				)
+		);
 	}
 
 	/**
@@ -153,20 +119,16 @@ public final class StatusScheduledIncidentsResponseEntity implements Serializabl
 	@Override
 	public String toString() {
 		//noinspection DuplicatedCode
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME + "["
-					+ "page=" + this.page
-					+ ", incidents=" + this.incidents
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME + "["
+				+ "page=" + this.page
+				+ ", incidents=" + this.incidents
+				+ "]");
 	}
 
 	/**
@@ -189,8 +151,6 @@ public final class StatusScheduledIncidentsResponseEntity implements Serializabl
 	) {
 		this.page = page;
 		this.incidents = incidents;
-
-		this.initMutexObjects();
 	}
 
 	/**
@@ -72,11 +72,6 @@ public enum EApprovalStatus {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EApprovalStatus} instance.
 	 *
@@ -84,8 +79,6 @@ public enum EApprovalStatus {
 	 */
 	EApprovalStatus(int id) {
 		this.id = id;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -102,20 +95,16 @@ public enum EApprovalStatus {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "id=" + this.id
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "id=" + this.id
+				+ "]");
 	}
 
 	/**
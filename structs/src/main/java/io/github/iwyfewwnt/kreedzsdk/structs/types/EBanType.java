@@ -111,11 +111,6 @@ public enum EBanType {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EBanType} instance.
 	 *
@@ -145,8 +140,6 @@ public enum EBanType {
 		this.apiName = apiName;
 		this.fullName = fullName;
 		this.shortName = shortName;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -190,23 +183,19 @@ public enum EBanType {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "group=" + this.group
-					+ ", apiName=\"" + this.apiName + "\""
-					+ ", fullName=\"" + this.fullName + "\""
-					+ ", shortName=\"" + this.shortName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "group=" + this.group
+				+ ", apiName=\"" + this.apiName + "\""
+				+ ", fullName=\"" + this.fullName + "\""
+				+ ", shortName=\"" + this.shortName + "\""
+				+ "]");
 	}
 
 	/**
@@ -632,32 +621,19 @@ public enum EBanType {
 		 */
 		private String stringCache;
 
-		/**
-		 * A {@link #stringCache} mutex.
-		 */
-		private final Object stringCacheMutex;
-
-		Group() {
-			this.stringCacheMutex = new Object();
-		}
-
 		/**
 		 * {@inheritDoc}
 		 */
 		@Override
 		public String toString() {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			synchronized (this.stringCacheMutex) {
-				if (this.stringCache != null) {
-					return this.stringCache;
-				}
+			String string = this.stringCache;
 
-				return (this.stringCache = SIMPLE_NAME
-						+ "::" + this.name());
+			if (string != null) {
+				return string;
 			}
+
+			return (this.stringCache = SIMPLE_NAME
+					+ "::" + this.name());
 		}
 	}
 }
@@ -111,11 +111,6 @@ public enum EDifficulty {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EDifficulty} instance.
 	 *
@@ -135,8 +130,6 @@ public enum EDifficulty {
 		this.group = group;
 		this.id = id;
 		this.fullName = fullName;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -171,22 +164,18 @@ public enum EDifficulty {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "group=" + this.group
-					+ ", id=" + this.id
-					+ ", fullName=\"" + this.fullName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "group=" + this.group
+				+ ", id=" + this.id
+				+ ", fullName=\"" + this.fullName + "\""
+				+ "]");
 	}
 
 	/**
@@ -528,32 +517,19 @@ public enum EDifficulty {
 		 */
 		private String stringCache;
 
-		/**
-		 * A {@link #stringCache} mutex.
-		 */
-		private final Object stringCacheMutex;
-
-		Group() {
-			this.stringCacheMutex = new Object();
-		}
-
 		/**
 		 * {@inheritDoc}
 		 */
 		@Override
 		public String toString() {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			synchronized (this.stringCacheMutex) {
-				if (this.stringCache != null) {
-					return this.stringCache;
-				}
+			String string = this.stringCache;
 
-				return (this.stringCache = SIMPLE_NAME
-						+ "::" + this.name());
+			if (string != null) {
+				return string;
 			}
+
+			return (this.stringCache = SIMPLE_NAME
+					+ "::" + this.name());
 		}
 	}
 }
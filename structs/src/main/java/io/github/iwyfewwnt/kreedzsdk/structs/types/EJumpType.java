@@ -130,11 +130,6 @@ public enum EJumpType {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EJumpType} instance.
 	 *
@@ -160,8 +155,6 @@ public enum EJumpType {
 		this.apiName = apiName;
 		this.fullName = fullName;
 		this.shortName = shortName;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -206,23 +199,19 @@ public enum EJumpType {
 	@Override
 	public String toString() {
 		//noinspection DuplicatedCode
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "id=" + this.id
-					+ ", apiName=\"" + this.apiName + "\""
-					+ ", fullName=\"" + this.fullName + "\""
-					+ ", shortName=\"" + this.shortName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "id=" + this.id
+				+ ", apiName=\"" + this.apiName + "\""
+				+ ", fullName=\"" + this.fullName + "\""
+				+ ", shortName=\"" + this.shortName + "\""
+				+ "]");
 	}
 
 	/**
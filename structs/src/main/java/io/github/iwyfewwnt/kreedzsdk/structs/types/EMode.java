@@ -110,11 +110,6 @@ public enum EMode {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EMode} instance.
 	 *
@@ -140,8 +135,6 @@ public enum EMode {
 		this.apiName = apiName;
 		this.fullName = fullName;
 		this.shortName = shortName;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -186,23 +179,19 @@ public enum EMode {
 	@Override
 	public String toString() {
 		//noinspection DuplicatedCode
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "id=" + this.id
-					+ ", apiName=\"" + this.apiName + "\""
-					+ ", fullName=\"" + this.fullName + "\""
-					+ ", shortName=\"" + this.shortName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "id=" + this.id
+				+ ", apiName=\"" + this.apiName + "\""
+				+ ", fullName=\"" + this.fullName + "\""
+				+ ", shortName=\"" + this.shortName + "\""
+				+ "]");
 	}
 
 	/**
@@ -46,34 +46,18 @@ public enum EPluginType {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
-	/**
-	 * Initialize a {@link EPluginType} instance.
-	 */
-	EPluginType() {
-		this.stringCacheMutex = new Object();
-	}
-
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name());
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name());
 	}
 }
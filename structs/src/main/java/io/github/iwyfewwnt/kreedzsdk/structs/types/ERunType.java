@@ -72,11 +72,6 @@ public enum ERunType {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link ERunType} instance.
 	 *
@@ -84,8 +79,6 @@ public enum ERunType {
 	 */
 	ERunType(Boolean hasTeleports) {
 		this.hasTeleports = hasTeleports;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -102,20 +95,16 @@ public enum ERunType {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "hasTeleports=" + this.hasTeleports
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "hasTeleports=" + this.hasTeleports
+				+ "]");
 	}
 
 	/**
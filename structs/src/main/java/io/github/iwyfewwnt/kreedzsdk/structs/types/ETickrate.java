@@ -89,11 +89,6 @@ public enum ETickrate {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link ETickrate} instance.
 	 *
@@ -102,8 +97,6 @@ public enum ETickrate {
 	ETickrate(float value) {
 		this.fltVal = value;
 		this.intVal = (int) value;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -129,21 +122,17 @@ public enum ETickrate {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "fltVal=" + this.fltVal
-					+ ", intVal=" + this.intVal
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "fltVal=" + this.fltVal
+				+ ", intVal=" + this.intVal
+				+ "]");
 	}
 
 	/**
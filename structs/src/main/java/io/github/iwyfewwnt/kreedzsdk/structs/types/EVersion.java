@@ -95,11 +95,6 @@ public enum EVersion {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EVersion} instance.
 	 *
@@ -111,8 +106,6 @@ public enum EVersion {
 		this.minor = minor;
 
 		this.apiName = String.format(FMT, this.major, this.minor);
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -171,22 +164,18 @@ public enum EVersion {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "major=" + this.major
-					+ ", minor=" + this.minor
-					+ ", apiName=\"" + this.apiName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "major=" + this.major
+				+ ", minor=" + this.minor
+				+ ", apiName=\"" + this.apiName + "\""
+				+ "]");
 	}
 
 	/**
@@ -95,12 +95,7 @@ public enum EHealthEndpoint {
 	/**
 	 * A {@link #toString()} cache.
 	 */
-	private volatile String stringCache;
-
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
+	private String stringCache;
 
 	/**
 	 * Initialize an {@link EHealthEndpoint} instance.
@@ -127,8 +122,6 @@ public enum EHealthEndpoint {
 		this.endpoint = endpoint;
 
 		this.key = String.format(KEY_FMT, this.group, this.endpoint);
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -172,23 +165,19 @@ public enum EHealthEndpoint {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "name=\"" + this.name + "\""
-					+ ", group=\"" + this.group + "\""
-					+ ", endpoint=\"" + this.endpoint + "\""
-					+ ", key=\"" + this.key + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "name=\"" + this.name + "\""
+				+ ", group=\"" + this.group + "\""
+				+ ", endpoint=\"" + this.endpoint + "\""
+				+ ", key=\"" + this.key + "\""
+				+ "]");
 	}
 
 	/**
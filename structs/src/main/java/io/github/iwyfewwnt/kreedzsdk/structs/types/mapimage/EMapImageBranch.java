@@ -47,11 +47,6 @@ enum EMapImageBranch {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EMapImageBranch} instance.
 	 *
@@ -59,8 +54,6 @@ enum EMapImageBranch {
 	 */
 	EMapImageBranch(String value) {
 		this.value = value;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -68,17 +61,13 @@ enum EMapImageBranch {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name());
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name());
 	}
 }
@@ -49,11 +49,6 @@ enum EMapImageExtension implements Serializable {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EMapImageExtension} instance.
 	 *
@@ -61,8 +56,6 @@ enum EMapImageExtension implements Serializable {
 	 */
 	EMapImageExtension(String value) {
 		this.value = value;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -70,17 +63,13 @@ enum EMapImageExtension implements Serializable {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name());
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name());
 	}
 }
@@ -96,11 +96,6 @@ public enum EMapImageFormat {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EMapImageFormat} instance.
 	 *
@@ -124,8 +119,6 @@ public enum EMapImageFormat {
 		this.branch = branch.value;
 		this.endpoint = endpoint;
 		this.extension = extension.value;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -160,22 +153,18 @@ public enum EMapImageFormat {
 	 */
 	@Override
 	public String toString() {
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
+		String string = this.stringCache;
 
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
-
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "branch=\"" + this.branch + "\""
-					+ ", endpoint=\"" + this.endpoint + "\""
-					+ ", extension=\"" + this.extension + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "branch=\"" + this.branch + "\""
+				+ ", endpoint=\"" + this.endpoint + "\""
+				+ ", extension=\"" + this.extension + "\""
+				+ "]");
 	}
 
 	/**
@@ -131,11 +131,6 @@ public enum EStatus {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EStatus} instance.
 	 *
@@ -153,8 +148,6 @@ public enum EStatus {
 
 		this.apiName = apiName;
 		this.fullName = fullName;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -181,21 +174,17 @@ public enum EStatus {
 	@Override
 	public String toString() {
 		//noinspection DuplicatedCode
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "apiName=\"" + this.apiName + "\""
-					+ ", fullName=\"" + this.fullName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "apiName=\"" + this.apiName + "\""
+				+ ", fullName=\"" + this.fullName + "\""
+				+ "]");
 	}
 
 	/**
@@ -96,11 +96,6 @@ public enum EStatusIndicator {
 	 */
 	private String stringCache;
 
-	/**
-	 * A {@link #stringCache} mutex.
-	 */
-	private final Object stringCacheMutex;
-
 	/**
 	 * Initialize an {@link EStatusIndicator} instance.
 	 *
@@ -118,8 +113,6 @@ public enum EStatusIndicator {
 
 		this.apiName = apiName;
 		this.fullName = fullName;
-
-		this.stringCacheMutex = new Object();
 	}
 
 	/**
@@ -146,21 +139,17 @@ public enum EStatusIndicator {
 	@Override
 	public String toString() {
 		//noinspection DuplicatedCode
-		if (this.stringCache != null) {
-			return this.stringCache;
-		}
-
-		synchronized (this.stringCacheMutex) {
-			if (this.stringCache != null) {
-				return this.stringCache;
-			}
+		String string = this.stringCache;
 
-			return (this.stringCache = SIMPLE_NAME
-					+ "::" + this.name() + "["
-					+ "apiName=\"" + this.apiName + "\""
-					+ ", fullName=\"" + this.fullName + "\""
-					+ "]");
+		if (string != null) {
+			return string;
 		}
+
+		return (this.stringCache = SIMPLE_NAME
+				+ "::" + this.name() + "["
+				+ "apiName=\"" + this.apiName + "\""
+				+ ", fullName=\"" + this.fullName + "\""
+				+ "]");
 	}
 
 	/**
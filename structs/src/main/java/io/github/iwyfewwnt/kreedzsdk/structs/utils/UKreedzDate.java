@@ -16,8 +16,13 @@
 
 package io.github.iwyfewwnt.kreedzsdk.structs.utils;
 
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.*;
+
+import java.util.Locale;
 
 /**
  * A kreedz API date utility.
@@ -37,6 +42,308 @@ public final class UKreedzDate {
 	public static final DateTimeFormatter FORMATTER = DateTimeFormat.forPattern(PATTERN)
 			.withZoneUTC();
 
+	/**
+	 * A length of the {@link #PATTERN} formatted date.
+	 */
+	private static final int PATTERN_LENGTH = 19;
+
+	/**
+	 * An ISO chronology in the UTC timezone.
+	 */
+	private static final Chronology CHRONOLOGY = ISOChronology.getInstanceUTC();
+
+	/**
+	 * An ISO date time parser.
+	 *
+	 * <p>Used as a fallback for the shapes
+	 * not handled by {@link #parseFastOrNull(String)}.
+	 */
+	private static final DateTimeParser ISO_PARSER = ISODateTimeFormat.dateTimeParser()
+			.getParser();
+
+	/**
+	 * Parse a kreedz API date string
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Handles the {@link #PATTERN} shape and its ISO variants
+	 * w/ a fraction of second and a timezone offset by hand, any other
+	 * ISO date is parsed by the Joda parser. Never throws on a format
+	 * mismatch, a date w/o the timezone offset is treated as UTC.
+	 *
+	 * @param str	date string to parse
+	 * @return		date or {@code null}
+	 */
+	public static DateTime parseOrNull(String str) {
+		if (str == null) {
+			return null;
+		}
+
+		DateTime date = parseFastOrNull(str);
+
+		if (date != null) {
+			return date;
+		}
+
+		return parseIsoOrNull(str);
+	}
+
+	/**
+	 * Format a date w/ the {@link #PATTERN} in the UTC timezone
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Produces the same output as the {@link #FORMATTER}.
+	 *
+	 * @param date	date to format
+	 * @return		formatted date or {@code null}
+	 */
+	public static String formatOrNull(DateTime date) {
+		if (date == null) {
+			return null;
+		}
+
+		long millis = date.getMillis();
+		int year = CHRONOLOGY.year().get(millis);
+
+		if (year < 0 || year > 9999) {
+			return FORMATTER.print(date);
+		}
+
+		char[] chars = new char[PATTERN_LENGTH];
+
+		writeDigits(chars, 0, year, 4);
+		chars[4] = '-';
+		writeDigits(chars, 5, CHRONOLOGY.monthOfYear().get(millis), 2);
+		chars[7] = '-';
+		writeDigits(chars, 8, CHRONOLOGY.dayOfMonth().get(millis), 2);
+		chars[10] = 'T';
+		writeDigits(chars, 11, CHRONOLOGY.hourOfDay().get(millis), 2);
+		chars[13] = ':';
+		writeDigits(chars, 14, CHRONOLOGY.minuteOfHour().get(millis), 2);
+		chars[16] = ':';
+		writeDigits(chars, 17, CHRONOLOGY.secondOfMinute().get(millis), 2);
+
+		return new String(chars);
+	}
+
+	/**
+	 * Parse a date string of the {@link #PATTERN} shape
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Accepts the {@code yyyy-MM-dd'T'HH:mm:ss[.S+][Z|(+|-)HH[[:]mm]]} shape,
+	 * a space is also accepted as the date {@literal &} time separator.
+	 *
+	 * @param str	date string to parse
+	 * @return		date or {@code null}
+	 */
+	private static DateTime parseFastOrNull(String str) {
+		int length = str.length();
+
+		if (length < PATTERN_LENGTH) {
+			return null;
+		}
+
+		char separator = str.charAt(10);
+
+		if (str.charAt(4) != '-' || str.charAt(7) != '-'
+				|| (separator != 'T' && separator != ' ')
+				|| str.charAt(13) != ':' || str.charAt(16) != ':') {
+			return null;
+		}
+
+		int year = parseDigits(str, 0, 4);
+		int month = parseDigits(str, 5, 2);
+		int day = parseDigits(str, 8, 2);
+		int hour = parseDigits(str, 11, 2);
+		int minute = parseDigits(str, 14, 2);
+		int second = parseDigits(str, 17, 2);
+
+		if (year < 0 || month < 1 || month > 12
+				|| day < 1 || day > getDaysInMonth(year, month)
+				|| hour < 0 || hour > 23
+				|| minute < 0 || minute > 59
+				|| second < 0 || second > 59) {
+			return null;
+		}
+
+		int index = PATTERN_LENGTH;
+		int millis = 0;
+
+		if (index < length && str.charAt(index) == '.') {
+			int start = ++index;
+
+			for (; index < length; index++) {
+				int digit = str.charAt(index) - '0';
+
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+
+				if (index - start < 3) {
+					millis = millis * 10 + digit;
+				}
+			}
+
+			int digits = index - start;
+
+			if (digits == 0) {
+				return null;
+			}
+
+			for (; digits < 3; digits++) {
+				millis *= 10;
+			}
+		}
+
+		DateTimeZone zone = DateTimeZone.UTC;
+
+		if (index < length) {
+			char sign = str.charAt(index);
+
+			if (sign == 'Z') {
+				index++;
+			} else if (sign == '+' || sign == '-') {
+				int offsetHours = parseDigits(str, index + 1, 2);
+				int offsetMinutes = 0;
+
+				index += 3;
+
+				if (index < length) {
+					if (str.charAt(index) == ':') {
+						index++;
+					}
+
+					offsetMinutes = parseDigits(str, index, 2);
+					index += 2;
+				}
+
+				if (offsetHours < 0 || offsetHours > 23
+						|| offsetMinutes < 0 || offsetMinutes > 59) {
+					return null;
+				}
+
+				int offset = (offsetHours * 60 + offsetMinutes) * 60_000;
+
+				if (offset != 0) {
+					zone = DateTimeZone.forOffsetMillis(sign == '-' ? -offset : offset);
+				}
+			} else {
+				return null;
+			}
+		}
+
+		if (index != length) {
+			return null;
+		}
+
+		return new DateTime(year, month, day, hour, minute, second, millis, zone);
+	}
+
+	/**
+	 * Parse an ISO date string w/ the Joda parser
+	 * or return {@code null} if failed.
+	 *
+	 * <p>Uses the parser bucket directly to avoid
+	 * exceptions on a format mismatch.
+	 *
+	 * @param str	date string to parse
+	 * @return		date or {@code null}
+	 */
+	private static DateTime parseIsoOrNull(String str) {
+		DateTimeParserBucket bucket = new DateTimeParserBucket(0L, CHRONOLOGY, Locale.ROOT, null, 2000);
+
+		if (ISO_PARSER.parseInto(bucket, str, 0) != str.length()) {
+			return null;
+		}
+
+		long millis;
+
+		try {
+			millis = bucket.computeMillis(true, str);
+		} catch (IllegalArgumentException e) {
+			// Thrown only for the out of range field values, e.g. February 30.
+			return null;
+		}
+
+		Integer offset = bucket.getOffsetInteger();
+
+		DateTimeZone zone = offset != null
+				? DateTimeZone.forOffsetMillis(offset)
+				: bucket.getZone();
+
+		if (zone == null) {
+			zone = DateTimeZone.UTC;
+		}
+
+		return new DateTime(millis, zone);
+	}
+
+	/**
+	 * Parse a fixed count of decimal digits
+	 * or return {@code -1} if failed.
+	 *
+	 * @param str		string to parse
+	 * @param offset	offset of the first digit
+	 * @param count		count of digits
+	 * @return			parsed value or {@code -1}
+	 */
+	private static int parseDigits(String str, int offset, int count) {
+		if (offset < 0 || offset + count > str.length()) {
+			return -1;
+		}
+
+		int value = 0;
+
+		for (int i = offset; i < offset + count; i++) {
+			int digit = str.charAt(i) - '0';
+
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+
+			value = value * 10 + digit;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Write a fixed count of zero-padded decimal digits.
+	 *
+	 * @param chars		array to write to
+	 * @param offset	offset of the first digit
+	 * @param value		non-negative value to write
+	 * @param count		count of digits
+	 */
+	private static void writeDigits(char[] chars, int offset, int value, int count) {
+		for (int i = offset + count - 1; i >= offset; i--) {
+			chars[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+
+	/**
+	 * Get a count of days in the provided month.
+	 *
+	 * @param year		year
+	 * @param month		month of the year, from 1 to 12
+	 * @return			count of days
+	 */
+	private static int getDaysInMonth(int year, int month) {
+		switch (month) {
+			case 2:
+				boolean isLeap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+
+				return isLeap ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
 	private UKreedzDate() {
 		throw new UnsupportedOperationException();
 	}
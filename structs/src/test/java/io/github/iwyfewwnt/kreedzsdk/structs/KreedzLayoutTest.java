@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.kreedzsdk.structs;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openjdk.jol.info.ClassLayout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * A structs layout test.
+ *
+ * <p>Checks the instance size by JOL of every structs class listed in
+ * the {@code layout-baseline.properties} resource against its baseline,
+ * so a field added to an entity, e.g. a mutex or an extra cache, fails
+ * the build. Enums are left out, as their constants are shared rather
+ * than allocated per entity.
+ *
+ * <p>Instance sizes depend on the JVM object layout, so the size check
+ * only runs on a 64-bit JVM w/ compressed references & class pointers,
+ * the layout the baseline is recorded on.
+ */
+class KreedzLayoutTest {
+
+	/**
+	 * A baseline resource.
+	 */
+	private static final String BASELINE = "/layout-baseline.properties";
+
+	/**
+	 * Check that the instance size of the provided class hasn't grown.
+	 *
+	 * @param className		class name
+	 * @param baselineSize	baseline instance size
+	 * @throws ClassNotFoundException	if the class doesn't exist
+	 */
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("classes")
+	void instanceSizeHasNotGrown(String className, long baselineSize) throws ClassNotFoundException {
+		assumeTrue(isBaselineLayout(), "Baseline is recorded w/ compressed references & class pointers");
+
+		long size = ClassLayout.parseClass(Class.forName(className))
+				.instanceSize();
+
+		assertTrue(size <= baselineSize, () -> "<" + className + "> grew from "
+				+ baselineSize + " to " + size + " bytes");
+	}
+
+	/**
+	 * Check that the provided class has no mutex object field.
+	 *
+	 * @param className		class name
+	 * @param baselineSize	baseline instance size, unused
+	 * @throws ClassNotFoundException	if the class doesn't exist
+	 */
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("classes")
+	void hasNoMutexFields(String className, long baselineSize) throws ClassNotFoundException {
+		for (Class<?> clazz = Class.forName(className); clazz != null; clazz = clazz.getSuperclass()) {
+			for (Field field : clazz.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers())) {
+					continue;
+				}
+
+				assertNotEquals(Object.class, field.getType(), () -> "<" + className
+						+ "> has an <Object> field <" + field.getName() + ">");
+			}
+		}
+	}
+
+	/**
+	 * Get the classes & their baseline instance sizes.
+	 *
+	 * @return	stream of the class name & baseline instance size arguments
+	 */
+	static Stream<Arguments> classes() {
+		Properties baseline = new Properties();
+
+		try (InputStream in = KreedzLayoutTest.class.getResourceAsStream(BASELINE)) {
+			assertNotNull(in, "Unable to find a <" + BASELINE + "> resource");
+
+			baseline.load(in);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return baseline.stringPropertyNames()
+				.stream()
+				.sorted()
+				.map(name -> Arguments.of(name, Long.parseLong(baseline.getProperty(name))));
+	}
+
+	/**
+	 * Check if the running JVM lays objects out the way the baseline is recorded,
+	 * i.e. an object w/ a single reference takes a 12-byte header & a 4-byte reference.
+	 *
+	 * @return	boolean value as a result
+	 */
+	private static boolean isBaselineLayout() {
+		return ClassLayout.parseClass(ReferenceHolder.class).instanceSize() == 16;
+	}
+
+	/**
+	 * An object w/ a single reference.
+	 */
+	@SuppressWarnings("unused")
+	private static final class ReferenceHolder {
+
+		/**
+		 * A reference.
+		 */
+		private Object reference;
+	}
+}